@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.driver.core;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Access to the driver internals required to build column definitions
+ * and rows without a Cassandra node
+ */
+public class BenchmarkDriverStubs {
+
+    public static final ProtocolVersion PROTOCOL_VERSION = ProtocolVersion.V4;
+
+    public static ColumnDefinitions columnDefinitions(String keyspace, String table, Map<String, DataType> columns) {
+        final ColumnDefinitions.Definition[] definitions = columns.entrySet()
+                .stream()
+                .map(entry -> new ColumnDefinitions.Definition(keyspace, table, entry.getKey(), entry.getValue()))
+                .toArray(ColumnDefinitions.Definition[]::new);
+        return new ColumnDefinitions(definitions, CodecRegistry.DEFAULT_INSTANCE);
+    }
+
+    /**
+     * Serialize the given driver values with the codecs of the default registry
+     * and wrap them in a Row, as if it had been read from a result set
+     */
+    public static Row row(ColumnDefinitions columnDefinitions, List<Object> values) {
+        final List<ByteBuffer> data = new ArrayList<>(values.size());
+        for (int i = 0; i < values.size(); i++) {
+            final Object value = values.get(i);
+            data.add(value == null
+                    ? null
+                    : CodecRegistry.DEFAULT_INSTANCE.codecFor(columnDefinitions.getType(i), value).serialize(value, PROTOCOL_VERSION));
+        }
+        return ArrayBackedRow.fromData(columnDefinitions, null, PROTOCOL_VERSION, data);
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.driver.core;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+import com.datastax.driver.core.policies.RetryPolicy;
+
+/**
+ * In-memory prepared statement for benchmarks, binding values
+ * with the real driver BoundStatement against the provided variables
+ */
+public class StubPreparedStatement implements PreparedStatement {
+
+    private final String queryString;
+    private final String queryKeyspace;
+    private final PreparedId preparedId;
+
+    private volatile ByteBuffer routingKey;
+    private volatile ConsistencyLevel consistencyLevel;
+    private volatile ConsistencyLevel serialConsistencyLevel;
+    private volatile boolean traceQuery;
+    private volatile RetryPolicy retryPolicy;
+    private volatile Map<String, ByteBuffer> outgoingPayload;
+    private volatile Boolean idempotent;
+
+    public StubPreparedStatement(String queryString, String queryKeyspace, ColumnDefinitions variables) {
+        this.queryString = queryString;
+        this.queryKeyspace = queryKeyspace;
+        this.preparedId = new PreparedId(
+                new PreparedId.PreparedMetadata(MD5Digest.wrap(new byte[16]), variables),
+                new PreparedId.PreparedMetadata(null, ColumnDefinitions.EMPTY),
+                new int[0],
+                BenchmarkDriverStubs.PROTOCOL_VERSION);
+    }
+
+    @Override
+    public ColumnDefinitions getVariables() {
+        return preparedId.boundValuesMetadata.variables;
+    }
+
+    @Override
+    public BoundStatement bind(Object... values) {
+        return new BoundStatement(this).bind(values);
+    }
+
+    @Override
+    public BoundStatement bind() {
+        return new BoundStatement(this);
+    }
+
+    @Override
+    public PreparedStatement setRoutingKey(ByteBuffer routingKey) {
+        this.routingKey = routingKey;
+        return this;
+    }
+
+    @Override
+    public PreparedStatement setRoutingKey(ByteBuffer... routingKeyComponents) {
+        this.routingKey = SimpleStatement.compose(routingKeyComponents);
+        return this;
+    }
+
+    @Override
+    public ByteBuffer getRoutingKey() {
+        return routingKey;
+    }
+
+    @Override
+    public PreparedStatement setConsistencyLevel(ConsistencyLevel consistency) {
+        this.consistencyLevel = consistency;
+        return this;
+    }
+
+    @Override
+    public ConsistencyLevel getConsistencyLevel() {
+        return consistencyLevel;
+    }
+
+    @Override
+    public PreparedStatement setSerialConsistencyLevel(ConsistencyLevel serialConsistency) {
+        this.serialConsistencyLevel = serialConsistency;
+        return this;
+    }
+
+    @Override
+    public ConsistencyLevel getSerialConsistencyLevel() {
+        return serialConsistencyLevel;
+    }
+
+    @Override
+    public String getQueryString() {
+        return queryString;
+    }
+
+    @Override
+    public String getQueryKeyspace() {
+        return queryKeyspace;
+    }
+
+    @Override
+    public PreparedStatement enableTracing() {
+        this.traceQuery = true;
+        return this;
+    }
+
+    @Override
+    public PreparedStatement disableTracing() {
+        this.traceQuery = false;
+        return this;
+    }
+
+    @Override
+    public boolean isTracing() {
+        return traceQuery;
+    }
+
+    @Override
+    public PreparedStatement setRetryPolicy(RetryPolicy policy) {
+        this.retryPolicy = policy;
+        return this;
+    }
+
+    @Override
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    @Override
+    public PreparedId getPreparedId() {
+        return preparedId;
+    }
+
+    @Override
+    public Map<String, ByteBuffer> getIncomingPayload() {
+        return null;
+    }
+
+    @Override
+    public Map<String, ByteBuffer> getOutgoingPayload() {
+        return outgoingPayload;
+    }
+
+    @Override
+    public PreparedStatement setOutgoingPayload(Map<String, ByteBuffer> payload) {
+        this.outgoingPayload = payload;
+        return this;
+    }
+
+    @Override
+    public CodecRegistry getCodecRegistry() {
+        return CodecRegistry.DEFAULT_INSTANCE;
+    }
+
+    @Override
+    public PreparedStatement setIdempotent(Boolean idempotent) {
+        this.idempotent = idempotent;
+        return this;
+    }
+
+    @Override
+    public Boolean isIdempotent() {
+        return idempotent;
+    }
+}
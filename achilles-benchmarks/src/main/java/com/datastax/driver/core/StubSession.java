@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.driver.core;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+
+/**
+ * Session that never reaches a Cassandra node. Statements are "prepared" in memory
+ * using the bound variables registered for their CQL string; executing statements is
+ * not supported
+ */
+public class StubSession extends AbstractSession {
+
+    private final Cluster cluster;
+    private final String loggedKeyspace;
+    private final Map<String, ColumnDefinitions> variablesByQuery = new ConcurrentHashMap<>();
+
+    public StubSession(Cluster cluster, String loggedKeyspace) {
+        this.cluster = cluster;
+        this.loggedKeyspace = loggedKeyspace;
+    }
+
+    public StubSession registerVariables(String queryString, ColumnDefinitions variables) {
+        variablesByQuery.put(queryString, variables);
+        return this;
+    }
+
+    @Override
+    protected ListenableFuture<PreparedStatement> prepareAsync(String query, Map<String, ByteBuffer> customPayload) {
+        final ColumnDefinitions variables = variablesByQuery.getOrDefault(query, ColumnDefinitions.EMPTY);
+        return Futures.<PreparedStatement>immediateFuture(new StubPreparedStatement(query, loggedKeyspace, variables));
+    }
+
+    @Override
+    public String getLoggedKeyspace() {
+        return loggedKeyspace;
+    }
+
+    @Override
+    public Session init() {
+        return this;
+    }
+
+    @Override
+    public ListenableFuture<Session> initAsync() {
+        return Futures.<Session>immediateFuture(this);
+    }
+
+    @Override
+    public ResultSetFuture executeAsync(Statement statement) {
+        throw new UnsupportedOperationException("StubSession cannot execute statements");
+    }
+
+    @Override
+    public CloseFuture closeAsync() {
+        return CloseFuture.immediateFuture();
+    }
+
+    @Override
+    public boolean isClosed() {
+        return false;
+    }
+
+    @Override
+    public Cluster getCluster() {
+        return cluster;
+    }
+
+    @Override
+    public State getState() {
+        throw new UnsupportedOperationException("StubSession has no connection state");
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.benchmarks;
+
+import static com.datastax.driver.core.BenchmarkDriverStubs.PROTOCOL_VERSION;
+import static info.archinnov.achilles.internals.cache.CacheKey.Operation.INSERT;
+import static info.archinnov.achilles.internals.statements.PreparedStatementGenerator.generateInsert;
+import static java.util.stream.Collectors.toList;
+
+import java.util.*;
+
+import com.datastax.driver.core.*;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import info.archinnov.achilles.benchmarks.entities.Address;
+import info.archinnov.achilles.benchmarks.entities.BenchmarkEntity;
+import info.archinnov.achilles.generated.manager.BenchmarkEntity_Manager;
+import info.archinnov.achilles.generated.meta.entity.BenchmarkEntity_AchillesMeta;
+import info.archinnov.achilles.internals.cache.CacheKey;
+import info.archinnov.achilles.internals.cache.StatementsCache;
+import info.archinnov.achilles.internals.context.ConfigurationContext;
+import info.archinnov.achilles.internals.factory.DefaultBeanFactory;
+import info.archinnov.achilles.internals.factory.TupleTypeFactory;
+import info.archinnov.achilles.internals.factory.UserTypeFactory;
+import info.archinnov.achilles.internals.metamodel.AbstractProperty;
+import info.archinnov.achilles.internals.runtime.RuntimeEngine;
+import info.archinnov.achilles.json.DefaultJacksonMapperFactory;
+import info.archinnov.achilles.type.strategy.InsertStrategy;
+import info.archinnov.achilles.type.tuples.Tuple2;
+
+/**
+ * Achilles runtime wired to a StubSession, the same way the ManagerFactory
+ * bootstraps it, so that the mapping and statement layers can be measured
+ * without any Cassandra node
+ */
+public class BenchmarkContext implements AutoCloseable {
+
+    public static final String KEYSPACE = "benchmarks";
+    public static final String TABLE = "benchmark_entity";
+
+    public final Cluster cluster;
+    public final StubSession session;
+    public final ConfigurationContext configContext;
+    public final StatementsCache statementsCache;
+    public final BenchmarkEntity_AchillesMeta meta;
+    public final RuntimeEngine rte;
+    public final BenchmarkEntity_Manager manager;
+
+    public BenchmarkContext() {
+        // The cluster is never initialized, it only provides the default query options
+        this.cluster = Cluster.builder().addContactPoint("127.0.0.1").build();
+        this.session = new StubSession(cluster, KEYSPACE);
+        this.statementsCache = new StatementsCache(10000);
+
+        final TupleTypeFactory tupleTypeFactory = new TupleTypeFactory(PROTOCOL_VERSION, CodecRegistry.DEFAULT_INSTANCE);
+        final UserTypeFactory userTypeFactory = new UserTypeFactory(PROTOCOL_VERSION, CodecRegistry.DEFAULT_INSTANCE);
+
+        this.configContext = new ConfigurationContext();
+        configContext.setSession(session);
+        configContext.setCurrentKeyspace(Optional.of(KEYSPACE));
+        configContext.setStatementsCache(statementsCache);
+        configContext.setExecutorService(MoreExecutors.newDirectExecutorService());
+        configContext.setDefaultBeanFactory(new DefaultBeanFactory());
+        configContext.setJacksonMapperFactory(new DefaultJacksonMapperFactory());
+        configContext.setGlobalInsertStrategy(InsertStrategy.ALL_FIELDS);
+        configContext.setInterceptors(new ArrayList<>());
+        configContext.setDefaultReadConsistencyLevel(Optional.empty());
+        configContext.setDefaultWriteConsistencyLevel(Optional.empty());
+        configContext.setDefaultSerialConsistencyLevel(Optional.empty());
+
+        this.meta = new BenchmarkEntity_AchillesMeta();
+        configContext.injectDependencies(tupleTypeFactory, userTypeFactory, meta);
+
+        this.rte = new RuntimeEngine(configContext);
+        rte.tupleTypeFactory = tupleTypeFactory;
+        rte.userTypeFactory = userTypeFactory;
+
+        this.manager = new BenchmarkEntity_Manager(BenchmarkEntity.class, meta, rte);
+    }
+
+    public static BenchmarkEntity newEntity(long id) {
+        final BenchmarkEntity entity = new BenchmarkEntity();
+        entity.setId(id);
+        entity.setDate(new Date(1500000000000L + id));
+        entity.setValue("value_" + id);
+        entity.setConsistencyLevel(ConsistencyLevel.LOCAL_QUORUM);
+        final Map<String, Integer> attributes = new HashMap<>();
+        attributes.put("height", 180);
+        attributes.put("weight", 75);
+        entity.setAttributes(attributes);
+        entity.setTags(Arrays.asList("tag1", "tag2", "tag3"));
+        final Map<Integer, String> labels = new HashMap<>();
+        labels.put(1, "one");
+        labels.put(2, "two");
+        entity.setLabels(labels);
+        entity.setAddress(new Address("1 Main Street", "Paris", 75001));
+        entity.setCoordinates(Tuple2.of(48, "N"));
+        return entity;
+    }
+
+    /**
+     * Column definitions of the given properties, in the given order
+     */
+    public ColumnDefinitions columnDefinitions(List<AbstractProperty<BenchmarkEntity, ?, ?>> properties) {
+        final Map<String, DataType> columns = new LinkedHashMap<>();
+        properties.forEach(x -> columns.put(x.getColumnForSelect(), x.buildType(Optional.empty())));
+        return BenchmarkDriverStubs.columnDefinitions(KEYSPACE, TABLE, columns);
+    }
+
+    /**
+     * A row containing all the columns of the entity, as returned by a SELECT *
+     */
+    public Row rowOf(BenchmarkEntity entity) {
+        final List<Object> encodedValues = meta.allColumns
+                .stream()
+                .map(x -> (Object) x.encodeField(entity))
+                .collect(toList());
+        return BenchmarkDriverStubs.row(columnDefinitions(meta.allColumns), encodedValues);
+    }
+
+    /**
+     * Prepare the INSERT statement of the entity and put it in the static cache.
+     * The bound variables follow the order of the values extracted for an INSERT
+     */
+    public PreparedStatement prepareInsertStatement() {
+        final List<AbstractProperty<BenchmarkEntity, ?, ?>> properties = new ArrayList<>();
+        properties.addAll(meta.partitionKeys);
+        properties.addAll(meta.staticColumns);
+        properties.addAll(meta.clusteringColumns);
+        properties.addAll(meta.normalColumns);
+        properties.addAll(meta.counterColumns);
+
+        final Map<String, DataType> columns = new LinkedHashMap<>();
+        properties.forEach(x -> columns.put(x.getColumnForSelect(), x.buildType(Optional.empty())));
+        columns.put("ttl", DataType.cint());
+
+        final String queryString = generateInsert(meta, Optional.empty()).getQueryString();
+        session.registerVariables(queryString, BenchmarkDriverStubs.columnDefinitions(KEYSPACE, TABLE, columns));
+        final CacheKey cacheKey = new CacheKey(BenchmarkEntity.class, INSERT);
+        statementsCache.putStaticCache(cacheKey, () -> session.prepare(queryString));
+        return statementsCache.getStaticCache(cacheKey);
+    }
+
+    @Override
+    public void close() {
+        cluster.close();
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.benchmarks;
+
+import static info.archinnov.achilles.internals.codec.JSONCodec.TYPE_FACTORY_INSTANCE;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.datastax.driver.core.ConsistencyLevel;
+import com.datastax.driver.core.TupleValue;
+import com.datastax.driver.core.UDTValue;
+
+import info.archinnov.achilles.benchmarks.entities.Address;
+import info.archinnov.achilles.benchmarks.entities.BenchmarkEntity;
+import info.archinnov.achilles.generated.meta.entity.BenchmarkEntity_AchillesMeta;
+import info.archinnov.achilles.internals.codec.EnumNameCodec;
+import info.archinnov.achilles.internals.codec.JSONCodec;
+import info.archinnov.achilles.json.DefaultJacksonMapperFactory;
+import info.archinnov.achilles.type.tuples.Tuple2;
+
+/**
+ * Encoding and decoding of values going through a codec, a UDT or a tuple
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class CodecBenchmark {
+
+    private BenchmarkContext context;
+
+    private JSONCodec<Map<String, Integer>> jsonCodec;
+    private EnumNameCodec<ConsistencyLevel> enumNameCodec;
+
+    private Map<String, Integer> attributes;
+    private String encodedAttributes;
+    private Address address;
+    private UDTValue encodedAddress;
+    private Tuple2<Integer, String> coordinates;
+    private TupleValue encodedCoordinates;
+
+    @Setup
+    public void setUp() {
+        context = new BenchmarkContext();
+        final BenchmarkEntity entity = BenchmarkContext.newEntity(10L);
+
+        jsonCodec = new JSONCodec<>(Map.class, TYPE_FACTORY_INSTANCE.constructMapType(Map.class, String.class, Integer.class));
+        jsonCodec.setObjectMapper(new DefaultJacksonMapperFactory().getMapper(BenchmarkEntity.class));
+        enumNameCodec = EnumNameCodec.create(Arrays.asList(ConsistencyLevel.values()), ConsistencyLevel.class);
+
+        attributes = entity.getAttributes();
+        encodedAttributes = jsonCodec.encode(attributes);
+        address = entity.getAddress();
+        encodedAddress = BenchmarkEntity_AchillesMeta.address.encodeFromJava(address);
+        coordinates = entity.getCoordinates();
+        encodedCoordinates = BenchmarkEntity_AchillesMeta.coordinates.encodeFromJava(coordinates);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String encodeJSON() {
+        return jsonCodec.encode(attributes);
+    }
+
+    @Benchmark
+    public Map<String, Integer> decodeJSON() {
+        return jsonCodec.decode(encodedAttributes);
+    }
+
+    @Benchmark
+    public String encodeEnumName() {
+        return enumNameCodec.encode(ConsistencyLevel.LOCAL_QUORUM);
+    }
+
+    @Benchmark
+    public ConsistencyLevel decodeEnumName() {
+        return enumNameCodec.decode("LOCAL_QUORUM");
+    }
+
+    @Benchmark
+    public UDTValue encodeUDT() {
+        return BenchmarkEntity_AchillesMeta.address.encodeFromJava(address);
+    }
+
+    @Benchmark
+    public Address decodeUDT() {
+        return BenchmarkEntity_AchillesMeta.address.decodeFromRaw(encodedAddress);
+    }
+
+    @Benchmark
+    public TupleValue encodeTuple() {
+        return BenchmarkEntity_AchillesMeta.coordinates.encodeFromJava(coordinates);
+    }
+
+    @Benchmark
+    public Tuple2<Integer, String> decodeTuple() {
+        return BenchmarkEntity_AchillesMeta.coordinates.decodeFromRaw(encodedCoordinates);
+    }
+}
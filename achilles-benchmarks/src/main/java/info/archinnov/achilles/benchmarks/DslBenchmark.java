@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.benchmarks;
+
+import static java.util.Arrays.asList;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.datastax.driver.core.BoundStatement;
+
+import info.archinnov.achilles.generated.dsl.BenchmarkEntity_Select;
+import info.archinnov.achilles.generated.dsl.BenchmarkEntity_Update;
+import info.archinnov.achilles.generated.meta.entity.BenchmarkEntity_AchillesMeta;
+
+/**
+ * Construction of SELECT and UPDATE statements with the generated DSL
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class DslBenchmark {
+
+    private BenchmarkContext context;
+    private Long id;
+    private Date date;
+
+    @Setup
+    public void setUp() {
+        context = new BenchmarkContext();
+        id = 10L;
+        date = BenchmarkContext.newEntity(id).getDate();
+
+        context.session.registerVariables(selectWhere().getStatementAsString(),
+                context.columnDefinitions(asList(BenchmarkEntity_AchillesMeta.id, BenchmarkEntity_AchillesMeta.date)));
+        context.session.registerVariables(updateWhere().getStatementAsString(),
+                context.columnDefinitions(asList(BenchmarkEntity_AchillesMeta.value, BenchmarkEntity_AchillesMeta.id, BenchmarkEntity_AchillesMeta.date)));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    private BenchmarkEntity_Select.E selectWhere() {
+        return context.manager.dsl()
+                .select()
+                .value()
+                .fromBaseTable()
+                .where()
+                .id().Eq(id)
+                .date().Eq(date);
+    }
+
+    private BenchmarkEntity_Update.E updateWhere() {
+        return context.manager.dsl()
+                .update()
+                .fromBaseTable()
+                .value().Set("new_value")
+                .where()
+                .id().Eq(id)
+                .date().Eq(date);
+    }
+
+    @Benchmark
+    public String selectQueryString() {
+        return selectWhere().getStatementAsString();
+    }
+
+    @Benchmark
+    public BoundStatement selectBoundStatement() {
+        return selectWhere().generateAndGetBoundStatement();
+    }
+
+    @Benchmark
+    public BoundStatement updateBoundStatement() {
+        return updateWhere().generateAndGetBoundStatement();
+    }
+}
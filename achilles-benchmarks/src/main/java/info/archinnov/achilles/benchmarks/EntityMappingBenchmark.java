@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Row;
+
+import info.archinnov.achilles.benchmarks.entities.BenchmarkEntity;
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.runtime.BeanValueExtractor;
+import info.archinnov.achilles.internals.statements.BoundValuesWrapper;
+import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.type.strategy.InsertStrategy;
+
+/**
+ * Row to entity decoding and entity to bound statement encoding
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class EntityMappingBenchmark {
+
+    private BenchmarkContext context;
+    private BenchmarkEntity entity;
+    private Row row;
+    private PreparedStatement insertStatement;
+    private CassandraOptions options;
+    private BoundValuesWrapper boundValues;
+
+    @Setup
+    public void setUp() {
+        context = new BenchmarkContext();
+        entity = BenchmarkContext.newEntity(10L);
+        row = context.rowOf(entity);
+        insertStatement = context.prepareInsertStatement();
+        options = new CassandraOptions();
+        boundValues = BeanValueExtractor.extractAllValues(entity, context.meta, options);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public BenchmarkEntity createEntityFrom() {
+        return context.meta.createEntityFrom(row);
+    }
+
+    @Benchmark
+    public BoundValuesWrapper extractAllValues() {
+        return BeanValueExtractor.extractAllValues(entity, context.meta, options);
+    }
+
+    @Benchmark
+    public StatementWrapper bindWithAllFieldsStrategy() {
+        return boundValues.bindWithInsertStrategy(insertStatement, InsertStrategy.ALL_FIELDS);
+    }
+
+    @Benchmark
+    public StatementWrapper bindWithNotNullFieldsStrategy() {
+        return boundValues.bindWithInsertStrategy(insertStatement, InsertStrategy.NOT_NULL_FIELDS);
+    }
+
+    @Benchmark
+    public StatementWrapper extractAndBindForInsert() {
+        return BeanValueExtractor
+                .extractAllValues(entity, context.meta, options)
+                .bindWithInsertStrategy(insertStatement, InsertStrategy.ALL_FIELDS);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.benchmarks;
+
+import static info.archinnov.achilles.internals.cache.CacheKey.Operation.INSERT;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.datastax.driver.core.PreparedStatement;
+
+import info.archinnov.achilles.benchmarks.entities.BenchmarkEntity;
+import info.archinnov.achilles.internals.cache.CacheKey;
+import info.archinnov.achilles.internals.cache.StatementShape;
+import info.archinnov.achilles.internals.dsl.query.select.AbstractSelectWhere;
+import info.archinnov.achilles.internals.dsl.query.select.BenchmarkStatementShapes;
+
+/**
+ * Prepared statement lookups in the static cache, the dynamic cache
+ * keyed by CQL string and the dynamic cache keyed by statement shape
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class StatementsCacheBenchmark {
+
+    private BenchmarkContext context;
+    private CacheKey cacheKey;
+    private String queryString;
+    private Supplier<String> queryStringSupplier;
+    private StatementShape statementShape;
+
+    @Setup
+    public void setUp() {
+        context = new BenchmarkContext();
+        context.prepareInsertStatement();
+        cacheKey = new CacheKey(BenchmarkEntity.class, INSERT);
+
+        final AbstractSelectWhere<?, BenchmarkEntity> select = context.manager.dsl()
+                .select()
+                .value()
+                .fromBaseTable()
+                .where()
+                .id().Eq(10L)
+                .date().Eq(BenchmarkContext.newEntity(10L).getDate());
+        queryString = select.getStatementAsString();
+        queryStringSupplier = () -> queryString;
+        // Shape built by the generated DSL, the cache holds a distinct but equal copy of it
+        statementShape = BenchmarkStatementShapes.shapeOf(select);
+
+        context.statementsCache.getDynamicCache(queryString, context.session);
+        context.statementsCache.getDynamicCache(statementShape, queryStringSupplier, context.session);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public PreparedStatement staticCache() {
+        return context.statementsCache.getStaticCache(cacheKey);
+    }
+
+    @Benchmark
+    public PreparedStatement dynamicCacheByQueryString() {
+        return context.statementsCache.getDynamicCache(queryString, context.session);
+    }
+
+    @Benchmark
+    public PreparedStatement dynamicCacheByStatementShape() {
+        return context.statementsCache.getDynamicCache(statementShape, queryStringSupplier, context.session);
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.benchmarks.entities;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import com.datastax.driver.core.ConsistencyLevel;
+
+import info.archinnov.achilles.annotations.*;
+import info.archinnov.achilles.type.tuples.Tuple2;
+
+@Table(keyspace = "benchmarks", table = "benchmark_entity")
+public class BenchmarkEntity {
+
+    @PartitionKey
+    private Long id;
+
+    @ClusteringColumn
+    private Date date;
+
+    @Column
+    private String value;
+
+    @Enumerated(value = Enumerated.Encoding.NAME)
+    @Column
+    private ConsistencyLevel consistencyLevel;
+
+    @JSON
+    @Column
+    private Map<String, Integer> attributes;
+
+    @Column
+    private List<String> tags;
+
+    @Column
+    private Map<Integer, String> labels;
+
+    @Frozen
+    @Column
+    private Address address;
+
+    @Column
+    private Tuple2<Integer, String> coordinates;
+
+    public BenchmarkEntity() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Date getDate() {
+        return date;
+    }
+
+    public void setDate(Date date) {
+        this.date = date;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public void setValue(String value) {
+        this.value = value;
+    }
+
+    public ConsistencyLevel getConsistencyLevel() {
+        return consistencyLevel;
+    }
+
+    public void setConsistencyLevel(ConsistencyLevel consistencyLevel) {
+        this.consistencyLevel = consistencyLevel;
+    }
+
+    public Map<String, Integer> getAttributes() {
+        return attributes;
+    }
+
+    public void setAttributes(Map<String, Integer> attributes) {
+        this.attributes = attributes;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+
+    public Map<Integer, String> getLabels() {
+        return labels;
+    }
+
+    public void setLabels(Map<Integer, String> labels) {
+        this.labels = labels;
+    }
+
+    public Address getAddress() {
+        return address;
+    }
+
+    public void setAddress(Address address) {
+        this.address = address;
+    }
+
+    public Tuple2<Integer, String> getCoordinates() {
+        return coordinates;
+    }
+
+    public void setCoordinates(Tuple2<Integer, String> coordinates) {
+        this.coordinates = coordinates;
+    }
+}
@@ -17,7 +17,7 @@
 package info.archinnov.achilles.internals.futures;
 
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
 
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
@@ -29,7 +29,7 @@ import com.google.common.util.concurrent.ListenableFuture;
  */
 public class FutureUtils {
 
-    public static <T> CompletableFuture<T> toCompletableFuture(ListenableFuture<T> listenableFuture, ExecutorService executor) {
+    public static <T> CompletableFuture<T> toCompletableFuture(ListenableFuture<T> listenableFuture, Executor executor) {
         CompletableFuture<T> completable = new CompletableListenableFuture<>(listenableFuture);
 
         Futures.addCallback(listenableFuture, new FutureCallback<T>() {
@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 import com.datastax.driver.core.Cluster;
 import com.datastax.driver.core.ConsistencyLevel;
@@ -32,16 +33,21 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import info.archinnov.achilles.configuration.ArgumentExtractor;
 import info.archinnov.achilles.configuration.ConfigurationParameters;
+import info.archinnov.achilles.internals.cache.EntityCacheOptions;
 import info.archinnov.achilles.internals.cache.StatementsCache;
 import info.archinnov.achilles.internals.context.ConfigurationContext;
 import info.archinnov.achilles.internals.runtime.AbstractManagerFactory;
 import info.archinnov.achilles.internals.types.ConfigMap;
 import info.archinnov.achilles.json.JacksonMapperFactory;
+import info.archinnov.achilles.metrics.AchillesMetrics;
 import info.archinnov.achilles.type.SchemaNameProvider;
 import info.archinnov.achilles.type.codec.Codec;
 import info.archinnov.achilles.type.codec.CodecSignature;
 import info.archinnov.achilles.type.interceptor.Interceptor;
+import info.archinnov.achilles.type.strategy.CompletionStrategy;
+import info.archinnov.achilles.type.strategy.EntityCacheStorageStrategy;
 import info.archinnov.achilles.type.strategy.InsertStrategy;
+import info.archinnov.achilles.type.strategy.StatementsPreparationStrategy;
 import info.archinnov.achilles.validation.Validator;
 
 public abstract class AbstractManagerFactoryBuilder<T extends AbstractManagerFactoryBuilder<T>> {
@@ -281,6 +287,21 @@ public abstract class AbstractManagerFactoryBuilder<T extends AbstractManagerFac
         return getThis();
     }
 
+    /**
+     * Specify maximum size for the prepared statements LRU cache used with a {@link SchemaNameProvider}.
+     * Statements are cached by entity, operation and the keyspace/table resolved by the provider,
+     * so plan one entry per operation used for each entity and tenant.
+     * <br/><br/>
+     * Default value is the size of the internal prepared statements LRU cache
+     *
+     * @param maxSchemaNameStatementsCacheSize max number of statements prepared for schema name providers
+     * @return ManagerFactoryBuilder
+     */
+    public T withMaxSchemaNameStatementsCacheSize(int maxSchemaNameStatementsCacheSize) {
+        configMap.put(PREPARED_STATEMENTS_SCHEMA_NAME_CACHE_SIZE, maxSchemaNameStatementsCacheSize);
+        return getThis();
+    }
+
     /**
      * Define the global insert strategy
      *
@@ -424,6 +445,25 @@ public abstract class AbstractManagerFactoryBuilder<T extends AbstractManagerFac
         return getThis();
     }
 
+    /**
+     * Define on which thread the futures returned by asynchronous operations are completed.
+     * <br/>
+     * <ul>
+     *     <li><strong>CompletionStrategy.EXECUTOR_SERVICE</strong> (default): complete on the executor service configured for <strong>Achilles</strong></li>
+     *     <li><strong>CompletionStrategy.DIRECT</strong>: complete on the Java driver I/O thread, without thread hand-off.
+     *     Use it only when the callbacks attached to the futures <strong>never block</strong></li>
+     *     <li><strong>CompletionStrategy.FORK_JOIN_POOL</strong>: complete on the common ForkJoinPool</li>
+     * </ul>
+     *
+     * @param completionStrategy completion strategy for asynchronous operations
+     * @return ManagerFactoryBuilder
+     * @see <a href="https://github.com/doanduyhai/Achilles/wiki/Asynchronous-Operations">Asynchronous Operations</a>
+     */
+    public T withCompletionStrategy(CompletionStrategy completionStrategy) {
+        configMap.put(COMPLETION_STRATEGY, completionStrategy);
+        return getThis();
+    }
+
     /**
      * Define a list of entities to be managed by <strong>Achilles</strong>.
      * Specifically, schema validation will be performed at bootstrap for those entities
@@ -557,4 +597,141 @@ public abstract class AbstractManagerFactoryBuilder<T extends AbstractManagerFac
         configMap.put(DML_RESULTS_DISPLAY_SIZE, maxDMLResultsDisplayed);
         return getThis();
     }
+
+    /**
+     * Limit the number of requests sent concurrently to the Java driver by this manager factory.
+     * <br/>
+     * Extra requests are queued and sent as soon as an in-flight request completes, so that a tight
+     * loop of asynchronous calls does not overload the driver connection pools.
+     * Once the queue is full (see {@link #withMaxQueuedRequests(int)}), requests fail with
+     * an {@link info.archinnov.achilles.exception.AchillesRequestRejectedException}
+     *
+     * @param maxInFlightRequests max number of concurrent requests
+     * @return ManagerFactoryBuilder
+     */
+    public T withMaxInFlightRequests(int maxInFlightRequests) {
+        configMap.put(MAX_IN_FLIGHT_REQUESTS, maxInFlightRequests);
+        return getThis();
+    }
+
+    /**
+     * Limit the number of requests sent concurrently to the Java driver for some tables.
+     * The map keys represent qualified table names (<em>keyspace.table</em>) and values represent the corresponding limit.
+     * <br/>
+     * Those limits apply in addition to the global one defined by {@link #withMaxInFlightRequests(int)}
+     *
+     * @param maxInFlightRequestsMap max number of concurrent requests for each table
+     * @return ManagerFactoryBuilder
+     */
+    public T withMaxInFlightRequestsMap(Map<String, Integer> maxInFlightRequestsMap) {
+        configMap.put(MAX_IN_FLIGHT_REQUESTS_MAP, maxInFlightRequestsMap);
+        return getThis();
+    }
+
+    /**
+     * Define how many requests can wait for an in-flight slot before being rejected.
+     * <br/>
+     * Default value = 10000
+     *
+     * @param maxQueuedRequests max number of queued requests for each in-flight limit
+     * @return ManagerFactoryBuilder
+     */
+    public T withMaxQueuedRequests(int maxQueuedRequests) {
+        configMap.put(MAX_QUEUED_REQUESTS, maxQueuedRequests);
+        return getThis();
+    }
+
+    /**
+     * Cache the rows of the given entity read by <strong>findById()</strong>, keyed by primary key.
+     * Each cache hit maps a new entity instance without any round trip to Cassandra.
+     * <br/>
+     * Cached rows are invalidated by the insert, update and delete operations of this manager factory.
+     * Writes done through native queries, other manager factories or other clients are only seen once
+     * the cached row expires, so this cache should be reserved to tables updated rarely or only by this
+     * application
+     *
+     * @param entityClass      entity class whose rows are cached
+     * @param maxSize          max number of cached rows
+     * @param expireAfterWrite duration after which a cached row expires
+     * @param unit             time unit of expireAfterWrite
+     * @return ManagerFactoryBuilder
+     */
+    public T withEntityCache(Class<?> entityClass, long maxSize, long expireAfterWrite, TimeUnit unit) {
+        return withEntityCache(entityClass, maxSize, expireAfterWrite, unit, EntityCacheStorageStrategy.ON_HEAP);
+    }
+
+    /**
+     * Cache the rows of the given entity read by <strong>findById()</strong>, with the given storage.
+     * <br/>
+     * With {@link EntityCacheStorageStrategy#OFF_HEAP}, only the serialized column values are kept,
+     * out of the heap, and decoded on each cache hit. This is suited to caching a large number of rows
+     * or large rows with collections or UDTs, at the expense of decoding on each hit.
+     * See {@link #withEntityCache(Class, long, long, TimeUnit)} for the invalidation rules
+     *
+     * @param entityClass      entity class whose rows are cached
+     * @param maxSize          max number of cached rows
+     * @param expireAfterWrite duration after which a cached row expires
+     * @param unit             time unit of expireAfterWrite
+     * @param storageStrategy  on heap or off heap storage of the cached rows
+     * @return ManagerFactoryBuilder
+     */
+    public T withEntityCache(Class<?> entityClass, long maxSize, long expireAfterWrite, TimeUnit unit,
+                             EntityCacheStorageStrategy storageStrategy) {
+        Validator.validateNotNull(entityClass, "The entity class for entity cache should not be null");
+        if (!configMap.containsKey(ENTITY_CACHES)) {
+            configMap.put(ENTITY_CACHES, new HashMap<Class<?>, EntityCacheOptions>());
+        }
+        configMap.<Map<Class<?>, EntityCacheOptions>>getTyped(ENTITY_CACHES)
+                .put(entityClass, new EntityCacheOptions(maxSize, expireAfterWrite, unit, storageStrategy));
+        return getThis();
+    }
+
+    /**
+     * Record the metrics of this manager factory: statements latency per entity and operation type,
+     * rows mapping time, prepared statements cache hits/misses/evictions, LWT failures and in-flight requests.
+     * <br/>
+     * Use {@link info.archinnov.achilles.metrics.JmxAchillesMetrics} to export them as MXBeans
+     * or provide your own implementation to bridge them to your metrics library.
+     * <br/>
+     * By default no metric is recorded
+     *
+     * @param metrics metrics implementation
+     * @return ManagerFactoryBuilder
+     */
+    public T withMetrics(AchillesMetrics metrics) {
+        configMap.put(METRICS, metrics);
+        return getThis();
+    }
+
+    /**
+     * Define how many static statements can be prepared asynchronously at the same time
+     * when the manager factory is bootstrapped. Raise it to reduce the bootstrap time
+     * with many entities, lower it to spare the Cassandra nodes.
+     * <br/>
+     * Default value = 32
+     *
+     * @param maxConcurrentPrepares max number of statements being prepared at the same time
+     * @return ManagerFactoryBuilder
+     */
+    public T withBootstrapMaxConcurrentPrepares(int maxConcurrentPrepares) {
+        configMap.put(BOOTSTRAP_MAX_CONCURRENT_PREPARES, maxConcurrentPrepares);
+        return getThis();
+    }
+
+    /**
+     * Define when the static statements of entities (SELECT by primary key, INSERT, DELETE ...) are prepared.
+     * <br/>
+     * <ul>
+     *     <li><strong>StatementsPreparationStrategy.EAGER</strong> (default): prepare all of them at bootstrap</li>
+     *     <li><strong>StatementsPreparationStrategy.LAZY</strong>: prepare each of them on first use. Concurrent first uses
+     *     of the same statement trigger a single preparation</li>
+     * </ul>
+     *
+     * @param statementsPreparationStrategy preparation strategy for static statements
+     * @return ManagerFactoryBuilder
+     */
+    public T withStatementsPreparationStrategy(StatementsPreparationStrategy statementsPreparationStrategy) {
+        configMap.put(STATEMENTS_PREPARATION_STRATEGY, statementsPreparationStrategy);
+        return getThis();
+    }
 }
@@ -35,20 +35,28 @@ import com.google.common.collect.ImmutableMap;
 
 import info.archinnov.achilles.async.DefaultExecutorThreadFactory;
 import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.internals.cache.EntityCache;
+import info.archinnov.achilles.internals.cache.EntityCacheOptions;
 import info.archinnov.achilles.internals.cache.StatementsCache;
 import info.archinnov.achilles.internals.context.ConfigurationContext;
 import info.archinnov.achilles.internals.factory.DefaultBeanFactory;
 import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.runtime.InFlightRequestsLimiter;
 import info.archinnov.achilles.internals.types.ConfigMap;
 import info.archinnov.achilles.json.DefaultJacksonMapperFactory;
 import info.archinnov.achilles.json.JacksonMapperFactory;
+import info.archinnov.achilles.metrics.AchillesMetrics;
+import info.archinnov.achilles.metrics.NoOpAchillesMetrics;
 import info.archinnov.achilles.type.SchemaNameProvider;
 import info.archinnov.achilles.type.codec.Codec;
 import info.archinnov.achilles.type.codec.CodecSignature;
 import info.archinnov.achilles.type.factory.BeanFactory;
 import info.archinnov.achilles.type.interceptor.Interceptor;
+import info.archinnov.achilles.type.strategy.CompletionStrategy;
 import info.archinnov.achilles.type.strategy.InsertStrategy;
 import info.archinnov.achilles.type.strategy.NamingStrategy;
+import info.archinnov.achilles.type.strategy.StatementsPreparationStrategy;
+import info.archinnov.achilles.validation.Validator;
 
 /**
  * Extract bootstrap argument and create a configuration context
@@ -67,6 +75,10 @@ public class ArgumentExtractor {
     static final NamingStrategy DEFAULT_GLOBAL_NAMING_STRATEGY = NamingStrategy.LOWER_CASE;
     static final BeanFactory DEFAULT_BEAN_FACTORY = new DefaultBeanFactory();
     static final Integer DEFAULT_DML_RESULTS_DISPLAY_SIZE = 10;
+    static final int DEFAULT_MAX_QUEUED_REQUESTS = 10000;
+    static final int DEFAULT_BOOTSTRAP_MAX_CONCURRENT_PREPARES = 32;
+    static final StatementsPreparationStrategy DEFAULT_STATEMENTS_PREPARATION_STRATEGY = StatementsPreparationStrategy.EAGER;
+    static final CompletionStrategy DEFAULT_COMPLETION_STRATEGY = CompletionStrategy.EXECUTOR_SERVICE;
     private static final Logger LOGGER = LoggerFactory.getLogger(ArgumentExtractor.class);
 
     public static ConfigurationContext initConfigContext(Cluster cluster, ConfigMap configurationMap) {
@@ -92,6 +104,7 @@ public class ArgumentExtractor {
         configContext.setSchemaNameProvider(initSchemaNameProvider(configurationMap));
         configContext.setExecutorService(initExecutorService(configurationMap));
         configContext.setProvidedExecutorService(initProvidedExecutorService(configurationMap));
+        configContext.setCompletionStrategy(initCompletionStrategy(configurationMap));
         configContext.setDefaultBeanFactory(initDefaultBeanFactory(configurationMap));
         configContext.setSession(initSession(cluster, configurationMap));
         configContext.setProvidedSession(initProvidedSession(configurationMap));
@@ -99,6 +112,12 @@ public class ArgumentExtractor {
         configContext.setRuntimeCodecs(initRuntimeCodecs(configurationMap));
         configContext.setValidateSchema(initValidateSchema(configurationMap));
         configContext.setDMLResultsDisplaySize(initDMLResultsDisplayLimit(configurationMap));
+        configContext.setRequestsLimiter(initRequestsLimiter(configurationMap));
+        configContext.setTableRequestsLimiters(initTableRequestsLimiters(configurationMap));
+        configContext.setEntityCaches(initEntityCaches(cluster, configurationMap));
+        configContext.setMetrics(initMetrics(configurationMap));
+        configContext.setBootstrapMaxConcurrentPrepares(initBootstrapMaxConcurrentPrepares(configurationMap));
+        configContext.setStatementsPreparationStrategy(initStatementsPreparationStrategy(configurationMap));
         return configContext;
     }
 
@@ -228,6 +247,11 @@ public class ArgumentExtractor {
         return configMap.getTypedOr(PREPARED_STATEMENTS_CACHE_SIZE, DEFAULT_LRU_CACHE_SIZE);
     }
 
+    public static Integer initPreparedStatementsSchemaNameCacheSize(ConfigMap configMap) {
+        LOGGER.trace("Extract or init schema name prepared statements cache size");
+        return configMap.getTypedOr(PREPARED_STATEMENTS_SCHEMA_NAME_CACHE_SIZE, initPreparedStatementsCacheSize(configMap));
+    }
+
     public static InsertStrategy initInsertStrategy(ConfigMap configMap) {
         LOGGER.trace("Extract or init global Insert strategy");
         return configMap.getTypedOr(GLOBAL_INSERT_STRATEGY, DEFAULT_INSERT_STRATEGY);
@@ -253,6 +277,11 @@ public class ArgumentExtractor {
         return Optional.ofNullable(configMap.<ExecutorService>getTyped(EXECUTOR_SERVICE)).isPresent();
     }
 
+    public static CompletionStrategy initCompletionStrategy(ConfigMap configMap) {
+        LOGGER.trace("Extract or init completion strategy for asynchronous operations");
+        return configMap.getTypedOr(COMPLETION_STRATEGY, DEFAULT_COMPLETION_STRATEGY);
+    }
+
     private static Supplier<ExecutorService> initializeDefaultExecutor(final ConfigMap configMap) {
         return () -> {
             int minThreads = configMap.getTypedOr(DEFAULT_EXECUTOR_SERVICE_MIN_THREAD, DEFAULT_THREAD_POOL_MIN_THREAD_COUNT);
@@ -281,7 +310,8 @@ public class ArgumentExtractor {
             return configMap.getTyped(STATEMENTS_CACHE);
         } else {
             final Integer cacheSize = initPreparedStatementsCacheSize(configMap);
-            return new StatementsCache(cacheSize);
+            final Integer schemaNameCacheSize = initPreparedStatementsSchemaNameCacheSize(configMap);
+            return new StatementsCache(cacheSize, schemaNameCacheSize);
         }
     }
 
@@ -302,4 +332,47 @@ public class ArgumentExtractor {
             return DEFAULT_DML_RESULTS_DISPLAY_SIZE;
         }
     }
+
+    static Optional<InFlightRequestsLimiter> initRequestsLimiter(ConfigMap configMap) {
+        LOGGER.trace("Extract or init global in-flight requests limiter");
+        final int maxQueued = configMap.getTypedOr(MAX_QUEUED_REQUESTS, DEFAULT_MAX_QUEUED_REQUESTS);
+        return Optional.ofNullable(configMap.<Integer>getTyped(MAX_IN_FLIGHT_REQUESTS))
+                .map(maxInFlight -> new InFlightRequestsLimiter("global", maxInFlight, maxQueued));
+    }
+
+    static Map<String, InFlightRequestsLimiter> initTableRequestsLimiters(ConfigMap configMap) {
+        LOGGER.trace("Extract or init in-flight requests limiters for tables");
+        final int maxQueued = configMap.getTypedOr(MAX_QUEUED_REQUESTS, DEFAULT_MAX_QUEUED_REQUESTS);
+        final Map<String, Integer> maxInFlightMap = configMap.getTypedOr(MAX_IN_FLIGHT_REQUESTS_MAP, ImmutableMap.<String, Integer>of());
+        final Map<String, InFlightRequestsLimiter> limiters = new HashMap<>();
+        maxInFlightMap.forEach((table, maxInFlight) -> {
+            Validator.validateTrue(table.indexOf('.') > 0,
+                    "The table '%s' of the max in-flight requests map should be qualified by its keyspace: keyspace.table", table);
+            limiters.put(table, new InFlightRequestsLimiter(table, maxInFlight, maxQueued));
+        });
+        return limiters;
+    }
+
+    static Map<Class<?>, EntityCache> initEntityCaches(Cluster cluster, ConfigMap configMap) {
+        LOGGER.trace("Extract or init entity caches");
+        final Map<Class<?>, EntityCacheOptions> cacheOptionsMap = configMap.getTypedOr(ENTITY_CACHES, ImmutableMap.<Class<?>, EntityCacheOptions>of());
+        final Map<Class<?>, EntityCache> entityCaches = new HashMap<>();
+        cacheOptionsMap.forEach((entityClass, cacheOptions) -> entityCaches.put(entityClass, new EntityCache(entityClass, cacheOptions, cluster)));
+        return entityCaches;
+    }
+
+    static AchillesMetrics initMetrics(ConfigMap configMap) {
+        LOGGER.trace("Extract or init metrics");
+        return configMap.getTypedOr(METRICS, new NoOpAchillesMetrics());
+    }
+
+    static int initBootstrapMaxConcurrentPrepares(ConfigMap configMap) {
+        LOGGER.trace("Extract max concurrent statements preparation at bootstrap from configuration map");
+        return configMap.getTypedOr(BOOTSTRAP_MAX_CONCURRENT_PREPARES, DEFAULT_BOOTSTRAP_MAX_CONCURRENT_PREPARES);
+    }
+
+    static StatementsPreparationStrategy initStatementsPreparationStrategy(ConfigMap configMap) {
+        LOGGER.trace("Extract statements preparation strategy from configuration map");
+        return configMap.getTypedOr(STATEMENTS_PREPARATION_STRATEGY, DEFAULT_STATEMENTS_PREPARATION_STRATEGY);
+    }
 }
@@ -138,11 +138,16 @@ package info.archinnov.achilles.configuration;
  You can get details on the LRU cache state by putting the logger <code>info.archinnov.achilles.internal.statement.cache.CacheManager</code> on <strong>DEBUG</strong></p>
  * </li>
  * <li>
+ * <strong>PREPARED_STATEMENTS_SCHEMA_NAME_CACHE_SIZE</strong> (OPTIONAL): define the LRU cache size for statements prepared against
+ * the keyspaces/tables resolved at runtime by a <strong>SchemaNameProvider</strong>. Those statements are cached by entity, operation,
+ * keyspace and table, separately from the cache above. By default, the size is the same as <strong>PREPARED_STATEMENTS_CACHE_SIZE</strong>
+ * </li>
+ * <li>
  * <strong>STATEMENTS_CACHE</strong> (OPTIONAL): provide an instance of the class {@link info.archinnov.achilles.internals.cache.StatementsCache}
  * to store all prepared statements. This option is useful for unit testing to avoid re-preparing many times the same prepared statements
  * <br/><br/>
  * <em>
- * Remark: if your provide the statement cache object yourself, the parameter PREPARED_STATEMENTS_CACHE_SIZE will be ignored
+ * Remark: if your provide the statement cache object yourself, the parameters PREPARED_STATEMENTS_CACHE_SIZE and PREPARED_STATEMENTS_SCHEMA_NAME_CACHE_SIZE will be ignored
  * </em>
  * </li>
  * </ul>
@@ -250,6 +255,72 @@ package info.archinnov.achilles.configuration;
  * </code></pre>
  * For more details, please check <strong><a href="https://github.com/doanduyhai/Achilles/wiki/Asynchronous-Operations">Asynchronous Operations</a></strong></p>
  * </li>
+ * <li>
+ * <strong>COMPLETION_STRATEGY</strong> (OPTIONAL): choose the thread completing the futures of asynchronous operations between
+ * <strong><code>CompletionStrategy.EXECUTOR_SERVICE</code></strong>, <strong><code>CompletionStrategy.DIRECT</code></strong>
+ * and <strong><code>CompletionStrategy.FORK_JOIN_POOL</code></strong>.
+ * Default value is <strong><code>CompletionStrategy.EXECUTOR_SERVICE</code></strong>.
+ * With <strong><code>CompletionStrategy.DIRECT</code></strong>, callbacks run on the Java driver I/O thread and must not block
+ * </li>
+ * </ul>
+ * <br/>
+ * <br/>
+ * <h4>Requests Throttling</h4>
+ * <ul>
+ * <li>
+ * <strong>MAX_IN_FLIGHT_REQUESTS</strong> (OPTIONAL): maximum number of requests sent concurrently to the Java driver by this manager factory.
+ * Extra requests are queued and sent as soon as an in-flight request completes. <strong>By default there is no limit</strong>
+ * </li>
+ * <li>
+ * <strong>MAX_IN_FLIGHT_REQUESTS_MAP</strong> (OPTIONAL): map(String,Integer) of maximum in-flight requests for tables,
+ * keyed by qualified table name (<em>keyspace.table</em>). This limit applies in addition to <strong>MAX_IN_FLIGHT_REQUESTS</strong>
+ * Example:
+ * <br/>
+ * "keyspace1.columnFamily1" -&gt; 100 <br>
+ * "keyspace1.columnFamily2" -&gt; 500
+ * ...
+ * </li>
+ * <li>
+ * <strong>MAX_QUEUED_REQUESTS</strong> (OPTIONAL): maximum number of requests waiting for an in-flight slot, for each limit.
+ * Once this number is reached, new requests fail with an <strong>AchillesRequestRejectedException</strong>. <strong>Default = 10000</strong>
+ * </li>
+ * </ul>
+ * <br/>
+ * <br/>
+ * <h4>Entity cache</h4>
+ * <ul>
+ * <li>
+ * <strong>ENTITY_CACHES</strong> (OPTIONAL): map(Class&lt;?&gt;,EntityCacheOptions) of entity classes whose rows are cached
+ * by <strong>findById()</strong>. Cached rows are invalidated by the insert, update and delete operations of this manager factory.
+ * Rows are stored on heap or, with <strong>EntityCacheStorageStrategy.OFF_HEAP</strong>, as serialized values in direct buffers.
+ * <strong>By default no entity is cached</strong>
+ * </li>
+ * </ul>
+ * <br/>
+ * <br/>
+ * <h4>Metrics</h4>
+ * <ul>
+ * <li>
+ * <strong>METRICS</strong> (OPTIONAL): an implementation of <strong>info.archinnov.achilles.metrics.AchillesMetrics</strong> recording the
+ * latency of statements per entity and operation type, the rows mapping time, the prepared statements cache hits/misses/evictions
+ * and the LWT failures. <strong>Achilles</strong> provides a JMX exporter with <strong>info.archinnov.achilles.metrics.JmxAchillesMetrics</strong>.
+ * By default no metric is recorded
+ * </li>
+ * </ul>
+ * <br/>
+ * <br/>
+ * <h4>Bootstrap</h4>
+ * <ul>
+ * <li>
+ * <strong>BOOTSTRAP_MAX_CONCURRENT_PREPARES</strong> (OPTIONAL): maximum number of static statements being prepared
+ * asynchronously at the same time when the manager factory is bootstrapped. <strong>Default = 32</strong>
+ * </li>
+ * <li>
+ * <strong>STATEMENTS_PREPARATION_STRATEGY</strong> (OPTIONAL): choose when the static statements of entities are prepared between
+ * <strong><code>StatementsPreparationStrategy.EAGER</code></strong> (at bootstrap) and
+ * <strong><code>StatementsPreparationStrategy.LAZY</code></strong> (on first use).
+ * Default value is <strong><code>StatementsPreparationStrategy.EAGER</code></strong>
+ * </li>
  * </ul>
  */
 public enum ConfigurationParameters {
@@ -279,6 +350,7 @@ public enum ConfigurationParameters {
     BEAN_VALIDATION_VALIDATOR("achilles.bean.validation.validator"),
 
     PREPARED_STATEMENTS_CACHE_SIZE("achilles.prepared.statements.cache.size"),
+    PREPARED_STATEMENTS_SCHEMA_NAME_CACHE_SIZE("achilles.prepared.statements.schema.name.cache.size"),
 
     DEFAULT_BEAN_FACTORY("achilles.bean.factory"),
 
@@ -296,8 +368,20 @@ public enum ConfigurationParameters {
     DEFAULT_EXECUTOR_SERVICE_THREAD_KEEPALIVE("achilles.executor.service.default.thread.keepalive"),
     DEFAULT_EXECUTOR_SERVICE_QUEUE_SIZE("achilles.executor.service.default.queue.size"),
     DEFAULT_EXECUTOR_SERVICE_THREAD_FACTORY("achilles.executor.service.thread.factory"),
+    COMPLETION_STRATEGY("achilles.async.completion.strategy"),
+
+    DML_RESULTS_DISPLAY_SIZE("achilles.dml.results_display.size"),
+
+    MAX_IN_FLIGHT_REQUESTS("achilles.requests.max.in.flight"),
+    MAX_IN_FLIGHT_REQUESTS_MAP("achilles.requests.max.in.flight.map"),
+    MAX_QUEUED_REQUESTS("achilles.requests.max.queued"),
+
+    ENTITY_CACHES("achilles.entity.caches"),
+
+    METRICS("achilles.metrics"),
 
-    DML_RESULTS_DISPLAY_SIZE("achilles.dml.results_display.size");
+    BOOTSTRAP_MAX_CONCURRENT_PREPARES("achilles.bootstrap.max.concurrent.prepares"),
+    STATEMENTS_PREPARATION_STRATEGY("achilles.statements.preparation.strategy");
 
 
     private String label;
@@ -51,6 +51,7 @@ import com.sun.tools.javac.model.JavacElements;
 import info.archinnov.achilles.annotations.UDT;
 import info.archinnov.achilles.exception.AchillesBeanMappingException;
 import info.archinnov.achilles.internals.parser.AnnotationTree;
+import info.archinnov.achilles.internals.parser.TypeUtils;
 import info.archinnov.achilles.type.TypedMap;
 import info.archinnov.achilles.type.tuples.Tuple2;
 
@@ -515,8 +516,20 @@ public class AptUtils {
         }
     }
 
+    /**
+     * @return true if the type is a supported primitive collection (IntList, LongSet, Long2DoubleMap ...),
+     * which is mapped as a simple type even though it implements List, Set or Map
+     */
+    public boolean isPrimitiveCollection(TypeMirror typeMirror) {
+        return typeMirror.getKind() == TypeKind.DECLARED
+                && TypeUtils.PRIMITIVE_COLLECTION_TYPES.contains(TypeName.get(this.erasure(typeMirror)));
+    }
+
     public boolean isCompositeTypeForCassandra(TypeMirror typeMirror) {
         final TypeMirror type = this.erasure(typeMirror);
+        if (this.isPrimitiveCollection(type)) {
+            return false;
+        }
         return this.isAssignableFrom(List.class, type)
                 || this.isAssignableFrom(Set.class, type)
                 || this.isAssignableFrom(Map.class, type)
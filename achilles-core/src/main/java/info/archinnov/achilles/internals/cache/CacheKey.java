@@ -20,12 +20,17 @@ import static info.archinnov.achilles.internals.statements.PreparedStatementGene
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.RegularStatement;
+import com.google.common.util.concurrent.Uninterruptibles;
 
+import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.runtime.RuntimeEngine;
@@ -66,148 +71,126 @@ public class CacheKey {
 
     public enum Operation {
 
-        FIND {
+        FIND("SELECT") {
             @Override
-            public PreparedStatement getPreparedStatement(RuntimeEngine rte, AbstractEntityProperty<?> meta, CassandraOptions cassandraOptions) {
-                if (LOGGER.isDebugEnabled()) {
-                    LOGGER.debug(String.format("Prepare SELECT statement for entity of type %s",
-                            meta.entityClass.getCanonicalName()));
-                }
-
-                final Optional<SchemaNameProvider> provider = cassandraOptions.getSchemaNameProvider();
-                final PreparedStatement psFromCache = rte.getStaticCache(new CacheKey(meta.entityClass, FIND));
-                return rte.maybePrepareIfDifferentSchemaNameFromCache(meta, psFromCache, provider, () -> generateSelectQuery(meta, provider))
-                        .orElse(psFromCache);
-
+            public RegularStatement generateStatement(AbstractEntityProperty<?> meta, Optional<SchemaNameProvider> schemaNameProvider) {
+                return generateSelectQuery(meta, schemaNameProvider);
             }
         },
-        INSERT {
+        INSERT("INSERT") {
             @Override
-            public PreparedStatement getPreparedStatement(RuntimeEngine rte, AbstractEntityProperty<?> meta, CassandraOptions cassandraOptions) {
-                if (LOGGER.isDebugEnabled()) {
-                    LOGGER.debug(String.format("Prepare INSERT statement for entity of type %s",
-                            meta.entityClass.getCanonicalName()));
-                }
-                final Optional<SchemaNameProvider> provider = cassandraOptions.getSchemaNameProvider();
-                final PreparedStatement psFromCache = rte.getStaticCache(new CacheKey(meta.entityClass, INSERT));
-                return rte.maybePrepareIfDifferentSchemaNameFromCache(meta, psFromCache, provider, () -> generateInsert(meta, provider))
-                        .orElse(psFromCache);
+            public RegularStatement generateStatement(AbstractEntityProperty<?> meta, Optional<SchemaNameProvider> schemaNameProvider) {
+                return generateInsert(meta, schemaNameProvider);
             }
         },
-        INSERT_JSON {
+        INSERT_JSON("INSERT JSON") {
             @Override
-            public PreparedStatement getPreparedStatement(RuntimeEngine rte, AbstractEntityProperty<?> meta, CassandraOptions cassandraOptions) {
-                if (LOGGER.isDebugEnabled()) {
-                    LOGGER.debug(String.format("Prepare INSERT JSON statement for entity of type %s",
-                            meta.entityClass.getCanonicalName()));
-                }
-                final Optional<SchemaNameProvider> provider = cassandraOptions.getSchemaNameProvider();
-                final PreparedStatement psFromCache = rte.getStaticCache(new CacheKey(meta.entityClass, INSERT_JSON));
-                return rte.maybePrepareIfDifferentSchemaNameFromCache(meta, psFromCache, provider, () -> generateInsertJSON(meta, provider))
-                        .orElse(psFromCache);
+            public RegularStatement generateStatement(AbstractEntityProperty<?> meta, Optional<SchemaNameProvider> schemaNameProvider) {
+                return generateInsertJSON(meta, schemaNameProvider);
             }
         },
-        INSERT_STATIC {
+        INSERT_STATIC("INSERT STATIC") {
             @Override
-            public PreparedStatement getPreparedStatement(RuntimeEngine rte, AbstractEntityProperty<?> meta, CassandraOptions cassandraOptions) {
-                if (LOGGER.isDebugEnabled()) {
-                    LOGGER.debug(String.format("Prepare INSERT STATIC statement for entity of type %s",
-                            meta.entityClass.getCanonicalName()));
-                }
-                final Optional<SchemaNameProvider> provider = cassandraOptions.getSchemaNameProvider();
-                final PreparedStatement psFromCache = rte.getStaticCache(new CacheKey(meta.entityClass, INSERT_STATIC));
-                return rte.maybePrepareIfDifferentSchemaNameFromCache(meta, psFromCache, provider, () -> generateInsertStatic(meta, provider))
-                        .orElse(psFromCache);
+            public RegularStatement generateStatement(AbstractEntityProperty<?> meta, Optional<SchemaNameProvider> schemaNameProvider) {
+                return generateInsertStatic(meta, schemaNameProvider);
             }
         },
-        INSERT_IF_NOT_EXISTS {
+        INSERT_IF_NOT_EXISTS("INSERT IF NOT EXISTS") {
             @Override
-            public PreparedStatement getPreparedStatement(RuntimeEngine rte, AbstractEntityProperty<?> meta, CassandraOptions cassandraOptions) {
-                if (LOGGER.isDebugEnabled()) {
-                    LOGGER.debug(String.format("Prepare INSERT IF NOT EXISTS statement for entity of type %s",
-                            meta.entityClass.getCanonicalName()));
-                }
-                final Optional<SchemaNameProvider> provider = cassandraOptions.getSchemaNameProvider();
-                final PreparedStatement psFromCache = rte.getStaticCache(new CacheKey(meta.entityClass, INSERT_IF_NOT_EXISTS));
-                return rte.maybePrepareIfDifferentSchemaNameFromCache(meta, psFromCache, provider, () -> generateInsertIfNotExists(meta, provider))
-                        .orElse(psFromCache);
+            public RegularStatement generateStatement(AbstractEntityProperty<?> meta, Optional<SchemaNameProvider> schemaNameProvider) {
+                return generateInsertIfNotExists(meta, schemaNameProvider);
             }
         },
-        INSERT_IF_NOT_EXISTS_JSON {
+        INSERT_IF_NOT_EXISTS_JSON("INSERT JSON ... IF NOT EXISTS") {
             @Override
-            public PreparedStatement getPreparedStatement(RuntimeEngine rte, AbstractEntityProperty<?> meta, CassandraOptions cassandraOptions) {
-                if (LOGGER.isDebugEnabled()) {
-                    LOGGER.debug(String.format("Prepare INSERT JSON ... IF NOT EXISTS statement for entity of type %s",
-                            meta.entityClass.getCanonicalName()));
-                }
-                final Optional<SchemaNameProvider> provider = cassandraOptions.getSchemaNameProvider();
-                final PreparedStatement psFromCache = rte.getStaticCache(new CacheKey(meta.entityClass, INSERT_IF_NOT_EXISTS_JSON));
-                return rte.maybePrepareIfDifferentSchemaNameFromCache(meta, psFromCache, provider, () -> generateInsertIfNotExistsJson(meta, provider))
-                        .orElse(psFromCache);
+            public RegularStatement generateStatement(AbstractEntityProperty<?> meta, Optional<SchemaNameProvider> schemaNameProvider) {
+                return generateInsertIfNotExistsJson(meta, schemaNameProvider);
             }
         },
-        INSERT_STATIC_IF_NOT_EXISTS {
+        INSERT_STATIC_IF_NOT_EXISTS("INSERT STATIC IF NOT EXISTS") {
             @Override
-            public PreparedStatement getPreparedStatement(RuntimeEngine rte, AbstractEntityProperty<?> meta, CassandraOptions cassandraOptions) {
-                if (LOGGER.isDebugEnabled()) {
-                    LOGGER.debug(String.format("Prepare INSERT STATIC IF NOT EXISTS statement for entity of type %s",
-                            meta.entityClass.getCanonicalName()));
-                }
-                final Optional<SchemaNameProvider> provider = cassandraOptions.getSchemaNameProvider();
-                final PreparedStatement psFromCache = rte.getStaticCache(new CacheKey(meta.entityClass, INSERT_STATIC_IF_NOT_EXISTS));
-                return rte.maybePrepareIfDifferentSchemaNameFromCache(meta, psFromCache, provider, () -> generateInsertStaticIfNotExists(meta, provider))
-                        .orElse(psFromCache);
+            public RegularStatement generateStatement(AbstractEntityProperty<?> meta, Optional<SchemaNameProvider> schemaNameProvider) {
+                return generateInsertStaticIfNotExists(meta, schemaNameProvider);
             }
         },
-        DELETE {
+        DELETE("DELETE") {
             @Override
-            public PreparedStatement getPreparedStatement(RuntimeEngine rte, AbstractEntityProperty<?> meta, CassandraOptions cassandraOptions) {
-                if (LOGGER.isDebugEnabled()) {
-                    LOGGER.debug(String.format("Prepare DELETE statement for entity of type %s",
-                            meta.entityClass.getCanonicalName()));
-                }
-                final Optional<SchemaNameProvider> provider = cassandraOptions.getSchemaNameProvider();
-                final PreparedStatement psFromCache = rte.getStaticCache(new CacheKey(meta.entityClass, DELETE));
-                return rte.maybePrepareIfDifferentSchemaNameFromCache(meta, psFromCache, provider, () -> generateDeleteByKeys(meta, provider))
-                        .orElse(psFromCache);
+            public RegularStatement generateStatement(AbstractEntityProperty<?> meta, Optional<SchemaNameProvider> schemaNameProvider) {
+                return generateDeleteByKeys(meta, schemaNameProvider);
             }
         },
-        DELETE_IF_EXISTS {
+        DELETE_IF_EXISTS("DELETE IF EXISTS") {
             @Override
-            public PreparedStatement getPreparedStatement(RuntimeEngine rte, AbstractEntityProperty<?> meta, CassandraOptions cassandraOptions) {
-                if (LOGGER.isDebugEnabled()) {
-                    LOGGER.debug(String.format("Prepare DELETE IF EXISTS statement for entity of type %s",
-                            meta.entityClass.getCanonicalName()));
-                }
-                final Optional<SchemaNameProvider> provider = cassandraOptions.getSchemaNameProvider();
-                final PreparedStatement psFromCache = rte.getStaticCache(new CacheKey(meta.entityClass, DELETE_IF_EXISTS));
-                return rte.maybePrepareIfDifferentSchemaNameFromCache(meta, psFromCache, provider, () -> generateDeleteByKeysIfExists(meta, provider))
-                        .orElse(psFromCache);
+            public RegularStatement generateStatement(AbstractEntityProperty<?> meta, Optional<SchemaNameProvider> schemaNameProvider) {
+                return generateDeleteByKeysIfExists(meta, schemaNameProvider);
             }
         },
-        DELETE_BY_PARTITION {
+        DELETE_BY_PARTITION("DELETE BY PARTITION") {
             @Override
-            public PreparedStatement getPreparedStatement(RuntimeEngine rte, AbstractEntityProperty<?> meta, CassandraOptions cassandraOptions) {
-                if (LOGGER.isDebugEnabled()) {
-                    LOGGER.debug(String.format("Prepare DELETE BY PARTITION statement for entity of type %s",
-                            meta.entityClass.getCanonicalName()));
-                }
-                final Optional<SchemaNameProvider> provider = cassandraOptions.getSchemaNameProvider();
-                final PreparedStatement psFromCache = rte.getStaticCache(new CacheKey(meta.entityClass, DELETE_BY_PARTITION));
-                return rte.maybePrepareIfDifferentSchemaNameFromCache(meta, psFromCache, provider, () -> generateDeleteByPartition(meta, provider))
-                        .orElse(psFromCache);
+            public RegularStatement generateStatement(AbstractEntityProperty<?> meta, Optional<SchemaNameProvider> schemaNameProvider) {
+                return generateDeleteByPartition(meta, schemaNameProvider);
             }
         },
-        UPDATE {
+        UPDATE("UPDATE") {
             @Override
             public PreparedStatement getPreparedStatement(RuntimeEngine rte, AbstractEntityProperty<?> meta, CassandraOptions cassandraOptions) {
                 //TODO
                 return null;
             }
+
+            @Override
+            public RegularStatement generateStatement(AbstractEntityProperty<?> meta, Optional<SchemaNameProvider> schemaNameProvider) {
+                throw new AchillesException("UPDATE statements depend on the entity values and cannot be generated statically");
+            }
         };
 
         private static final Logger LOGGER = LoggerFactory.getLogger(Operation.class);
 
-        public abstract PreparedStatement getPreparedStatement(RuntimeEngine rte, AbstractEntityProperty<?> meta, CassandraOptions cassandraOptions);
+        private final String label;
+
+        Operation(String label) {
+            this.label = label;
+        }
+
+        public abstract RegularStatement generateStatement(AbstractEntityProperty<?> meta, Optional<SchemaNameProvider> schemaNameProvider);
+
+        public PreparedStatement getPreparedStatement(RuntimeEngine rte, AbstractEntityProperty<?> meta, CassandraOptions cassandraOptions) {
+            return getUninterruptibly(getPreparedStatementAsync(rte, meta, cassandraOptions));
+        }
+
+        /**
+         * Get the future of the prepared statement, from the schema name cache if the options
+         * have a schema name provider, from the static cache otherwise
+         */
+        public CompletableFuture<PreparedStatement> getPreparedStatementAsync(RuntimeEngine rte, AbstractEntityProperty<?> meta, CassandraOptions cassandraOptions) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(String.format("Prepare %s statement for entity of type %s",
+                        label, meta.entityClass.getCanonicalName()));
+            }
+            final Optional<SchemaNameProvider> provider = cassandraOptions.getSchemaNameProvider();
+            return rte.maybePrepareIfDifferentSchemaNameFromCache(meta, this, provider, () -> generateStatement(meta, provider))
+                    .orElseGet(() -> getStaticPreparedStatementAsync(rte, meta));
+        }
+
+        public PreparedStatement getStaticPreparedStatement(RuntimeEngine rte, AbstractEntityProperty<?> meta) {
+            return getUninterruptibly(getStaticPreparedStatementAsync(rte, meta));
+        }
+
+        /**
+         * Get the future of the statement prepared for the default schema name from the static cache.
+         * With {@code StatementsPreparationStrategy.LAZY}, the statement is prepared asynchronously on first use
+         */
+        public CompletableFuture<PreparedStatement> getStaticPreparedStatementAsync(RuntimeEngine rte, AbstractEntityProperty<?> meta) {
+            return rte.getStaticCacheAsync(new CacheKey(meta.entityClass, this), () -> generateStatement(meta, Optional.empty()));
+        }
+
+        private static PreparedStatement getUninterruptibly(CompletableFuture<PreparedStatement> preparation) {
+            try {
+                return Uninterruptibles.getUninterruptibly(preparation);
+            } catch (ExecutionException e) {
+                final Throwable cause = e.getCause();
+                throw cause instanceof RuntimeException ? (RuntimeException) cause : new AchillesException(cause);
+            }
+        }
     }
 }
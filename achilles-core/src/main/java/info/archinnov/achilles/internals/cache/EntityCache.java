@@ -0,0 +1,211 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.cache;
+
+import static com.google.common.cache.CacheBuilder.newBuilder;
+import static java.lang.String.format;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.*;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheStats;
+
+import info.archinnov.achilles.type.strategy.EntityCacheStorageStrategy;
+
+/**
+ * Read-through cache of the rows of an entity, keyed by encoded primary key.
+ * <br/>
+ * Rows are cached rather than entity instances so that each cache hit
+ * maps a fresh, independently mutable, entity instance.
+ * <br/>
+ * The cache is populated by <strong>findById()</strong> and invalidated by the insert, update and delete
+ * operations of the same manager factory. Writes through native queries, other manager factories or
+ * other clients are only seen once the cached row expires.
+ * <br/>
+ * Each invalidation increments a generation counter: a row read before an invalidation
+ * completed is not cached, so that a concurrent read cannot re-populate a stale row
+ * <br/>
+ * With {@link EntityCacheStorageStrategy#OFF_HEAP} storage, the serialized values of each row are copied
+ * in a region of an {@link OffHeapArena} (see {@link OffHeapRow}) and rows of the same shape share their column definitions.
+ * The region of a row is released as soon as the row is evicted and no reader decodes it anymore.
+ * For this reason cached rows are never given to user code: row async listeners are not called on cache hits
+ */
+public class EntityCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EntityCache.class);
+
+    private final Class<?> entityClass;
+    private final Cluster cluster;
+    private final OffHeapArena arena;
+    private final Cache<EntityCacheKey, Row> rows;
+    private final AtomicLong generation = new AtomicLong(0);
+    private final AtomicLong offHeapSize = new AtomicLong(0);
+    private volatile ColumnDefinitions sharedColumnDefinitions;
+
+    public EntityCache(Class<?> entityClass, EntityCacheOptions cacheOptions, Cluster cluster) {
+        this.entityClass = entityClass;
+        this.cluster = cluster;
+        this.arena = cacheOptions.getStorageStrategy() == EntityCacheStorageStrategy.OFF_HEAP ? new OffHeapArena() : null;
+        this.rows = newBuilder()
+                .maximumSize(cacheOptions.getMaxSize())
+                .expireAfterWrite(cacheOptions.getExpireAfterWriteMillis(), TimeUnit.MILLISECONDS)
+                .<EntityCacheKey, Row>removalListener(notification -> {
+                    if (notification.getValue() instanceof OffHeapRow) {
+                        final OffHeapRow offHeapRow = (OffHeapRow) notification.getValue();
+                        offHeapSize.addAndGet(-offHeapRow.offHeapSize());
+                        offHeapRow.release();
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Map the cached row, if any. An off heap row is only valid during the mapping:
+     * its region can be reused once it is evicted, so the row must not escape the mapper
+     * (it must not be given to row async listeners for instance)
+     *
+     * @param mapper mapping of the row, called at most once
+     * @return the mapped row or empty if the row is not cached
+     */
+    public <T> Optional<T> mapIfPresent(EntityCacheKey key, Function<Row, T> mapper) {
+        final Row row = rows.getIfPresent(key);
+        if (row == null) {
+            return Optional.empty();
+        }
+        if (!(row instanceof OffHeapRow)) {
+            return Optional.ofNullable(mapper.apply(row));
+        }
+
+        final OffHeapRow offHeapRow = (OffHeapRow) row;
+        if (!offHeapRow.retain()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(mapper.apply(offHeapRow));
+        } finally {
+            offHeapRow.release();
+        }
+    }
+
+    /**
+     * @return current generation, to be read before executing the query whose row will be cached
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Cache the row unless an invalidation occurred since the given generation was read
+     */
+    public void putIfUnchanged(EntityCacheKey key, Row row, long readGeneration) {
+        if (generation.get() != readGeneration) {
+            return;
+        }
+        rows.put(key, arena != null ? copyOffHeap(row) : row);
+        if (generation.get() != readGeneration) {
+            rows.invalidate(key);
+        }
+    }
+
+    public void invalidate(EntityCacheKey key) {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Invalidate cached row of entity %s for key %s", entityClass.getCanonicalName(), key));
+        }
+        generation.incrementAndGet();
+        rows.invalidate(key);
+    }
+
+    public void invalidateAll() {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Invalidate all cached rows of entity %s", entityClass.getCanonicalName()));
+        }
+        generation.incrementAndGet();
+        rows.invalidateAll();
+    }
+
+    public Class<?> getEntityClass() {
+        return entityClass;
+    }
+
+    /**
+     * @return hits, misses and evictions of this cache
+     */
+    public CacheStats getStats() {
+        return rows.stats();
+    }
+
+    public long getSize() {
+        return rows.size();
+    }
+
+    /**
+     * @return number of bytes allocated out of the heap by the cached rows, always 0 for
+     * {@link EntityCacheStorageStrategy#ON_HEAP} storage
+     */
+    public long getOffHeapSize() {
+        return offHeapSize.get();
+    }
+
+    /**
+     * @return number of bytes of the direct buffers reserved for the cached rows, used or not, always 0 for
+     * {@link EntityCacheStorageStrategy#ON_HEAP} storage
+     */
+    public long getOffHeapReservedSize() {
+        return arena != null ? arena.getReservedBytes() : 0L;
+    }
+
+    private OffHeapRow copyOffHeap(Row row) {
+        final Configuration configuration = cluster.getConfiguration();
+        final OffHeapRow offHeapRow = OffHeapRow.copyOf(row, shareColumnDefinitions(row.getColumnDefinitions()),
+                configuration.getCodecRegistry(), configuration.getProtocolOptions().getProtocolVersion(), arena);
+        offHeapSize.addAndGet(offHeapRow.offHeapSize());
+        return offHeapRow;
+    }
+
+    /**
+     * Each result set has its own column definitions. Keep a single instance
+     * for all the cached rows of the same shape, which is the common case
+     */
+    private ColumnDefinitions shareColumnDefinitions(ColumnDefinitions columnDefinitions) {
+        final ColumnDefinitions shared = sharedColumnDefinitions;
+        if (shared != null && sameColumns(shared, columnDefinitions)) {
+            return shared;
+        }
+        sharedColumnDefinitions = columnDefinitions;
+        return columnDefinitions;
+    }
+
+    private static boolean sameColumns(ColumnDefinitions left, ColumnDefinitions right) {
+        if (left.size() != right.size()) {
+            return false;
+        }
+        for (int i = 0; i < left.size(); i++) {
+            if (!left.getName(i).equals(right.getName(i)) || !left.getType(i).equals(right.getType(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.metamodel.AbstractProperty;
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.type.SchemaNameProvider;
+
+/**
+ * Key of an {@link EntityCache}: the encoded primary key values, partition key(s) first
+ * then clustering column(s), and the keyspace/table resolved by a schema name provider, if any
+ */
+public class EntityCacheKey {
+
+    private final String keyspace;
+    private final String table;
+    private final List<Object> encodedPrimaryKeyValues;
+    private final int hash;
+
+    private EntityCacheKey(String keyspace, String table, List<Object> encodedPrimaryKeyValues) {
+        this.keyspace = keyspace;
+        this.table = table;
+        this.encodedPrimaryKeyValues = encodedPrimaryKeyValues;
+        this.hash = Objects.hash(keyspace, table, encodedPrimaryKeyValues);
+    }
+
+    public static EntityCacheKey forPrimaryKey(AbstractEntityProperty<?> meta, Optional<SchemaNameProvider> schemaNameProvider,
+                                               Object[] encodedPrimaryKeyValues) {
+        return new EntityCacheKey(
+                schemaNameProvider.map(provider -> provider.keyspaceFor(meta.entityClass)).orElse(null),
+                schemaNameProvider.map(provider -> provider.tableNameFor(meta.entityClass)).orElse(null),
+                Arrays.asList(encodedPrimaryKeyValues));
+    }
+
+    public static <T> EntityCacheKey forInstance(AbstractEntityProperty<T> meta, T instance, CassandraOptions options) {
+        final Optional<CassandraOptions> cassandraOptions = Optional.of(options);
+        final List<Object> values = new ArrayList<>(meta.partitionKeys.size() + meta.clusteringColumns.size());
+        for (AbstractProperty<T, ?, ?> partitionKey : meta.partitionKeys) {
+            values.add(partitionKey.encodeField(instance, cassandraOptions));
+        }
+        for (AbstractProperty<T, ?, ?> clusteringColumn : meta.clusteringColumns) {
+            values.add(clusteringColumn.encodeField(instance, cassandraOptions));
+        }
+        return forPrimaryKey(meta, options.getSchemaNameProvider(), values.toArray());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EntityCacheKey that = (EntityCacheKey) o;
+        return hash == that.hash &&
+                Objects.equals(keyspace, that.keyspace) &&
+                Objects.equals(table, that.table) &&
+                Objects.equals(encodedPrimaryKeyValues, that.encodedPrimaryKeyValues);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("EntityCacheKey{");
+        sb.append("keyspace='").append(keyspace).append('\'');
+        sb.append(", table='").append(table).append('\'');
+        sb.append(", encodedPrimaryKeyValues=").append(encodedPrimaryKeyValues);
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.cache;
+
+import java.util.concurrent.TimeUnit;
+
+import info.archinnov.achilles.type.strategy.EntityCacheStorageStrategy;
+import info.archinnov.achilles.validation.Validator;
+
+/**
+ * Sizing and expiration of an {@link EntityCache}
+ */
+public class EntityCacheOptions {
+
+    private final long maxSize;
+    private final long expireAfterWriteMillis;
+    private final EntityCacheStorageStrategy storageStrategy;
+
+    public EntityCacheOptions(long maxSize, long expireAfterWrite, TimeUnit unit) {
+        this(maxSize, expireAfterWrite, unit, EntityCacheStorageStrategy.ON_HEAP);
+    }
+
+    /**
+     * @param maxSize          maximum number of cached rows
+     * @param expireAfterWrite duration after which a cached row is evicted
+     * @param unit             time unit of <em>expireAfterWrite</em>
+     * @param storageStrategy  storage of the cached rows
+     */
+    public EntityCacheOptions(long maxSize, long expireAfterWrite, TimeUnit unit, EntityCacheStorageStrategy storageStrategy) {
+        Validator.validateTrue(maxSize > 0, "The entity cache max size should be strictly positive");
+        Validator.validateTrue(expireAfterWrite > 0, "The entity cache expiration should be strictly positive");
+        Validator.validateNotNull(unit, "The entity cache expiration time unit should not be null");
+        Validator.validateNotNull(storageStrategy, "The entity cache storage strategy should not be null");
+        this.maxSize = maxSize;
+        this.expireAfterWriteMillis = unit.toMillis(expireAfterWrite);
+        this.storageStrategy = storageStrategy;
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    public long getExpireAfterWriteMillis() {
+        return expireAfterWriteMillis;
+    }
+
+    public EntityCacheStorageStrategy getStorageStrategy() {
+        return storageStrategy;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("EntityCacheOptions{");
+        sb.append("maxSize=").append(maxSize);
+        sb.append(", expireAfterWriteMillis=").append(expireAfterWriteMillis);
+        sb.append(", storageStrategy=").append(storageStrategy);
+        sb.append('}');
+        return sb.toString();
+    }
+}
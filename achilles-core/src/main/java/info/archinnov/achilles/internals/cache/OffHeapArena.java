@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.cache;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import info.archinnov.achilles.validation.Validator;
+
+/**
+ * Allocator of off heap regions carved out of preallocated direct buffers (slabs).
+ * <br/>
+ * Regions are allocated sequentially in the current slab and are views (offset, length) of it,
+ * so that copying a row does not allocate a direct buffer. Each slab counts its live regions:
+ * once all the regions of a slab are released, the slab is reset and reused for new regions.
+ * A few empty slabs are kept for reuse, the other ones are left to the garbage collector.
+ * <br/>
+ * Regions larger than a slab get a dedicated direct buffer, never reused.
+ * <br/>
+ * Allocation and release only update counters under the arena lock, the copy into
+ * the region is done by the caller outside of it
+ */
+public class OffHeapArena {
+
+    public static final int DEFAULT_SLAB_SIZE = 256 * 1024;
+    private static final int MAX_FREE_SLABS = 4;
+
+    private final int slabSize;
+    private final Deque<Slab> freeSlabs = new ArrayDeque<>();
+    private Slab currentSlab;
+    private long reservedBytes;
+
+    public OffHeapArena() {
+        this(DEFAULT_SLAB_SIZE);
+    }
+
+    public OffHeapArena(int slabSize) {
+        Validator.validateTrue(slabSize > 0, "The off heap slab size should be strictly positive");
+        this.slabSize = slabSize;
+    }
+
+    /**
+     * Allocate a region of the given size. The region must be released with {@link #release(Region)}
+     * once its content is no longer read
+     */
+    public synchronized Region allocate(int size) {
+        if (size > slabSize) {
+            final Slab dedicated = newSlab(size, false);
+            return dedicated.allocate(size);
+        }
+        if (currentSlab == null || currentSlab.remaining() < size) {
+            final Slab freeSlab = freeSlabs.poll();
+            currentSlab = freeSlab != null ? freeSlab : newSlab(slabSize, true);
+        }
+        return currentSlab.allocate(size);
+    }
+
+    /**
+     * Release the region. Its slab is reused once all its regions are released
+     */
+    public synchronized void release(Region region) {
+        final Slab slab = region.slab;
+        if (--slab.liveRegions > 0) {
+            return;
+        }
+        slab.position = 0;
+        if (slab == currentSlab) {
+            return;
+        }
+        if (slab.pooled && freeSlabs.size() < MAX_FREE_SLABS) {
+            freeSlabs.push(slab);
+        } else {
+            reservedBytes -= slab.data.capacity();
+        }
+    }
+
+    /**
+     * @return number of bytes of the direct buffers held by this arena, used or not
+     */
+    public synchronized long getReservedBytes() {
+        return reservedBytes;
+    }
+
+    private Slab newSlab(int size, boolean pooled) {
+        reservedBytes += size;
+        return new Slab(ByteBuffer.allocateDirect(size), pooled);
+    }
+
+    /**
+     * View (offset, length) of a slab, given to a single cached row
+     */
+    public static final class Region {
+        private final Slab slab;
+        private final ByteBuffer buffer;
+
+        private Region(Slab slab, ByteBuffer buffer) {
+            this.slab = slab;
+            this.buffer = buffer;
+        }
+
+        /**
+         * @return buffer of the region, whose position 0 is the region offset in the slab
+         */
+        public ByteBuffer buffer() {
+            return buffer;
+        }
+    }
+
+    private static final class Slab {
+        private final ByteBuffer data;
+        private final boolean pooled;
+        private int position;
+        private int liveRegions;
+
+        private Slab(ByteBuffer data, boolean pooled) {
+            this.data = data;
+            this.pooled = pooled;
+        }
+
+        private int remaining() {
+            return data.capacity() - position;
+        }
+
+        private Region allocate(int size) {
+            final ByteBuffer view = data.duplicate();
+            view.limit(position + size).position(position);
+            position += size;
+            liveRegions++;
+            return new Region(this, view.slice());
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.cache;
+
+import static java.lang.String.format;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.datastax.driver.core.*;
+
+/**
+ * Row whose serialized column values are copied in a single region of an {@link OffHeapArena}, out of the heap.
+ * <br/>
+ * The region starts with an (offset, length) pair of ints per column, a negative length
+ * standing for a null value, followed by the serialized values. Values are decoded
+ * with the codecs of the Java driver on each access, exactly like for a row read from Cassandra
+ * <br/>
+ * The region is reference counted: the cache holds one reference, released on eviction, and each reader
+ * holds one with {@link #retain()}/{@link #release()} while decoding. The region goes back to
+ * the arena once the last reference is released, the row must not be read afterwards
+ */
+public class OffHeapRow extends AbstractGettableData implements Row {
+
+    private static final int HEADER_ENTRY_SIZE = 8;
+
+    private final ColumnDefinitions metadata;
+    private final CodecRegistry codecRegistry;
+    private final OffHeapArena arena;
+    private final OffHeapArena.Region region;
+    private final ByteBuffer data;
+    private final AtomicInteger references = new AtomicInteger(1);
+
+    private OffHeapRow(ColumnDefinitions metadata, CodecRegistry codecRegistry, ProtocolVersion protocolVersion,
+                       OffHeapArena arena, OffHeapArena.Region region) {
+        super(protocolVersion);
+        this.metadata = metadata;
+        this.codecRegistry = codecRegistry;
+        this.arena = arena;
+        this.region = region;
+        this.data = region.buffer();
+    }
+
+    /**
+     * Copy the serialized column values of the row in a region of the arena
+     *
+     * @param metadata column definitions of the row, possibly shared with other rows of the same shape
+     * @param arena    arena providing the off heap region
+     */
+    public static OffHeapRow copyOf(Row row, ColumnDefinitions metadata, CodecRegistry codecRegistry,
+                                    ProtocolVersion protocolVersion, OffHeapArena arena) {
+        final int columnsCount = metadata.size();
+        final ByteBuffer[] values = new ByteBuffer[columnsCount];
+        int size = columnsCount * HEADER_ENTRY_SIZE;
+        for (int i = 0; i < columnsCount; i++) {
+            values[i] = row.getBytesUnsafe(i);
+            if (values[i] != null) {
+                size += values[i].remaining();
+            }
+        }
+
+        final OffHeapArena.Region region = arena.allocate(size);
+        final ByteBuffer data = region.buffer();
+        int offset = columnsCount * HEADER_ENTRY_SIZE;
+        for (int i = 0; i < columnsCount; i++) {
+            final ByteBuffer value = values[i];
+            data.putInt(i * HEADER_ENTRY_SIZE, offset);
+            if (value == null) {
+                data.putInt(i * HEADER_ENTRY_SIZE + 4, -1);
+            } else {
+                final int length = value.remaining();
+                data.putInt(i * HEADER_ENTRY_SIZE + 4, length);
+                data.position(offset);
+                data.put(value.duplicate());
+                offset += length;
+            }
+        }
+        data.clear();
+        return new OffHeapRow(metadata, codecRegistry, protocolVersion, arena, region);
+    }
+
+    /**
+     * Take a reference on the region before reading the row
+     *
+     * @return false if the region has already been released, in which case the row must not be read
+     */
+    public boolean retain() {
+        int current;
+        do {
+            current = references.get();
+            if (current <= 0) {
+                return false;
+            }
+        } while (!references.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * Release a reference on the region, giving it back to the arena with the last reference
+     */
+    public void release() {
+        if (references.decrementAndGet() == 0) {
+            arena.release(region);
+        }
+    }
+
+    /**
+     * @return number of bytes allocated out of the heap for this row
+     */
+    public int offHeapSize() {
+        return data.capacity();
+    }
+
+    @Override
+    public ColumnDefinitions getColumnDefinitions() {
+        return metadata;
+    }
+
+    @Override
+    protected DataType getType(int i) {
+        return metadata.getType(i);
+    }
+
+    @Override
+    protected String getName(int i) {
+        return metadata.getName(i);
+    }
+
+    @Override
+    protected ByteBuffer getValue(int i) {
+        final int length = data.getInt(i * HEADER_ENTRY_SIZE + 4);
+        if (length < 0) {
+            return null;
+        }
+        final int offset = data.getInt(i * HEADER_ENTRY_SIZE);
+        final ByteBuffer value = data.duplicate();
+        value.limit(offset + length).position(offset);
+        return value.slice();
+    }
+
+    @Override
+    protected CodecRegistry getCodecRegistry() {
+        return codecRegistry;
+    }
+
+    @Override
+    protected int getIndexOf(String name) {
+        final int index = metadata.getIndexOf(name);
+        if (index < 0) {
+            throw new IllegalArgumentException(format("%s is not a column defined in this metadata", name));
+        }
+        return index;
+    }
+
+    @Override
+    public Token getToken(int i) {
+        throw new UnsupportedOperationException("Tokens are not available on cached rows");
+    }
+
+    @Override
+    public Token getToken(String name) {
+        throw new UnsupportedOperationException("Tokens are not available on cached rows");
+    }
+
+    @Override
+    public Token getPartitionKeyToken() {
+        throw new UnsupportedOperationException("Tokens are not available on cached rows");
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("OffHeapRow[");
+        for (int i = 0; i < metadata.size(); i++) {
+            if (i != 0) {
+                sb.append(", ");
+            }
+            final TypeCodec<Object> codec = codecRegistry.codecFor(metadata.getType(i));
+            sb.append(isNull(i) ? "NULL" : codec.format(get(i, codec)));
+        }
+        return sb.append(']').toString();
+    }
+}
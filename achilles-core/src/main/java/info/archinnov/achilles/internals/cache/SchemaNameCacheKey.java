@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.cache;
+
+import java.util.Objects;
+
+import info.archinnov.achilles.internals.cache.CacheKey.Operation;
+
+/**
+ * Cache key for statements prepared against a keyspace/table resolved at runtime
+ * by a {@link info.archinnov.achilles.type.SchemaNameProvider}
+ */
+public class SchemaNameCacheKey {
+
+    private final Class<?> entityClass;
+    private final Operation operation;
+    private final String keyspace;
+    private final String table;
+    private final int hash;
+
+    public SchemaNameCacheKey(Class<?> entityClass, Operation operation, String keyspace, String table) {
+        this.entityClass = entityClass;
+        this.operation = operation;
+        this.keyspace = keyspace;
+        this.table = table;
+        this.hash = Objects.hash(entityClass, operation, keyspace, table);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SchemaNameCacheKey that = (SchemaNameCacheKey) o;
+        return hash == that.hash &&
+                Objects.equals(entityClass, that.entityClass) &&
+                Objects.equals(operation, that.operation) &&
+                Objects.equals(keyspace, that.keyspace) &&
+                Objects.equals(table, that.table);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("SchemaNameCacheKey{");
+        sb.append("entityClass=").append(entityClass);
+        sb.append(", operation=").append(operation);
+        sb.append(", keyspace='").append(keyspace).append('\'');
+        sb.append(", table='").append(table).append('\'');
+        sb.append('}');
+        return sb.toString();
+    }
+}
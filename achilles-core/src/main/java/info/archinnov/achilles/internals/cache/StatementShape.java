@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Identifier of the shape of a statement built with the generated DSL.
+ * <br/>
+ * Each DSL step that modifies the underlying QueryBuilder statement appends a token
+ * generated at compile time (plus the runtime values that end up in the CQL string,
+ * like the keyspace and table names). Two statements having equal shapes have
+ * the same CQL string so the prepared statement can be looked up without rendering
+ * the CQL string.
+ * <br/>
+ * Steps whose CQL cannot be described by tokens (function calls) disable the shape,
+ * the statement is then prepared using its CQL string as usual
+ */
+public class StatementShape {
+
+    private final List<Object> tokens;
+    private boolean enabled;
+    private int hash;
+
+    public StatementShape(String statementType) {
+        this.tokens = new ArrayList<>();
+        this.enabled = true;
+        this.hash = 1;
+        add(statementType);
+    }
+
+    private StatementShape(List<Object> tokens, int hash) {
+        this.tokens = Collections.unmodifiableList(tokens);
+        this.enabled = true;
+        this.hash = hash;
+    }
+
+    public StatementShape add(Object token) {
+        if (enabled) {
+            tokens.add(token);
+            hash = 31 * hash + token.hashCode();
+        }
+        return this;
+    }
+
+    public StatementShape disable() {
+        if (enabled) {
+            enabled = false;
+            tokens.clear();
+        }
+        return this;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Immutable copy of this shape, suitable as cache key
+     */
+    public StatementShape snapshot() {
+        return new StatementShape(new ArrayList<>(tokens), hash);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        StatementShape that = (StatementShape) o;
+        return hash == that.hash &&
+                enabled == that.enabled &&
+                tokens.equals(that.tokens);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("StatementShape{");
+        sb.append("tokens=").append(tokens);
+        sb.append(", enabled=").append(enabled);
+        sb.append('}');
+        return sb.toString();
+    }
+}
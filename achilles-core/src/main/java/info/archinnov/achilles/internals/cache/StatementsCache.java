@@ -19,9 +19,13 @@ package info.archinnov.achilles.internals.cache;
 import static com.google.common.cache.CacheBuilder.newBuilder;
 import static java.lang.String.format;
 
+import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,21 +34,58 @@ import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.Session;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheStats;
+import com.google.common.cache.RemovalCause;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 
 import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.metrics.AchillesMetrics;
 
 public class StatementsCache {
     private static final Logger LOGGER = LoggerFactory.getLogger(StatementsCache.class);
 
     private final Cache<String, PreparedStatement> dynamicCache;
-    private final Cache<CacheKey, PreparedStatement> staticCache;
+    private final Cache<StatementShape, PreparedStatement> shapeCache;
+    private final Cache<CacheKey, CompletableFuture<PreparedStatement>> staticCache;
+    private final Cache<SchemaNameCacheKey, CompletableFuture<PreparedStatement>> schemaNameCache;
     private final int maxLRUCacheSize;
-
+    private final int maxSchemaNameCacheSize;
+    private final List<AchillesMetrics> metrics = new CopyOnWriteArrayList<>();
 
     public StatementsCache(int maxLRUCacheSize) {
+        this(maxLRUCacheSize, maxLRUCacheSize);
+    }
+
+    /**
+     * @param maxLRUCacheSize max size of the LRU cache for dynamic statements
+     * @param maxSchemaNameCacheSize max size of the LRU cache for statements prepared
+     *                               against keyspaces/tables resolved by a {@link info.archinnov.achilles.type.SchemaNameProvider}
+     */
+    public StatementsCache(int maxLRUCacheSize, int maxSchemaNameCacheSize) {
         this.maxLRUCacheSize = maxLRUCacheSize;
-        this.dynamicCache = newBuilder().maximumSize(maxLRUCacheSize).build();
+        this.maxSchemaNameCacheSize = maxSchemaNameCacheSize;
+        this.dynamicCache = newBuilder()
+                .maximumSize(maxLRUCacheSize)
+                .<String, PreparedStatement>removalListener(notification -> {
+                    if (notification.getCause() == RemovalCause.SIZE) {
+                        metrics.forEach(AchillesMetrics::recordPreparedStatementCacheEviction);
+                    }
+                })
+                .build();
+        this.shapeCache = newBuilder().maximumSize(maxLRUCacheSize).build();
         this.staticCache = newBuilder().build();
+        this.schemaNameCache = newBuilder().maximumSize(maxSchemaNameCacheSize).recordStats().build();
+    }
+
+    /**
+     * Record the hits, misses and evictions of the LRU cache into the given metrics.
+     * The same cache can be shared by several manager factories
+     */
+    public void registerMetrics(AchillesMetrics achillesMetrics) {
+        metrics.add(achillesMetrics);
+    }
+
+    public void unregisterMetrics(AchillesMetrics achillesMetrics) {
+        metrics.remove(achillesMetrics);
     }
 
     public void putStaticCache(CacheKey cacheKey, Callable<PreparedStatement> psSupplier) {
@@ -52,18 +93,105 @@ public class StatementsCache {
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug(format("Putting static cache for key %s", cacheKey));
             }
-            staticCache.get(cacheKey, psSupplier);
+            staticCache.get(cacheKey, () -> CompletableFuture.completedFuture(psSupplier.call()));
         } catch (ExecutionException e) {
             throw new AchillesException(e);
         }
     }
 
+    /**
+     * Get the future of the static prepared statement, starting its asynchronous preparation on cache miss.
+     * Concurrent callers for the same key share the future of a single preparation and are never blocked.
+     * A failed preparation is evicted so that the next call prepares the statement again
+     */
+    public CompletableFuture<PreparedStatement> getStaticCacheAsync(CacheKey cacheKey, Supplier<CompletableFuture<PreparedStatement>> psSupplier) {
+        return getOrPrepare(staticCache, cacheKey, () -> {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(format("Preparing static statement on first use for key %s", cacheKey));
+            }
+            return psSupplier.get();
+        });
+    }
+
+    public boolean hasStaticCache(CacheKey cacheKey) {
+        final CompletableFuture<PreparedStatement> preparation = staticCache.getIfPresent(cacheKey);
+        return preparation != null && isPrepared(preparation);
+    }
+
     public PreparedStatement getStaticCache(CacheKey cacheKey) {
-        final PreparedStatement preparedStatement = staticCache.getIfPresent(cacheKey);
-        if (preparedStatement == null) {
+        final CompletableFuture<PreparedStatement> preparation = staticCache.getIfPresent(cacheKey);
+        if (preparation == null || !isPrepared(preparation)) {
             throw new AchillesException(format("Cannot find static cached prepared statement for cache key %s", cacheKey));
         }
-        return preparedStatement;
+        return preparation.join();
+    }
+
+    /**
+     * Get the future of the statement prepared for the keyspace/table resolved by a schema name provider,
+     * starting its asynchronous preparation on cache miss. This cache is bounded separately from the
+     * dynamic LRU cache so that tenants do not evict the dynamic statements
+     */
+    public CompletableFuture<PreparedStatement> getSchemaNameCacheAsync(SchemaNameCacheKey cacheKey, Supplier<CompletableFuture<PreparedStatement>> psSupplier) {
+        return getOrPrepare(schemaNameCache, cacheKey, () -> {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(format("Preparing statement for key %s", cacheKey));
+            }
+            if (schemaNameCache.size() > (maxSchemaNameCacheSize * 0.8)) {
+                LOGGER.warn("Warning, the schema name prepared statements cache is over 80% full");
+            }
+            return psSupplier.get();
+        });
+    }
+
+    /**
+     * The cache only stores the future of the preparation: the loader returns as soon as the
+     * preparation is sent, so that a cache miss never blocks the threads waiting on the same key
+     */
+    private <K> CompletableFuture<PreparedStatement> getOrPrepare(Cache<K, CompletableFuture<PreparedStatement>> cache, K cacheKey,
+                                                                  Supplier<CompletableFuture<PreparedStatement>> psSupplier) {
+        final CompletableFuture<PreparedStatement> preparation;
+        try {
+            preparation = cache.get(cacheKey, () -> evictOnFailure(cache, cacheKey, psSupplier.get()));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            final CompletableFuture<PreparedStatement> failed = new CompletableFuture<>();
+            failed.completeExceptionally(new AchillesException(format("Cannot prepare statement for key %s", cacheKey), e.getCause()));
+            return failed;
+        }
+        // A preparation failing synchronously completes before being stored in the cache
+        if (preparation.isCompletedExceptionally()) {
+            cache.asMap().remove(cacheKey, preparation);
+        }
+        return preparation;
+    }
+
+    private <K> CompletableFuture<PreparedStatement> evictOnFailure(Cache<K, CompletableFuture<PreparedStatement>> cache, K cacheKey,
+                                                                    CompletableFuture<PreparedStatement> driverPreparation) {
+        final CompletableFuture<PreparedStatement> preparation = new CompletableFuture<>();
+        driverPreparation.whenComplete((preparedStatement, throwable) -> {
+            if (throwable != null) {
+                cache.asMap().remove(cacheKey, preparation);
+                preparation.completeExceptionally(new AchillesException(format("Cannot prepare statement for key %s", cacheKey), throwable));
+            } else {
+                preparation.complete(preparedStatement);
+            }
+        });
+        return preparation;
+    }
+
+    private static boolean isPrepared(CompletableFuture<PreparedStatement> preparation) {
+        return preparation.isDone() && !preparation.isCompletedExceptionally();
+    }
+
+    /**
+     * @return hits, misses and evictions of the cache for statements prepared against
+     * keyspaces/tables resolved by a schema name provider
+     */
+    public CacheStats getSchemaNameCacheStats() {
+        return schemaNameCache.stats();
+    }
+
+    public long getSchemaNameCacheSize() {
+        return schemaNameCache.size();
     }
 
     public PreparedStatement getDynamicCache(final String queryString, Session session) {
@@ -77,13 +205,38 @@ public class StatementsCache {
                 return session.prepare(queryString);
             });
 
-            if (displayStats.get()) displayCacheStatistics();
+            if (displayStats.get()) {
+                metrics.forEach(AchillesMetrics::recordPreparedStatementCacheMiss);
+                displayCacheStatistics();
+            } else {
+                metrics.forEach(AchillesMetrics::recordPreparedStatementCacheHit);
+            }
             return preparedStatement;
         } catch (ExecutionException e) {
             throw new AchillesException(e);
         }
     }
 
+    /**
+     * Look up the prepared statement by its statement shape. On cache miss,
+     * the CQL string is rendered and the statement is prepared through the
+     * dynamic LRU cache
+     */
+    public PreparedStatement getDynamicCache(final StatementShape shape, Supplier<String> queryString, Session session) {
+        if (!shape.isEnabled()) {
+            return getDynamicCache(queryString.get(), session);
+        }
+
+        PreparedStatement preparedStatement = shapeCache.getIfPresent(shape);
+        if (preparedStatement == null) {
+            preparedStatement = getDynamicCache(queryString.get(), session);
+            shapeCache.put(shape.snapshot(), preparedStatement);
+        } else {
+            metrics.forEach(AchillesMetrics::recordPreparedStatementCacheHit);
+        }
+        return preparedStatement;
+    }
+
     private void displayCacheStatistics() {
 
         long cacheSize = dynamicCache.size();
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.codec;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+
+import com.datastax.driver.core.CodecUtils;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.TypeCodec;
+import com.google.common.reflect.TypeToken;
+
+import info.archinnov.achilles.type.codec.Codec;
+import info.archinnov.achilles.validation.Validator;
+
+/**
+ * Driver codec for a CQL list/set whose elements are transcoded by an Achilles {@link Codec}.
+ * <br/>
+ * The serialized collection is decoded in a single pass straight into the final Java collection,
+ * without materializing the intermediate collection of CQL values returned by the default driver codecs.
+ * When the Achilles codec is a {@link FallThroughCodec}, elements are added as-is
+ */
+public abstract class AbstractCollectionTypeCodec<C extends Collection<FROM>, FROM, TO> extends TypeCodec<C> {
+
+    protected final TypeCodec<TO> elementCodec;
+    protected final Codec<FROM, TO> valueCodec;
+    protected final TypeCodec<? extends Collection<TO>> cqlCodec;
+    private final boolean passThrough;
+
+    protected AbstractCollectionTypeCodec(DataType cqlType, TypeToken<C> javaType, TypeCodec<TO> elementCodec,
+                                          Codec<FROM, TO> valueCodec, TypeCodec<? extends Collection<TO>> cqlCodec) {
+        super(cqlType, javaType);
+        this.elementCodec = elementCodec;
+        this.valueCodec = valueCodec;
+        this.cqlCodec = cqlCodec;
+        this.passThrough = valueCodec instanceof FallThroughCodec;
+    }
+
+    protected abstract C newInstance(int size);
+
+    protected abstract Collection<TO> newCqlInstance(int size);
+
+    @Override
+    public ByteBuffer serialize(C value, ProtocolVersion protocolVersion) {
+        if (value == null) return null;
+        final ByteBuffer[] buffers = new ByteBuffer[value.size()];
+        int i = 0;
+        for (FROM element : value) {
+            Validator.validateNotNull(element, "Collection elements cannot be null");
+            buffers[i++] = elementCodec.serialize(encode(element), protocolVersion);
+        }
+        return CodecUtils.pack(buffers, value.size(), protocolVersion);
+    }
+
+    @Override
+    public C deserialize(ByteBuffer bytes, ProtocolVersion protocolVersion) {
+        if (bytes == null || bytes.remaining() == 0) {
+            return newInstance(0);
+        }
+        final ByteBuffer input = bytes.duplicate();
+        final int size = CodecUtils.readSize(input, protocolVersion);
+        final C collection = newInstance(size);
+        for (int i = 0; i < size; i++) {
+            final ByteBuffer element = CodecUtils.readValue(input, protocolVersion);
+            collection.add(decode(elementCodec.deserialize(element, protocolVersion)));
+        }
+        return collection;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public String format(C value) {
+        if (value == null) return "NULL";
+        final Collection<TO> cqlValues = newCqlInstance(value.size());
+        for (FROM element : value) {
+            cqlValues.add(encode(element));
+        }
+        return ((TypeCodec<Collection<TO>>) cqlCodec).format(cqlValues);
+    }
+
+    @Override
+    public C parse(String value) {
+        final Collection<TO> cqlValues = cqlCodec.parse(value);
+        if (cqlValues == null) return null;
+        final C collection = newInstance(cqlValues.size());
+        for (TO element : cqlValues) {
+            collection.add(decode(element));
+        }
+        return collection;
+    }
+
+    @SuppressWarnings("unchecked")
+    private TO encode(FROM element) {
+        return passThrough ? (TO) element : valueCodec.encode(element);
+    }
+
+    @SuppressWarnings("unchecked")
+    private FROM decode(TO element) {
+        return passThrough ? (FROM) element : valueCodec.decode(element);
+    }
+}
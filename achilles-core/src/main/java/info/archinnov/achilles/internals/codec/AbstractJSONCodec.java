@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.codec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
+import info.archinnov.achilles.exception.AchillesTranscodingException;
+import info.archinnov.achilles.type.codec.BinaryCodec;
+
+/**
+ * Base class for Jackson codecs.
+ * <br/>
+ * The {@link ObjectReader} and {@link ObjectWriter} for the exact Java type are built once
+ * when the {@link ObjectMapper} is injected, so that the root (de)serializers are not looked up on each call
+ */
+public abstract class AbstractJSONCodec<TYPE, TO> implements BinaryCodec<TYPE, TO> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AbstractJSONCodec.class);
+
+    protected final Class<?> sourceType;
+    protected final JavaType exactType;
+
+    protected ObjectReader reader;
+    protected ObjectWriter writer;
+
+    protected AbstractJSONCodec(Class<?> sourceType, JavaType exactType) {
+        this.sourceType = sourceType;
+        this.exactType = exactType;
+    }
+
+    public void setObjectMapper(ObjectMapper objectMapper) {
+        final JsonFactory dataFormat = dataFormat();
+        final ObjectReader reader = objectMapper.readerFor(exactType);
+        // Non final types are serialized with their runtime type, like ObjectMapper.writeValueAsXXX()
+        final ObjectWriter writer = exactType.isFinal() ? objectMapper.writerFor(exactType) : objectMapper.writer();
+        this.reader = dataFormat == null ? reader : reader.with(dataFormat);
+        this.writer = dataFormat == null ? writer : writer.with(dataFormat);
+    }
+
+    /**
+     * @return the Jackson factory of the binary data format or null to keep the factory of the object mapper
+     */
+    protected abstract JsonFactory dataFormat();
+
+    @Override
+    public Class<TYPE> sourceType() {
+        return (Class<TYPE>) sourceType;
+    }
+
+    @Override
+    public ByteBuffer serialize(TYPE fromJava) throws AchillesTranscodingException {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(String.format("Serializing object %s to JSON bytes", fromJava));
+        }
+        try {
+            return ByteBuffer.wrap(writer.writeValueAsBytes(fromJava));
+        } catch (JsonProcessingException e) {
+            throw new AchillesTranscodingException(e);
+        }
+    }
+
+    @Override
+    public TYPE deserialize(ByteBuffer fromCassandra) throws AchillesTranscodingException {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(String.format("Deserializing object type %s from JSON bytes", exactType));
+        }
+        try {
+            if (fromCassandra.hasArray()) {
+                return reader.readValue(fromCassandra.array(), fromCassandra.arrayOffset() + fromCassandra.position(),
+                        fromCassandra.remaining());
+            } else {
+                return reader.readValue(new ByteBufferBackedInputStream(fromCassandra.duplicate()));
+            }
+        } catch (IOException e) {
+            throw new AchillesTranscodingException(e);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.codec;
+
+import static java.lang.String.format;
+
+import java.nio.ByteBuffer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JavaType;
+
+import info.archinnov.achilles.annotations.JSON;
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.exception.AchillesTranscodingException;
+
+/**
+ * Map a Java object to its binary JSON representation (Smile or CBOR) in a <strong>blob</strong> column.
+ * <br/>
+ * The Jackson data format module is loaded when the object mapper is injected so that
+ * it is only required on the classpath by entities using it
+ */
+public class BinaryJSONCodec<TYPE> extends AbstractJSONCodec<TYPE, ByteBuffer> {
+
+    private static final String SMILE_FACTORY = "com.fasterxml.jackson.dataformat.smile.SmileFactory";
+    private static final String CBOR_FACTORY = "com.fasterxml.jackson.dataformat.cbor.CBORFactory";
+
+    private final JSON.Format format;
+
+    public BinaryJSONCodec(Class<?> sourceType, JavaType exactType, JSON.Format format) {
+        super(sourceType, exactType);
+        this.format = format;
+    }
+
+    @Override
+    protected JsonFactory dataFormat() {
+        switch (format) {
+            case SMILE:
+                return loadDataFormat(SMILE_FACTORY, "jackson-dataformat-smile");
+            case CBOR:
+                return loadDataFormat(CBOR_FACTORY, "jackson-dataformat-cbor");
+            default:
+                throw new AchillesException(format("Format '%s' is not a binary JSON format", format));
+        }
+    }
+
+    private JsonFactory loadDataFormat(String factoryClass, String artifactId) {
+        try {
+            return (JsonFactory) Class.forName(factoryClass).newInstance();
+        } catch (ClassNotFoundException e) {
+            throw new AchillesException(format("Cannot serialize type '%s' with JSON format %s, please add '%s' to the classpath",
+                    exactType, format, artifactId), e);
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new AchillesException(format("Cannot instantiate Jackson factory '%s'", factoryClass), e);
+        }
+    }
+
+    public JSON.Format getFormat() {
+        return format;
+    }
+
+    @Override
+    public Class<ByteBuffer> targetType() {
+        return ByteBuffer.class;
+    }
+
+    @Override
+    public ByteBuffer encode(TYPE fromJava) throws AchillesTranscodingException {
+        if (fromJava == null) return null;
+        return serialize(fromJava);
+    }
+
+    @Override
+    public TYPE decode(ByteBuffer fromCassandra) throws AchillesTranscodingException {
+        if (fromCassandra == null) return null;
+        return deserialize(fromCassandra);
+    }
+}
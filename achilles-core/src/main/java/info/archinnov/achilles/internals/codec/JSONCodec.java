@@ -14,6 +14,7 @@
  * limitations under the License.
  */
 
+
 package info.archinnov.achilles.internals.codec;
 
 import java.io.IOException;
@@ -21,35 +22,30 @@ import java.io.IOException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JavaType;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 
 import info.archinnov.achilles.exception.AchillesTranscodingException;
-import info.archinnov.achilles.type.codec.Codec;
 
-public class JSONCodec<TYPE> implements Codec<TYPE, String> {
+/**
+ * Map a Java object to its JSON representation in a <strong>text</strong> column.
+ * <br/>
+ * Columns are serialized by Jackson directly to/from UTF-8 bytes, without intermediate String
+ */
+public class JSONCodec<TYPE> extends AbstractJSONCodec<TYPE, String> {
 
     public static final TypeFactory TYPE_FACTORY_INSTANCE = TypeFactory.defaultInstance();
     private static final Logger LOGGER = LoggerFactory.getLogger(JSONCodec.class);
-    private final Class<?> sourceType;
-    private final JavaType exactType;
-
-    private ObjectMapper objectMapper;
 
     public JSONCodec(Class<?> sourceType, JavaType exactType) {
-        this.sourceType = sourceType;
-        this.exactType = exactType;
-    }
-
-    public void setObjectMapper(ObjectMapper objectMapper) {
-        this.objectMapper = objectMapper;
+        super(sourceType, exactType);
     }
 
     @Override
-    public Class<TYPE> sourceType() {
-        return (Class<TYPE>) sourceType;
+    protected JsonFactory dataFormat() {
+        return null;
     }
 
     @Override
@@ -64,7 +60,7 @@ public class JSONCodec<TYPE> implements Codec<TYPE, String> {
             LOGGER.trace(String.format("Encoding object %s to JSON", fromJava));
         }
         try {
-            return objectMapper.writeValueAsString(fromJava);
+            return writer.writeValueAsString(fromJava);
         } catch (JsonProcessingException e) {
             throw new AchillesTranscodingException(e);
         }
@@ -77,7 +73,7 @@ public class JSONCodec<TYPE> implements Codec<TYPE, String> {
             LOGGER.trace(String.format("Decoding object type %s from JSON %s", exactType, fromCassandra));
         }
         try {
-            return objectMapper.readValue(fromCassandra, exactType);
+            return reader.readValue(fromCassandra);
         } catch (IOException e) {
             throw new AchillesTranscodingException(e);
         }
@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.codec;
+
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.datastax.driver.core.CodecUtils;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.TypeCodec;
+import com.google.common.collect.Maps;
+import com.google.common.reflect.TypeParameter;
+import com.google.common.reflect.TypeToken;
+
+import info.archinnov.achilles.type.codec.Codec;
+import info.archinnov.achilles.validation.Validator;
+
+/**
+ * Driver codec for a CQL map whose keys and values are transcoded by Achilles {@link Codec}s.
+ * <br/>
+ * The serialized map is decoded in a single pass straight into the final Java map,
+ * without materializing the intermediate map of CQL values returned by the default driver codec.
+ * Keys or values transcoded by a {@link FallThroughCodec} are put as-is
+ */
+public class MapTypeCodec<KEYFROM, KEYTO, VALUEFROM, VALUETO> extends TypeCodec<Map<KEYFROM, VALUEFROM>> {
+
+    private final TypeCodec<KEYTO> keyCodec;
+    private final TypeCodec<VALUETO> valueCodec;
+    private final Codec<KEYFROM, KEYTO> keyTranscoder;
+    private final Codec<VALUEFROM, VALUETO> valueTranscoder;
+    private final TypeCodec<Map<KEYTO, VALUETO>> cqlCodec;
+    private final boolean keyPassThrough;
+    private final boolean valuePassThrough;
+
+    public MapTypeCodec(TypeToken<KEYFROM> keyFromTypeToken, TypeToken<VALUEFROM> valueFromTypeToken,
+                        TypeCodec<KEYTO> keyCodec, TypeCodec<VALUETO> valueCodec,
+                        Codec<KEYFROM, KEYTO> keyTranscoder, Codec<VALUEFROM, VALUETO> valueTranscoder) {
+        super(DataType.map(keyCodec.getCqlType(), valueCodec.getCqlType()),
+                new TypeToken<Map<KEYFROM, VALUEFROM>>() {
+                }
+                        .where(new TypeParameter<KEYFROM>() {
+                        }, keyFromTypeToken)
+                        .where(new TypeParameter<VALUEFROM>() {
+                        }, valueFromTypeToken));
+        this.keyCodec = keyCodec;
+        this.valueCodec = valueCodec;
+        this.keyTranscoder = keyTranscoder;
+        this.valueTranscoder = valueTranscoder;
+        this.cqlCodec = TypeCodec.map(keyCodec, valueCodec);
+        this.keyPassThrough = keyTranscoder instanceof FallThroughCodec;
+        this.valuePassThrough = valueTranscoder instanceof FallThroughCodec;
+    }
+
+    @Override
+    public ByteBuffer serialize(Map<KEYFROM, VALUEFROM> value, ProtocolVersion protocolVersion) {
+        if (value == null) return null;
+        final ByteBuffer[] buffers = new ByteBuffer[2 * value.size()];
+        int i = 0;
+        for (Map.Entry<KEYFROM, VALUEFROM> entry : value.entrySet()) {
+            Validator.validateNotNull(entry.getKey(), "Map keys cannot be null");
+            Validator.validateNotNull(entry.getValue(), "Map values cannot be null");
+            buffers[i++] = keyCodec.serialize(encodeKey(entry.getKey()), protocolVersion);
+            buffers[i++] = valueCodec.serialize(encodeValue(entry.getValue()), protocolVersion);
+        }
+        return CodecUtils.pack(buffers, value.size(), protocolVersion);
+    }
+
+    @Override
+    public Map<KEYFROM, VALUEFROM> deserialize(ByteBuffer bytes, ProtocolVersion protocolVersion) {
+        if (bytes == null || bytes.remaining() == 0) {
+            return Maps.newHashMapWithExpectedSize(0);
+        }
+        final ByteBuffer input = bytes.duplicate();
+        final int size = CodecUtils.readSize(input, protocolVersion);
+        final Map<KEYFROM, VALUEFROM> map = Maps.newHashMapWithExpectedSize(size);
+        for (int i = 0; i < size; i++) {
+            final ByteBuffer key = CodecUtils.readValue(input, protocolVersion);
+            final ByteBuffer value = CodecUtils.readValue(input, protocolVersion);
+            map.put(decodeKey(keyCodec.deserialize(key, protocolVersion)),
+                    decodeValue(valueCodec.deserialize(value, protocolVersion)));
+        }
+        return map;
+    }
+
+    @Override
+    public String format(Map<KEYFROM, VALUEFROM> value) {
+        if (value == null) return "NULL";
+        final Map<KEYTO, VALUETO> cqlValues = new LinkedHashMap<>();
+        for (Map.Entry<KEYFROM, VALUEFROM> entry : value.entrySet()) {
+            cqlValues.put(encodeKey(entry.getKey()), encodeValue(entry.getValue()));
+        }
+        return cqlCodec.format(cqlValues);
+    }
+
+    @Override
+    public Map<KEYFROM, VALUEFROM> parse(String value) {
+        final Map<KEYTO, VALUETO> cqlValues = cqlCodec.parse(value);
+        if (cqlValues == null) return null;
+        final Map<KEYFROM, VALUEFROM> map = Maps.newHashMapWithExpectedSize(cqlValues.size());
+        for (Map.Entry<KEYTO, VALUETO> entry : cqlValues.entrySet()) {
+            map.put(decodeKey(entry.getKey()), decodeValue(entry.getValue()));
+        }
+        return map;
+    }
+
+    @SuppressWarnings("unchecked")
+    private KEYTO encodeKey(KEYFROM key) {
+        return keyPassThrough ? (KEYTO) key : keyTranscoder.encode(key);
+    }
+
+    @SuppressWarnings("unchecked")
+    private VALUETO encodeValue(VALUEFROM value) {
+        return valuePassThrough ? (VALUETO) value : valueTranscoder.encode(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private KEYFROM decodeKey(KEYTO key) {
+        return keyPassThrough ? (KEYFROM) key : keyTranscoder.decode(key);
+    }
+
+    @SuppressWarnings("unchecked")
+    private VALUEFROM decodeValue(VALUETO value) {
+        return valuePassThrough ? (VALUEFROM) value : valueTranscoder.decode(value);
+    }
+}
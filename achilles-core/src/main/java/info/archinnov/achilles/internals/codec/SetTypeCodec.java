@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.codec;
+
+import java.util.Collection;
+import java.util.Set;
+
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.TypeCodec;
+import com.google.common.collect.Sets;
+import com.google.common.reflect.TypeParameter;
+import com.google.common.reflect.TypeToken;
+
+import info.archinnov.achilles.type.codec.Codec;
+
+public class SetTypeCodec<FROM, TO> extends AbstractCollectionTypeCodec<Set<FROM>, FROM, TO> {
+
+    public SetTypeCodec(TypeToken<FROM> valueFromTypeToken, TypeCodec<TO> elementCodec, Codec<FROM, TO> valueCodec) {
+        super(DataType.set(elementCodec.getCqlType()),
+                new TypeToken<Set<FROM>>() {
+                }.where(new TypeParameter<FROM>() {
+                }, valueFromTypeToken),
+                elementCodec, valueCodec, TypeCodec.set(elementCodec));
+    }
+
+    @Override
+    protected Set<FROM> newInstance(int size) {
+        return Sets.newHashSetWithExpectedSize(size);
+    }
+
+    @Override
+    protected Collection<TO> newCqlInstance(int size) {
+        return Sets.newLinkedHashSetWithExpectedSize(size);
+    }
+}
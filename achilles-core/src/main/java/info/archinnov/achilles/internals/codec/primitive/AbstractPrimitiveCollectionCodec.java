@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.codec.primitive;
+
+import java.nio.ByteBuffer;
+
+import com.datastax.driver.core.CodecUtils;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.TypeCodec;
+import com.datastax.driver.core.exceptions.InvalidTypeException;
+
+/**
+ * Base class of the driver codecs mapping CQL list, set and map of numbers
+ * to primitive collections. Elements are written to and read from the
+ * serialized collection directly, without boxing.
+ * <br/>
+ * CQL literals are parsed and formatted by the codec of the boxed collection
+ * since they are not on the hot path
+ *
+ * @param <C>     primitive collection type
+ * @param <BOXED> boxed Java collection type
+ */
+public abstract class AbstractPrimitiveCollectionCodec<C, BOXED> extends TypeCodec<C> {
+
+    private final TypeCodec<BOXED> boxedCodec;
+
+    protected AbstractPrimitiveCollectionCodec(TypeCodec<BOXED> boxedCodec, Class<C> javaType) {
+        super(boxedCodec.getCqlType(), javaType);
+        this.boxedCodec = boxedCodec;
+    }
+
+    protected abstract C fromBoxed(BOXED boxed);
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public String format(C value) {
+        if (value == null) return "NULL";
+        return boxedCodec.format((BOXED) value);
+    }
+
+    @Override
+    public C parse(String value) {
+        final BOXED boxed = boxedCodec.parse(value);
+        return boxed == null ? null : fromBoxed(boxed);
+    }
+
+    /**
+     * Allocate the buffer of a serialized collection and write its element count
+     *
+     * @param count        number of elements (or entries for a map)
+     * @param bytesPerItem size of the values of an element (or of the key and value of an entry)
+     * @param valuesPerItem 1 for a list/set element, 2 for a map entry
+     */
+    protected static ByteBuffer allocate(int count, int bytesPerItem, int valuesPerItem, ProtocolVersion protocolVersion) {
+        final int sizeOfSize = protocolVersion.compareTo(ProtocolVersion.V2) <= 0 ? 2 : 4;
+        final ByteBuffer output = ByteBuffer.allocate(sizeOfSize + count * (bytesPerItem + valuesPerItem * sizeOfSize));
+        CodecUtils.writeSize(output, count, protocolVersion);
+        return output;
+    }
+
+    protected static int readCount(ByteBuffer input, ProtocolVersion protocolVersion) {
+        return CodecUtils.readSize(input, protocolVersion);
+    }
+
+    protected static void writeValueSize(ByteBuffer output, int size, ProtocolVersion protocolVersion) {
+        CodecUtils.writeSize(output, size, protocolVersion);
+    }
+
+    protected static void readValueSize(ByteBuffer input, int expectedSize, ProtocolVersion protocolVersion) {
+        final int size = CodecUtils.readSize(input, protocolVersion);
+        if (size != expectedSize) {
+            throw new InvalidTypeException(String.format("Invalid serialized collection element of %s bytes, expected %s bytes", size, expectedSize));
+        }
+    }
+
+    protected static boolean isEmpty(ByteBuffer bytes) {
+        return bytes == null || bytes.remaining() == 0;
+    }
+}
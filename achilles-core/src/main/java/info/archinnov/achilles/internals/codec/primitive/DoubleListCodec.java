@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.codec.primitive;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.TypeCodec;
+
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import it.unimi.dsi.fastutil.doubles.DoubleList;
+
+/**
+ * Map CQL <em>list&lt;double&gt;</em> to {@link DoubleList} without boxing
+ */
+public class DoubleListCodec extends AbstractPrimitiveCollectionCodec<DoubleList, List<Double>> {
+
+    private static final int ELEMENT_SIZE = 8;
+
+    public static final DoubleListCodec instance = new DoubleListCodec();
+
+    public DoubleListCodec() {
+        super(TypeCodec.list(TypeCodec.cdouble()), DoubleList.class);
+    }
+
+    @Override
+    public ByteBuffer serialize(DoubleList value, ProtocolVersion protocolVersion) {
+        if (value == null) return null;
+        final int size = value.size();
+        final ByteBuffer output = allocate(size, ELEMENT_SIZE, 1, protocolVersion);
+        for (int i = 0; i < size; i++) {
+            writeValueSize(output, ELEMENT_SIZE, protocolVersion);
+            output.putDouble(value.getDouble(i));
+        }
+        output.flip();
+        return output;
+    }
+
+    @Override
+    public DoubleList deserialize(ByteBuffer bytes, ProtocolVersion protocolVersion) {
+        if (isEmpty(bytes)) return new DoubleArrayList(0);
+        final ByteBuffer input = bytes.duplicate();
+        final int size = readCount(input, protocolVersion);
+        final DoubleArrayList list = new DoubleArrayList(size);
+        for (int i = 0; i < size; i++) {
+            readValueSize(input, ELEMENT_SIZE, protocolVersion);
+            list.add(input.getDouble());
+        }
+        return list;
+    }
+
+    @Override
+    protected DoubleList fromBoxed(List<Double> boxed) {
+        return new DoubleArrayList(boxed);
+    }
+}
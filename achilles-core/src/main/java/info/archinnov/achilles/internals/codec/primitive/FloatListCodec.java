@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.codec.primitive;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.TypeCodec;
+
+import it.unimi.dsi.fastutil.floats.FloatArrayList;
+import it.unimi.dsi.fastutil.floats.FloatList;
+
+/**
+ * Map CQL <em>list&lt;float&gt;</em> to {@link FloatList} without boxing
+ */
+public class FloatListCodec extends AbstractPrimitiveCollectionCodec<FloatList, List<Float>> {
+
+    private static final int ELEMENT_SIZE = 4;
+
+    public static final FloatListCodec instance = new FloatListCodec();
+
+    public FloatListCodec() {
+        super(TypeCodec.list(TypeCodec.cfloat()), FloatList.class);
+    }
+
+    @Override
+    public ByteBuffer serialize(FloatList value, ProtocolVersion protocolVersion) {
+        if (value == null) return null;
+        final int size = value.size();
+        final ByteBuffer output = allocate(size, ELEMENT_SIZE, 1, protocolVersion);
+        for (int i = 0; i < size; i++) {
+            writeValueSize(output, ELEMENT_SIZE, protocolVersion);
+            output.putFloat(value.getFloat(i));
+        }
+        output.flip();
+        return output;
+    }
+
+    @Override
+    public FloatList deserialize(ByteBuffer bytes, ProtocolVersion protocolVersion) {
+        if (isEmpty(bytes)) return new FloatArrayList(0);
+        final ByteBuffer input = bytes.duplicate();
+        final int size = readCount(input, protocolVersion);
+        final FloatArrayList list = new FloatArrayList(size);
+        for (int i = 0; i < size; i++) {
+            readValueSize(input, ELEMENT_SIZE, protocolVersion);
+            list.add(input.getFloat());
+        }
+        return list;
+    }
+
+    @Override
+    protected FloatList fromBoxed(List<Float> boxed) {
+        return new FloatArrayList(boxed);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.codec.primitive;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.TypeCodec;
+
+import it.unimi.dsi.fastutil.ints.Int2DoubleMap;
+import it.unimi.dsi.fastutil.ints.Int2DoubleOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.objects.ObjectSet;
+
+/**
+ * Map CQL <em>map&lt;int,double&gt;</em> to {@link Int2DoubleMap} without boxing
+ */
+public class Int2DoubleMapCodec extends AbstractPrimitiveCollectionCodec<Int2DoubleMap, Map<Integer, Double>> {
+
+    private static final int KEY_SIZE = 4;
+    private static final int VALUE_SIZE = 8;
+
+    public static final Int2DoubleMapCodec instance = new Int2DoubleMapCodec();
+
+    public Int2DoubleMapCodec() {
+        super(TypeCodec.map(TypeCodec.cint(), TypeCodec.cdouble()), Int2DoubleMap.class);
+    }
+
+    @Override
+    public ByteBuffer serialize(Int2DoubleMap value, ProtocolVersion protocolVersion) {
+        if (value == null) return null;
+        final ByteBuffer output = allocate(value.size(), KEY_SIZE + VALUE_SIZE, 2, protocolVersion);
+        final ObjectSet<Int2DoubleMap.Entry> entries = value.int2DoubleEntrySet();
+        final ObjectIterator<Int2DoubleMap.Entry> iterator = entries instanceof Int2DoubleMap.FastEntrySet
+                ? ((Int2DoubleMap.FastEntrySet) entries).fastIterator()
+                : entries.iterator();
+        while (iterator.hasNext()) {
+            final Int2DoubleMap.Entry entry = iterator.next();
+            writeValueSize(output, KEY_SIZE, protocolVersion);
+            output.putInt(entry.getIntKey());
+            writeValueSize(output, VALUE_SIZE, protocolVersion);
+            output.putDouble(entry.getDoubleValue());
+        }
+        output.flip();
+        return output;
+    }
+
+    @Override
+    public Int2DoubleMap deserialize(ByteBuffer bytes, ProtocolVersion protocolVersion) {
+        if (isEmpty(bytes)) return new Int2DoubleOpenHashMap(0);
+        final ByteBuffer input = bytes.duplicate();
+        final int size = readCount(input, protocolVersion);
+        final Int2DoubleOpenHashMap map = new Int2DoubleOpenHashMap(size);
+        for (int i = 0; i < size; i++) {
+            readValueSize(input, KEY_SIZE, protocolVersion);
+            final int key = input.getInt();
+            readValueSize(input, VALUE_SIZE, protocolVersion);
+            map.put(key, input.getDouble());
+        }
+        return map;
+    }
+
+    @Override
+    protected Int2DoubleMap fromBoxed(Map<Integer, Double> boxed) {
+        return new Int2DoubleOpenHashMap(boxed);
+    }
+}
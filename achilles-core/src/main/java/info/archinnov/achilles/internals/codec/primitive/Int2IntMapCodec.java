@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.codec.primitive;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.TypeCodec;
+
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.objects.ObjectSet;
+
+/**
+ * Map CQL <em>map&lt;int,int&gt;</em> to {@link Int2IntMap} without boxing
+ */
+public class Int2IntMapCodec extends AbstractPrimitiveCollectionCodec<Int2IntMap, Map<Integer, Integer>> {
+
+    private static final int KEY_SIZE = 4;
+    private static final int VALUE_SIZE = 4;
+
+    public static final Int2IntMapCodec instance = new Int2IntMapCodec();
+
+    public Int2IntMapCodec() {
+        super(TypeCodec.map(TypeCodec.cint(), TypeCodec.cint()), Int2IntMap.class);
+    }
+
+    @Override
+    public ByteBuffer serialize(Int2IntMap value, ProtocolVersion protocolVersion) {
+        if (value == null) return null;
+        final ByteBuffer output = allocate(value.size(), KEY_SIZE + VALUE_SIZE, 2, protocolVersion);
+        final ObjectSet<Int2IntMap.Entry> entries = value.int2IntEntrySet();
+        final ObjectIterator<Int2IntMap.Entry> iterator = entries instanceof Int2IntMap.FastEntrySet
+                ? ((Int2IntMap.FastEntrySet) entries).fastIterator()
+                : entries.iterator();
+        while (iterator.hasNext()) {
+            final Int2IntMap.Entry entry = iterator.next();
+            writeValueSize(output, KEY_SIZE, protocolVersion);
+            output.putInt(entry.getIntKey());
+            writeValueSize(output, VALUE_SIZE, protocolVersion);
+            output.putInt(entry.getIntValue());
+        }
+        output.flip();
+        return output;
+    }
+
+    @Override
+    public Int2IntMap deserialize(ByteBuffer bytes, ProtocolVersion protocolVersion) {
+        if (isEmpty(bytes)) return new Int2IntOpenHashMap(0);
+        final ByteBuffer input = bytes.duplicate();
+        final int size = readCount(input, protocolVersion);
+        final Int2IntOpenHashMap map = new Int2IntOpenHashMap(size);
+        for (int i = 0; i < size; i++) {
+            readValueSize(input, KEY_SIZE, protocolVersion);
+            final int key = input.getInt();
+            readValueSize(input, VALUE_SIZE, protocolVersion);
+            map.put(key, input.getInt());
+        }
+        return map;
+    }
+
+    @Override
+    protected Int2IntMap fromBoxed(Map<Integer, Integer> boxed) {
+        return new Int2IntOpenHashMap(boxed);
+    }
+}
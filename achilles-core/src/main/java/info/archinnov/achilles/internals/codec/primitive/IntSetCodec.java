@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.codec.primitive;
+
+import java.nio.ByteBuffer;
+import java.util.Set;
+
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.TypeCodec;
+
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+
+/**
+ * Map CQL <em>set&lt;int&gt;</em> to {@link IntSet} without boxing
+ */
+public class IntSetCodec extends AbstractPrimitiveCollectionCodec<IntSet, Set<Integer>> {
+
+    private static final int ELEMENT_SIZE = 4;
+
+    public static final IntSetCodec instance = new IntSetCodec();
+
+    public IntSetCodec() {
+        super(TypeCodec.set(TypeCodec.cint()), IntSet.class);
+    }
+
+    @Override
+    public ByteBuffer serialize(IntSet value, ProtocolVersion protocolVersion) {
+        if (value == null) return null;
+        final ByteBuffer output = allocate(value.size(), ELEMENT_SIZE, 1, protocolVersion);
+        final IntIterator iterator = value.iterator();
+        while (iterator.hasNext()) {
+            writeValueSize(output, ELEMENT_SIZE, protocolVersion);
+            output.putInt(iterator.nextInt());
+        }
+        output.flip();
+        return output;
+    }
+
+    @Override
+    public IntSet deserialize(ByteBuffer bytes, ProtocolVersion protocolVersion) {
+        if (isEmpty(bytes)) return new IntOpenHashSet(0);
+        final ByteBuffer input = bytes.duplicate();
+        final int size = readCount(input, protocolVersion);
+        final IntOpenHashSet set = new IntOpenHashSet(size);
+        for (int i = 0; i < size; i++) {
+            readValueSize(input, ELEMENT_SIZE, protocolVersion);
+            set.add(input.getInt());
+        }
+        return set;
+    }
+
+    @Override
+    protected IntSet fromBoxed(Set<Integer> boxed) {
+        return new IntOpenHashSet(boxed);
+    }
+}
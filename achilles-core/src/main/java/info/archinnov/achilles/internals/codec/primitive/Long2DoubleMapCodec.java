@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.codec.primitive;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.TypeCodec;
+
+import it.unimi.dsi.fastutil.longs.Long2DoubleMap;
+import it.unimi.dsi.fastutil.longs.Long2DoubleOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.objects.ObjectSet;
+
+/**
+ * Map CQL <em>map&lt;bigint,double&gt;</em> to {@link Long2DoubleMap} without boxing
+ */
+public class Long2DoubleMapCodec extends AbstractPrimitiveCollectionCodec<Long2DoubleMap, Map<Long, Double>> {
+
+    private static final int KEY_SIZE = 8;
+    private static final int VALUE_SIZE = 8;
+
+    public static final Long2DoubleMapCodec instance = new Long2DoubleMapCodec();
+
+    public Long2DoubleMapCodec() {
+        super(TypeCodec.map(TypeCodec.bigint(), TypeCodec.cdouble()), Long2DoubleMap.class);
+    }
+
+    @Override
+    public ByteBuffer serialize(Long2DoubleMap value, ProtocolVersion protocolVersion) {
+        if (value == null) return null;
+        final ByteBuffer output = allocate(value.size(), KEY_SIZE + VALUE_SIZE, 2, protocolVersion);
+        final ObjectSet<Long2DoubleMap.Entry> entries = value.long2DoubleEntrySet();
+        final ObjectIterator<Long2DoubleMap.Entry> iterator = entries instanceof Long2DoubleMap.FastEntrySet
+                ? ((Long2DoubleMap.FastEntrySet) entries).fastIterator()
+                : entries.iterator();
+        while (iterator.hasNext()) {
+            final Long2DoubleMap.Entry entry = iterator.next();
+            writeValueSize(output, KEY_SIZE, protocolVersion);
+            output.putLong(entry.getLongKey());
+            writeValueSize(output, VALUE_SIZE, protocolVersion);
+            output.putDouble(entry.getDoubleValue());
+        }
+        output.flip();
+        return output;
+    }
+
+    @Override
+    public Long2DoubleMap deserialize(ByteBuffer bytes, ProtocolVersion protocolVersion) {
+        if (isEmpty(bytes)) return new Long2DoubleOpenHashMap(0);
+        final ByteBuffer input = bytes.duplicate();
+        final int size = readCount(input, protocolVersion);
+        final Long2DoubleOpenHashMap map = new Long2DoubleOpenHashMap(size);
+        for (int i = 0; i < size; i++) {
+            readValueSize(input, KEY_SIZE, protocolVersion);
+            final long key = input.getLong();
+            readValueSize(input, VALUE_SIZE, protocolVersion);
+            map.put(key, input.getDouble());
+        }
+        return map;
+    }
+
+    @Override
+    protected Long2DoubleMap fromBoxed(Map<Long, Double> boxed) {
+        return new Long2DoubleOpenHashMap(boxed);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.codec.primitive;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.TypeCodec;
+
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.objects.ObjectSet;
+
+/**
+ * Map CQL <em>map&lt;bigint,bigint&gt;</em> to {@link Long2LongMap} without boxing
+ */
+public class Long2LongMapCodec extends AbstractPrimitiveCollectionCodec<Long2LongMap, Map<Long, Long>> {
+
+    private static final int KEY_SIZE = 8;
+    private static final int VALUE_SIZE = 8;
+
+    public static final Long2LongMapCodec instance = new Long2LongMapCodec();
+
+    public Long2LongMapCodec() {
+        super(TypeCodec.map(TypeCodec.bigint(), TypeCodec.bigint()), Long2LongMap.class);
+    }
+
+    @Override
+    public ByteBuffer serialize(Long2LongMap value, ProtocolVersion protocolVersion) {
+        if (value == null) return null;
+        final ByteBuffer output = allocate(value.size(), KEY_SIZE + VALUE_SIZE, 2, protocolVersion);
+        final ObjectSet<Long2LongMap.Entry> entries = value.long2LongEntrySet();
+        final ObjectIterator<Long2LongMap.Entry> iterator = entries instanceof Long2LongMap.FastEntrySet
+                ? ((Long2LongMap.FastEntrySet) entries).fastIterator()
+                : entries.iterator();
+        while (iterator.hasNext()) {
+            final Long2LongMap.Entry entry = iterator.next();
+            writeValueSize(output, KEY_SIZE, protocolVersion);
+            output.putLong(entry.getLongKey());
+            writeValueSize(output, VALUE_SIZE, protocolVersion);
+            output.putLong(entry.getLongValue());
+        }
+        output.flip();
+        return output;
+    }
+
+    @Override
+    public Long2LongMap deserialize(ByteBuffer bytes, ProtocolVersion protocolVersion) {
+        if (isEmpty(bytes)) return new Long2LongOpenHashMap(0);
+        final ByteBuffer input = bytes.duplicate();
+        final int size = readCount(input, protocolVersion);
+        final Long2LongOpenHashMap map = new Long2LongOpenHashMap(size);
+        for (int i = 0; i < size; i++) {
+            readValueSize(input, KEY_SIZE, protocolVersion);
+            final long key = input.getLong();
+            readValueSize(input, VALUE_SIZE, protocolVersion);
+            map.put(key, input.getLong());
+        }
+        return map;
+    }
+
+    @Override
+    protected Long2LongMap fromBoxed(Map<Long, Long> boxed) {
+        return new Long2LongOpenHashMap(boxed);
+    }
+}
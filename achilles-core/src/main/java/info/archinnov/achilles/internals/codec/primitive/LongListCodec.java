@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.codec.primitive;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.TypeCodec;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+
+/**
+ * Map CQL <em>list&lt;bigint&gt;</em> to {@link LongList} without boxing
+ */
+public class LongListCodec extends AbstractPrimitiveCollectionCodec<LongList, List<Long>> {
+
+    private static final int ELEMENT_SIZE = 8;
+
+    public static final LongListCodec instance = new LongListCodec();
+
+    public LongListCodec() {
+        super(TypeCodec.list(TypeCodec.bigint()), LongList.class);
+    }
+
+    @Override
+    public ByteBuffer serialize(LongList value, ProtocolVersion protocolVersion) {
+        if (value == null) return null;
+        final int size = value.size();
+        final ByteBuffer output = allocate(size, ELEMENT_SIZE, 1, protocolVersion);
+        for (int i = 0; i < size; i++) {
+            writeValueSize(output, ELEMENT_SIZE, protocolVersion);
+            output.putLong(value.getLong(i));
+        }
+        output.flip();
+        return output;
+    }
+
+    @Override
+    public LongList deserialize(ByteBuffer bytes, ProtocolVersion protocolVersion) {
+        if (isEmpty(bytes)) return new LongArrayList(0);
+        final ByteBuffer input = bytes.duplicate();
+        final int size = readCount(input, protocolVersion);
+        final LongArrayList list = new LongArrayList(size);
+        for (int i = 0; i < size; i++) {
+            readValueSize(input, ELEMENT_SIZE, protocolVersion);
+            list.add(input.getLong());
+        }
+        return list;
+    }
+
+    @Override
+    protected LongList fromBoxed(List<Long> boxed) {
+        return new LongArrayList(boxed);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.codec.primitive;
+
+import java.nio.ByteBuffer;
+import java.util.Set;
+
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.TypeCodec;
+
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+
+/**
+ * Map CQL <em>set&lt;bigint&gt;</em> to {@link LongSet} without boxing
+ */
+public class LongSetCodec extends AbstractPrimitiveCollectionCodec<LongSet, Set<Long>> {
+
+    private static final int ELEMENT_SIZE = 8;
+
+    public static final LongSetCodec instance = new LongSetCodec();
+
+    public LongSetCodec() {
+        super(TypeCodec.set(TypeCodec.bigint()), LongSet.class);
+    }
+
+    @Override
+    public ByteBuffer serialize(LongSet value, ProtocolVersion protocolVersion) {
+        if (value == null) return null;
+        final ByteBuffer output = allocate(value.size(), ELEMENT_SIZE, 1, protocolVersion);
+        final LongIterator iterator = value.iterator();
+        while (iterator.hasNext()) {
+            writeValueSize(output, ELEMENT_SIZE, protocolVersion);
+            output.putLong(iterator.nextLong());
+        }
+        output.flip();
+        return output;
+    }
+
+    @Override
+    public LongSet deserialize(ByteBuffer bytes, ProtocolVersion protocolVersion) {
+        if (isEmpty(bytes)) return new LongOpenHashSet(0);
+        final ByteBuffer input = bytes.duplicate();
+        final int size = readCount(input, protocolVersion);
+        final LongOpenHashSet set = new LongOpenHashSet(size);
+        for (int i = 0; i < size; i++) {
+            readValueSize(input, ELEMENT_SIZE, protocolVersion);
+            set.add(input.getLong());
+        }
+        return set;
+    }
+
+    @Override
+    protected LongSet fromBoxed(Set<Long> boxed) {
+        return new LongOpenHashSet(boxed);
+    }
+}
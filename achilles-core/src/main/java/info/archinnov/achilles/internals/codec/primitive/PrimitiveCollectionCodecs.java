@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.codec.primitive;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.TypeCodec;
+
+/**
+ * Driver codecs for the primitive collections supported as entity field types.
+ * <br/>
+ * The primitive collections library is an optional dependency, the codecs
+ * are only available when it is present on the classpath
+ */
+public class PrimitiveCollectionCodecs {
+
+    private static final String PRIMITIVE_COLLECTIONS_MARKER_CLASS = "it.unimi.dsi.fastutil.ints.IntList";
+    private static final Set<CodecRegistry> REGISTRIES = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    public static boolean isAvailable() {
+        try {
+            Class.forName(PRIMITIVE_COLLECTIONS_MARKER_CLASS, false, PrimitiveCollectionCodecs.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    public static List<TypeCodec<?>> codecs() {
+        if (!isAvailable()) {
+            return Collections.emptyList();
+        }
+        return Arrays.asList(
+                IntListCodec.instance,
+                LongListCodec.instance,
+                FloatListCodec.instance,
+                DoubleListCodec.instance,
+                IntSetCodec.instance,
+                LongSetCodec.instance,
+                Int2IntMapCodec.instance,
+                Int2DoubleMapCodec.instance,
+                Long2LongMapCodec.instance,
+                Long2DoubleMapCodec.instance);
+    }
+
+    /**
+     * Register the codecs into the registry, once per registry.
+     * <br/>
+     * Looking up the registry beforehand is not an option: the registry would create
+     * and cache a boxed collection codec for the primitive collection type,
+     * preventing the registration
+     */
+    public static void registerInto(CodecRegistry codecRegistry) {
+        if (isAvailable() && REGISTRIES.add(codecRegistry)) {
+            for (TypeCodec<?> codec : codecs()) {
+                codecRegistry.register(codec);
+            }
+        }
+    }
+}
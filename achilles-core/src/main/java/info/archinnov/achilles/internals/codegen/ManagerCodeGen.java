@@ -51,7 +51,8 @@ public class ManagerCodeGen {
         // DSL
         final TypeSpec.Builder dslClass = TypeSpec.classBuilder(signature.className + DSL_SUFFIX)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addMethod(buildSelectMethod(signature, SELECT_DSL_SUFFIX));
+                .addMethod(buildSelectMethod(signature, SELECT_DSL_SUFFIX))
+                .addMethod(buildScanAllMethod(signature));
         classes.add(context.selectDSLCodeGen().buildSelectClass(context, signature));
 
         if (signature.isTable()) {
@@ -193,6 +194,17 @@ public class ManagerCodeGen {
                 .build();
     }
 
+    private static MethodSpec buildScanAllMethod(EntityMetaSignature signature) {
+        TypeName scanAllTypeName = genericType(SCAN_ALL_WITH_OPTIONS, signature.entityRawClass);
+        return MethodSpec.methodBuilder("scanAll")
+                .addJavadoc("Scan the whole table, split by token ranges of the partition key")
+                .addJavadoc("@return $T", scanAllTypeName)
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addStatement("return new $T(meta, rte)", scanAllTypeName)
+                .returns(scanAllTypeName)
+                .build();
+    }
+
     private static MethodSpec buildDeleteMethod(EntityMetaSignature signature) {
         TypeName deleteTypeName = ClassName.get(DSL_PACKAGE, signature.className + DELETE_DSL_SUFFIX);
         return MethodSpec.methodBuilder("delete")
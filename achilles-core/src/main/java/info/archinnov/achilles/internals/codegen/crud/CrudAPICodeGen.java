@@ -19,8 +19,12 @@ package info.archinnov.achilles.internals.codegen.crud;
 import static info.archinnov.achilles.internals.metamodel.columns.ColumnType.CLUSTERING;
 import static info.archinnov.achilles.internals.metamodel.columns.ColumnType.PARTITION;
 import static info.archinnov.achilles.internals.parser.TypeUtils.*;
+import static java.lang.String.format;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import javax.lang.model.element.Modifier;
 
 import com.squareup.javapoet.*;
@@ -28,10 +32,13 @@ import com.squareup.javapoet.*;
 import info.archinnov.achilles.internals.codegen.meta.EntityMetaCodeGen.EntityMetaSignature;
 import info.archinnov.achilles.internals.metamodel.columns.ClusteringColumnInfo;
 import info.archinnov.achilles.internals.metamodel.columns.PartitionKeyInfo;
+import info.archinnov.achilles.type.tuples.Tuple2;
 import info.archinnov.achilles.type.tuples.Tuple3;
 
 public abstract class CrudAPICodeGen {
 
+    private static final int MAX_TUPLE_SIZE = 10;
+
     public static final Comparator<Tuple3<String, TypeName, PartitionKeyInfo>> PARTITION_KEY_SORTER =
             (o1, o2) -> o1._3().order.compareTo(o2._3().order);
     public static final Comparator<Tuple3<String, TypeName, ClusteringColumnInfo>> CLUSTERING_COLUMN_SORTER =
@@ -48,14 +55,19 @@ public abstract class CrudAPICodeGen {
                 .addMethod(buildWithSchemaNameProvider(signature))
                 .addMethod(buildFind(signature));
 
+        buildFindByIds(signature).ifPresent(crudClass::addMethod);
+
         // API for table
         if (signature.isTable()) {
             crudClass.addMethod(buildDeleteInstance(signature))
-                    .addMethod(buildDeleteByKeys(signature));
+                    .addMethod(buildDeleteByKeys(signature))
+                    .addMethod(buildDeleteAll(signature));
 
             if (!signature.isCounterEntity()) {
                 crudClass.addMethod(buildInsert(signature));
                 crudClass.addMethod(buildUpdate(signature));
+                crudClass.addMethod(buildInsertAll(signature));
+                crudClass.addMethod(buildUpdateAll(signature));
                 if (signature.hasStatic()) {
                     crudClass.addMethod(buildInsertStatic(signature));
                     crudClass.addMethod(buildUpdateStatic(signature));
@@ -133,6 +145,77 @@ public abstract class CrudAPICodeGen {
         return builder.build();
     }
 
+    /**
+     * Generate <strong>findByIds(Collection&lt;ID&gt;)</strong> where ID is the type of the primary key
+     * column for a single column primary key or a TupleN of the primary key columns otherwise
+     */
+    private static Optional<MethodSpec> buildFindByIds(EntityMetaSignature signature) {
+        final List<Tuple2<String, TypeName>> primaryKeys = new ArrayList<>();
+        signature.fieldMetaSignatures
+                .stream()
+                .filter(x -> x.context.columnType == PARTITION)
+                .map(x -> Tuple3.of(x.context.fieldName, x.sourceType, (PartitionKeyInfo) x.context.columnInfo))
+                .sorted(PARTITION_KEY_SORTER)
+                .forEach(tuple -> primaryKeys.add(Tuple2.of(tuple._1(), tuple._2().box())));
+
+        signature.fieldMetaSignatures
+                .stream()
+                .filter(x -> x.context.columnType == CLUSTERING)
+                .map(x -> Tuple3.of(x.context.fieldName, x.sourceType, (ClusteringColumnInfo) x.context.columnInfo))
+                .sorted(CLUSTERING_COLUMN_SORTER)
+                .forEach(tuple -> primaryKeys.add(Tuple2.of(tuple._1(), tuple._2().box())));
+
+        if (primaryKeys.size() > MAX_TUPLE_SIZE) {
+            return Optional.empty();
+        }
+
+        final TypeName idType;
+        if (primaryKeys.size() == 1) {
+            idType = primaryKeys.get(0)._2();
+        } else {
+            final TypeName[] typeArguments = primaryKeys.stream().map(Tuple2::_2).toArray(TypeName[]::new);
+            idType = ParameterizedTypeName.get(ClassName.get(TUPLE2.packageName(), "Tuple" + primaryKeys.size()), typeArguments);
+        }
+
+        final ParameterizedTypeName returnType = ParameterizedTypeName.get(FIND_BY_IDS_WITH_OPTIONS, signature.entityRawClass, idType);
+        final MethodSpec.Builder builder = MethodSpec.methodBuilder("findByIds")
+                .addJavadoc("Find entities by their complete primary key. ")
+                .addJavadoc(primaryKeys.size() == 1
+                        ? "Each id is the value of the primary key column\n\n"
+                        : "Each id is a tuple of the partition key(s) then clustering column(s) values\n\n")
+                .addJavadoc("@param ids primary keys of the entities to find\n")
+                .addJavadoc("@return $T<$T, $T>", FIND_BY_IDS_WITH_OPTIONS, signature.entityRawClass, idType)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(genericType(COLLECTION, idType), "ids", Modifier.FINAL)
+                .addStatement("$T.validateNotNull(ids, $S)", VALIDATOR, "The primary keys should not be null")
+                .addStatement("final $T<$T> idsList = new $T<>(ids)", LIST, idType, ARRAY_LIST)
+                .addStatement("final $T<Object[]> primaryKeyValues = new $T<>(idsList.size())", LIST, ARRAY_LIST)
+                .addStatement("final $T<Object[]> encodedPrimaryKeyValues = new $T<>(idsList.size())", LIST, ARRAY_LIST)
+                .beginControlFlow("for ($T id : idsList)", idType)
+                .addStatement("$T.validateNotNull(id, $S)", VALIDATOR, "Primary key should not be null");
+
+        final List<String> values = new ArrayList<>();
+        final List<String> encodedValues = new ArrayList<>();
+        for (int i = 0; i < primaryKeys.size(); i++) {
+            final String fieldName = primaryKeys.get(i)._1();
+            final String value = primaryKeys.size() == 1 ? "id" : "id._" + (i + 1) + "()";
+            if (primaryKeys.size() > 1) {
+                builder.addStatement("$T.validateNotNull($L, $S, $S)", VALIDATOR, value,
+                        "Primary key column '%s' should not be null", fieldName);
+            }
+            values.add(value);
+            encodedValues.add(format("%s%s.%s.encodeFromJava(%s, cassandraOptions)", signature.className, META_SUFFIX, fieldName, value));
+        }
+
+        builder.addStatement("primaryKeyValues.add(new Object[]{$L})", String.join(", ", values))
+                .addStatement("encodedPrimaryKeyValues.add(new Object[]{$L})", String.join(", ", encodedValues))
+                .endControlFlow()
+                .addStatement("return new $T(meta, rte, idsList, primaryKeyValues, encodedPrimaryKeyValues, cassandraOptions)", returnType)
+                .returns(returnType);
+
+        return Optional.of(builder.build());
+    }
+
     private static MethodSpec buildInsert(EntityMetaSignature signature) {
         return MethodSpec.methodBuilder("insert")
                 .addJavadoc("Insert this entity\n\n")
@@ -158,6 +241,31 @@ public abstract class CrudAPICodeGen {
     }
 
 
+    private static MethodSpec buildInsertAll(EntityMetaSignature signature) {
+        return MethodSpec.methodBuilder("insertAll")
+                .addJavadoc("Insert all these entities using <strong>UNLOGGED</strong> batches grouped by partition key\n\n")
+                .addJavadoc("@param instances instances of $T\n", signature.entityRawClass)
+                .addJavadoc("@return $T<$T>", INSERT_ALL_WITH_OPTIONS, signature.entityRawClass)
+                .addModifiers(Modifier.FINAL, Modifier.PUBLIC)
+                .addParameter(genericType(COLLECTION, signature.entityRawClass), "instances", Modifier.FINAL)
+                .addStatement("return insertAllInternal(instances, cassandraOptions)")
+                .returns(genericType(INSERT_ALL_WITH_OPTIONS, signature.entityRawClass))
+                .build();
+    }
+
+    private static MethodSpec buildUpdateAll(EntityMetaSignature signature) {
+        return MethodSpec.methodBuilder("updateAll")
+                .addJavadoc("Update the cassandra table with <strong>NOT NULL</strong> fields extracted from all these entities, ")
+                .addJavadoc("using <strong>UNLOGGED</strong> batches grouped by partition key\n\n")
+                .addJavadoc("@param instances instances of $T\n", signature.entityRawClass)
+                .addJavadoc("@return $T<$T>", UPDATE_ALL_WITH_OPTIONS, signature.entityRawClass)
+                .addModifiers(Modifier.FINAL, Modifier.PUBLIC)
+                .addParameter(genericType(COLLECTION, signature.entityRawClass), "instances", Modifier.FINAL)
+                .addStatement("return updateAllInternal(instances, cassandraOptions)")
+                .returns(genericType(UPDATE_ALL_WITH_OPTIONS, signature.entityRawClass))
+                .build();
+    }
+
     private static MethodSpec buildInsertStatic(EntityMetaSignature signature) {
         return MethodSpec.methodBuilder("insertStatic")
                 .addJavadoc("Insert only partition key(s) and static column(s).\n\n")
@@ -251,6 +359,19 @@ public abstract class CrudAPICodeGen {
                 .build();
     }
 
+    private static MethodSpec buildDeleteAll(EntityMetaSignature signature) {
+        return MethodSpec.methodBuilder("deleteAll")
+                .addJavadoc("Delete all these entity instances using <strong>UNLOGGED</strong> batches grouped by partition key\n\n")
+                .addJavadoc("Remark: <strong>Achilles will throw an exception if any column being part of the primary key is NULL</strong>\n\n")
+                .addJavadoc("@param instances instances of $T to be deleted\n", signature.entityRawClass)
+                .addJavadoc("@return $T<$T>", DELETE_ALL_WITH_OPTIONS, signature.entityRawClass)
+                .addModifiers(Modifier.FINAL, Modifier.PUBLIC)
+                .addParameter(genericType(COLLECTION, signature.entityRawClass), "instances", Modifier.FINAL)
+                .addStatement("return deleteAllInternal(instances, cassandraOptions)")
+                .returns(genericType(DELETE_ALL_WITH_OPTIONS, signature.entityRawClass))
+                .build();
+    }
+
     private static MethodSpec buildDeleteByPartition(EntityMetaSignature signature) {
         ParameterizedTypeName returnType = genericType(DELETE_BY_PARTITION_WITH_OPTIONS, signature.entityRawClass);
         final MethodSpec.Builder builder = MethodSpec.methodBuilder("deleteByPartitionKeys")
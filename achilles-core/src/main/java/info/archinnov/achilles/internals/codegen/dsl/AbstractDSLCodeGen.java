@@ -23,6 +23,7 @@ import java.util.*;
 import javax.lang.model.element.Modifier;
 
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.TypeName;
@@ -174,6 +175,16 @@ public abstract class AbstractDSLCodeGen {
                 .build();
     }
 
+    public MethodSpec buildGetStatementShapeInternal() {
+        return MethodSpec
+                .methodBuilder("getStatementShapeInternal")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.FINAL, Modifier.PROTECTED)
+                .addStatement("return statementShape")
+                .returns(STATEMENT_SHAPE)
+                .build();
+    }
+
     public MethodSpec buildGetEncodedBoundValuesInternal() {
         return MethodSpec
                 .methodBuilder("getEncodedValuesInternal")
@@ -208,8 +219,11 @@ public abstract class AbstractDSLCodeGen {
         return MethodSpec.methodBuilder("allColumns_FromBaseTable")
                 .addJavadoc("Generate ... * FROM ...")
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addStatement("final $T where = $L.all().from(meta.getKeyspace().orElse($S + meta.entityClass.getCanonicalName()), meta.getTableOrViewName()).where()",
-                        whereTypeName, privateFieldName, "unknown_keyspace_for_")
+                .addStatement("final String currentKeyspace = meta.getKeyspace().orElse($S + meta.entityClass.getCanonicalName())",
+                        "unknown_keyspace_for_")
+                .addStatement("final $T where = $L.all().from(currentKeyspace, meta.getTableOrViewName()).where()",
+                        whereTypeName, privateFieldName)
+                .addStatement("statementShape.add($S).add(currentKeyspace).add(meta.getTableOrViewName())", "all().from")
                 .addStatement("return new $T(where, new $T())", newTypeName, OPTIONS)
                 .returns(newTypeName)
                 .build();
@@ -223,6 +237,7 @@ public abstract class AbstractDSLCodeGen {
                 .addStatement("final String currentKeyspace = lookupKeyspace(schemaNameProvider, meta.entityClass)")
                 .addStatement("final String currentTable = lookupTable(schemaNameProvider, meta.entityClass)")
                 .addStatement("final $T where = $L.all().from(currentKeyspace, currentTable).where()", whereTypeName, privateFieldName)
+                .addStatement("statementShape.add($S).add(currentKeyspace).add(currentTable)", "all().from")
                 .addStatement("return new $T(where, $T.withSchemaNameProvider(schemaNameProvider))", newTypeName, OPTIONS)
                 .returns(newTypeName)
                 .build();
@@ -232,8 +247,11 @@ public abstract class AbstractDSLCodeGen {
         return MethodSpec.methodBuilder("fromBaseTable")
                 .addJavadoc("Generate a ... <strong>FROM xxx</strong> ... ")
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addStatement("final $T where = $L.from(meta.getKeyspace().orElse($S + meta.entityClass.getCanonicalName()), " +
-                        "meta.getTableOrViewName()).where()", whereTypeName, privateFieldName, "unknown_keyspace_for_")
+                .addStatement("final String currentKeyspace = meta.getKeyspace().orElse($S + meta.entityClass.getCanonicalName())",
+                        "unknown_keyspace_for_")
+                .addStatement("final $T where = $L.from(currentKeyspace, meta.getTableOrViewName()).where()",
+                        whereTypeName, privateFieldName)
+                .addStatement("statementShape.add($S).add(currentKeyspace).add(meta.getTableOrViewName())", "from")
                 .addStatement("return new $T(where, new $T())", newTypeName, OPTIONS)
                 .returns(newTypeName)
                 .build();
@@ -247,6 +265,7 @@ public abstract class AbstractDSLCodeGen {
                 .addStatement("final String currentKeyspace = lookupKeyspace(schemaNameProvider, meta.entityClass)")
                 .addStatement("final String currentTable = lookupTable(schemaNameProvider, meta.entityClass)")
                 .addStatement("final $T where = $L.from(currentKeyspace, currentTable).where()", whereTypeName, privateFieldName)
+                .addStatement("statementShape.add($S).add(currentKeyspace).add(currentTable)", "from")
                 .addStatement("return new $T(where, $T.withSchemaNameProvider(schemaNameProvider))", newTypeName, OPTIONS)
                 .returns(newTypeName)
                 .build();
@@ -300,6 +319,22 @@ public abstract class AbstractDSLCodeGen {
                 .collect(toList()));
     }
 
+    /**
+     * Generate the given statement modifying the QueryBuilder object, followed by the
+     * addition of its compile-time token to the statement shape
+     */
+    public static CodeBlock shapedStatement(String format, Object... args) {
+        final String token = CodeBlock.builder()
+                .add(format, args)
+                .build()
+                .toString()
+                .replace(QUERY_BUILDER.toString() + ".", "");
+        return CodeBlock.builder()
+                .addStatement(format, args)
+                .addStatement("statementShape.add($S)", token)
+                .build();
+    }
+
     public static String relationToSymbolForJavaDoc(String relation) {
         switch (relation) {
             case EQ:
@@ -18,6 +18,7 @@ package info.archinnov.achilles.internals.codegen.dsl;
 
 import static com.squareup.javapoet.TypeName.BOOLEAN;
 import static com.squareup.javapoet.TypeName.OBJECT;
+import static info.archinnov.achilles.internals.codegen.dsl.AbstractDSLCodeGen.shapedStatement;
 import static info.archinnov.achilles.internals.parser.TypeUtils.*;
 
 import javax.lang.model.element.Modifier;
@@ -128,8 +129,8 @@ public interface JSONFunctionCallSupport {
                 .addJavadoc("Generate an UPDATE FROM ... <strong>SET $L = fromJson(?)</strong>", cqlColumn)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(STRING, param, Modifier.FINAL)
-                .addStatement("where.with($T.of($S, $T.fromJson($T.bindMarker($S))))",
-                        NON_ESCAPING_ASSIGNMENT, cqlColumn, QUERY_BUILDER, QUERY_BUILDER, cqlColumn)
+                .addCode(shapedStatement("where.with($T.of($S, $T.fromJson($T.bindMarker($S))))",
+                        NON_ESCAPING_ASSIGNMENT, cqlColumn, QUERY_BUILDER, QUERY_BUILDER, cqlColumn))
                 .addStatement("boundValues.add($N)", param)
                 .addStatement("encodedValues.add($N)", param)
                 .returns(newTypeName);
@@ -150,8 +151,8 @@ public interface JSONFunctionCallSupport {
                 .addJavadoc("Generate a SELECT ... FROM ... WHERE ... <strong>$L $L </strong>", fieldInfo.quotedCqlColumn, " = fromJson(?)")
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(STRING, fieldInfo.fieldName)
-                .addStatement("where.and($T.eq($S, $T.fromJson($T.bindMarker($S))))",
-                        QUERY_BUILDER, fieldInfo.quotedCqlColumn, QUERY_BUILDER, QUERY_BUILDER, fieldInfo.quotedCqlColumn)
+                .addCode(shapedStatement("where.and($T.eq($S, $T.fromJson($T.bindMarker($S))))",
+                        QUERY_BUILDER, fieldInfo.quotedCqlColumn, QUERY_BUILDER, QUERY_BUILDER, fieldInfo.quotedCqlColumn))
                 .addStatement("boundValues.add($N)", fieldInfo.fieldName)
                 .addStatement("encodedValues.add($N)", fieldInfo.fieldName)
                 .returns(nextSignature.returnClassType)
@@ -175,10 +176,10 @@ public interface JSONFunctionCallSupport {
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(STRING, paramKey)
                 .addParameter(STRING, paramValue)
-                .addStatement("where.and($T.of($S, $T.fromJson($T.bindMarker($S)), $T.fromJson($T.bindMarker($S))))",
+                .addCode(shapedStatement("where.and($T.of($S, $T.fromJson($T.bindMarker($S)), $T.fromJson($T.bindMarker($S))))",
                         MAP_ENTRY_CLAUSE, indexFieldInfo.quotedCqlColumn,
                         QUERY_BUILDER, QUERY_BUILDER, paramKey,
-                        QUERY_BUILDER, QUERY_BUILDER, paramValue)
+                        QUERY_BUILDER, QUERY_BUILDER, paramValue))
                 .addStatement("boundValues.add($N)", paramKey)
                 .addStatement("boundValues.add($N)", paramValue)
                 .addStatement("encodedValues.add($N)", paramKey)
@@ -204,8 +205,8 @@ public interface JSONFunctionCallSupport {
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(STRING, param)
-                .addStatement("where.and($T.containsKey($S, $T.fromJson($T.bindMarker($S))))",
-                        QUERY_BUILDER, indexFieldInfo.quotedCqlColumn, QUERY_BUILDER, QUERY_BUILDER, indexFieldInfo.quotedCqlColumn)
+                .addCode(shapedStatement("where.and($T.containsKey($S, $T.fromJson($T.bindMarker($S))))",
+                        QUERY_BUILDER, indexFieldInfo.quotedCqlColumn, QUERY_BUILDER, QUERY_BUILDER, indexFieldInfo.quotedCqlColumn))
                 .addStatement("boundValues.add($N)", param)
                 .addStatement("encodedValues.add($N)", param)
                 .returns(returnClassType);
@@ -228,8 +229,8 @@ public interface JSONFunctionCallSupport {
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(STRING, param)
-                .addStatement("where.and($T.contains($S, $T.fromJson($T.bindMarker($S))))",
-                        QUERY_BUILDER, indexFieldInfo.quotedCqlColumn, QUERY_BUILDER, QUERY_BUILDER, indexFieldInfo.quotedCqlColumn)
+                .addCode(shapedStatement("where.and($T.contains($S, $T.fromJson($T.bindMarker($S))))",
+                        QUERY_BUILDER, indexFieldInfo.quotedCqlColumn, QUERY_BUILDER, QUERY_BUILDER, indexFieldInfo.quotedCqlColumn))
                 .addStatement("boundValues.add($N)", param)
                 .addStatement("encodedValues.add($N)", param)
                 .returns(returnClassType);
@@ -251,8 +252,8 @@ public interface JSONFunctionCallSupport {
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(STRING, param)
-                .addStatement("where.and($T.contains($S, $T.fromJson($T.bindMarker($S))))",
-                        QUERY_BUILDER, indexFieldInfo.quotedCqlColumn, QUERY_BUILDER, QUERY_BUILDER, indexFieldInfo.quotedCqlColumn)
+                .addCode(shapedStatement("where.and($T.contains($S, $T.fromJson($T.bindMarker($S))))",
+                        QUERY_BUILDER, indexFieldInfo.quotedCqlColumn, QUERY_BUILDER, QUERY_BUILDER, indexFieldInfo.quotedCqlColumn))
                 .addStatement("boundValues.add($N)", param)
                 .addStatement("encodedValues.add($N)", param)
                 .returns(returnClassType);
@@ -275,8 +276,9 @@ public interface JSONFunctionCallSupport {
                 .addParameter(STRING, fieldName, Modifier.FINAL)
                 .addStatement("boundValues.add($N)", fieldName)
                 .addStatement("encodedValues.add($N)", fieldName)
-                .addStatement("where.onlyIf($T.eq($S, $T.fromJson($T.bindMarker($S))))",
-                        QUERY_BUILDER, quotedCqlColumn, QUERY_BUILDER, QUERY_BUILDER, quotedCqlColumn)
+                .addCode(shapedStatement("where.onlyIf($T.eq($S, $T.fromJson($T.bindMarker($S))))",
+                        QUERY_BUILDER, quotedCqlColumn, QUERY_BUILDER, QUERY_BUILDER, quotedCqlColumn))
+                .addStatement("markAsLWT()")
                 .addStatement("return $T.this", currentSignature.returnClassType)
                 .returns(currentSignature.returnClassType)
                 .build();
@@ -289,8 +291,11 @@ public interface JSONFunctionCallSupport {
         return MethodSpec.methodBuilder("allColumnsAsJSON_FromBaseTable")
                 .addJavadoc("Generate ... * FROM ...")
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addStatement("final $T where = $L.json().all().from(meta.getKeyspace().orElse($S + meta.entityClass.getCanonicalName()), meta.getTableOrViewName()).where()",
-                        whereTypeName, privateFieldName, "unknown_keyspace_for_")
+                .addStatement("final String currentKeyspace = meta.getKeyspace().orElse($S + meta.entityClass.getCanonicalName())",
+                        "unknown_keyspace_for_")
+                .addStatement("final $T where = $L.json().all().from(currentKeyspace, meta.getTableOrViewName()).where()",
+                        whereTypeName, privateFieldName)
+                .addStatement("statementShape.add($S).add(currentKeyspace).add(meta.getTableOrViewName())", "json().all().from")
                 .addStatement("return new $T(where, new $T())", newTypeName, OPTIONS)
                 .returns(newTypeName)
                 .build();
@@ -304,6 +309,7 @@ public interface JSONFunctionCallSupport {
                 .addStatement("final String currentKeyspace = lookupKeyspace(schemaNameProvider, meta.entityClass)")
                 .addStatement("final String currentTable = lookupTable(schemaNameProvider, meta.entityClass)")
                 .addStatement("final $T where = $L.json().all().from(currentKeyspace, currentTable).where()", whereTypeName, privateFieldName)
+                .addStatement("statementShape.add($S).add(currentKeyspace).add(currentTable)", "json().all().from")
                 .addStatement("return new $T(where, $T.withSchemaNameProvider(schemaNameProvider))", newTypeName, OPTIONS)
                 .returns(newTypeName)
                 .build();
@@ -75,8 +75,9 @@ public interface LWTConditionsCodeGen {
                 .addParameter(fieldSignatureInfo.typeName, fieldName, Modifier.FINAL)
                 .addStatement("boundValues.add($N)", fieldName)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))", fieldName, fieldName, OPTIONAL)
-                .addStatement("where.onlyIf($T.$L($S, $T.bindMarker($S)))",
-                        QUERY_BUILDER, relation, quotedCqlColumn, QUERY_BUILDER, quotedCqlColumn)
+                .addCode(shapedStatement("where.onlyIf($T.$L($S, $T.bindMarker($S)))",
+                        QUERY_BUILDER, relation, quotedCqlColumn, QUERY_BUILDER, quotedCqlColumn))
+                .addStatement("markAsLWT()")
                 .addStatement("return $T.this", currentType)
                 .returns(currentType)
                 .build();
@@ -95,8 +96,9 @@ public interface LWTConditionsCodeGen {
                 .addParameter(fieldSignatureInfo.typeName, fieldName, Modifier.FINAL)
                 .addStatement("boundValues.add($N)", fieldName)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))", fieldName, fieldName, OPTIONAL)
-                .addStatement("where.onlyIf($T.of($S, $T.bindMarker($S)))",
-                        NOT_EQ, quotedCqlColumn, QUERY_BUILDER, quotedCqlColumn)
+                .addCode(shapedStatement("where.onlyIf($T.of($S, $T.bindMarker($S)))",
+                        NOT_EQ, quotedCqlColumn, QUERY_BUILDER, quotedCqlColumn))
+                .addStatement("markAsLWT()")
                 .addStatement("return $T.this", currentType)
                 .returns(currentType)
                 .build();
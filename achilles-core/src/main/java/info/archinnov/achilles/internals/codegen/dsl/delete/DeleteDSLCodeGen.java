@@ -188,7 +188,7 @@ public abstract class DeleteDSLCodeGen extends AbstractDSLCodeGen {
         final MethodSpec.Builder builder = MethodSpec.methodBuilder(parsingResult.context.fieldName)
                 .addJavadoc("Generate DELETE <strong>$L</strong> ...", parsingResult.context.quotedCqlColumn)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addStatement("delete.column($S)", parsingResult.context.quotedCqlColumn)
+                .addCode(shapedStatement("delete.column($S)", parsingResult.context.quotedCqlColumn))
                 .returns(deleteTypeName);
 
         if (returnType == ReturnType.NEW) {
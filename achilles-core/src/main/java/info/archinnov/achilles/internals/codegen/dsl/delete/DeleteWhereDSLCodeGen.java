@@ -117,6 +117,7 @@ public abstract class DeleteWhereDSLCodeGen extends AbstractDSLCodeGen
                 .addMethod(buildGetRte())
                 .addMethod(buildGetOptions())
                 .addMethod(buildGetBoundValuesInternal())
+                .addMethod(buildGetStatementShapeInternal())
                 .addMethod(buildGetEncodedBoundValuesInternal())
                 .addMethod(buildGetThis(lastSignature.returnClassType));
 
@@ -257,7 +257,7 @@ public abstract class SelectDSLCodeGen extends AbstractDSLCodeGen {
         final MethodSpec.Builder builder = MethodSpec.methodBuilder(parsingResult.context.fieldName)
                 .addJavadoc("Generate a SELECT ... <strong>$L</strong> ...", parsingResult.context.quotedCqlColumn)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addStatement("$L.column($S)", selectVariable, parsingResult.context.quotedCqlColumn)
+                .addCode(shapedStatement("$L.column($S)", selectVariable, parsingResult.context.quotedCqlColumn))
                 .returns(newTypeName);
 
         if (returnType == NEW) {
@@ -298,7 +298,7 @@ public abstract class SelectDSLCodeGen extends AbstractDSLCodeGen {
         final MethodSpec.Builder allColumnsMethodBuilder = MethodSpec.methodBuilder("allColumns")
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addJavadoc("Generate a SELECT ... <strong>$L</strong> ...", quotedCqlColumn)
-                .addStatement("$L.raw($S)", selectVariable, quotedCqlColumn)
+                .addCode(shapedStatement("$L.raw($S)", selectVariable, quotedCqlColumn))
                 .returns(returnClassTypeName);
 
         if (returnType == NEW) {
@@ -323,7 +323,7 @@ public abstract class SelectDSLCodeGen extends AbstractDSLCodeGen {
         final MethodSpec.Builder builder = MethodSpec.methodBuilder(fieldName)
                 .addJavadoc("Generate a SELECT ... <strong>$L</strong> ...", quotedCqlColumn)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addStatement("$L.raw($S)", selectVariable, quotedCqlColumn)
+                .addCode(shapedStatement("$L.raw($S)", selectVariable, quotedCqlColumn))
                 .returns(newTypeName);
 
         if (returnType == NEW) {
@@ -397,7 +397,8 @@ public abstract class SelectDSLCodeGen extends AbstractDSLCodeGen {
                 .addJavadoc("@return a built-in function call passed to the QueryBuilder object\n")
                 .addParameter(FUNCTION_CALL, "functionCall", Modifier.FINAL)
                 .addParameter(STRING, "alias", Modifier.FINAL)
-                .addStatement("functionCall.addToSelect($L, alias)", fieldName);
+                .addStatement("functionCall.addToSelect($L, alias)", fieldName)
+                .addStatement("statementShape.disable()");
 
         if (returnType == NEW) {
             return builder.addStatement("return new $T(select)", newTypeName).build();
@@ -425,7 +426,7 @@ public abstract class SelectDSLCodeGen extends AbstractDSLCodeGen {
         final MethodSpec.Builder builder = MethodSpec.methodBuilder(parsingResult.context.fieldName)
                 .addJavadoc("Generate a SELECT ... <strong>$L($L) AS $L</strong> ...", varargs)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addStatement(joiner.toString(), varargs)
+                .addCode(shapedStatement(joiner.toString(), varargs))
                 .returns(newTypeName);
 
         if (returnType == NEW) {
@@ -103,8 +103,8 @@ public interface DSESearchSupport {
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(STRING, fieldInfo.fieldName)
                 .beginControlFlow("if(!cassandraOptions.hasSolrQuery())")
-                .addStatement("where.and($T.eq($S, $T.bindMarker($S)))",
-                        QUERY_BUILDER, "solr_query", QUERY_BUILDER, "solr_query")
+                .addCode(shapedStatement("where.and($T.eq($S, $T.bindMarker($S)))",
+                        QUERY_BUILDER, "solr_query", QUERY_BUILDER, "solr_query"))
                 .endControlFlow()
                 .addStatement("cassandraOptions.appendToSolrQuery($S + $N + $S)", fieldInfo.quotedCqlColumn + ":",
                         fieldInfo.fieldName, "*")
@@ -125,8 +125,8 @@ public interface DSESearchSupport {
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(STRING, fieldInfo.fieldName)
                 .beginControlFlow("if(!cassandraOptions.hasSolrQuery())")
-                .addStatement("where.and($T.eq($S, $T.bindMarker($S)))",
-                        QUERY_BUILDER, "solr_query", QUERY_BUILDER, "solr_query")
+                .addCode(shapedStatement("where.and($T.eq($S, $T.bindMarker($S)))",
+                        QUERY_BUILDER, "solr_query", QUERY_BUILDER, "solr_query"))
                 .endControlFlow()
                 .addStatement("cassandraOptions.appendToSolrQuery($S + $N)", fieldInfo.quotedCqlColumn + ":*", fieldInfo.fieldName)
                 .returns(nextType);
@@ -146,8 +146,8 @@ public interface DSESearchSupport {
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(STRING, fieldInfo.fieldName)
                 .beginControlFlow("if(!cassandraOptions.hasSolrQuery())")
-                .addStatement("where.and($T.eq($S, $T.bindMarker($S)))",
-                        QUERY_BUILDER, "solr_query", QUERY_BUILDER, "solr_query")
+                .addCode(shapedStatement("where.and($T.eq($S, $T.bindMarker($S)))",
+                        QUERY_BUILDER, "solr_query", QUERY_BUILDER, "solr_query"))
                 .endControlFlow()
                 .addStatement("cassandraOptions.appendToSolrQuery($S + $N + $S)", fieldInfo.quotedCqlColumn + ":*", fieldInfo.fieldName, "*")
                 .returns(nextType);
@@ -169,8 +169,8 @@ public interface DSESearchSupport {
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(fieldInfo.typeName, param)
                 .beginControlFlow("if(!cassandraOptions.hasSolrQuery())")
-                .addStatement("where.and($T.eq($S, $T.bindMarker($S)))",
-                        QUERY_BUILDER, "solr_query", QUERY_BUILDER, "solr_query")
+                .addCode(shapedStatement("where.and($T.eq($S, $T.bindMarker($S)))",
+                        QUERY_BUILDER, "solr_query", QUERY_BUILDER, "solr_query"))
                 .endControlFlow()
                 .addStatement("cassandraOptions.appendToSolrQuery($T.format($S, $S, meta.$L.encodeFromJava($N, $T.of(cassandraOptions))))",
                         STRING, relationToSolrSyntaxForQuery(relation),
@@ -202,8 +202,8 @@ public interface DSESearchSupport {
                 .addParameter(fieldInfo.typeName, param)
                 .addStatement("$T dateFormat = new $T($T.SOLR_DATE_FORMAT)", SIMPLE_DATE_FORMAT, SIMPLE_DATE_FORMAT, DSE_SEARCH_ANNOT)
                 .beginControlFlow("if(!cassandraOptions.hasSolrQuery())")
-                .addStatement("where.and($T.eq($S, $T.bindMarker($S)))",
-                        QUERY_BUILDER, "solr_query", QUERY_BUILDER, "solr_query")
+                .addCode(shapedStatement("where.and($T.eq($S, $T.bindMarker($S)))",
+                        QUERY_BUILDER, "solr_query", QUERY_BUILDER, "solr_query"))
                 .endControlFlow()
                 .addStatement("cassandraOptions.appendToSolrQuery($T.format($S, $S, dateFormat.format(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))))",
                         STRING, queryString,
@@ -230,8 +230,8 @@ public interface DSESearchSupport {
                 .addParameter(fieldInfo.typeName, param1)
                 .addParameter(fieldInfo.typeName, param2)
                 .beginControlFlow("if(!cassandraOptions.hasSolrQuery())")
-                .addStatement("where.and($T.eq($S, $T.bindMarker($S)))",
-                        QUERY_BUILDER, "solr_query", QUERY_BUILDER, "solr_query")
+                .addCode(shapedStatement("where.and($T.eq($S, $T.bindMarker($S)))",
+                        QUERY_BUILDER, "solr_query", QUERY_BUILDER, "solr_query"))
                 .endControlFlow()
                 .addStatement("cassandraOptions.appendToSolrQuery($T.format($S, $S, meta.$L.encodeFromJava($N, $T.of(cassandraOptions)), meta.$L.encodeFromJava($N, $T.of(cassandraOptions))))",
                         STRING, relationToSolrSyntaxForQuery(relation1, relation2),
@@ -259,8 +259,8 @@ public interface DSESearchSupport {
                 .addParameter(fieldInfo.typeName, param2)
                 .addStatement("$T dateFormat = new $T($T.SOLR_DATE_FORMAT)", SIMPLE_DATE_FORMAT, SIMPLE_DATE_FORMAT, DSE_SEARCH_ANNOT)
                 .beginControlFlow("if(!cassandraOptions.hasSolrQuery())")
-                .addStatement("where.and($T.eq($S, $T.bindMarker($S)))",
-                        QUERY_BUILDER, "solr_query", QUERY_BUILDER, "solr_query")
+                .addCode(shapedStatement("where.and($T.eq($S, $T.bindMarker($S)))",
+                        QUERY_BUILDER, "solr_query", QUERY_BUILDER, "solr_query"))
                 .endControlFlow()
                 .addStatement("cassandraOptions.appendToSolrQuery($T.format($S, $S, dateFormat.format(meta.$L.encodeFromJava($N, $T.of(cassandraOptions))), dateFormat.format(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))))",
                         STRING, relationToSolrSyntaxForQuery(relation1, relation2),
@@ -286,8 +286,8 @@ public interface DSESearchSupport {
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(STRING, param)
                 .beginControlFlow("if(!cassandraOptions.hasSolrQuery())")
-                .addStatement("where.and($T.eq($S, $T.bindMarker($S)))",
-                        QUERY_BUILDER, "solr_query", QUERY_BUILDER, "solr_query")
+                .addCode(shapedStatement("where.and($T.eq($S, $T.bindMarker($S)))",
+                        QUERY_BUILDER, "solr_query", QUERY_BUILDER, "solr_query"))
                 .endControlFlow()
                 .addStatement("cassandraOptions.appendToSolrQuery($T.format($S, $S, $N))",
                         STRING, "%s:%s", fieldInfo.quotedCqlColumn, param)
@@ -312,8 +312,8 @@ public interface DSESearchSupport {
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(STRING, param)
                 .beginControlFlow("if(!cassandraOptions.hasSolrQuery())")
-                .addStatement("where.and($T.eq($S, $T.bindMarker($S)))",
-                        QUERY_BUILDER, "solr_query", QUERY_BUILDER, "solr_query")
+                .addCode(shapedStatement("where.and($T.eq($S, $T.bindMarker($S)))",
+                        QUERY_BUILDER, "solr_query", QUERY_BUILDER, "solr_query"))
                 .endControlFlow()
                 .addStatement("cassandraOptions.rawSolrQuery($N)", param)
                 .returns(nextType);
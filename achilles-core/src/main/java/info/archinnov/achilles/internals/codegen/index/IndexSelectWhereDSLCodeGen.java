@@ -122,6 +122,7 @@ public abstract class IndexSelectWhereDSLCodeGen extends SelectWhereDSLCodeGen
                 .addMethod(buildGetRte())
                 .addMethod(buildGetOptions())
                 .addMethod(buildGetBoundValuesInternal())
+                .addMethod(buildGetStatementShapeInternal())
                 .addMethod(buildGetEncodedBoundValuesInternal())
                 .addMethod(buildLimit(lastSignature))
                 .addMethod(buildGetThis(lastSignature.returnClassType));
@@ -211,10 +212,10 @@ public abstract class IndexSelectWhereDSLCodeGen extends SelectWhereDSLCodeGen
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(indexFieldInfo.indexMetaSignature.mapKeyType, paramKey)
                 .addParameter(indexFieldInfo.indexMetaSignature.mapValueType, paramValue)
-                .addStatement("where.and($T.of($S, $T.bindMarker($S), $T.bindMarker($S)))",
+                .addCode(shapedStatement("where.and($T.of($S, $T.bindMarker($S), $T.bindMarker($S)))",
                         MAP_ENTRY_CLAUSE, indexFieldInfo.quotedCqlColumn,
                         QUERY_BUILDER, paramKey,
-                        QUERY_BUILDER, paramValue)
+                        QUERY_BUILDER, paramValue))
                 .addStatement("boundValues.add($N)", paramKey)
                 .addStatement("boundValues.add($N)", paramValue)
                 .addStatement("encodedValues.add(meta.$L.encodeSingleKeyElement($N, $T.of(cassandraOptions)))", indexFieldInfo.fieldName, paramKey, OPTIONAL)
@@ -236,8 +237,8 @@ public abstract class IndexSelectWhereDSLCodeGen extends SelectWhereDSLCodeGen
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(indexFieldInfo.indexMetaSignature.mapKeyType, param)
-                .addStatement("where.and($T.containsKey($S, $T.bindMarker($S)))",
-                        QUERY_BUILDER, indexFieldInfo.quotedCqlColumn, QUERY_BUILDER, indexFieldInfo.quotedCqlColumn)
+                .addCode(shapedStatement("where.and($T.containsKey($S, $T.bindMarker($S)))",
+                        QUERY_BUILDER, indexFieldInfo.quotedCqlColumn, QUERY_BUILDER, indexFieldInfo.quotedCqlColumn))
                 .addStatement("boundValues.add($N)", param)
                 .addStatement("encodedValues.add(meta.$L.encodeSingleKeyElement($N, $T.of(cassandraOptions)))", indexFieldInfo.fieldName, param, OPTIONAL)
                 .returns(returnClassType);
@@ -257,8 +258,8 @@ public abstract class IndexSelectWhereDSLCodeGen extends SelectWhereDSLCodeGen
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(indexFieldInfo.indexMetaSignature.mapValueType, param)
-                .addStatement("where.and($T.contains($S, $T.bindMarker($S)))",
-                        QUERY_BUILDER, indexFieldInfo.quotedCqlColumn, QUERY_BUILDER, indexFieldInfo.quotedCqlColumn)
+                .addCode(shapedStatement("where.and($T.contains($S, $T.bindMarker($S)))",
+                        QUERY_BUILDER, indexFieldInfo.quotedCqlColumn, QUERY_BUILDER, indexFieldInfo.quotedCqlColumn))
                 .addStatement("boundValues.add($N)", param)
                 .addStatement("encodedValues.add(meta.$L.encodeSingleValueElement($N, $T.of(cassandraOptions)))", indexFieldInfo.fieldName, param, OPTIONAL)
                 .returns(returnClassType);
@@ -277,8 +278,8 @@ public abstract class IndexSelectWhereDSLCodeGen extends SelectWhereDSLCodeGen
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(indexFieldInfo.indexMetaSignature.collectionElementType, param)
-                .addStatement("where.and($T.contains($S, $T.bindMarker($S)))",
-                        QUERY_BUILDER, indexFieldInfo.quotedCqlColumn, QUERY_BUILDER, indexFieldInfo.quotedCqlColumn)
+                .addCode(shapedStatement("where.and($T.contains($S, $T.bindMarker($S)))",
+                        QUERY_BUILDER, indexFieldInfo.quotedCqlColumn, QUERY_BUILDER, indexFieldInfo.quotedCqlColumn))
                 .addStatement("boundValues.add($N)", param)
                 .addStatement("encodedValues.add(meta.$L.encodeSingleElement($N, $T.of(cassandraOptions)))", indexFieldInfo.fieldName, param, OPTIONAL)
                 .returns(returnClassType);
@@ -16,6 +16,7 @@
 
 package info.archinnov.achilles.internals.codegen.index;
 
+import static info.archinnov.achilles.internals.codegen.dsl.AbstractDSLCodeGen.shapedStatement;
 import static info.archinnov.achilles.internals.parser.TypeUtils.*;
 
 import javax.lang.model.element.Modifier;
@@ -34,8 +35,8 @@ public interface SASISupport {
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(STRING, fieldInfo.fieldName)
-                .addStatement("where.and($T.like($S, $T.bindMarker($S)))",
-                        QUERY_BUILDER, fieldInfo.quotedCqlColumn, QUERY_BUILDER, fieldInfo.quotedCqlColumn)
+                .addCode(shapedStatement("where.and($T.like($S, $T.bindMarker($S)))",
+                        QUERY_BUILDER, fieldInfo.quotedCqlColumn, QUERY_BUILDER, fieldInfo.quotedCqlColumn))
                 .addStatement("boundValues.add($N + $S)", fieldInfo.fieldName, "%")
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($N + $S, $T.of(cassandraOptions)))", fieldInfo.fieldName, fieldInfo.fieldName, "%", OPTIONAL)
                 .returns(nextType);
@@ -54,8 +55,8 @@ public interface SASISupport {
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(STRING, fieldInfo.fieldName)
-                .addStatement("where.and($T.like($S, $T.bindMarker($S)))",
-                        QUERY_BUILDER, fieldInfo.quotedCqlColumn, QUERY_BUILDER, fieldInfo.quotedCqlColumn)
+                .addCode(shapedStatement("where.and($T.like($S, $T.bindMarker($S)))",
+                        QUERY_BUILDER, fieldInfo.quotedCqlColumn, QUERY_BUILDER, fieldInfo.quotedCqlColumn))
                 .addStatement("boundValues.add($S + $N)", "%", fieldInfo.fieldName)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($S + $N, $T.of(cassandraOptions)))", fieldInfo.fieldName, "%", fieldInfo.fieldName, OPTIONAL)
                 .returns(nextType);
@@ -74,8 +75,8 @@ public interface SASISupport {
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(STRING, fieldInfo.fieldName)
-                .addStatement("where.and($T.like($S, $T.bindMarker($S)))",
-                        QUERY_BUILDER, fieldInfo.quotedCqlColumn, QUERY_BUILDER, fieldInfo.quotedCqlColumn)
+                .addCode(shapedStatement("where.and($T.like($S, $T.bindMarker($S)))",
+                        QUERY_BUILDER, fieldInfo.quotedCqlColumn, QUERY_BUILDER, fieldInfo.quotedCqlColumn))
                 .addStatement("boundValues.add($S + $N + $S)", "%", fieldInfo.fieldName, "%")
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($S + $N + $S, $T.of(cassandraOptions)))", fieldInfo.fieldName, "%", fieldInfo.fieldName, "%", OPTIONAL)
                 .returns(nextType);
@@ -94,8 +95,8 @@ public interface SASISupport {
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(STRING, fieldInfo.fieldName)
-                .addStatement("where.and($T.like($S, $T.bindMarker($S)))",
-                        QUERY_BUILDER, fieldInfo.quotedCqlColumn, QUERY_BUILDER, fieldInfo.quotedCqlColumn)
+                .addCode(shapedStatement("where.and($T.like($S, $T.bindMarker($S)))",
+                        QUERY_BUILDER, fieldInfo.quotedCqlColumn, QUERY_BUILDER, fieldInfo.quotedCqlColumn))
                 .addStatement("boundValues.add($N)", fieldInfo.fieldName)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))", fieldInfo.fieldName, fieldInfo.fieldName, OPTIONAL)
                 .returns(nextType);
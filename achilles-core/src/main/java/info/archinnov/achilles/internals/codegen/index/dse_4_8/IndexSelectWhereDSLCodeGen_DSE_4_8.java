@@ -60,6 +60,7 @@ public class IndexSelectWhereDSLCodeGen_DSE_4_8 extends IndexSelectWhereDSLCodeG
                 .addMethod(buildGetRte())
                 .addMethod(buildGetOptions())
                 .addMethod(buildGetBoundValuesInternal())
+                .addMethod(buildGetStatementShapeInternal())
                 .addMethod(buildGetEncodedBoundValuesInternal())
                 .addMethod(buildLimit(lastSignature))
                 .addMethod(buildGetThis(lastSignature.returnClassType));
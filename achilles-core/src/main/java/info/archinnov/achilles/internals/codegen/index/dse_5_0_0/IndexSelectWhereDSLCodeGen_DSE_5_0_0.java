@@ -59,6 +59,7 @@ public class IndexSelectWhereDSLCodeGen_DSE_5_0_0 extends IndexSelectWhereDSLCod
                 .addMethod(buildGetRte())
                 .addMethod(buildGetOptions())
                 .addMethod(buildGetBoundValuesInternal())
+                .addMethod(buildGetStatementShapeInternal())
                 .addMethod(buildGetEncodedBoundValuesInternal())
                 .addMethod(buildLimit(lastSignature))
                 .addMethod(buildGetThis(lastSignature.returnClassType));
@@ -29,20 +29,26 @@ import com.datastax.driver.core.ConsistencyLevel;
 import com.datastax.driver.core.Session;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import info.archinnov.achilles.internals.cache.EntityCache;
 import info.archinnov.achilles.internals.cache.StatementsCache;
 import info.archinnov.achilles.internals.factory.TupleTypeFactory;
 import info.archinnov.achilles.internals.factory.UserTypeFactory;
 import info.archinnov.achilles.internals.interceptor.DefaultPostLoadBeanValidationInterceptor;
 import info.archinnov.achilles.internals.interceptor.DefaultPreMutateBeanValidationInterceptor;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.runtime.InFlightRequestsLimiter;
 import info.archinnov.achilles.json.JacksonMapperFactory;
+import info.archinnov.achilles.metrics.AchillesMetrics;
+import info.archinnov.achilles.metrics.NoOpAchillesMetrics;
 import info.archinnov.achilles.type.SchemaNameProvider;
 import info.archinnov.achilles.type.codec.Codec;
 import info.archinnov.achilles.type.codec.CodecSignature;
 import info.archinnov.achilles.type.factory.BeanFactory;
 import info.archinnov.achilles.type.interceptor.Interceptor;
+import info.archinnov.achilles.type.strategy.CompletionStrategy;
 import info.archinnov.achilles.type.strategy.InsertStrategy;
 import info.archinnov.achilles.type.strategy.NamingStrategy;
+import info.archinnov.achilles.type.strategy.StatementsPreparationStrategy;
 
 public class ConfigurationContext {
 
@@ -81,6 +87,7 @@ public class ConfigurationContext {
 
     private ExecutorService executorService;
     private boolean providedExecutorService;
+    private CompletionStrategy completionStrategy = CompletionStrategy.EXECUTOR_SERVICE;
 
     private BeanFactory defaultBeanFactory;
 
@@ -95,6 +102,17 @@ public class ConfigurationContext {
 
     private Integer DMLResultsDisplaySize;
 
+    private Optional<InFlightRequestsLimiter> requestsLimiter = Optional.empty();
+    private Map<String, InFlightRequestsLimiter> tableRequestsLimiters = new HashMap<>();
+
+    private Map<Class<?>, EntityCache> entityCaches = new HashMap<>();
+
+    private AchillesMetrics metrics = new NoOpAchillesMetrics();
+
+    private int bootstrapMaxConcurrentPrepares = 32;
+
+    private StatementsPreparationStrategy statementsPreparationStrategy = StatementsPreparationStrategy.EAGER;
+
     public boolean isForceSchemaGeneration() {
         return forceSchemaGeneration;
     }
@@ -282,6 +300,14 @@ public class ConfigurationContext {
         this.providedSession = providedSession;
     }
 
+    public CompletionStrategy getCompletionStrategy() {
+        return completionStrategy;
+    }
+
+    public void setCompletionStrategy(CompletionStrategy completionStrategy) {
+        this.completionStrategy = completionStrategy;
+    }
+
     public boolean isProvidedExecutorService() {
         return providedExecutorService;
     }
@@ -314,6 +340,9 @@ public class ConfigurationContext {
         LOGGER.debug("Injecting global Insert strategy");
         entityProperty.inject(globalInsertStrategy);
 
+        LOGGER.debug("Injecting metrics");
+        entityProperty.inject(metrics);
+
         if (!interceptors.isEmpty()) {
             LOGGER.debug("Injecting bean interceptors");
             interceptors.stream()
@@ -334,6 +363,7 @@ public class ConfigurationContext {
                 entityProperty.interceptors.add(0, (Interceptor) postLoadBeanValidationInterceptor.get());
             }
         }
+        entityProperty.indexInterceptorsByEvent();
 
         LOGGER.debug("Injecting global consistency levels");
         entityProperty.injectConsistencyLevels(session, this);
@@ -370,4 +400,52 @@ public class ConfigurationContext {
     public void setDMLResultsDisplaySize(Integer DMLResultsDisplaySize) {
         this.DMLResultsDisplaySize = DMLResultsDisplaySize;
     }
+
+    public Optional<InFlightRequestsLimiter> getRequestsLimiter() {
+        return requestsLimiter;
+    }
+
+    public void setRequestsLimiter(Optional<InFlightRequestsLimiter> requestsLimiter) {
+        this.requestsLimiter = requestsLimiter;
+    }
+
+    public Map<String, InFlightRequestsLimiter> getTableRequestsLimiters() {
+        return tableRequestsLimiters;
+    }
+
+    public void setTableRequestsLimiters(Map<String, InFlightRequestsLimiter> tableRequestsLimiters) {
+        this.tableRequestsLimiters = tableRequestsLimiters;
+    }
+
+    public Map<Class<?>, EntityCache> getEntityCaches() {
+        return entityCaches;
+    }
+
+    public void setEntityCaches(Map<Class<?>, EntityCache> entityCaches) {
+        this.entityCaches = entityCaches;
+    }
+
+    public AchillesMetrics getMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(AchillesMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public int getBootstrapMaxConcurrentPrepares() {
+        return bootstrapMaxConcurrentPrepares;
+    }
+
+    public void setBootstrapMaxConcurrentPrepares(int bootstrapMaxConcurrentPrepares) {
+        this.bootstrapMaxConcurrentPrepares = bootstrapMaxConcurrentPrepares;
+    }
+
+    public StatementsPreparationStrategy getStatementsPreparationStrategy() {
+        return statementsPreparationStrategy;
+    }
+
+    public void setStatementsPreparationStrategy(StatementsPreparationStrategy statementsPreparationStrategy) {
+        this.statementsPreparationStrategy = statementsPreparationStrategy;
+    }
 }
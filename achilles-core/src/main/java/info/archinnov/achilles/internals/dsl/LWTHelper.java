@@ -32,6 +32,7 @@ import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Row;
 
 import info.archinnov.achilles.exception.AchillesLightWeightTransactionException;
+import info.archinnov.achilles.internals.statements.StatementWrapper;
 import info.archinnov.achilles.type.TypedMap;
 import info.archinnov.achilles.type.lightweighttransaction.LWTResultListener;
 import info.archinnov.achilles.type.lightweighttransaction.LWTResultListener.LWTResult;
@@ -66,38 +67,47 @@ public class LWTHelper {
         lwtResultListeners.ifPresent(list -> list.forEach(listener -> listener.onSuccess()));
     }
 
-    private static boolean isLWTOperation(String queryString) {
-        return queryString.contains(IF_CLAUSE);
-    }
-
-    private static boolean isLWTInsert(String queryString) {
-        return queryString.contains(IF_NOT_EXIST_CLAUSE);
+    /**
+     * Determine the LWT operation of a raw CQL query, for native queries only.
+     * Statements generated by Achilles carry their LWT operation on the
+     * {@link StatementWrapper}
+     */
+    public static Optional<LWTOperation> detectLWTOperation(String queryString) {
+        if (queryString.contains(IF_NOT_EXIST_CLAUSE)) {
+            return Optional.of(INSERT);
+        } else if (queryString.contains(IF_CLAUSE)) {
+            return Optional.of(UPDATE);
+        } else {
+            return Optional.empty();
+        }
     }
 
-    public static ResultSet triggerLWTListeners(Optional<List<LWTResultListener>> lwtResultListeners, ResultSet resultSet, String queryString) {
-        if (isLWTOperation(queryString)) {
+    public static ResultSet triggerLWTListeners(Optional<List<LWTResultListener>> lwtResultListeners, ResultSet resultSet, StatementWrapper statementWrapper) {
+        final Optional<LWTOperation> lwtOperation = statementWrapper.getLWTOperation();
+        if (lwtOperation.isPresent()) {
             if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug(format("Trigger LWT listeners for query : %s", queryString));
+                LOGGER.debug(format("Trigger LWT listeners for query : %s",
+                        statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
             }
 
             final Row lwtResult = resultSet.one();
             if (!resultSet.wasApplied()) {
-                TreeMap<String, Object> currentValues = new TreeMap<>();
-                for (ColumnDefinitions.Definition columnDef : lwtResult.getColumnDefinitions()) {
-                    final String columnDefName = columnDef.getName();
-                    Object columnValue = lwtResult.getObject(columnDefName);
-                    currentValues.put(columnDefName, columnValue);
-                }
-
-                LWTOperation lwtOperation = UPDATE;
-                if (isLWTInsert(queryString)) {
-                    lwtOperation = INSERT;
-                }
-                notifyLWTError(lwtResultListeners, new LWTResult(lwtOperation, TypedMap.fromMap(currentValues)));
+                notifyLWTError(lwtResultListeners, new LWTResult(lwtOperation.get(),
+                        () -> extractCurrentValues(lwtResult),
+                        () -> statementWrapper.decodeLWTCurrentEntity(lwtResult)));
             } else {
                 notifyCASSuccess(lwtResultListeners);
             }
         }
         return resultSet;
     }
+
+    private static TypedMap extractCurrentValues(Row lwtResult) {
+        final ColumnDefinitions columnDefinitions = lwtResult.getColumnDefinitions();
+        final TreeMap<String, Object> currentValues = new TreeMap<>();
+        for (int i = 0; i < columnDefinitions.size(); i++) {
+            currentValues.put(columnDefinitions.getName(i), lwtResult.getObject(i));
+        }
+        return TypedMap.fromMap(currentValues);
+    }
 }
@@ -19,9 +19,13 @@ package info.archinnov.achilles.internals.dsl;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import com.datastax.driver.core.ColumnDefinitions;
 import com.datastax.driver.core.ExecutionInfo;
@@ -48,6 +52,18 @@ public interface TypedMapAware extends AsyncAware {
      */
     Tuple2<Iterator<TypedMap>, ExecutionInfo> typedMapIteratorWithExecutionInfo();
 
+    /**
+     * Execute the SELECT action and return a sequential {@link java.util.stream.Stream}<{@link info.archinnov.achilles.type.TypedMap}>
+     * backed by {@link #typedMapIterator()}. The query is executed when the terminal operation of the stream starts
+     * <br/>
+     * WARNING: <strong>this method performs blocking calls to the underlying async query</strong>
+     */
+    default Stream<TypedMap> typedMapStream() {
+        final int characteristics = Spliterator.ORDERED | Spliterator.NONNULL;
+        return StreamSupport.stream(() -> Spliterators.spliteratorUnknownSize(typedMapIterator(), characteristics),
+                characteristics, false);
+    }
+
     /**
      * Execute the SELECT action and return a {@link java.util.concurrent.CompletableFuture}&lt;{@link info.archinnov.achilles.type.tuples.Tuple2}&lt;
      * {@link java.util.List}&lt;{@link info.archinnov.achilles.type.TypedMap}&gt;, {@link com.datastax.driver.core.ExecutionInfo}&gt;&gt;
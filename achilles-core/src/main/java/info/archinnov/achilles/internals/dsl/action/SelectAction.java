@@ -18,8 +18,12 @@ package info.archinnov.achilles.internals.dsl.action;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import com.datastax.driver.core.ExecutionInfo;
 import com.google.common.util.concurrent.Uninterruptibles;
@@ -45,6 +49,20 @@ public interface SelectAction<ENTITY> extends AsyncAware {
      */
     Tuple2<Iterator<ENTITY>, ExecutionInfo> iteratorWithExecutionInfo();
 
+    /**
+     * Execute the SELECT action
+     * and return a sequential {@link java.util.stream.Stream}&lt;ENTITY&gt; backed by {@link #iterator()}.
+     * The query is executed when the terminal operation of the stream starts and pages are fetched
+     * as the stream is consumed, so it is suitable for large scans
+     * <br/>
+     * WARNING: <strong>this method performs blocking calls to the underlying async query</strong>
+     */
+    default Stream<ENTITY> stream() {
+        final int characteristics = Spliterator.ORDERED | Spliterator.NONNULL;
+        return StreamSupport.stream(() -> Spliterators.spliteratorUnknownSize(iterator(), characteristics),
+                characteristics, false);
+    }
+
     /**
      * Execute the SELECT action
      * and return the first entity instance
@@ -124,4 +142,26 @@ public interface SelectAction<ENTITY> extends AsyncAware {
      * a list of entity instances with {@link com.datastax.driver.core.ExecutionInfo}
      */
     CompletableFuture<Tuple2<List<ENTITY>, ExecutionInfo>> getListAsyncWithStats();
+
+    /**
+     * Execute the SELECT action asynchronously
+     * and return a {@link java.util.concurrent.CompletableFuture} of
+     * the entity instances of <strong>all</strong> the result pages, up to <strong>limit</strong> instances.
+     * <br/>
+     * Unlike {@link #getListAsync()} which only maps the first page, the next pages are fetched
+     * asynchronously and mapped as they arrive, without blocking any thread while waiting
+     * @param limit maximum number of entity instances to retrieve
+     */
+    CompletableFuture<List<ENTITY>> getAllAsync(int limit);
+
+    /**
+     * Execute the SELECT action asynchronously
+     * and return a {@link java.util.concurrent.CompletableFuture} of
+     * the entity instances of <strong>all</strong> the result pages
+     * <br/>
+     * WARNING: <strong>all the matching rows are loaded in memory, use {@link #getAllAsync(int)} to bound them</strong>
+     */
+    default CompletableFuture<List<ENTITY>> getAllAsync() {
+        return getAllAsync(Integer.MAX_VALUE);
+    }
 }
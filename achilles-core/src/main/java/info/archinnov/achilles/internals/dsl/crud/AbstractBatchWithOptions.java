@@ -0,0 +1,279 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.internals.dsl.crud;
+
+import static java.lang.String.format;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.BatchStatement;
+import com.datastax.driver.core.ExecutionInfo;
+import com.datastax.driver.core.ResultSet;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import info.archinnov.achilles.internals.cache.EntityCacheKey;
+import info.archinnov.achilles.internals.dsl.AsyncAware;
+import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForMutation;
+import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.runtime.RuntimeEngine;
+import info.archinnov.achilles.internals.statements.OperationType;
+import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.type.Empty;
+import info.archinnov.achilles.type.interceptor.Event;
+import info.archinnov.achilles.validation.Validator;
+
+/**
+ * Mutation of a collection of entities.
+ * <br/>
+ * Entities are grouped by partition key so that each group targets a single token.
+ * Each group is sent as one or several <strong>UNLOGGED</strong> batches of at most
+ * <em>maxBatchSize</em> statements. At most <em>maxConcurrentBatches</em> batches are executing
+ * at any time, the next one being sent as soon as one completes.
+ * <br/>
+ * There is no atomicity guarantee across groups: if one batch fails, the returned
+ * future completes exceptionally but the other batches may have been applied
+ */
+public abstract class AbstractBatchWithOptions<ENTITY, T extends AbstractBatchWithOptions<ENTITY, T>>
+        extends AbstractOptionsForMutation<T> implements AsyncAware {
+
+    public static final int DEFAULT_MAX_BATCH_SIZE = 50;
+    public static final int DEFAULT_MAX_CONCURRENT_BATCHES = 8;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AbstractBatchWithOptions.class);
+
+    protected final AbstractEntityProperty<ENTITY> meta;
+    protected final RuntimeEngine rte;
+    protected final List<ENTITY> instances;
+    protected final CassandraOptions options;
+    private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+    private int maxConcurrentBatches = DEFAULT_MAX_CONCURRENT_BATCHES;
+
+    protected AbstractBatchWithOptions(AbstractEntityProperty<ENTITY> meta, RuntimeEngine rte, List<ENTITY> instances, Optional<CassandraOptions> cassandraOptions) {
+        this.meta = meta;
+        this.rte = rte;
+        this.instances = instances;
+        this.options = cassandraOptions.orElse(new CassandraOptions());
+    }
+
+    protected abstract OperationType operationType();
+
+    protected abstract Event preEvent();
+
+    protected abstract Event postEvent();
+
+    protected abstract CompletableFuture<StatementWrapper> getStatementWrapperAsync(ENTITY instance);
+
+    /**
+     * Set the maximum number of statements in a single UNLOGGED batch.
+     * Partitions having more entities are split into several batches.
+     * Default value = 50
+     */
+    public T withMaxBatchSize(int maxBatchSize) {
+        Validator.validateTrue(maxBatchSize > 0, "The max batch size should be strictly positive");
+        this.maxBatchSize = maxBatchSize;
+        return getThis();
+    }
+
+    /**
+     * Set the maximum number of batches executing at the same time.
+     * The other batches are sent as soon as an executing batch completes.
+     * Default value = 8
+     */
+    public T withMaxConcurrentBatches(int maxConcurrentBatches) {
+        Validator.validateTrue(maxConcurrentBatches > 0, "The max concurrent batches should be strictly positive");
+        this.maxConcurrentBatches = maxConcurrentBatches;
+        return getThis();
+    }
+
+    @Override
+    protected CassandraOptions getOptions() {
+        return options;
+    }
+
+    /**
+     * Execute the mutation of all the entities
+     */
+    public void execute() {
+        try {
+            Uninterruptibles.getUninterruptibly(executeAsync());
+        } catch (ExecutionException e) {
+            throw extractCauseFromExecutionException(e);
+        }
+    }
+
+    /**
+     * Execute the mutation of all the entities
+     * and return the {@link com.datastax.driver.core.ExecutionInfo} of each batch
+     */
+    public List<ExecutionInfo> executeWithStats() {
+        try {
+            return Uninterruptibles.getUninterruptibly(executeAsyncWithStats());
+        } catch (ExecutionException e) {
+            throw extractCauseFromExecutionException(e);
+        }
+    }
+
+    /**
+     * Execute the mutation of all the entities asynchronously.
+     * The returned future completes once all the batches have been executed
+     */
+    public CompletableFuture<Empty> executeAsync() {
+        return executeAsyncWithStats()
+                .thenApply(x -> Empty.INSTANCE);
+    }
+
+    /**
+     * Execute the mutation of all the entities asynchronously
+     * and return the {@link com.datastax.driver.core.ExecutionInfo} of each batch.
+     * The returned future completes once all the batches have been executed
+     */
+    public CompletableFuture<List<ExecutionInfo>> executeAsyncWithStats() {
+        if (instances.isEmpty()) {
+            return CompletableFuture.completedFuture(new ArrayList<>());
+        }
+
+        instances.forEach(instance -> meta.triggerInterceptorsForEvent(preEvent(), instance));
+
+        final Map<List<Object>, List<ENTITY>> groups = groupByPartition();
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Execute %s of %s entities of type %s grouped in %s partitions",
+                    operationType().name(), instances.size(), meta.entityClass.getCanonicalName(), groups.size()));
+        }
+
+        final List<List<ENTITY>> chunks = new ArrayList<>();
+        for (List<ENTITY> group : groups.values()) {
+            for (int from = 0; from < group.size(); from += maxBatchSize) {
+                chunks.add(group.subList(from, Math.min(from + maxBatchSize, group.size())));
+            }
+        }
+
+        return new ChunksExecution(chunks).start();
+    }
+
+    private Map<List<Object>, List<ENTITY>> groupByPartition() {
+        final Optional<CassandraOptions> cassandraOptions = Optional.of(options);
+        final Map<List<Object>, List<ENTITY>> groups = new LinkedHashMap<>();
+        for (ENTITY instance : instances) {
+            final List<Object> partitionKey = new ArrayList<>(meta.partitionKeys.size());
+            meta.partitionKeys.forEach(x -> partitionKey.add(x.encodeField(instance, cassandraOptions)));
+            groups.computeIfAbsent(partitionKey, key -> new ArrayList<>()).add(instance);
+        }
+        return groups;
+    }
+
+    private CompletableFuture<ExecutionInfo> executeChunk(List<ENTITY> chunk) {
+        final List<CompletableFuture<StatementWrapper>> statementWrappers = new ArrayList<>(chunk.size());
+        chunk.forEach(instance -> statementWrappers.add(getStatementWrapperAsync(instance)));
+        return CompletableFuture.allOf(statementWrappers.toArray(new CompletableFuture<?>[statementWrappers.size()]))
+                .thenCompose(x -> executeChunk(chunk, statementWrappers));
+    }
+
+    private CompletableFuture<ExecutionInfo> executeChunk(List<ENTITY> chunk, List<CompletableFuture<StatementWrapper>> statementWrappers) {
+        final CompletableFuture<ResultSet> cfutureRS;
+        if (chunk.size() == 1) {
+            final StatementWrapper statementWrapper = statementWrappers.get(0).join();
+            cfutureRS = rte.execute(statementWrapper);
+        } else {
+            final BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
+            for (CompletableFuture<StatementWrapper> futureStatementWrapper : statementWrappers) {
+                final StatementWrapper statementWrapper = futureStatementWrapper.join();
+                statementWrapper.logDML();
+                batch.add(statementWrapper.getBoundStatement());
+            }
+            options.applyOptions(operationType(), meta, batch);
+            cfutureRS = rte.execute(batch, meta.entityClass, operationType());
+        }
+
+        return cfutureRS
+                .whenComplete((rs, throwable) -> chunk.forEach(instance ->
+                        rte.invalidateEntityCache(meta, () -> EntityCacheKey.forInstance(meta, instance, options))))
+                .thenApply(options::resultSetAsyncListener)
+                .thenApply(x -> x.getExecutionInfo())
+                .thenApply(x -> {
+                    chunk.forEach(instance -> meta.triggerInterceptorsForEvent(postEvent(), instance));
+                    return x;
+                });
+    }
+
+    /**
+     * Send the chunks with at most <em>maxConcurrentBatches</em> of them executing at any time.
+     * <br/>
+     * The <em>wip</em> counter makes {@link #drain()} re-entrancy safe: a chunk completing
+     * synchronously only records that another pass is needed instead of recursing
+     */
+    private class ChunksExecution {
+        private final List<List<ENTITY>> chunks;
+        private final ExecutionInfo[] executionInfos;
+        private final CompletableFuture<List<ExecutionInfo>> result = new CompletableFuture<>();
+        private final AtomicInteger wip = new AtomicInteger(0);
+        private final AtomicInteger inFlight = new AtomicInteger(0);
+        private final AtomicInteger remaining;
+        private int nextChunk = 0;
+
+        private ChunksExecution(List<List<ENTITY>> chunks) {
+            this.chunks = chunks;
+            this.executionInfos = new ExecutionInfo[chunks.size()];
+            this.remaining = new AtomicInteger(chunks.size());
+        }
+
+        private CompletableFuture<List<ExecutionInfo>> start() {
+            drain();
+            return result;
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            do {
+                while (!result.isDone() && nextChunk < chunks.size() && inFlight.get() < maxConcurrentBatches) {
+                    inFlight.incrementAndGet();
+                    final int index = nextChunk++;
+                    executeChunkSafely(chunks.get(index)).whenComplete((executionInfo, throwable) -> {
+                        inFlight.decrementAndGet();
+                        if (throwable != null) {
+                            result.completeExceptionally(throwable);
+                        } else {
+                            executionInfos[index] = executionInfo;
+                            if (remaining.decrementAndGet() == 0) {
+                                result.complete(Arrays.asList(executionInfos));
+                            }
+                        }
+                        rte.executeFollowUp(this::drain);
+                    });
+                }
+            } while (wip.decrementAndGet() != 0);
+        }
+
+        private CompletableFuture<ExecutionInfo> executeChunkSafely(List<ENTITY> chunk) {
+            try {
+                return executeChunk(chunk);
+            } catch (RuntimeException e) {
+                final CompletableFuture<ExecutionInfo> failed = new CompletableFuture<>();
+                failed.completeExceptionally(e);
+                return failed;
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.internals.dsl.crud;
+
+import static info.archinnov.achilles.type.interceptor.Event.POST_DELETE;
+import static info.archinnov.achilles.type.interceptor.Event.PRE_DELETE;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.runtime.BeanValueExtractor;
+import info.archinnov.achilles.internals.runtime.RuntimeEngine;
+import info.archinnov.achilles.internals.statements.OperationType;
+import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.type.interceptor.Event;
+import info.archinnov.achilles.type.tuples.Tuple2;
+
+public class DeleteAllWithOptions<ENTITY> extends AbstractBatchWithOptions<ENTITY, DeleteAllWithOptions<ENTITY>> {
+
+    public DeleteAllWithOptions(AbstractEntityProperty<ENTITY> meta, RuntimeEngine rte, List<ENTITY> instances, Optional<CassandraOptions> cassandraOptions) {
+        super(meta, rte, instances, cassandraOptions);
+    }
+
+    @Override
+    protected OperationType operationType() {
+        return OperationType.DELETE;
+    }
+
+    @Override
+    protected Event preEvent() {
+        return PRE_DELETE;
+    }
+
+    @Override
+    protected Event postEvent() {
+        return POST_DELETE;
+    }
+
+    @Override
+    protected CompletableFuture<StatementWrapper> getStatementWrapperAsync(ENTITY instance) {
+        final Optional<CassandraOptions> cassandraOptions = Optional.of(options);
+        final Tuple2<Object[], Object[]> primaryKeys = BeanValueExtractor.extractPrimaryKeyValues(instance, meta, cassandraOptions);
+        return new DeleteWithOptions<>(meta.entityClass, meta, rte, primaryKeys._1(), primaryKeys._2(), Optional.of(instance), cassandraOptions)
+                .getInternalBoundStatementWrapperAsync();
+    }
+
+    @Override
+    protected DeleteAllWithOptions<ENTITY> getThis() {
+        return this;
+    }
+}
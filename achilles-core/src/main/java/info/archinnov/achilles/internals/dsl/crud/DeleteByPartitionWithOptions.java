@@ -33,7 +33,6 @@ import com.datastax.driver.core.ExecutionInfo;
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
 
-import info.archinnov.achilles.internals.cache.CacheKey;
 import info.archinnov.achilles.internals.dsl.StatementProvider;
 import info.archinnov.achilles.internals.dsl.action.MutationAction;
 import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForUpdateOrDelete;
@@ -68,21 +67,22 @@ public class DeleteByPartitionWithOptions<ENTITY> extends AbstractOptionsForUpda
     @Override
     public CompletableFuture<ExecutionInfo> executeAsyncWithStats() {
 
-        StatementWrapper statementWrapper = getInternalBoundStatementWrapper();
-        final String queryString = statementWrapper.getBoundStatement().preparedStatement().getQueryString();
+        return getInternalBoundStatementWrapperAsync().thenCompose(statementWrapper -> {
+            final String queryString = statementWrapper.getBoundStatement().preparedStatement().getQueryString();
 
-        if (LOGGER.isTraceEnabled()) {
-            LOGGER.trace(format("Execute delete async with execution info : %s", queryString));
-        }
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.trace(format("Execute delete async with execution info : %s", queryString));
+            }
 
-        CompletableFuture<ResultSet> cfutureRS = rte.execute(statementWrapper);
-
-        return cfutureRS
-                .thenApply(options::resultSetAsyncListener)
-                .thenApply(statementWrapper::logTrace)
-                .thenApply(x -> triggerLWTListeners(lwtResultListeners, x, queryString))
-                .thenApply(x -> x.getExecutionInfo());
+            CompletableFuture<ResultSet> cfutureRS = rte.execute(statementWrapper);
 
+            return cfutureRS
+                    .whenComplete((rs, throwable) -> rte.invalidateEntityCache(meta))
+                    .thenApply(options::resultSetAsyncListener)
+                    .thenApply(statementWrapper::logTrace)
+                    .thenApply(x -> triggerLWTListeners(lwtResultListeners, x, statementWrapper))
+                    .thenApply(x -> x.getExecutionInfo());
+        });
     }
 
     @Override
@@ -97,7 +97,7 @@ public class DeleteByPartitionWithOptions<ENTITY> extends AbstractOptionsForUpda
 
     @Override
     public String getStatementAsString() {
-        return rte.getStaticCache(new CacheKey(meta.entityClass, DELETE_BY_PARTITION)).getQueryString();
+        return DELETE_BY_PARTITION.getStaticPreparedStatement(rte, meta).getQueryString();
     }
 
     @Override
@@ -116,11 +116,18 @@ public class DeleteByPartitionWithOptions<ENTITY> extends AbstractOptionsForUpda
     }
 
     private StatementWrapper getInternalBoundStatementWrapper() {
+        return wrap(DELETE_BY_PARTITION.getPreparedStatement(rte, meta, options));
+    }
+
+    private CompletableFuture<StatementWrapper> getInternalBoundStatementWrapperAsync() {
+        return DELETE_BY_PARTITION.getPreparedStatementAsync(rte, meta, options).thenApply(this::wrap);
+    }
+
+    private StatementWrapper wrap(PreparedStatement ps) {
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Get bound statement wrapper"));
         }
 
-        PreparedStatement ps = DELETE_BY_PARTITION.getPreparedStatement(rte, meta, options);
         StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.DELETE, meta, ps, partitionKeys, encodedPartitionKeys);
         statementWrapper.applyOptions(options);
         return statementWrapper;
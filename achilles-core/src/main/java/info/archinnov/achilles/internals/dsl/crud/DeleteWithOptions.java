@@ -37,6 +37,7 @@ import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
 
 import info.archinnov.achilles.internals.cache.CacheKey;
+import info.archinnov.achilles.internals.cache.EntityCacheKey;
 import info.archinnov.achilles.internals.dsl.StatementProvider;
 import info.archinnov.achilles.internals.dsl.action.MutationAction;
 import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForUpdateOrDelete;
@@ -46,6 +47,7 @@ import info.archinnov.achilles.internals.runtime.RuntimeEngine;
 import info.archinnov.achilles.internals.statements.BoundStatementWrapper;
 import info.archinnov.achilles.internals.statements.OperationType;
 import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.type.lightweighttransaction.LWTResultListener.LWTResult.LWTOperation;
 
 public class DeleteWithOptions<ENTITY> extends AbstractOptionsForUpdateOrDelete<DeleteWithOptions<ENTITY>>
         implements MutationAction, StatementProvider {
@@ -84,24 +86,27 @@ public class DeleteWithOptions<ENTITY> extends AbstractOptionsForUpdateOrDelete<
             meta.triggerInterceptorsForEvent(PRE_DELETE, entity);
         }
 
-        final StatementWrapper statementWrapper = getInternalBoundStatementWrapper();
-        final String queryString = statementWrapper.getBoundStatement().preparedStatement().getQueryString();
-
-        if (LOGGER.isTraceEnabled()) {
-            LOGGER.trace(format("Execute delete async with execution info : %s", queryString));
-        }
-
-        CompletableFuture<ResultSet> cfutureRS = rte.execute(statementWrapper);
-
-        return cfutureRS
-                .thenApply(options::resultSetAsyncListener)
-                .thenApply(statementWrapper::logTrace)
-                .thenApply(x -> triggerLWTListeners(lwtResultListeners, x, queryString))
-                .thenApply(x -> x.getExecutionInfo())
-                .thenApply(x -> {
-                    if (this.instance.isPresent()) meta.triggerInterceptorsForEvent(POST_DELETE, instance.get());
-                    return x;
-                });
+        return getInternalBoundStatementWrapperAsync().thenCompose(statementWrapper -> {
+            final String queryString = statementWrapper.getBoundStatement().preparedStatement().getQueryString();
+
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.trace(format("Execute delete async with execution info : %s", queryString));
+            }
+
+            CompletableFuture<ResultSet> cfutureRS = rte.execute(statementWrapper);
+
+            return cfutureRS
+                    .whenComplete((rs, throwable) -> rte.invalidateEntityCache(meta,
+                            () -> EntityCacheKey.forPrimaryKey(meta, options.getSchemaNameProvider(), encodedPrimaryKeyValues)))
+                    .thenApply(options::resultSetAsyncListener)
+                    .thenApply(statementWrapper::logTrace)
+                    .thenApply(x -> triggerLWTListeners(lwtResultListeners, x, statementWrapper))
+                    .thenApply(x -> x.getExecutionInfo())
+                    .thenApply(x -> {
+                        if (this.instance.isPresent()) meta.triggerInterceptorsForEvent(POST_DELETE, instance.get());
+                        return x;
+                    });
+        });
     }
 
     @Override
@@ -116,7 +121,7 @@ public class DeleteWithOptions<ENTITY> extends AbstractOptionsForUpdateOrDelete<
 
     @Override
     public String getStatementAsString() {
-        return rte.getStaticCache(new CacheKey(entityClass, DELETE)).getQueryString();
+        return DELETE.getStaticPreparedStatement(rte, meta).getQueryString();
     }
 
     @Override
@@ -135,22 +140,32 @@ public class DeleteWithOptions<ENTITY> extends AbstractOptionsForUpdateOrDelete<
     }
 
     private StatementWrapper getInternalBoundStatementWrapper() {
+        return wrap(getInternalOperation().getPreparedStatement(rte, meta, options));
+    }
+
+    CompletableFuture<StatementWrapper> getInternalBoundStatementWrapperAsync() {
+        return getInternalOperation().getPreparedStatementAsync(rte, meta, options).thenApply(this::wrap);
+    }
+
+    private StatementWrapper wrap(PreparedStatement ps) {
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Generate bound statement wrapper"));
         }
 
-        final PreparedStatement ps = getInternalPreparedStatement();
         final BoundStatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.DELETE, meta, ps, primaryKeyValues, encodedPrimaryKeyValues);
+        if (isLWT()) {
+            statementWrapper.withLWTOperation(LWTOperation.UPDATE);
+        }
         statementWrapper.applyOptions(options);
         return statementWrapper;
     }
 
-    private PreparedStatement getInternalPreparedStatement() {
-        if (ifExists.isPresent() && ifExists.get() == true) {
-            return DELETE_IF_EXISTS.getPreparedStatement(rte, meta, options);
-        } else {
-            return DELETE.getPreparedStatement(rte, meta, options);
-        }
+    private boolean isLWT() {
+        return ifExists.isPresent() && ifExists.get() == true;
+    }
+
+    private CacheKey.Operation getInternalOperation() {
+        return isLWT() ? DELETE_IF_EXISTS : DELETE;
     }
 
     public DeleteWithOptions<ENTITY> ifExists(boolean ifExists) {
@@ -0,0 +1,227 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.dsl.crud;
+
+import static java.lang.String.format;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import info.archinnov.achilles.internals.dsl.AsyncAware;
+import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForSelect;
+import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.runtime.RuntimeEngine;
+import info.archinnov.achilles.validation.Validator;
+
+/**
+ * Find a collection of entities by their complete primary key.
+ * <br/>
+ * Each distinct primary key is fetched with its own token-aware <strong>SELECT</strong>,
+ * at most <em>maxConcurrentRequests</em> of them being executed concurrently.
+ * Entities are returned in the order of the provided primary keys, primary keys
+ * without matching entity are skipped
+ */
+public class FindByIdsWithOptions<ENTITY, ID> extends AbstractOptionsForSelect<FindByIdsWithOptions<ENTITY, ID>>
+        implements AsyncAware {
+
+    public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 32;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FindByIdsWithOptions.class);
+
+    private final AbstractEntityProperty<ENTITY> meta;
+    private final RuntimeEngine rte;
+    private final List<ID> ids;
+    private final List<Object[]> primaryKeyValues;
+    private final List<Object[]> encodedPrimaryKeyValues;
+    private final CassandraOptions options;
+    private int maxConcurrentRequests = DEFAULT_MAX_CONCURRENT_REQUESTS;
+
+    public FindByIdsWithOptions(AbstractEntityProperty<ENTITY> meta, RuntimeEngine rte, List<ID> ids,
+                                List<Object[]> primaryKeyValues, List<Object[]> encodedPrimaryKeyValues,
+                                Optional<CassandraOptions> cassandraOptions) {
+        this.meta = meta;
+        this.rte = rte;
+        this.ids = ids;
+        this.primaryKeyValues = primaryKeyValues;
+        this.encodedPrimaryKeyValues = encodedPrimaryKeyValues;
+        this.options = cassandraOptions.orElse(new CassandraOptions());
+    }
+
+    /**
+     * Set the maximum number of <strong>SELECT</strong> executed concurrently.
+     * Default value = {@value #DEFAULT_MAX_CONCURRENT_REQUESTS}
+     */
+    public FindByIdsWithOptions<ENTITY, ID> withMaxConcurrentRequests(int maxConcurrentRequests) {
+        Validator.validateTrue(maxConcurrentRequests > 0, "The max concurrent requests should be strictly positive");
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        return this;
+    }
+
+    /**
+     * @return found entities, in the order of the provided primary keys
+     */
+    public List<ENTITY> get() {
+        try {
+            return Uninterruptibles.getUninterruptibly(getAsync());
+        } catch (ExecutionException e) {
+            throw extractCauseFromExecutionException(e);
+        }
+    }
+
+    /**
+     * @return found entities indexed by primary key, in the order of the provided primary keys
+     */
+    public Map<ID, ENTITY> getAsMap() {
+        try {
+            return Uninterruptibles.getUninterruptibly(getAsMapAsync());
+        } catch (ExecutionException e) {
+            throw extractCauseFromExecutionException(e);
+        }
+    }
+
+    /**
+     * @return future of the found entities, in the order of the provided primary keys
+     */
+    public CompletableFuture<List<ENTITY>> getAsync() {
+        return getAsMapAsync().thenApply(found -> {
+            final List<ENTITY> entities = new ArrayList<>(ids.size());
+            for (ID id : ids) {
+                final ENTITY entity = found.get(id);
+                if (entity != null) {
+                    entities.add(entity);
+                }
+            }
+            return entities;
+        });
+    }
+
+    /**
+     * @return future of the found entities indexed by primary key, in the order of the provided primary keys
+     */
+    public CompletableFuture<Map<ID, ENTITY>> getAsMapAsync() {
+        final List<Integer> distinctIndexes = new ArrayList<>(ids.size());
+        final Set<ID> distinctIds = new HashSet<>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (distinctIds.add(ids.get(i))) {
+                distinctIndexes.add(i);
+            }
+        }
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Find %s entities of type %s by primary keys with max %s concurrent requests",
+                    distinctIndexes.size(), meta.entityClass.getCanonicalName(), maxConcurrentRequests));
+        }
+
+        return new FindExecution(distinctIndexes).start().thenApply(found -> {
+            final Map<ID, ENTITY> result = new LinkedHashMap<>();
+            for (ID id : ids) {
+                final ENTITY entity = found.get(id);
+                if (entity != null) {
+                    result.put(id, entity);
+                }
+            }
+            return result;
+        });
+    }
+
+    @Override
+    protected CassandraOptions getOptions() {
+        return options;
+    }
+
+    @Override
+    protected FindByIdsWithOptions<ENTITY, ID> getThis() {
+        return this;
+    }
+
+    /**
+     * Keep at most <em>maxConcurrentRequests</em> <strong>SELECT</strong> in flight, starting the next one
+     * from the completion of a previous one. Requests completing synchronously (entity cache hits)
+     * are started by the loop of <em>drain()</em> instead of a recursive call, so that the stack
+     * depth does not grow with the number of primary keys
+     */
+    private class FindExecution {
+        private final List<Integer> indexes;
+        private final Map<ID, ENTITY> found = new ConcurrentHashMap<>();
+        private final CompletableFuture<Map<ID, ENTITY>> result = new CompletableFuture<>();
+        private final AtomicInteger wip = new AtomicInteger(0);
+        private final AtomicInteger inFlight = new AtomicInteger(0);
+        private final AtomicInteger remaining;
+        private int nextIndex = 0;
+
+        private FindExecution(List<Integer> indexes) {
+            this.indexes = indexes;
+            this.remaining = new AtomicInteger(indexes.size());
+        }
+
+        private CompletableFuture<Map<ID, ENTITY>> start() {
+            if (indexes.isEmpty()) {
+                result.complete(found);
+            } else {
+                drain();
+            }
+            return result;
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            do {
+                while (!result.isDone() && nextIndex < indexes.size() && inFlight.get() < maxConcurrentRequests) {
+                    inFlight.incrementAndGet();
+                    final int index = indexes.get(nextIndex++);
+                    findSafely(index).whenComplete((entity, throwable) -> {
+                        inFlight.decrementAndGet();
+                        if (throwable != null) {
+                            result.completeExceptionally(throwable);
+                        } else {
+                            if (entity != null) {
+                                found.put(ids.get(index), entity);
+                            }
+                            if (remaining.decrementAndGet() == 0) {
+                                result.complete(found);
+                            }
+                        }
+                        rte.executeFollowUp(this::drain);
+                    });
+                }
+            } while (wip.decrementAndGet() != 0);
+        }
+
+        private CompletableFuture<ENTITY> findSafely(int index) {
+            try {
+                return new FindWithOptions<>(meta.entityClass, meta, rte, primaryKeyValues.get(index),
+                        encodedPrimaryKeyValues.get(index), Optional.of(options))
+                        .getAsync();
+            } catch (RuntimeException e) {
+                final CompletableFuture<ENTITY> failed = new CompletableFuture<>();
+                failed.completeExceptionally(e);
+                return failed;
+            }
+        }
+    }
+}
@@ -31,7 +31,8 @@ import org.slf4j.LoggerFactory;
 import com.datastax.driver.core.*;
 import com.google.common.util.concurrent.Uninterruptibles;
 
-import info.archinnov.achilles.internals.cache.CacheKey;
+import info.archinnov.achilles.internals.cache.EntityCache;
+import info.archinnov.achilles.internals.cache.EntityCacheKey;
 import info.archinnov.achilles.internals.dsl.AsyncAware;
 import info.archinnov.achilles.internals.dsl.StatementProvider;
 import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForSelect;
@@ -55,6 +56,7 @@ public class FindWithOptions<ENTITY> extends AbstractOptionsForSelect<FindWithOp
     private final Object[] primaryKeyValues;
     private final Object[] encodedPrimaryKeyValues;
     private final CassandraOptions options;
+    private boolean useEntityCache = true;
 
     public FindWithOptions(Class<ENTITY> entityClass, AbstractEntityProperty<ENTITY> meta, RuntimeEngine rte,
                            Object[] primaryKeyValues, Object[] encodedPrimaryKeyValues, Optional<CassandraOptions> cassandraOptions) {
@@ -82,32 +84,72 @@ public class FindWithOptions<ENTITY> extends AbstractOptionsForSelect<FindWithOp
         }
     }
 
+    /**
+     * Read the entity from Cassandra even if the entity cache is enabled for this entity.
+     * The row read is still put in the cache.
+     * <br/>
+     * Row async listeners are not called for rows served by the entity cache, use this option
+     * to have them called with the row read from Cassandra
+     */
+    public FindWithOptions<ENTITY> withoutEntityCache() {
+        this.useEntityCache = false;
+        return this;
+    }
+
+    /**
+     * Find the entity, from the entity cache first if it is enabled for this entity.
+     * Row async listeners are only called when the row is read from Cassandra: a cached
+     * off heap row is only valid while it is mapped and must not reach user code
+     */
     public CompletableFuture<ENTITY> getAsync() {
+        final Optional<EntityCache> entityCache = rte.getEntityCache(meta);
+        if (useEntityCache && entityCache.isPresent()) {
+            final Optional<ENTITY> cachedInstance = entityCache.get().mapIfPresent(getEntityCacheKey(), meta::createEntityFrom);
+            if (cachedInstance.isPresent()) {
+                if (LOGGER.isTraceEnabled()) {
+                    LOGGER.trace(format("Find entity %s from entity cache", entityClass.getCanonicalName()));
+                }
+                final ENTITY instance = cachedInstance.get();
+                meta.triggerInterceptorsForEvent(Event.POST_LOAD, instance);
+                return CompletableFuture.completedFuture(instance);
+            }
+        }
         return getAsyncWithStats().thenApply(tuple2 -> tuple2._1());
     }
 
+    /**
+     * Find the entity from Cassandra, bypassing the entity cache
+     * so that the execution info is available
+     */
     public CompletableFuture<Tuple2<ENTITY, ExecutionInfo>> getAsyncWithStats() {
 
-        StatementWrapper statementWrapper = getInternalBoundStatementWrapper();
-        if (LOGGER.isTraceEnabled()) {
-            LOGGER.trace(format("Find async with execution info : %s",
-                    statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
-        }
-        CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
-
-        return futureRS
-                .thenApply(options::resultSetAsyncListener)
-                .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
-                .thenApply(statementWrapper::logTrace)
-                .thenApply(rs -> {
-                    final Row row = rs.one();
-                    options.rowAsyncListener(row);
-                    return Tuple2.of(meta.createEntityFrom(row), rs.getExecutionInfo());
-                })
-                .thenApply(tuple2 -> {
-                    meta.triggerInterceptorsForEvent(Event.POST_LOAD, tuple2._1());
-                    return tuple2;
-                });
+        final Optional<EntityCache> entityCache = rte.getEntityCache(meta);
+        final long cacheGeneration = entityCache.map(EntityCache::generation).orElse(0L);
+
+        return getInternalBoundStatementWrapperAsync().thenCompose(statementWrapper -> {
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.trace(format("Find async with execution info : %s",
+                        statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+            }
+            CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
+
+            return futureRS
+                    .thenApply(options::resultSetAsyncListener)
+                    .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
+                    .thenApply(statementWrapper::logTrace)
+                    .thenApply(rs -> {
+                        final Row row = rs.one();
+                        if (row != null) {
+                            entityCache.ifPresent(cache -> cache.putIfUnchanged(getEntityCacheKey(), row, cacheGeneration));
+                        }
+                        options.rowAsyncListener(row);
+                        return Tuple2.of(meta.createEntityFrom(row), rs.getExecutionInfo());
+                    })
+                    .thenApply(tuple2 -> {
+                        meta.triggerInterceptorsForEvent(Event.POST_LOAD, tuple2._1());
+                        return tuple2;
+                    });
+        });
     }
 
     @Override
@@ -122,7 +164,7 @@ public class FindWithOptions<ENTITY> extends AbstractOptionsForSelect<FindWithOp
 
     @Override
     public String getStatementAsString() {
-        return rte.getStaticCache(new CacheKey(entityClass, FIND)).getQueryString();
+        return FIND.getStaticPreparedStatement(rte, meta).getQueryString();
     }
 
 
@@ -141,12 +183,23 @@ public class FindWithOptions<ENTITY> extends AbstractOptionsForSelect<FindWithOp
         return this;
     }
 
+    private EntityCacheKey getEntityCacheKey() {
+        return EntityCacheKey.forPrimaryKey(meta, options.getSchemaNameProvider(), encodedPrimaryKeyValues);
+    }
+
     private StatementWrapper getInternalBoundStatementWrapper() {
+        return wrap(FIND.getPreparedStatement(rte, meta, options));
+    }
+
+    private CompletableFuture<StatementWrapper> getInternalBoundStatementWrapperAsync() {
+        return FIND.getPreparedStatementAsync(rte, meta, options).thenApply(this::wrap);
+    }
+
+    private StatementWrapper wrap(PreparedStatement ps) {
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Get bound statement wrapper"));
         }
 
-        final PreparedStatement ps = FIND.getPreparedStatement(rte, meta, options);
         StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.SELECT, meta, ps, primaryKeyValues, encodedPrimaryKeyValues);
         statementWrapper.applyOptions(options);
         return statementWrapper;
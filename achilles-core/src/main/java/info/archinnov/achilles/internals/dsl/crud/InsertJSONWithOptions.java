@@ -34,6 +34,7 @@ import com.datastax.driver.core.ExecutionInfo;
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
 
+import info.archinnov.achilles.internals.cache.CacheKey;
 import info.archinnov.achilles.internals.dsl.StatementProvider;
 import info.archinnov.achilles.internals.dsl.action.MutationAction;
 import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForCRUDInsert;
@@ -43,6 +44,7 @@ import info.archinnov.achilles.internals.runtime.RuntimeEngine;
 import info.archinnov.achilles.internals.statements.BoundStatementWrapper;
 import info.archinnov.achilles.internals.statements.OperationType;
 import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.type.lightweighttransaction.LWTResultListener.LWTResult.LWTOperation;
 
 public class InsertJSONWithOptions extends AbstractOptionsForCRUDInsert<InsertJSONWithOptions>
         implements MutationAction, StatementProvider {
@@ -67,20 +69,22 @@ public class InsertJSONWithOptions extends AbstractOptionsForCRUDInsert<InsertJS
 
     public CompletableFuture<ExecutionInfo> executeAsyncWithStats() {
 
-        final StatementWrapper statementWrapper = getInternalBoundStatementWrapper();
-        final String queryString = statementWrapper.getBoundStatement().preparedStatement().getQueryString();
+        return getInternalBoundStatementWrapperAsync().thenCompose(statementWrapper -> {
+            final String queryString = statementWrapper.getBoundStatement().preparedStatement().getQueryString();
 
-        if (LOGGER.isTraceEnabled()) {
-            LOGGER.trace(format("Insert JSON async with execution info : %s", queryString));
-        }
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.trace(format("Insert JSON async with execution info : %s", queryString));
+            }
 
-        CompletableFuture<ResultSet> cfutureRS = rte.execute(statementWrapper);
+            CompletableFuture<ResultSet> cfutureRS = rte.execute(statementWrapper);
 
-        return cfutureRS
-                .thenApply(getOptions()::resultSetAsyncListener)
-                .thenApply(statementWrapper::logTrace)
-                .thenApply(x -> triggerLWTListeners(lwtResultListeners, x, queryString))
-                .thenApply(x -> x.getExecutionInfo());
+            return cfutureRS
+                    .whenComplete((rs, throwable) -> rte.invalidateEntityCache(meta))
+                    .thenApply(getOptions()::resultSetAsyncListener)
+                    .thenApply(statementWrapper::logTrace)
+                    .thenApply(x -> triggerLWTListeners(lwtResultListeners, x, statementWrapper))
+                    .thenApply(x -> x.getExecutionInfo());
+        });
     }
 
     @Override
@@ -96,7 +100,7 @@ public class InsertJSONWithOptions extends AbstractOptionsForCRUDInsert<InsertJS
 
     @Override
     public String getStatementAsString() {
-        return getInternalPreparedStatement().getQueryString();
+        return getInternalOperation().getPreparedStatement(rte, meta, getOptions()).getQueryString();
     }
 
     @Override
@@ -115,24 +119,34 @@ public class InsertJSONWithOptions extends AbstractOptionsForCRUDInsert<InsertJS
     }
 
     private StatementWrapper getInternalBoundStatementWrapper() {
+        return wrap(getInternalOperation().getPreparedStatement(rte, meta, getOptions()));
+    }
+
+    private CompletableFuture<StatementWrapper> getInternalBoundStatementWrapperAsync() {
+        return getInternalOperation().getPreparedStatementAsync(rte, meta, getOptions()).thenApply(this::wrap);
+    }
+
+    private StatementWrapper wrap(PreparedStatement ps) {
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Get bound statement wrapper"));
         }
 
-        final PreparedStatement ps = getInternalPreparedStatement();
         final BoundStatement bs = ps.bind(json);
 
         StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.INSERT, meta, bs, encodedBoundValues);
+        if (isLWT()) {
+            statementWrapper.withLWTOperation(LWTOperation.INSERT);
+        }
         statementWrapper.applyOptions(getOptions());
         return statementWrapper;
     }
 
-    private PreparedStatement getInternalPreparedStatement() {
-        if (ifNotExists.isPresent() && ifNotExists.get() == true) {
-            return INSERT_IF_NOT_EXISTS_JSON.getPreparedStatement(rte, meta, getOptions());
-        } else {
-            return INSERT_JSON.getPreparedStatement(rte, meta, getOptions());
-        }
+    private boolean isLWT() {
+        return ifNotExists.isPresent() && ifNotExists.get() == true;
+    }
+
+    private CacheKey.Operation getInternalOperation() {
+        return isLWT() ? INSERT_IF_NOT_EXISTS_JSON : INSERT_JSON;
     }
 
 
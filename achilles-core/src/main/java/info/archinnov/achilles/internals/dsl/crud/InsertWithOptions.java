@@ -21,7 +21,6 @@ import static info.archinnov.achilles.internals.dsl.LWTHelper.triggerLWTListener
 import static info.archinnov.achilles.type.interceptor.Event.POST_INSERT;
 import static info.archinnov.achilles.type.interceptor.Event.PRE_INSERT;
 import static java.lang.String.format;
-import static java.util.stream.Collectors.toList;
 
 import java.util.List;
 import java.util.Optional;
@@ -35,6 +34,9 @@ import com.datastax.driver.core.ExecutionInfo;
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
 
+import info.archinnov.achilles.internals.cache.CacheKey;
+import info.archinnov.achilles.internals.cache.EntityCacheKey;
+import info.archinnov.achilles.internals.cache.StatementShape;
 import info.archinnov.achilles.internals.dsl.StatementProvider;
 import info.archinnov.achilles.internals.dsl.action.MutationAction;
 import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForCRUDInsert;
@@ -42,7 +44,10 @@ import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.runtime.RuntimeEngine;
 import info.archinnov.achilles.internals.statements.BoundValuesWrapper;
+import info.archinnov.achilles.internals.statements.PreparedStatementGenerator;
 import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.type.lightweighttransaction.LWTResultListener.LWTResult.LWTOperation;
+import info.archinnov.achilles.type.strategy.InsertStrategy;
 
 public class InsertWithOptions<ENTITY> extends AbstractOptionsForCRUDInsert<InsertWithOptions<ENTITY>>
         implements MutationAction, StatementProvider {
@@ -68,24 +73,34 @@ public class InsertWithOptions<ENTITY> extends AbstractOptionsForCRUDInsert<Inse
         meta.triggerInterceptorsForEvent(PRE_INSERT, instance);
 
 
-        final StatementWrapper statementWrapper = getInternalBoundStatementWrapper();
-        final String queryString = statementWrapper.getBoundStatement().preparedStatement().getQueryString();
+        return getInternalBoundStatementWrapperAsync().thenCompose(statementWrapper -> {
+            final String queryString = statementWrapper.getBoundStatement().preparedStatement().getQueryString();
 
-        if (LOGGER.isTraceEnabled()) {
-            LOGGER.trace(format("Insert async with execution info : %s", queryString));
-        }
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.trace(format("Insert async with execution info : %s", queryString));
+            }
 
-        CompletableFuture<ResultSet> cfutureRS = rte.execute(statementWrapper);
+            CompletableFuture<ResultSet> cfutureRS = rte.execute(statementWrapper);
+
+            return cfutureRS
+                    .whenComplete((rs, throwable) -> invalidateEntityCache())
+                    .thenApply(this.options::resultSetAsyncListener)
+                    .thenApply(statementWrapper::logTrace)
+                    .thenApply(x -> triggerLWTListeners(lwtResultListeners, x, statementWrapper))
+                    .thenApply(x -> x.getExecutionInfo())
+                    .thenApply(x -> {
+                        meta.triggerInterceptorsForEvent(POST_INSERT, instance);
+                        return x;
+                    });
+        });
+    }
 
-        return cfutureRS
-                .thenApply(this.options::resultSetAsyncListener)
-                .thenApply(statementWrapper::logTrace)
-                .thenApply(x -> triggerLWTListeners(lwtResultListeners, x, queryString))
-                .thenApply(x -> x.getExecutionInfo())
-                .thenApply(x -> {
-                    meta.triggerInterceptorsForEvent(POST_INSERT, instance);
-                    return x;
-                });
+    private void invalidateEntityCache() {
+        if (insertStatic) {
+            rte.invalidateEntityCache(meta);
+        } else {
+            rte.invalidateEntityCache(meta, () -> EntityCacheKey.forInstance(meta, instance, options));
+        }
     }
 
     @Override
@@ -101,23 +116,17 @@ public class InsertWithOptions<ENTITY> extends AbstractOptionsForCRUDInsert<Inse
 
     @Override
     public String getStatementAsString() {
-        return getInternalPreparedStatement().getQueryString();
+        return getInternalPreparedStatement(extractValues(), getOverridenStrategy(meta)).getQueryString();
     }
 
     @Override
     public List<Object> getBoundValues() {
-        BoundValuesWrapper wrapper = insertStatic == true
-                ? meta.extractPartitionKeysAndStaticColumnsFromEntity(instance, options)
-                : meta.extractAllValuesFromEntity(instance, options);
-        return wrapper.boundValuesInfo.stream().map(x -> x.boundValue).collect(toList());
+        return extractValues().getBoundValues();
     }
 
     @Override
     public List<Object> getEncodedBoundValues() {
-        BoundValuesWrapper wrapper = insertStatic == true
-                ? meta.extractPartitionKeysAndStaticColumnsFromEntity(instance, options)
-                : meta.extractAllValuesFromEntity(instance, options);
-        return wrapper.boundValuesInfo.stream().map(x -> x.encodedValue).collect(toList());
+        return extractValues().getEncodedValues();
     }
 
     @Override
@@ -126,29 +135,67 @@ public class InsertWithOptions<ENTITY> extends AbstractOptionsForCRUDInsert<Inse
     }
 
     private StatementWrapper getInternalBoundStatementWrapper() {
+        final InsertStrategy insertStrategy = getOverridenStrategy(meta);
+        final BoundValuesWrapper wrapper = extractValues();
+        return wrap(wrapper, insertStrategy, getInternalPreparedStatement(wrapper, insertStrategy));
+    }
+
+    CompletableFuture<StatementWrapper> getInternalBoundStatementWrapperAsync() {
+        final InsertStrategy insertStrategy = getOverridenStrategy(meta);
+        final BoundValuesWrapper wrapper = extractValues();
+        return getInternalPreparedStatementAsync(wrapper, insertStrategy)
+                .thenApply(ps -> wrap(wrapper, insertStrategy, ps));
+    }
+
+    private StatementWrapper wrap(BoundValuesWrapper wrapper, InsertStrategy insertStrategy, PreparedStatement ps) {
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Get bound statement wrapper"));
         }
 
-        final PreparedStatement ps = getInternalPreparedStatement();
-        BoundValuesWrapper wrapper = insertStatic == true
+        StatementWrapper statementWrapper = wrapper.bindWithInsertStrategy(ps, insertStrategy);
+        if (isLWT()) {
+            statementWrapper.withLWTOperation(LWTOperation.INSERT);
+        }
+        statementWrapper.applyOptions(options);
+        return statementWrapper;
+    }
+
+    private BoundValuesWrapper extractValues() {
+        return insertStatic == true
                 ? meta.extractPartitionKeysAndStaticColumnsFromEntity(instance, options)
                 : meta.extractAllValuesFromEntity(instance, options);
+    }
 
-        StatementWrapper statementWrapper = wrapper.bindWithInsertStrategy(ps, getOverridenStrategy(meta));
-        statementWrapper.applyOptions(options);
-        return statementWrapper;
+    private boolean isLWT() {
+        return ifNotExists.isPresent() && ifNotExists.get() == true;
+    }
+
+    private PreparedStatement getInternalPreparedStatement(BoundValuesWrapper wrapper, InsertStrategy insertStrategy) {
+        if (insertStrategy == InsertStrategy.NOT_NULL_FIELDS) {
+            return getNonNullPreparedStatement(wrapper);
+        }
+        return getInternalOperation().getPreparedStatement(rte, meta, options);
+    }
+
+    private CompletableFuture<PreparedStatement> getInternalPreparedStatementAsync(BoundValuesWrapper wrapper, InsertStrategy insertStrategy) {
+        if (insertStrategy == InsertStrategy.NOT_NULL_FIELDS) {
+            return CompletableFuture.completedFuture(getNonNullPreparedStatement(wrapper));
+        }
+        return getInternalOperation().getPreparedStatementAsync(rte, meta, options);
+    }
+
+    private PreparedStatement getNonNullPreparedStatement(BoundValuesWrapper wrapper) {
+        final boolean lwt = isLWT();
+        final StatementShape shape = PreparedStatementGenerator.nonNullValuesShape("ENTITY_INSERT", meta, wrapper, options, insertStatic, lwt);
+        return rte.prepareDynamicQuery(shape,
+                () -> PreparedStatementGenerator.generateInsertNonNull(meta, wrapper, options.getSchemaNameProvider(), lwt));
     }
 
-    private PreparedStatement getInternalPreparedStatement() {
-        if (ifNotExists.isPresent() && ifNotExists.get() == true) {
-            return insertStatic == true
-                    ? INSERT_STATIC_IF_NOT_EXISTS.getPreparedStatement(rte, meta, options)
-                    : INSERT_IF_NOT_EXISTS.getPreparedStatement(rte, meta, options);
+    private CacheKey.Operation getInternalOperation() {
+        if (isLWT()) {
+            return insertStatic == true ? INSERT_STATIC_IF_NOT_EXISTS : INSERT_IF_NOT_EXISTS;
         } else {
-            return insertStatic == true
-                    ? INSERT_STATIC.getPreparedStatement(rte, meta, options)
-                    : INSERT.getPreparedStatement(rte, meta, options);
+            return insertStatic == true ? INSERT_STATIC : INSERT;
         }
     }
 
@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.internals.dsl.crud;
+
+import static info.archinnov.achilles.type.interceptor.Event.POST_UPDATE;
+import static info.archinnov.achilles.type.interceptor.Event.PRE_UPDATE;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.runtime.RuntimeEngine;
+import info.archinnov.achilles.internals.statements.OperationType;
+import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.type.interceptor.Event;
+
+public class UpdateAllWithOptions<ENTITY> extends AbstractBatchWithOptions<ENTITY, UpdateAllWithOptions<ENTITY>> {
+
+    public UpdateAllWithOptions(AbstractEntityProperty<ENTITY> meta, RuntimeEngine rte, List<ENTITY> instances, Optional<CassandraOptions> cassandraOptions) {
+        super(meta, rte, instances, cassandraOptions);
+    }
+
+    /**
+     * Generate a <strong>USING TTL ?</strong>
+     */
+    public UpdateAllWithOptions<ENTITY> usingTimeToLive(int timeToLive) {
+        getOptions().setTimeToLive(Optional.of(timeToLive));
+        return this;
+    }
+
+    @Override
+    protected OperationType operationType() {
+        return OperationType.UPDATE;
+    }
+
+    @Override
+    protected Event preEvent() {
+        return PRE_UPDATE;
+    }
+
+    @Override
+    protected Event postEvent() {
+        return POST_UPDATE;
+    }
+
+    @Override
+    protected CompletableFuture<StatementWrapper> getStatementWrapperAsync(ENTITY instance) {
+        return CompletableFuture.completedFuture(new UpdateWithOptions<>(meta, rte, instance, false, Optional.of(options))
+                .getInternalBoundStatementWrapper());
+    }
+
+    @Override
+    protected UpdateAllWithOptions<ENTITY> getThis() {
+        return this;
+    }
+}
@@ -20,7 +20,6 @@ import static info.archinnov.achilles.internals.dsl.LWTHelper.triggerLWTListener
 import static info.archinnov.achilles.type.interceptor.Event.POST_UPDATE;
 import static info.archinnov.achilles.type.interceptor.Event.PRE_UPDATE;
 import static java.lang.String.format;
-import static java.util.stream.Collectors.toList;
 
 import java.util.List;
 import java.util.Optional;
@@ -34,6 +33,8 @@ import com.datastax.driver.core.ExecutionInfo;
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
 
+import info.archinnov.achilles.internals.cache.EntityCacheKey;
+import info.archinnov.achilles.internals.cache.StatementShape;
 import info.archinnov.achilles.internals.dsl.StatementProvider;
 import info.archinnov.achilles.internals.dsl.action.MutationAction;
 import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForCRUDUpdate;
@@ -43,6 +44,7 @@ import info.archinnov.achilles.internals.runtime.RuntimeEngine;
 import info.archinnov.achilles.internals.statements.BoundValuesWrapper;
 import info.archinnov.achilles.internals.statements.PreparedStatementGenerator;
 import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.type.lightweighttransaction.LWTResultListener.LWTResult.LWTOperation;
 
 public class UpdateWithOptions<ENTITY> extends AbstractOptionsForCRUDUpdate<UpdateWithOptions<ENTITY>>
         implements MutationAction, StatementProvider {
@@ -78,9 +80,10 @@ public class UpdateWithOptions<ENTITY> extends AbstractOptionsForCRUDUpdate<Upda
         CompletableFuture<ResultSet> cfutureRS = rte.execute(statementWrapper);
 
         return cfutureRS
+                .whenComplete((rs, throwable) -> invalidateEntityCache())
                 .thenApply(this.options::resultSetAsyncListener)
                 .thenApply(statementWrapper::logTrace)
-                .thenApply(x -> triggerLWTListeners(lwtResultListeners, x, queryString))
+                .thenApply(x -> triggerLWTListeners(lwtResultListeners, x, statementWrapper))
                 .thenApply(x -> x.getExecutionInfo())
                 .thenApply(x -> {
                     meta.triggerInterceptorsForEvent(POST_UPDATE, instance);
@@ -88,6 +91,14 @@ public class UpdateWithOptions<ENTITY> extends AbstractOptionsForCRUDUpdate<Upda
                 });
     }
 
+    private void invalidateEntityCache() {
+        if (updateStatic) {
+            rte.invalidateEntityCache(meta);
+        } else {
+            rte.invalidateEntityCache(meta, () -> EntityCacheKey.forInstance(meta, instance, options));
+        }
+    }
+
     @Override
     protected CassandraOptions getOptions() {
         return options;
@@ -101,23 +112,17 @@ public class UpdateWithOptions<ENTITY> extends AbstractOptionsForCRUDUpdate<Upda
 
     @Override
     public String getStatementAsString() {
-        return getInternalPreparedStatement().getQueryString();
+        return getInternalPreparedStatement(extractValues()).getQueryString();
     }
 
     @Override
     public List<Object> getBoundValues() {
-        BoundValuesWrapper wrapper = updateStatic == true
-                ? meta.extractPartitionKeysAndStaticColumnsFromEntity(instance, options)
-                : meta.extractAllValuesFromEntity(instance, options);
-        return wrapper.boundValuesInfo.stream().map(x -> x.boundValue).collect(toList());
+        return extractValues().getBoundValues();
     }
 
     @Override
     public List<Object> getEncodedBoundValues() {
-        BoundValuesWrapper wrapper = updateStatic == true
-                ? meta.extractPartitionKeysAndStaticColumnsFromEntity(instance, options)
-                : meta.extractAllValuesFromEntity(instance, options);
-        return wrapper.boundValuesInfo.stream().map(x -> x.encodedValue).collect(toList());
+        return extractValues().getEncodedValues();
     }
 
     @Override
@@ -125,24 +130,37 @@ public class UpdateWithOptions<ENTITY> extends AbstractOptionsForCRUDUpdate<Upda
         return this;
     }
 
-    private StatementWrapper getInternalBoundStatementWrapper() {
+    StatementWrapper getInternalBoundStatementWrapper() {
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Get bound statement wrapper"));
         }
 
-        final PreparedStatement ps = getInternalPreparedStatement();
-        BoundValuesWrapper wrapper = updateStatic == true
-                ? meta.extractPartitionKeysAndStaticColumnsFromEntity(instance, options)
-                : meta.extractAllValuesFromEntity(instance, options);
+        final BoundValuesWrapper wrapper = extractValues();
+        final PreparedStatement ps = getInternalPreparedStatement(wrapper);
 
         StatementWrapper statementWrapper = wrapper.bindForUpdate(ps);
+        if (isLWT()) {
+            statementWrapper.withLWTOperation(LWTOperation.UPDATE);
+        }
         statementWrapper.applyOptions(options);
         return statementWrapper;
     }
 
-    private PreparedStatement getInternalPreparedStatement() {
-        return rte.prepareDynamicQuery(PreparedStatementGenerator.generateUpdate(instance, meta, options, updateStatic,
-                (ifExists.isPresent() && ifExists.get() == true)));
+    private BoundValuesWrapper extractValues() {
+        return updateStatic == true
+                ? meta.extractPartitionKeysAndStaticColumnsFromEntity(instance, options)
+                : meta.extractAllValuesFromEntity(instance, options);
+    }
+
+    private boolean isLWT() {
+        return ifExists.isPresent() && ifExists.get() == true;
+    }
+
+    private PreparedStatement getInternalPreparedStatement(BoundValuesWrapper wrapper) {
+        final boolean lwt = isLWT();
+        final StatementShape shape = PreparedStatementGenerator.nonNullValuesShape("ENTITY_UPDATE", meta, wrapper, options, updateStatic, lwt);
+        return rte.prepareDynamicQuery(shape,
+                () -> PreparedStatementGenerator.generateUpdate(meta, wrapper, options, updateStatic, lwt));
     }
 
 
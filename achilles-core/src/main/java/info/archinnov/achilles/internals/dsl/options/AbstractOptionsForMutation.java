@@ -0,0 +1,204 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.dsl.options;
+
+import static java.util.Arrays.asList;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import com.datastax.driver.core.ConsistencyLevel;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.policies.RetryPolicy;
+
+import info.archinnov.achilles.internals.options.CassandraOptions;
+
+/**
+ * Options of the mutations sent as batches, e.g. <strong>insertAll()</strong>, <strong>updateAll()</strong>
+ * and <strong>deleteAll()</strong>. Unlike {@link AbstractOptionsForSelect}, it does not expose
+ * the options only meaningful for reads (fetch size, paging state, row listeners ...)
+ */
+public abstract class AbstractOptionsForMutation<T extends AbstractOptionsForMutation<T>> {
+
+    protected abstract T getThis();
+
+    protected abstract CassandraOptions getOptions();
+
+    /**
+     * Set the given consistency level on the generated statement
+     * @throws NullPointerException if consistencyLevel is null
+     */
+    public T withConsistencyLevel(ConsistencyLevel consistencyLevel) {
+        getOptions().setCl(Optional.of(consistencyLevel));
+        return getThis();
+    }
+
+    /**
+     * Set the given consistency level on the generated statement IF NOT NULL
+     */
+    public T withOptionalConsistencyLevel(Optional<ConsistencyLevel> consistencyLevel) {
+        getOptions().setCl(consistencyLevel);
+        return getThis();
+    }
+
+    /**
+     * Set the given serial consistency level on the generated statement
+     * @throws NullPointerException if serialConsistencyLevel is null
+     */
+    public T withSerialConsistencyLevel(ConsistencyLevel serialConsistencyLevel) {
+        getOptions().setSerialCL(Optional.of(serialConsistencyLevel));
+        return getThis();
+    }
+
+    /**
+     * Set the given serial consistency level on the generated statement IF NOT NULL
+     */
+    public T withOptionalSerialConsistencyLevel(Optional<ConsistencyLevel> serialConsistencyLevel) {
+        getOptions().setSerialCL(serialConsistencyLevel);
+        return getThis();
+    }
+
+    /**
+     * Hint the current statement as idempotent. Useful for retry strategy
+     */
+    public T isIdempotent() {
+        getOptions().setIdempotent(Optional.of(true));
+        return getThis();
+    }
+
+    /**
+     * Give a hint whether the current statement is idempotent. Useful for retry strategy
+     */
+    public T isIdempotent(boolean idempotent) {
+        getOptions().setIdempotent(Optional.of(idempotent));
+        return getThis();
+    }
+
+    /**
+     * Set the given outgoing payload map on the generated statement
+     * @throws NullPointerException if outgoingPayload is null
+     */
+    public T withOutgoingPayload(Map<String, ByteBuffer> outgoingPayload) {
+        getOptions().setOutgoingPayLoad(Optional.of(outgoingPayload));
+        return getThis();
+    }
+
+    /**
+     * Set the given outgoing payload map on the generated statement IF NOT NULL
+     */
+    public T withOptionalOutgoingPayload(Optional<Map<String, ByteBuffer>> outgoingPayload) {
+        getOptions().setOutgoingPayLoad(outgoingPayload);
+        return getThis();
+    }
+
+    /**
+     * Set the given retry policy
+     * @throws NullPointerException if value is null
+     */
+    public T withRetryPolicy(RetryPolicy retryPolicy) {
+        getOptions().setRetryPolicy(Optional.of(retryPolicy));
+        return getThis();
+    }
+
+    /**
+     * Set the given retry policy
+     */
+    public T withOptionalRetryPolicy(Optional<RetryPolicy> retryPolicy) {
+        getOptions().setRetryPolicy(retryPolicy);
+        return getThis();
+    }
+
+    /**
+     * Add the given list of async listeners on the {@link com.datastax.driver.core.ResultSet} object.
+     * Example of usage:
+     * <pre class="code"><code class="java">
+
+     * .withResultSetAsyncListeners(Arrays.asList(resultSet -> {
+     * //Do something with the resultSet object here
+     * }))
+
+     * </code></pre>
+
+     * Remark: <strong>it is not allowed to consume the ResultSet values. It is strongly advised to read only meta data</strong>
+     */
+    public T withResultSetAsyncListeners(List<Function<ResultSet, ResultSet>> resultSetAsyncListeners) {
+        getOptions().setResultSetAsyncListeners(Optional.of(resultSetAsyncListeners));
+        return getThis();
+    }
+
+    /**
+     * Add the given async listener on the {@link com.datastax.driver.core.ResultSet} object.
+     * Example of usage:
+     * <pre class="code"><code class="java">
+
+     * .withResultSetAsyncListener(resultSet -> {
+     * //Do something with the resultSet object here
+     * })
+
+     * </code></pre>
+
+     * Remark: <strong>it is not allowed to consume the ResultSet values. It is strongly advised to read only meta data</strong>
+     */
+    public T withResultSetAsyncListener(Function<ResultSet, ResultSet> resultSetAsyncListener) {
+        getOptions().setResultSetAsyncListeners(Optional.of(asList(resultSetAsyncListener)));
+        return getThis();
+    }
+
+    /**
+     * Enable query tracing.
+     * Please configure the logger <strong>ACHILLES_DML_STATEMENT</strong> at <strong>TRACE</strong>
+     * level to see tracing results. Alternatively you can configure a single entity logger to restrict
+     * tracing display only to this entity
+     */
+    public T withTracing(boolean tracing) {
+        getOptions().setTracing(Optional.of(tracing));
+        return getThis();
+    }
+
+    /**
+     * Enable query tracing.
+     * Please configure the logger <strong>ACHILLES_DML_STATEMENT</strong> at <strong>TRACE</strong>
+     * level to see tracing results. Alternatively you can configure a single entity logger to restrict
+     * tracing display only to this entity
+     */
+    public T withTracing() {
+        getOptions().setTracing(Optional.of(true));
+        return getThis();
+    }
+
+    /**
+     * Set read timeout in millisecs, i.e. how long the Java driver waits for the coordinator to acknowledge the mutation.
+     * <br/>
+     * You may want to increase it for large batches
+     * @param readTimeoutInMillis read timeout in millis
+     */
+    public T withReadTimeoutInMillis(Integer readTimeoutInMillis) {
+        getOptions().setReadTimeout(readTimeoutInMillis);
+        return getThis();
+    }
+
+    /**
+     * Generate a <strong>USING TIMESTAMP ?</strong>
+     */
+    public T usingTimestamp(long timestamp) {
+        getOptions().setDefaultTimestamp(Optional.of(timestamp));
+        return getThis();
+    }
+}
@@ -31,6 +31,7 @@ import com.datastax.driver.core.Row;
 import com.datastax.driver.core.policies.RetryPolicy;
 
 import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.validation.Validator;
 
 public abstract class AbstractOptionsForSelect<T extends AbstractOptionsForSelect<T>> {
 
@@ -80,6 +81,22 @@ public abstract class AbstractOptionsForSelect<T extends AbstractOptionsForSelec
         return getThis();
     }
 
+    /**
+     * When iterating over the results, fetch the next page in the background as soon as
+     * only <strong>prefetchThreshold</strong> rows remain in the current page.
+     * <br/>
+     * This lets the mapping of the current page overlap with the network I/O of the next one
+     * so that the iteration does not stall at page boundaries. A good value is a fraction of the fetch size.
+     * <br/>
+     * Only applies to <strong>iterator()</strong>, <strong>stream()</strong> and their TypedMap counterparts
+     * @param prefetchThreshold number of remaining rows in the current page triggering the fetch of the next page
+     */
+    public T withPrefetchThreshold(int prefetchThreshold) {
+        Validator.validateTrue(prefetchThreshold >= 0, "Prefetch threshold should be positive");
+        getOptions().setPrefetchThreshold(Optional.of(prefetchThreshold));
+        return getThis();
+    }
+
     /**
      * Hint the current statement as idempotent. Useful for retry strategy
      */
@@ -32,6 +32,7 @@ import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.querybuilder.Delete;
 
+import info.archinnov.achilles.internals.cache.StatementShape;
 import info.archinnov.achilles.internals.dsl.StatementProvider;
 import info.archinnov.achilles.internals.dsl.action.MutationAction;
 import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForUpdateOrDelete;
@@ -41,6 +42,7 @@ import info.archinnov.achilles.internals.runtime.RuntimeEngine;
 import info.archinnov.achilles.internals.statements.BoundStatementWrapper;
 import info.archinnov.achilles.internals.statements.OperationType;
 import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.type.lightweighttransaction.LWTResultListener.LWTResult.LWTOperation;
 
 public abstract class AbstractDeleteEnd<T extends AbstractDeleteEnd<T, ENTITY>, ENTITY>
         extends AbstractOptionsForUpdateOrDelete<T> implements MutationAction, StatementProvider {
@@ -49,6 +51,7 @@ public abstract class AbstractDeleteEnd<T extends AbstractDeleteEnd<T, ENTITY>,
 
     protected final Delete.Where where;
     protected final CassandraOptions cassandraOptions;
+    private boolean lwt = false;
 
     protected AbstractDeleteEnd(Delete.Where where, CassandraOptions cassandraOptions) {
         this.where = where;
@@ -61,6 +64,8 @@ public abstract class AbstractDeleteEnd<T extends AbstractDeleteEnd<T, ENTITY>,
 
     protected abstract AbstractEntityProperty<ENTITY> getMetaInternal();
 
+    protected abstract StatementShape getStatementShapeInternal();
+
     protected abstract Class<ENTITY> getEntityClass();
 
     protected abstract RuntimeEngine getRte();
@@ -68,15 +73,27 @@ public abstract class AbstractDeleteEnd<T extends AbstractDeleteEnd<T, ENTITY>,
     public T ifExists(boolean ifExists) {
         if (ifExists) {
             where.ifExists();
+            getStatementShapeInternal().add("IF EXISTS");
+            markAsLWT();
         }
         return getThis();
     }
 
     public T ifExists() {
         where.ifExists();
+        getStatementShapeInternal().add("IF EXISTS");
+        markAsLWT();
         return getThis();
     }
 
+    /**
+     * Flag the statement as LWT operation. Also called by the generated
+     * LWT conditions so that the CQL string never needs to be parsed
+     */
+    protected void markAsLWT() {
+        this.lwt = true;
+    }
+
 
     public CompletableFuture<ExecutionInfo> executeAsyncWithStats() {
 
@@ -93,9 +110,10 @@ public abstract class AbstractDeleteEnd<T extends AbstractDeleteEnd<T, ENTITY>,
         CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
 
         return futureRS
+                .whenComplete((rs, throwable) -> rte.invalidateEntityCache(getMetaInternal()))
                 .thenApply(options::resultSetAsyncListener)
                 .thenApply(statementWrapper::logTrace)
-                .thenApply(x -> triggerLWTListeners(lwtResultListeners, x, queryString))
+                .thenApply(x -> triggerLWTListeners(lwtResultListeners, x, statementWrapper))
                 .thenApply(x -> x.getExecutionInfo());
     }
 
@@ -129,13 +147,16 @@ public abstract class AbstractDeleteEnd<T extends AbstractDeleteEnd<T, ENTITY>,
         final AbstractEntityProperty<ENTITY> meta = getMetaInternal();
         final CassandraOptions cassandraOptions = getOptions();
 
-        PreparedStatement ps = rte.prepareDynamicQuery(where);
+        PreparedStatement ps = rte.prepareDynamicQuery(getStatementShapeInternal(), where);
 
         StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.DELETE,
                 meta, ps,
                 getBoundValuesInternal().toArray(),
                 getEncodedValuesInternal().toArray());
 
+        if (lwt) {
+            statementWrapper.withLWTOperation(LWTOperation.UPDATE);
+        }
         statementWrapper.applyOptions(cassandraOptions);
         return statementWrapper;
     }
@@ -16,6 +16,7 @@
 
 package info.archinnov.achilles.internals.dsl.query.select;
 
+import static info.archinnov.achilles.validation.Validator.validateTrue;
 import static java.lang.String.format;
 import static java.util.stream.Collectors.toList;
 
@@ -30,6 +31,7 @@ import org.slf4j.LoggerFactory;
 import com.datastax.driver.core.*;
 import com.datastax.driver.core.querybuilder.Select;
 
+import info.archinnov.achilles.internals.cache.StatementShape;
 import info.archinnov.achilles.internals.dsl.StatementProvider;
 import info.archinnov.achilles.internals.dsl.TypedMapAware;
 import info.archinnov.achilles.internals.dsl.action.SelectAction;
@@ -40,6 +42,7 @@ import info.archinnov.achilles.internals.runtime.RuntimeEngine;
 import info.archinnov.achilles.internals.statements.BoundStatementWrapper;
 import info.archinnov.achilles.internals.statements.OperationType;
 import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.internals.types.AsyncPagesCollector;
 import info.archinnov.achilles.internals.types.EntityIteratorWrapper;
 import info.archinnov.achilles.internals.types.TypedMapIteratorWrapper;
 import info.archinnov.achilles.type.TypedMap;
@@ -66,6 +69,8 @@ public abstract class AbstractSelectWhere<T extends AbstractSelectWhere<T, ENTIT
 
     protected abstract AbstractEntityProperty<ENTITY> getMetaInternal();
 
+    protected abstract StatementShape getStatementShapeInternal();
+
     protected abstract Class<ENTITY> getEntityClass();
 
     protected abstract RuntimeEngine getRte();
@@ -129,6 +134,39 @@ public abstract class AbstractSelectWhere<T extends AbstractSelectWhere<T, ENTIT
                 });
     }
 
+    @Override
+    public CompletableFuture<List<ENTITY>> getAllAsync(int limit) {
+        validateTrue(limit > 0, "The limit for getAllAsync() should be strictly positive");
+
+        final RuntimeEngine rte = getRte();
+        final AbstractEntityProperty<ENTITY> meta = getMetaInternal();
+        final CassandraOptions options = getOptions();
+
+        final StatementWrapper statementWrapper = getInternalBoundStatementWrapper();
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Select all pages async : %s",
+                    statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+        }
+
+        CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
+
+        return futureRS
+                .thenApply(options::resultSetAsyncListener)
+                .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
+                .thenApply(statementWrapper::logTrace)
+                .thenCompose(rs -> new AsyncPagesCollector<>(rs, limit, row -> {
+                    options.rowAsyncListener(row);
+                    return meta.createEntityFrom(row);
+                }, rte.completionExecutor).collect())
+                .thenApply(entities -> {
+                    for (ENTITY entity : entities) {
+                        meta.triggerInterceptorsForEvent(Event.POST_LOAD, entity);
+                    }
+                    return entities;
+                });
+    }
+
     /***************************************************************************************
      * TypedMap API                                                                        *
      ***************************************************************************************/
@@ -227,7 +265,7 @@ public abstract class AbstractSelectWhere<T extends AbstractSelectWhere<T, ENTIT
         final AbstractEntityProperty<ENTITY> meta = getMetaInternal();
         final CassandraOptions cassandraOptions = getOptions();
 
-        final PreparedStatement ps = rte.prepareDynamicQuery(where);
+        final PreparedStatement ps = rte.prepareDynamicQuery(getStatementShapeInternal(), where);
 
         final StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.SELECT,
                 meta, ps,
@@ -33,6 +33,7 @@ import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.querybuilder.Select;
 
+import info.archinnov.achilles.internals.cache.StatementShape;
 import info.archinnov.achilles.internals.dsl.StatementProvider;
 import info.archinnov.achilles.internals.dsl.action.SelectJSONAction;
 import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForSelect;
@@ -65,6 +66,8 @@ public abstract class AbstractSelectWhereJSON<T extends AbstractSelectWhereJSON<
 
     protected abstract AbstractEntityProperty<ENTITY> getMetaInternal();
 
+    protected abstract StatementShape getStatementShapeInternal();
+
     protected abstract Class<ENTITY> getEntityClass();
 
     protected abstract RuntimeEngine getRte();
@@ -151,7 +154,7 @@ public abstract class AbstractSelectWhereJSON<T extends AbstractSelectWhereJSON<
         final AbstractEntityProperty<ENTITY> meta = getMetaInternal();
         final CassandraOptions cassandraOptions = getOptions();
 
-        final PreparedStatement ps = rte.prepareDynamicQuery(where);
+        final PreparedStatement ps = rte.prepareDynamicQuery(getStatementShapeInternal(), where);
 
         final StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.SELECT,
                 meta, ps,
@@ -31,6 +31,7 @@ import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.querybuilder.Select;
 
+import info.archinnov.achilles.internals.cache.StatementShape;
 import info.archinnov.achilles.internals.dsl.StatementProvider;
 import info.archinnov.achilles.internals.dsl.TypedMapAware;
 import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForSelect;
@@ -64,6 +65,8 @@ public abstract class AbstractSelectWhereTypeMap<T extends AbstractSelectWhereTy
 
     protected abstract AbstractEntityProperty<ENTITY> getMetaInternal();
 
+    protected abstract StatementShape getStatementShapeInternal();
+
     protected abstract Class<ENTITY> getEntityClass();
 
     protected abstract RuntimeEngine getRte();
@@ -168,7 +171,7 @@ public abstract class AbstractSelectWhereTypeMap<T extends AbstractSelectWhereTy
         final AbstractEntityProperty<ENTITY> meta = getMetaInternal();
         final CassandraOptions cassandraOptions = getOptions();
 
-        final PreparedStatement ps = rte.prepareDynamicQuery(where);
+        final PreparedStatement ps = rte.prepareDynamicQuery(getStatementShapeInternal(), where);
 
         final StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.SELECT,
                 meta, ps,
@@ -0,0 +1,372 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.dsl.query.select;
+
+import static info.archinnov.achilles.internals.futures.FutureUtils.toCompletableFuture;
+import static java.lang.String.format;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.*;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.internals.dsl.AsyncAware;
+import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForSelect;
+import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.runtime.RuntimeEngine;
+import info.archinnov.achilles.internals.statements.BoundStatementWrapper;
+import info.archinnov.achilles.internals.statements.OperationType;
+import info.archinnov.achilles.internals.statements.PreparedStatementGenerator;
+import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.internals.types.EntityIteratorWrapper;
+import info.archinnov.achilles.type.SchemaNameProvider;
+import info.archinnov.achilles.type.interceptor.Event;
+import info.archinnov.achilles.type.scan.ScanSink;
+import info.archinnov.achilles.validation.Validator;
+
+/**
+ * Full table scan split by token ranges of the partition key.
+ * <br/>
+ * The token ring is split into sub-ranges, each of them is fetched with a
+ * <strong>SELECT ... WHERE token(partition_keys) &gt; ? AND token(partition_keys) &lt;= ?</strong> query
+ * and the rows are mapped back to entity instances
+ */
+public class ScanAllWithOptions<ENTITY> extends AbstractOptionsForSelect<ScanAllWithOptions<ENTITY>>
+        implements AsyncAware {
+
+    public static final int DEFAULT_SPLIT_COUNT = 64;
+    public static final int DEFAULT_MAX_CONCURRENT_RANGES = 4;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScanAllWithOptions.class);
+
+    private final AbstractEntityProperty<ENTITY> meta;
+    private final RuntimeEngine rte;
+    private final CassandraOptions options = new CassandraOptions();
+    private int splitCount = DEFAULT_SPLIT_COUNT;
+    private int maxConcurrentRanges = DEFAULT_MAX_CONCURRENT_RANGES;
+    private Set<TokenRange> completedRanges = Collections.emptySet();
+
+    public ScanAllWithOptions(AbstractEntityProperty<ENTITY> meta, RuntimeEngine rte) {
+        this.meta = meta;
+        this.rte = rte;
+    }
+
+    /**
+     * Minimum number of token sub-ranges to scan. Each range of the token ring is split evenly
+     * so that the whole ring is divided into at least <strong>splitCount</strong> sub-ranges.
+     * <br/>
+     * Default value = {@value #DEFAULT_SPLIT_COUNT}
+     */
+    public ScanAllWithOptions<ENTITY> withSplitCount(int splitCount) {
+        Validator.validateTrue(splitCount > 0, "The split count for scanAll() should be strictly positive");
+        this.splitCount = splitCount;
+        return this;
+    }
+
+    /**
+     * Maximum number of token sub-ranges scanned concurrently by <strong>forEach()</strong>
+     * and <strong>forEachAsync()</strong>.
+     * <br/>
+     * Default value = {@value #DEFAULT_MAX_CONCURRENT_RANGES}
+     */
+    public ScanAllWithOptions<ENTITY> withMaxConcurrentRanges(int maxConcurrentRanges) {
+        Validator.validateTrue(maxConcurrentRanges > 0, "The max concurrent ranges for scanAll() should be strictly positive");
+        this.maxConcurrentRanges = maxConcurrentRanges;
+        return this;
+    }
+
+    /**
+     * Skip the given token sub-ranges, already completed by a previous scan
+     * (see {@link ScanSink#onRangeCompleted(TokenRange)}).
+     * <br/>
+     * The same split count should be used to resume a scan, on an unchanged token ring
+     */
+    public ScanAllWithOptions<ENTITY> withCompletedRanges(Collection<TokenRange> completedRanges) {
+        this.completedRanges = new HashSet<>(completedRanges);
+        return this;
+    }
+
+    /**
+     * Use the given schema name provider to determine the keyspace and table to scan
+     */
+    public ScanAllWithOptions<ENTITY> withSchemaNameProvider(SchemaNameProvider schemaNameProvider) {
+        options.setSchemaNameProvider(Optional.of(schemaNameProvider));
+        return this;
+    }
+
+    /**
+     * Scan all the token sub-ranges, with at most <strong>maxConcurrentRanges</strong> ranges
+     * scanned concurrently, and pass the entities to the given sink
+     * <br/>
+     * WARNING: <strong>this method performs a blocking call to the underlying async queries</strong>
+     */
+    public void forEach(ScanSink<ENTITY> sink) {
+        try {
+            Uninterruptibles.getUninterruptibly(forEachAsync(sink));
+        } catch (ExecutionException e) {
+            throw extractCauseFromExecutionException(e);
+        }
+    }
+
+    /**
+     * Scan all the token sub-ranges asynchronously, with at most <strong>maxConcurrentRanges</strong> ranges
+     * scanned concurrently, and pass the entities to the given sink.
+     * <br/>
+     * If the scan of a range fails, the remaining ranges are not scanned and the returned future fails
+     */
+    public CompletableFuture<Void> forEachAsync(ScanSink<ENTITY> sink) {
+        final Queue<TokenRange> remainingRanges = new ConcurrentLinkedQueue<>(computeTokenRanges());
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Scan %s token ranges of entity %s with max %s concurrent ranges",
+                    remainingRanges.size(), meta.entityClass.getCanonicalName(), maxConcurrentRanges));
+        }
+
+        final int workers = Integer.min(maxConcurrentRanges, remainingRanges.size());
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[workers];
+        for (int i = 0; i < workers; i++) {
+            futures[i] = scanNextRange(remainingRanges, sink);
+        }
+        return CompletableFuture.allOf(futures);
+    }
+
+    /**
+     * Return a sequential {@link java.util.stream.Stream}&lt;ENTITY&gt; of all the entities.
+     * The token sub-ranges are scanned one after the other when the stream is consumed
+     * <br/>
+     * WARNING: <strong>this method performs blocking calls to the underlying async queries</strong>
+     */
+    public Stream<ENTITY> stream() {
+        return StreamSupport.stream(() -> new TokenRangeSpliterator(computeTokenRanges()),
+                Spliterator.NONNULL, false);
+    }
+
+    /**
+     * Return a parallel {@link java.util.stream.Stream}&lt;ENTITY&gt; of all the entities.
+     * The stream is split by token sub-ranges, the parallelism is the one of the
+     * fork-join pool executing the stream, <strong>maxConcurrentRanges</strong> does not apply
+     * <br/>
+     * WARNING: <strong>this method performs blocking calls to the underlying async queries</strong>
+     */
+    public Stream<ENTITY> parallelStream() {
+        return StreamSupport.stream(() -> new TokenRangeSpliterator(computeTokenRanges()),
+                Spliterator.NONNULL, true);
+    }
+
+    @Override
+    protected ScanAllWithOptions<ENTITY> getThis() {
+        return this;
+    }
+
+    @Override
+    protected CassandraOptions getOptions() {
+        return options;
+    }
+
+    List<TokenRange> computeTokenRanges() {
+        final Set<TokenRange> ringRanges = rte.getCluster().getMetadata().getTokenRanges();
+        // Token metadata is empty when disabled by QueryOptions.setMetadataEnabled(false) or not loaded yet
+        if (ringRanges.isEmpty()) {
+            throw new AchillesException("Cannot split the scan by token ranges, the token metadata of the cluster is required. " +
+                    "Check that metadata is enabled in the Java driver QueryOptions");
+        }
+        int splitsPerRange = (splitCount + ringRanges.size() - 1) / ringRanges.size();
+        // A single range (t, t] covers the whole ring and cannot be expressed with one token restriction
+        if (ringRanges.size() == 1) {
+            splitsPerRange = Integer.max(2, splitsPerRange);
+        }
+
+        final List<TokenRange> ranges = new ArrayList<>();
+        for (TokenRange ringRange : ringRanges) {
+            for (TokenRange split : ringRange.splitEvenly(splitsPerRange)) {
+                for (TokenRange range : split.unwrap()) {
+                    if (!completedRanges.contains(range)) {
+                        ranges.add(range);
+                    }
+                }
+            }
+        }
+        Collections.sort(ranges);
+        return ranges;
+    }
+
+    private CompletableFuture<Void> scanNextRange(Queue<TokenRange> remainingRanges, ScanSink<ENTITY> sink) {
+        final TokenRange range = remainingRanges.poll();
+        if (range == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return scanRange(range, sink)
+                .whenComplete((x, throwable) -> {
+                    if (throwable != null) {
+                        remainingRanges.clear();
+                    }
+                })
+                .thenCompose(x -> scanNextRangeAsFollowUp(remainingRanges, sink));
+    }
+
+    /**
+     * Scan the next range from the completion of the previous one, on a thread
+     * allowed to prepare the token range statement (see {@link RuntimeEngine#executeFollowUp(Runnable)})
+     */
+    private CompletableFuture<Void> scanNextRangeAsFollowUp(Queue<TokenRange> remainingRanges, ScanSink<ENTITY> sink) {
+        final CompletableFuture<Void> next = new CompletableFuture<>();
+        rte.executeFollowUp(() -> {
+            try {
+                scanNextRange(remainingRanges, sink).whenComplete((x, throwable) -> {
+                    if (throwable != null) {
+                        next.completeExceptionally(throwable);
+                    } else {
+                        next.complete(x);
+                    }
+                });
+            } catch (RuntimeException e) {
+                remainingRanges.clear();
+                next.completeExceptionally(e);
+            }
+        });
+        return next;
+    }
+
+    private CompletableFuture<Void> scanRange(TokenRange range, ScanSink<ENTITY> sink) {
+        final StatementWrapper statementWrapper = getInternalBoundStatementWrapper(range);
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Scan token range %s : %s", range,
+                    statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+        }
+
+        return rte.execute(statementWrapper)
+                .thenApply(options::resultSetAsyncListener)
+                .thenApply(statementWrapper::logTrace)
+                .thenCompose(rs -> consumePages(rs, sink))
+                .thenRun(() -> sink.onRangeCompleted(range));
+    }
+
+    /**
+     * Pass the rows of the current page to the sink then fetch
+     * the next page without blocking, until the range is exhausted
+     */
+    private CompletableFuture<Void> consumePages(ResultSet resultSet, ScanSink<ENTITY> sink) {
+        int available = resultSet.getAvailableWithoutFetching();
+        while (available-- > 0) {
+            final Row row = resultSet.one();
+            options.rowAsyncListener(row);
+            final ENTITY instance = meta.createEntityFrom(row);
+            meta.triggerInterceptorsForEvent(Event.POST_LOAD, instance);
+            sink.accept(instance);
+        }
+
+        if (resultSet.isFullyFetched()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return toCompletableFuture(resultSet.fetchMoreResults(), rte.completionExecutor)
+                .thenCompose(rs -> consumePages(rs, sink));
+    }
+
+    private StatementWrapper getInternalBoundStatementWrapper(TokenRange range) {
+        final Token start = range.getStart();
+        final Token end = range.getEnd();
+        // After unwrapping, only the range ending at the minimum token has its end before its start
+        final boolean withUpperBound = end.compareTo(start) > 0;
+
+        final PreparedStatement ps = rte.prepareDynamicQuery(PreparedStatementGenerator
+                .generateTokenRangeSelectQuery(meta, options.getSchemaNameProvider(), withUpperBound));
+
+        final BoundStatement bs = ps.bind();
+        bs.setToken(0, start);
+        final Object[] tokenValues;
+        if (withUpperBound) {
+            bs.setToken(1, end);
+            tokenValues = new Object[]{start.getValue(), end.getValue()};
+        } else {
+            tokenValues = new Object[]{start.getValue()};
+        }
+
+        final StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.SELECT,
+                meta, bs, tokenValues, tokenValues);
+        statementWrapper.applyOptions(options);
+        return statementWrapper;
+    }
+
+    /**
+     * Spliterator over the token sub-ranges. Splitting hands over half of
+     * the remaining ranges, the range being iterated stays with this spliterator
+     */
+    private class TokenRangeSpliterator implements Spliterator<ENTITY> {
+
+        private final List<TokenRange> ranges;
+        private int index;
+        private final int fence;
+        private Iterator<ENTITY> current;
+
+        private TokenRangeSpliterator(List<TokenRange> ranges) {
+            this(ranges, 0, ranges.size());
+        }
+
+        private TokenRangeSpliterator(List<TokenRange> ranges, int index, int fence) {
+            this.ranges = ranges;
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super ENTITY> action) {
+            while (current == null || !current.hasNext()) {
+                if (index >= fence) {
+                    return false;
+                }
+                final StatementWrapper statementWrapper = getInternalBoundStatementWrapper(ranges.get(index++));
+                current = new EntityIteratorWrapper<>(rte.execute(statementWrapper), meta, statementWrapper, options);
+            }
+            action.accept(current.next());
+            return true;
+        }
+
+        @Override
+        public Spliterator<ENTITY> trySplit() {
+            final int middle = (index + fence) >>> 1;
+            if (middle <= index) {
+                return null;
+            }
+            final TokenRangeSpliterator prefix = new TokenRangeSpliterator(ranges, index, middle);
+            index = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.NONNULL;
+        }
+    }
+}
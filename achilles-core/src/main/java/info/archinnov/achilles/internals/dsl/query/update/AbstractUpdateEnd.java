@@ -32,6 +32,7 @@ import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.querybuilder.QueryBuilder;
 import com.datastax.driver.core.querybuilder.Update;
 
+import info.archinnov.achilles.internals.cache.StatementShape;
 import info.archinnov.achilles.internals.dsl.LWTHelper;
 import info.archinnov.achilles.internals.dsl.StatementProvider;
 import info.archinnov.achilles.internals.dsl.action.MutationAction;
@@ -42,6 +43,7 @@ import info.archinnov.achilles.internals.runtime.RuntimeEngine;
 import info.archinnov.achilles.internals.statements.BoundStatementWrapper;
 import info.archinnov.achilles.internals.statements.OperationType;
 import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.type.lightweighttransaction.LWTResultListener.LWTResult.LWTOperation;
 
 
 public abstract class AbstractUpdateEnd<T extends AbstractUpdateEnd<T, ENTITY>, ENTITY>
@@ -52,6 +54,7 @@ public abstract class AbstractUpdateEnd<T extends AbstractUpdateEnd<T, ENTITY>,
 
     protected final Update.Where where;
     protected final CassandraOptions cassandraOptions;
+    private boolean lwt = false;
 
     protected AbstractUpdateEnd(Update.Where where, CassandraOptions cassandraOptions) {
         this.where = where;
@@ -64,6 +67,8 @@ public abstract class AbstractUpdateEnd<T extends AbstractUpdateEnd<T, ENTITY>,
 
     protected abstract AbstractEntityProperty<ENTITY> getMetaInternal();
 
+    protected abstract StatementShape getStatementShapeInternal();
+
     protected abstract Class<ENTITY> getEntityClass();
 
     protected abstract RuntimeEngine getRte();
@@ -74,6 +79,8 @@ public abstract class AbstractUpdateEnd<T extends AbstractUpdateEnd<T, ENTITY>,
     public T ifExists(boolean ifExists) {
         if (ifExists) {
             where.ifExists();
+            getStatementShapeInternal().add("IF EXISTS");
+            markAsLWT();
         }
         return getThis();
     }
@@ -83,11 +90,22 @@ public abstract class AbstractUpdateEnd<T extends AbstractUpdateEnd<T, ENTITY>,
      */
     public T ifExists() {
         where.ifExists();
+        getStatementShapeInternal().add("IF EXISTS");
+        markAsLWT();
         return getThis();
     }
 
+    /**
+     * Flag the statement as LWT operation. Also called by the generated
+     * LWT conditions so that the CQL string never needs to be parsed
+     */
+    protected void markAsLWT() {
+        this.lwt = true;
+    }
+
     public T usingTimeToLive(int timeToLive) {
         where.using(QueryBuilder.ttl(QueryBuilder.bindMarker("ttl")));
+        getStatementShapeInternal().add("USING TTL");
         getBoundValuesInternal().add(0, timeToLive);
         getEncodedValuesInternal().add(0, timeToLive);
         return getThis();
@@ -108,9 +126,10 @@ public abstract class AbstractUpdateEnd<T extends AbstractUpdateEnd<T, ENTITY>,
         CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
 
         return futureRS
+                .whenComplete((rs, throwable) -> rte.invalidateEntityCache(getMetaInternal()))
                 .thenApply(cassandraOptions::resultSetAsyncListener)
                 .thenApply(statementWrapper::logTrace)
-                .thenApply(x -> LWTHelper.triggerLWTListeners(lwtResultListeners, x, queryString))
+                .thenApply(x -> LWTHelper.triggerLWTListeners(lwtResultListeners, x, statementWrapper))
                 .thenApply(x -> x.getExecutionInfo());
     }
 
@@ -143,13 +162,16 @@ public abstract class AbstractUpdateEnd<T extends AbstractUpdateEnd<T, ENTITY>,
         final RuntimeEngine rte = getRte();
         final AbstractEntityProperty<ENTITY> meta = getMetaInternal();
         final CassandraOptions cassandraOptions = getOptions();
-        final PreparedStatement ps = rte.prepareDynamicQuery(where);
+        final PreparedStatement ps = rte.prepareDynamicQuery(getStatementShapeInternal(), where);
 
         final StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.UPDATE,
                 meta, ps,
                 getBoundValuesInternal().toArray(),
                 getEncodedValuesInternal().toArray());
 
+        if (lwt) {
+            statementWrapper.withLWTOperation(LWTOperation.UPDATE);
+        }
         statementWrapper.applyOptions(cassandraOptions);
         return statementWrapper;
     }
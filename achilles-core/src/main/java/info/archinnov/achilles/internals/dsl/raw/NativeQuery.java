@@ -172,6 +172,7 @@ public class NativeQuery implements MutationAction, RawAndTypeMapDefaultImpl {
 
         final StatementWrapper statementWrapper = new NativeStatementWrapper(getOperationType(boundStatement), meta, boundStatement, encodedBoundValues);
         final String queryString = statementWrapper.getBoundStatement().preparedStatement().getQueryString();
+        LWTHelper.detectLWTOperation(queryString).ifPresent(statementWrapper::withLWTOperation);
 
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Execute native query async with execution info : %s", queryString));
@@ -183,7 +184,7 @@ public class NativeQuery implements MutationAction, RawAndTypeMapDefaultImpl {
                 .thenApply(options::resultSetAsyncListener)
                 .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
                 .thenApply(statementWrapper::logTrace)
-                .thenApply(x -> LWTHelper.triggerLWTListeners(lwtResultListeners, x, queryString))
+                .thenApply(x -> LWTHelper.triggerLWTListeners(lwtResultListeners, x, statementWrapper))
                 .thenApply(x -> x.getExecutionInfo());
     }
 
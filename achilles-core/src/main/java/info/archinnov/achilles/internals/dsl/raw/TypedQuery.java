@@ -41,9 +41,11 @@ import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.runtime.RuntimeEngine;
 import info.archinnov.achilles.internals.statements.BoundStatementWrapper;
 import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.internals.types.AsyncPagesCollector;
 import info.archinnov.achilles.internals.types.EntityIteratorWrapper;
 import info.archinnov.achilles.type.interceptor.Event;
 import info.archinnov.achilles.type.tuples.Tuple2;
+import info.archinnov.achilles.validation.Validator;
 
 /**
  * Typed query
@@ -155,6 +157,20 @@ public class TypedQuery<ENTITY> implements SelectAction<ENTITY>, RawAndTypeMapDe
         return this;
     }
 
+    /**
+     * When iterating over the results, fetch the next page in the background as soon as
+     * only <strong>prefetchThreshold</strong> rows remain in the current page.
+     * <br/>
+     * This lets the mapping of the current page overlap with the network I/O of the next one
+     * so that the iteration does not stall at page boundaries
+     * @param prefetchThreshold number of remaining rows in the current page triggering the fetch of the next page
+     */
+    public TypedQuery<ENTITY> withPrefetchThreshold(int prefetchThreshold) {
+        Validator.validateTrue(prefetchThreshold >= 0, "Prefetch threshold should be positive");
+        options.setPrefetchThreshold(Optional.of(prefetchThreshold));
+        return this;
+    }
+
     /**
      * Execute the typed query and return an iterator of entities
      *
@@ -223,6 +239,42 @@ public class TypedQuery<ENTITY> implements SelectAction<ENTITY>, RawAndTypeMapDe
                 });
     }
 
+    /**
+     * Execute the typed query asynchronously and return the entities of all the result pages, up to <strong>limit</strong> entities.
+     * The next pages are fetched and mapped asynchronously, without blocking any thread while waiting
+     *
+     * @return CompletableFuture&lt;List&lt;ENTITY&gt;&gt;
+     */
+    @Override
+    public CompletableFuture<List<ENTITY>> getAllAsync(int limit) {
+        Validator.validateTrue(limit > 0, "The limit for getAllAsync() should be strictly positive");
+
+        StatementWrapper statementWrapper = new BoundStatementWrapper(getOperationType(boundStatement), meta,
+                boundStatement, encodedBoundValues);
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(String.format("Select all pages async : %s",
+                    statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+        }
+
+        CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
+
+        return futureRS
+                .thenApply(options::resultSetAsyncListener)
+                .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
+                .thenApply(statementWrapper::logTrace)
+                .thenCompose(rs -> new AsyncPagesCollector<>(rs, limit, row -> {
+                    options.rowAsyncListener(row);
+                    return meta.createEntityFrom(row);
+                }, rte.completionExecutor).collect())
+                .thenApply(entities -> {
+                    for (ENTITY entity : entities) {
+                        meta.triggerInterceptorsForEvent(Event.POST_LOAD, entity);
+                    }
+                    return entities;
+                });
+    }
+
     @Override
     public RuntimeEngine runtimeEngine() {
         return rte;
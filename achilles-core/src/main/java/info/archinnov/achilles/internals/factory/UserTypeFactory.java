@@ -37,4 +37,8 @@ public class UserTypeFactory {
     public UserType.Field fieldFor(String name, DataType dataType) {
         return UserTypeBuilder.buildField(name, dataType);
     }
+
+    public CodecRegistry getCodecRegistry() {
+        return registry;
+    }
 }
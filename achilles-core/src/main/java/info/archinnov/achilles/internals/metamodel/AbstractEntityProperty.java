@@ -23,15 +23,18 @@ import static java.lang.String.format;
 import static java.util.stream.Collectors.toList;
 
 import java.util.*;
+import java.util.concurrent.ExecutionException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.*;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.BiMap;
 
-import info.archinnov.achilles.internals.cache.StatementsCache;
+import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.internals.cassandra_version.InternalCassandraVersion;
 import info.archinnov.achilles.internals.context.ConfigurationContext;
 import info.archinnov.achilles.internals.factory.TupleTypeFactory;
@@ -43,9 +46,12 @@ import info.archinnov.achilles.internals.runtime.BeanValueExtractor;
 import info.archinnov.achilles.internals.schema.SchemaContext;
 import info.archinnov.achilles.internals.schema.SchemaCreator;
 import info.archinnov.achilles.internals.statements.BoundValuesWrapper;
+import info.archinnov.achilles.internals.statements.StaticStatementsPreparer;
 import info.archinnov.achilles.internals.strategy.naming.InternalNamingStrategy;
 import info.archinnov.achilles.internals.types.OverridingOptional;
 import info.archinnov.achilles.internals.utils.CollectionsHelper;
+import info.archinnov.achilles.metrics.AchillesMetrics;
+import info.archinnov.achilles.metrics.NoOpAchillesMetrics;
 import info.archinnov.achilles.type.SchemaNameProvider;
 import info.archinnov.achilles.type.codec.Codec;
 import info.archinnov.achilles.type.codec.CodecSignature;
@@ -61,9 +67,10 @@ public abstract class AbstractEntityProperty<T> implements
         InjectConsistency, InjectInsertStrategy,
         InjectUserAndTupleTypeFactory,
         InjectJacksonMapper, InjectSchemaStrategy,
-        InjectRuntimeCodecs {
+        InjectRuntimeCodecs, InjectMetrics {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractEntityProperty.class);
+    private static final int MAX_DECODING_PLANS = 64;
 
     public final Logger entityLogger;
     public final Class<T> entityClass;
@@ -87,13 +94,22 @@ public abstract class AbstractEntityProperty<T> implements
     public final List<AbstractProperty<T, ?, ?>> constructorInjectedColumns;
     public final List<AbstractProperty<T, ?, ?>> allColumns;
     public final List<AbstractProperty<T, ?, ?>> allColumnsWithComputed;
+    public final EntityBindLayout<T> bindLayout;
     public final List<Interceptor<T>> interceptors = new ArrayList<>();
+    private volatile Interceptor<T>[][] interceptorsByEvent;
+    private final List<AbstractProperty<T, ?, ?>> decodableColumns;
+    private final Cache<ColumnDefinitions, RowDecodingPlan<T>> decodingPlans = CacheBuilder.newBuilder()
+            .weakKeys()
+            .maximumSize(MAX_DECODING_PLANS)
+            .build();
+    private volatile RowDecodingPlan<T> lastDecodingPlan;
     protected BeanFactory beanFactory;
     protected Optional<String> keyspace = Optional.empty();
     protected ConsistencyLevel readConsistencyLevel;
     protected ConsistencyLevel writeConsistencyLevel;
     protected ConsistencyLevel serialConsistencyLevel;
     protected InsertStrategy insertStrategy;
+    protected AchillesMetrics metrics = new NoOpAchillesMetrics();
     public Optional<SchemaNameProvider> schemaStrategy = Optional.empty();
 
 
@@ -120,6 +136,11 @@ public abstract class AbstractEntityProperty<T> implements
         counterColumns = getCounterColumns();
         allColumns = getAllColumns();
         allColumnsWithComputed = getAllColumnsWithComputed();
+        decodableColumns = allColumnsWithComputed
+                .stream()
+                .filter(x -> !constructorInjectedColumns.contains(x))
+                .collect(toList());
+        bindLayout = new EntityBindLayout<>(partitionKeys, staticColumns, clusteringColumns, normalColumns, counterColumns);
     }
 
     protected abstract Class<T> getEntityClass();
@@ -216,49 +237,102 @@ public abstract class AbstractEntityProperty<T> implements
         return staticInsertStrategy.orElse(insertStrategy);
     }
 
+    /**
+     * Index the interceptors by event, preserving their declaration order, so that
+     * triggering an event only walks the interceptors registered for it.
+     * Should be called again whenever {@link #interceptors} is modified
+     */
+    @SuppressWarnings("unchecked")
+    public void indexInterceptorsByEvent() {
+        final Event[] events = Event.values();
+        final Interceptor<T>[][] byEvent = new Interceptor[events.length][];
+        for (Event event : events) {
+            byEvent[event.ordinal()] = interceptors
+                    .stream()
+                    .filter(x -> x.interceptOnEvents().contains(event))
+                    .toArray(Interceptor[]::new);
+        }
+        interceptorsByEvent = byEvent;
+    }
+
     public void triggerInterceptorsForEvent(Event event, T instance) {
+        Interceptor<T>[][] byEvent = interceptorsByEvent;
+        if (byEvent == null) {
+            indexInterceptorsByEvent();
+            byEvent = interceptorsByEvent;
+        }
+
+        final Interceptor<T>[] eventInterceptors = byEvent[event.ordinal()];
+        if (eventInterceptors.length == 0) {
+            return;
+        }
+
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Trigger interceptors for entity %s on event %s",
                     instance, event.name()));
         }
-        interceptors
-                .stream()
-                .filter(x -> x.interceptOnEvents().contains(event))
-                .forEach(x -> x.onEvent(instance, event));
+        for (Interceptor<T> interceptor : eventInterceptors) {
+            interceptor.onEvent(instance, event);
+        }
     }
 
     protected abstract T newInstanceFromCustomConstructor(Row row, List<String> cqlColumns);
 
     public T createEntityFrom(Row row) {
+        if (!metrics.isEnabled() || row == null) {
+            return mapEntityFrom(row);
+        }
+        final long start = System.nanoTime();
+        final T instance = mapEntityFrom(row);
+        try {
+            metrics.recordRowsMapping(entityClass, 1, System.nanoTime() - start);
+        } catch (RuntimeException e) {
+            LOGGER.warn(format("Cannot record rows mapping metrics for entity %s", entityClass.getCanonicalName()), e);
+        }
+        return instance;
+    }
+
+    private T mapEntityFrom(Row row) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Create entity of type %s from Cassandra row %s",
                     entityClass.getCanonicalName(), row));
         }
         if (row != null) {
+            final RowDecodingPlan<T> decodingPlan = getDecodingPlan(row);
             // No custom constructor
-            final List<String> cqlColumns = row.getColumnDefinitions().asList().stream().map(def -> def.getName()).collect(toList());
             if (constructorInjectedColumns.size() == 0) {
                 T newInstance = beanFactory.newInstance(entityClass);
-                allColumnsWithComputed
-                        .stream()
-                        .filter(x -> cqlColumns.contains(x.getColumnForSelect()))
-                        .forEach(x -> x.decodeField(row, newInstance));
+                decodingPlan.decodeRow(row, newInstance);
                 return newInstance;
             } else {
 
-                final T newInstance = newInstanceFromCustomConstructor(row, cqlColumns);
+                final T newInstance = newInstanceFromCustomConstructor(row, decodingPlan.cqlColumns);
 
                 // Call setters for remaining fields not injected by constructor
-                allColumnsWithComputed
-                        .stream()
-                        .filter(x -> !constructorInjectedColumns.contains(x))
-                        .forEach(x -> x.decodeField(row, newInstance));
+                decodingPlan.decodeRow(row, newInstance);
                 return newInstance;
             }
         }
         return null;
     }
 
+    private RowDecodingPlan<T> getDecodingPlan(Row row) {
+        final RowDecodingPlan<T> lastPlan = lastDecodingPlan;
+        if (lastPlan != null && lastPlan.appliesTo(row)) {
+            return lastPlan;
+        }
+
+        final ColumnDefinitions columnDefinitions = row.getColumnDefinitions();
+        try {
+            final RowDecodingPlan<T> decodingPlan = decodingPlans.get(columnDefinitions,
+                    () -> new RowDecodingPlan<>(columnDefinitions, decodableColumns));
+            lastDecodingPlan = decodingPlan;
+            return decodingPlan;
+        } catch (ExecutionException e) {
+            throw new AchillesException(e.getCause());
+        }
+    }
+
     public BoundValuesWrapper extractAllValuesFromEntity(T instance, CassandraOptions cassandraOptions) {
         return BeanValueExtractor.extractAllValues(instance, this, cassandraOptions);
     }
@@ -295,17 +369,26 @@ public abstract class AbstractEntityProperty<T> implements
         return tableName;
     }
 
-    public void prepareStaticStatements(InternalCassandraVersion cassandraVersion, Session session, StatementsCache cache) {
+    public void prepareStaticStatements(InternalCassandraVersion cassandraVersion, StaticStatementsPreparer preparer) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Preparing static statements for entity of type %s",
                     entityClass.getCanonicalName()));
         }
         if (!counterTable) {
-            generateStaticInsertQueries(cassandraVersion, session, cache, this);
+            generateStaticInsertQueries(cassandraVersion, preparer, this);
         }
 
-        generateStaticDeleteQueries(session, cache, this);
-        generateStaticSelectQuery(session, cache, this);
+        generateStaticDeleteQueries(preparer, this);
+        generateStaticSelectQuery(preparer, this);
+    }
+
+    /**
+     * Drop the UserType/TupleType instances cached by the columns of this entity
+     */
+    public void invalidateTypeCache() {
+        for (AbstractProperty<T, ?, ?> x : allColumns) {
+            x.invalidateTypeCache();
+        }
     }
 
     protected List<AbstractProperty<T, ?, ?>> getAllColumns() {
@@ -450,6 +533,15 @@ public abstract class AbstractEntityProperty<T> implements
         }
     }
 
+    @Override
+    public void inject(AchillesMetrics metrics) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Injecting metrics %s into entity meta of %s",
+                    metrics, entityClass.getCanonicalName()));
+        }
+        this.metrics = metrics;
+    }
+
     @Override
     public void inject(BeanFactory factory) {
         if (LOGGER.isDebugEnabled()) {
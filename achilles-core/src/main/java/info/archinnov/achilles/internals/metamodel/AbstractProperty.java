@@ -16,12 +16,16 @@
 
 package info.archinnov.achilles.internals.metamodel;
 
+import static java.lang.String.format;
+
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
 import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.GettableData;
+import com.datastax.driver.core.Row;
 import com.datastax.driver.core.SettableData;
 import com.datastax.driver.core.UDTValue;
 import com.google.common.reflect.TypeToken;
@@ -29,7 +33,6 @@ import com.google.common.reflect.TypeToken;
 import info.archinnov.achilles.internals.injectable.*;
 import info.archinnov.achilles.internals.metamodel.columns.FieldInfo;
 import info.archinnov.achilles.internals.options.CassandraOptions;
-import info.archinnov.achilles.internals.utils.NamingHelper;
 import info.archinnov.achilles.type.SchemaNameProvider;
 
 public abstract class AbstractProperty<ENTITY, VALUEFROM, VALUETO>
@@ -128,10 +131,25 @@ public abstract class AbstractProperty<ENTITY, VALUEFROM, VALUETO>
      * @return
      */
     public VALUEFROM decodeFromGettable(GettableData gettableData) {
-        if (gettableData.isNull(NamingHelper.maybeQuote(getColumnForSelect())) && !isOptional()) return null;
+        if (gettableData.isNull(getQuotedColumnForSelect()) && !isOptional()) return null;
         return decodeFromGettableInternal(gettableData);
     }
 
+    /**
+     * Decode the column at the given index of the given Row to Java value using Achilles codec system.
+     * The index should be resolved beforehand from the row ColumnDefinitions
+     * <br/>
+     * Simple, collection, UDT, tuple and optional properties read the column by index. This default
+     * implementation, only used by computed properties, falls back to a lookup by column name
+     * @param row
+     * @param index
+     * @return
+     */
+    public VALUEFROM decodeFromRow(Row row, int index) {
+        if (row.isNull(index) && !isOptional()) return null;
+        return decodeFromGettableInternal(row);
+    }
+
     abstract VALUEFROM decodeFromGettableInternal(GettableData gettableData);
 
     /**
@@ -189,6 +207,24 @@ public abstract class AbstractProperty<ENTITY, VALUEFROM, VALUETO>
         return encodeFromJava(getJavaValue(entity), cassandraOptions);
     }
 
+    /**
+     * @return true if the values of this property are serialized directly
+     * by a {@link info.archinnov.achilles.type.codec.BinaryCodec}
+     */
+    public boolean hasBinaryCodec() {
+        return false;
+    }
+
+    /**
+     * Serialize the given Java value with the {@link info.archinnov.achilles.type.codec.BinaryCodec}
+     * of this property. The serialized value is only meant to be bound as-is to a statement
+     * @param javaValue
+     * @return the serialized value, or null if the value is null
+     */
+    public ByteBuffer serializeFromJava(VALUEFROM javaValue) {
+        throw new UnsupportedOperationException(format("Property '%s' has no binary codec", fieldName));
+    }
+
     /**
      * Get the raw value associated with this field from the given entity (non encoded)
      * @param entity
@@ -245,6 +281,20 @@ public abstract class AbstractProperty<ENTITY, VALUEFROM, VALUETO>
         fieldInfo.setter.set(entity, valuefrom);
     }
 
+    /**
+     * <ol>
+     *     <li>First extract the column value at the given index from the given Row</li>
+     *     <li>Then call the setter on the given entity to set the value</li>
+     * </ol>
+     * @param row
+     * @param index
+     * @param entity
+     */
+    public void decodeField(Row row, int index, ENTITY entity) {
+        final VALUEFROM valuefrom = decodeFromRow(row, index);
+        fieldInfo.setter.set(entity, valuefrom);
+    }
+
     /**
      * Call the getter on the given entity to get the value
      * @param entity
@@ -262,6 +312,10 @@ public abstract class AbstractProperty<ENTITY, VALUEFROM, VALUETO>
         return fieldInfo.cqlColumn;
     }
 
+    String getQuotedColumnForSelect() {
+        return fieldInfo.quotedCqlColumn;
+    }
+
     public DataType getDataType() {
         if (dataType == null) {
             dataType = buildType(Optional.empty());
@@ -274,6 +328,14 @@ public abstract class AbstractProperty<ENTITY, VALUEFROM, VALUETO>
         this.schemaNameProvider = Optional.ofNullable(schemaNameProvider);
     }
 
+    /**
+     * Drop the UserType/TupleType instances cached by this property and its
+     * nested properties, for example after a schema change
+     */
+    public void invalidateTypeCache() {
+        dataType = null;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
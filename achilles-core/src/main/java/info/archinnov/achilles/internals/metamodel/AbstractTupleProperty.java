@@ -22,11 +22,14 @@ import static java.lang.String.format;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.datastax.driver.core.Row;
 import com.datastax.driver.core.SettableData;
 import com.datastax.driver.core.TupleType;
 import com.datastax.driver.core.TupleValue;
@@ -52,6 +55,8 @@ public abstract class AbstractTupleProperty<ENTITY, T extends Tuple> extends Abs
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractTupleProperty.class);
     protected TupleType tupleType;
     protected TupleTypeFactory tupleTypeFactory;
+    private final ConcurrentMap<String, TupleType> tupleTypes = new ConcurrentHashMap<>();
+    private Optional<AbstractUDTClassProperty<?>> firstUDTClassProperty = Optional.empty();
 
     AbstractTupleProperty(TypeToken<T> valueFromTypeToken, FieldInfo<ENTITY, T> fieldInfo) {
         super(valueFromTypeToken, TUPLE_VALUE_TYPE_TOKEN, fieldInfo);
@@ -67,6 +72,12 @@ public abstract class AbstractTupleProperty<ENTITY, T extends Tuple> extends Abs
 
     protected abstract List<AbstractProperty<ENTITY, ?, ?>> componentsProperty();
 
+    @Override
+    public T decodeFromRow(Row row, int index) {
+        if (row.isNull(index)) return null;
+        return decodeFromRaw(row.getTupleValue(index));
+    }
+
     @Override
     public void encodeToSettable(TupleValue tuple, SettableData<?> settableData) {
         if (LOGGER.isTraceEnabled()) {
@@ -97,6 +108,7 @@ public abstract class AbstractTupleProperty<ENTITY, T extends Tuple> extends Abs
         for (AbstractProperty<ENTITY, ?, ?> x : componentsProperty()) {
             x.inject(userTypeFactory, tupleTypeFactory);
         }
+        this.firstUDTClassProperty = getUDTClassProperties().stream().findFirst();
         this.tupleType = this.buildType(schemaNameProvider.map(CassandraOptions::withSchemaNameProvider));
     }
 
@@ -147,7 +159,35 @@ public abstract class AbstractTupleProperty<ENTITY, T extends Tuple> extends Abs
         }
     }
 
-     protected TupleType getRuntimeTupleType(Optional<CassandraOptions> options) {
-         return options.isPresent() ? buildType(options) : tupleType;
-     }
+    /**
+     * Drop the cached TupleType instances and rebuild the default one, since
+     * the nested UDTs may have changed
+     */
+    @Override
+    public void invalidateTypeCache() {
+        super.invalidateTypeCache();
+        for (AbstractProperty<ENTITY, ?, ?> x : componentsProperty()) {
+            x.invalidateTypeCache();
+        }
+        tupleTypes.clear();
+        if (tupleTypeFactory != null) {
+            this.tupleType = this.buildType(schemaNameProvider.map(CassandraOptions::withSchemaNameProvider));
+        }
+    }
+
+    /**
+     * Only tuples containing UDTs depend on the runtime schema name provider. Their
+     * TupleType instances are cached by the keyspace of the UDTs
+     */
+    protected TupleType getRuntimeTupleType(Optional<CassandraOptions> options) {
+        if (!firstUDTClassProperty.isPresent() || !options.flatMap(CassandraOptions::getSchemaNameProvider).isPresent()) {
+            return tupleType;
+        }
+        final String keyspace = firstUDTClassProperty.get().resolveKeyspace(options);
+        final TupleType runtimeTupleType = tupleTypes.get(keyspace);
+        if (runtimeTupleType != null) {
+            return runtimeTupleType;
+        }
+        return tupleTypes.computeIfAbsent(keyspace, ks -> buildType(options));
+    }
 }
@@ -22,6 +22,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -40,7 +42,6 @@ import info.archinnov.achilles.internals.injectable.*;
 import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.schema.SchemaContext;
 import info.archinnov.achilles.internals.strategy.naming.InternalNamingStrategy;
-import info.archinnov.achilles.internals.types.OverridingOptional;
 import info.archinnov.achilles.type.SchemaNameProvider;
 import info.archinnov.achilles.type.codec.Codec;
 import info.archinnov.achilles.type.codec.CodecSignature;
@@ -67,6 +68,8 @@ public abstract class AbstractUDTClassProperty<A>
     protected UserType userType;
     protected Optional<SchemaNameProvider> schemaNameProvider = Optional.empty();
     String keyspace;
+    private final ConcurrentMap<String, UserType> frozenUserTypes = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, UserType> nonFrozenUserTypes = new ConcurrentHashMap<>();
 
     public AbstractUDTClassProperty() {
         this.staticKeyspace = getStaticKeyspace();
@@ -122,32 +125,65 @@ public abstract class AbstractUDTClassProperty<A>
     }
 
     protected UserType getUserType(boolean frozen, Optional<CassandraOptions> cassandraOptions) {
-        if (cassandraOptions.isPresent() || userType == null) {
-            return buildType(frozen, cassandraOptions);
-        } else {
-            return userType;
-        }
+        return buildType(frozen, cassandraOptions);
     }
 
+    /**
+     * Get the UserType for the keyspace resolved from the runtime options. UserType instances
+     * are cached per keyspace until {@link #invalidateTypeCache()} is called. Nested UDTs
+     * live in the same keyspace so their types are cached along
+     */
     public UserType buildType(boolean frozen, Optional<CassandraOptions> cassandraOptions) {
-        if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug(format("Building UserType instance for the current UDT class meta %s", this.toString()));
+        final String keyspaceName = resolveKeyspace(cassandraOptions);
+        final ConcurrentMap<String, UserType> userTypes = frozen ? frozenUserTypes : nonFrozenUserTypes;
+        final UserType userType = userTypes.get(keyspaceName);
+        if (userType != null) {
+            return userType;
         }
+        return userTypes.computeIfAbsent(keyspaceName, ks -> buildUserType(ks, frozen, cassandraOptions));
+    }
 
-        Optional<String> keyspaceName = OverridingOptional
-                .from(cassandraOptions.flatMap(CassandraOptions::getSchemaNameProvider).map(x -> x.keyspaceFor(parentEntityClass)))
-                .andThen(this.schemaNameProvider.map(x -> x.keyspaceFor(parentEntityClass)))
-                .andThen(staticKeyspace.orElse(keyspace))
-                .getOptional();
+    /**
+     * Resolve the keyspace of the UDT, from the runtime schema name provider, then the
+     * configured schema name provider, then the static or configured keyspace
+     */
+    public String resolveKeyspace(Optional<CassandraOptions> cassandraOptions) {
+        final Optional<SchemaNameProvider> runtimeProvider = cassandraOptions.flatMap(CassandraOptions::getSchemaNameProvider);
+        if (runtimeProvider.isPresent()) {
+            return runtimeProvider.get().keyspaceFor(parentEntityClass);
+        } else if (schemaNameProvider.isPresent()) {
+            return schemaNameProvider.get().keyspaceFor(parentEntityClass);
+        }
 
-        Validator.validateTrue(keyspaceName.isPresent(),
+        final String keyspaceName = staticKeyspace.orElse(keyspace);
+        Validator.validateNotNull(keyspaceName,
                 "The keyspace name for the UDT type '%s' should be either provided by the '%s' annotation or at runtime",
                 udtClass.getCanonicalName(), UDT.class.getSimpleName());
+        return keyspaceName;
+    }
+
+    /**
+     * Drop the cached UserType instances of this UDT and its nested UDTs,
+     * for example after a schema change
+     */
+    public void invalidateTypeCache() {
+        frozenUserTypes.clear();
+        nonFrozenUserTypes.clear();
+        for (AbstractProperty<A, ?, ?> x : componentsProperty) {
+            x.invalidateTypeCache();
+        }
+    }
+
+    private UserType buildUserType(String keyspaceName, boolean frozen, Optional<CassandraOptions> cassandraOptions) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Building UserType instance in keyspace %s for the current UDT class meta %s", keyspaceName, this.toString()));
+        }
+
         List<UserType.Field> fields = getComponentsProperty()
                 .stream()
                 .map(property -> userTypeFactory.fieldFor(property.fieldInfo.cqlColumn, property.buildType(cassandraOptions)))
                 .collect(Collectors.toList());
-        return userTypeFactory.typeFor(keyspaceName.get(), udtName, frozen, fields);
+        return userTypeFactory.typeFor(keyspaceName, udtName, frozen, fields);
     }
 
     public String generateSchema(SchemaContext context) {
@@ -183,7 +219,6 @@ public abstract class AbstractUDTClassProperty<A>
         for (AbstractProperty<A, ?, ?> x : componentsProperty) {
             x.inject(userTypeFactory, tupleTypeFactory);
         }
-        //userType = this.buildType(frozen, schemaNameProvider.map(CassandraOptions::withSchemaNameProvider));
     }
 
     @Override
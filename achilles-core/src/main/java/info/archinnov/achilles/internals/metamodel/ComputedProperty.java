@@ -40,6 +40,7 @@ import info.archinnov.achilles.internals.metamodel.columns.ComputedColumnInfo;
 import info.archinnov.achilles.internals.metamodel.columns.FieldInfo;
 import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.types.RuntimeCodecWrapper;
+import info.archinnov.achilles.internals.utils.NamingHelper;
 import info.archinnov.achilles.type.codec.Codec;
 import info.archinnov.achilles.type.codec.CodecSignature;
 import info.archinnov.achilles.type.factory.BeanFactory;
@@ -52,6 +53,7 @@ public class ComputedProperty<ENTITY, VALUEFROM, VALUETO> extends AbstractProper
     public final ComputedColumnInfo computedColumnInfo;
     private final Function<GettableData, VALUETO> extractor;
     private final Codec<VALUEFROM, VALUETO> valueCodec;
+    private final String quotedAlias;
 
     public ComputedProperty(FieldInfo<ENTITY, VALUEFROM> fieldInfo, Function<GettableData, VALUETO> extractor, Codec<VALUEFROM, VALUETO> valueCodec) {
         super(fieldInfo);
@@ -62,6 +64,7 @@ public class ComputedProperty<ENTITY, VALUEFROM, VALUETO> extends AbstractProper
         this.extractor = extractor;
         this.valueCodec = valueCodec;
         this.computedColumnInfo = (ComputedColumnInfo) fieldInfo.columnInfo;
+        this.quotedAlias = NamingHelper.maybeQuote(computedColumnInfo.alias);
     }
 
     @Override
@@ -112,6 +115,11 @@ public class ComputedProperty<ENTITY, VALUEFROM, VALUETO> extends AbstractProper
         return computedColumnInfo.alias;
     }
 
+    @Override
+    String getQuotedColumnForSelect() {
+        return quotedAlias;
+    }
+
     @Override
     public void encodeFieldToUdt(ENTITY entity, UDTValue udtValue, Optional<CassandraOptions> cassandraOptions) {
         throw new UnsupportedOperationException(format("No UDT encoding for computed field '%s'", fieldInfo.fieldName));
@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.metamodel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Order in which the properties of an entity are bound to the generated
+ * INSERT statements and primary key WHERE clauses.
+ * <br/>
+ * The layout is computed once per entity so that extracting the values of an
+ * instance is a single pass over pre-sized arrays. The last slot of the
+ * INSERT layouts is reserved for the <em>ttl</em> bind marker
+ */
+public class EntityBindLayout<T> {
+
+    public final AbstractProperty<T, ?, ?>[] allColumns;
+    public final AbstractProperty<T, ?, ?>[] partitionKeysAndStaticColumns;
+    public final AbstractProperty<T, ?, ?>[] primaryKeys;
+
+    @SuppressWarnings("unchecked")
+    EntityBindLayout(List<AbstractProperty<T, ?, ?>> partitionKeys, List<AbstractProperty<T, ?, ?>> staticColumns,
+                     List<AbstractProperty<T, ?, ?>> clusteringColumns, List<AbstractProperty<T, ?, ?>> normalColumns,
+                     List<AbstractProperty<T, ?, ?>> counterColumns) {
+        final List<AbstractProperty<T, ?, ?>> all = new ArrayList<>();
+        all.addAll(partitionKeys);
+        all.addAll(staticColumns);
+        all.addAll(clusteringColumns);
+        all.addAll(normalColumns);
+        all.addAll(counterColumns);
+
+        final List<AbstractProperty<T, ?, ?>> partitionAndStatic = new ArrayList<>();
+        partitionAndStatic.addAll(partitionKeys);
+        partitionAndStatic.addAll(staticColumns);
+
+        final List<AbstractProperty<T, ?, ?>> primaryKeys = new ArrayList<>();
+        primaryKeys.addAll(partitionKeys);
+        primaryKeys.addAll(clusteringColumns);
+
+        this.allColumns = all.toArray(new AbstractProperty[all.size()]);
+        this.partitionKeysAndStaticColumns = partitionAndStatic.toArray(new AbstractProperty[partitionAndStatic.size()]);
+        this.primaryKeys = primaryKeys.toArray(new AbstractProperty[primaryKeys.size()]);
+    }
+}
@@ -27,6 +27,7 @@ import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.GettableData;
+import com.datastax.driver.core.Row;
 import com.datastax.driver.core.SettableData;
 import com.datastax.driver.core.UDTValue;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -107,6 +108,11 @@ public class JdkOptionalProperty<ENTITY, FROM, TO> extends AbstractProperty<ENTI
         }
     }
 
+    @Override
+    public Optional<FROM> decodeFromRow(Row row, int index) {
+        return Optional.ofNullable(aProperty.decodeFromRow(row, index));
+    }
+
     @Override
     Optional<FROM> decodeFromRawInternal(Object o) {
         if (LOGGER.isTraceEnabled()) {
@@ -173,4 +179,10 @@ public class JdkOptionalProperty<ENTITY, FROM, TO> extends AbstractProperty<ENTI
         super.inject(schemaNameProvider);
         this.aProperty.inject(schemaNameProvider);
     }
+
+    @Override
+    public void invalidateTypeCache() {
+        super.invalidateTypeCache();
+        this.aProperty.invalidateTypeCache();
+    }
 }
@@ -17,7 +17,6 @@
 package info.archinnov.achilles.internals.metamodel;
 
 import static java.lang.String.format;
-import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -29,18 +28,19 @@ import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.GettableData;
+import com.datastax.driver.core.Row;
 import com.datastax.driver.core.SettableData;
 import com.datastax.driver.core.UDTValue;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.reflect.TypeParameter;
 import com.google.common.reflect.TypeToken;
 
+import info.archinnov.achilles.internals.codec.ListTypeCodec;
 import info.archinnov.achilles.internals.factory.TupleTypeFactory;
 import info.archinnov.achilles.internals.factory.UserTypeFactory;
 import info.archinnov.achilles.internals.injectable.InjectBeanFactory;
 import info.archinnov.achilles.internals.metamodel.columns.FieldInfo;
 import info.archinnov.achilles.internals.options.CassandraOptions;
-import info.archinnov.achilles.internals.utils.NamingHelper;
 import info.archinnov.achilles.type.SchemaNameProvider;
 import info.archinnov.achilles.type.codec.Codec;
 import info.archinnov.achilles.type.codec.CodecSignature;
@@ -56,6 +56,8 @@ public class ListProperty<ENTITY, VALUEFROM, VALUETO> extends
     public final AbstractProperty<ENTITY, VALUEFROM, VALUETO> valueProperty;
     public final boolean frozen;
     public final boolean emptyCollectionIfNull;
+    private final boolean passThroughValues;
+    private ListTypeCodec<VALUEFROM, VALUETO> listCodec;
 
     public ListProperty(FieldInfo<ENTITY, List<VALUEFROM>> fieldInfo, boolean frozen, boolean emptyCollectionIfNull, Class<?> valueToClass, AbstractProperty<ENTITY, VALUEFROM, VALUETO> valueProperty) {
         super(
@@ -73,6 +75,7 @@ public class ListProperty<ENTITY, VALUEFROM, VALUETO> extends
         this.emptyCollectionIfNull = emptyCollectionIfNull;
         this.valueToClass = valueToClass;
         this.valueProperty = valueProperty;
+        this.passThroughValues = valueProperty instanceof SimpleProperty && ((SimpleProperty) valueProperty).isPassThrough();
     }
 
     /**
@@ -122,10 +125,15 @@ public class ListProperty<ENTITY, VALUEFROM, VALUETO> extends
             LOGGER.trace(format("Encode from Java '%s' list %s to CQL type", fieldName, list));
         }
 
-        return new ArrayList<>(list
-                .stream()
-                .map(value -> valueProperty.encodeFromJava(value, cassandraOptions))
-                .collect(toList()));
+        if (passThroughValues) {
+            return (List<VALUETO>) list;
+        }
+
+        final List<VALUETO> valueTos = new ArrayList<>(list.size());
+        for (VALUEFROM value : list) {
+            valueTos.add(valueProperty.encodeFromJava(value, cassandraOptions));
+        }
+        return valueTos;
     }
 
     @Override
@@ -140,16 +148,28 @@ public class ListProperty<ENTITY, VALUEFROM, VALUETO> extends
 
     @Override
     public List<VALUEFROM> decodeFromGettable(GettableData gettableData) {
-        if (gettableData.isNull(NamingHelper.maybeQuote(getColumnForSelect())) && !emptyCollectionIfNull) return null;
+        if (gettableData.isNull(getQuotedColumnForSelect()) && !emptyCollectionIfNull) return null;
         return decodeFromGettableInternal(gettableData);
     }
 
+    @Override
+    public List<VALUEFROM> decodeFromRow(Row row, int index) {
+        if (row.isNull(index) && !emptyCollectionIfNull) return null;
+        if (listCodec != null) {
+            return row.get(index, listCodec);
+        }
+        return decodeFromGettableInternal(row);
+    }
+
     @Override
     public List<VALUEFROM> decodeFromGettableInternal(GettableData gettableData) {
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Decode '%s' list from gettable object %s", fieldName, gettableData));
         }
 
+        if (listCodec != null) {
+            return gettableData.get(fieldInfo.quotedCqlColumn, listCodec);
+        }
         return decodeFromRaw(gettableData.getList(fieldInfo.quotedCqlColumn, valueProperty.valueToTypeToken));
     }
 
@@ -173,10 +193,16 @@ public class ListProperty<ENTITY, VALUEFROM, VALUETO> extends
 
         Validator.validateTrue(List.class.isAssignableFrom(o.getClass()), "The class of object %s to decode should be List<%s>", o, o);
 
-        return new ArrayList<>(((List<VALUETO>) o)
-                .stream()
-                .map(valueTo -> valueProperty.decodeFromRaw(valueTo))
-                .collect(toList()));
+        if (passThroughValues) {
+            return (List<VALUEFROM>) o;
+        }
+
+        final List<VALUETO> valueTos = (List<VALUETO>) o;
+        final List<VALUEFROM> values = new ArrayList<>(valueTos.size());
+        for (VALUETO valueTo : valueTos) {
+            values.add(valueProperty.decodeFromRaw(valueTo));
+        }
+        return values;
     }
 
     public VALUEFROM decodeSingleElement(VALUETO cassandraValue) {
@@ -220,6 +246,13 @@ public class ListProperty<ENTITY, VALUEFROM, VALUETO> extends
     @Override
     public void inject(UserTypeFactory userTypeFactory, TupleTypeFactory tupleTypeFactory) {
         valueProperty.inject(userTypeFactory, tupleTypeFactory);
+        if (valueProperty instanceof SimpleProperty) {
+            final SimpleProperty<ENTITY, VALUEFROM, VALUETO> simpleProperty = (SimpleProperty<ENTITY, VALUEFROM, VALUETO>) valueProperty;
+            listCodec = simpleProperty
+                    .driverCodec(userTypeFactory.getCodecRegistry())
+                    .map(elementCodec -> new ListTypeCodec<>(simpleProperty.valueFromTypeToken, elementCodec, simpleProperty.valueCodec))
+                    .orElse(null);
+        }
     }
 
     @Override
@@ -247,4 +280,10 @@ public class ListProperty<ENTITY, VALUEFROM, VALUETO> extends
         super.inject(schemaNameProvider);
         this.valueProperty.inject(schemaNameProvider);
     }
+
+    @Override
+    public void invalidateTypeCache() {
+        super.invalidateTypeCache();
+        this.valueProperty.invalidateTypeCache();
+    }
 }
@@ -17,7 +17,6 @@
 package info.archinnov.achilles.internals.metamodel;
 
 import static java.lang.String.format;
-import static java.util.stream.Collectors.toMap;
 
 import java.util.HashMap;
 import java.util.List;
@@ -27,20 +26,24 @@ import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.datastax.driver.core.CodecRegistry;
 import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.GettableData;
+import com.datastax.driver.core.Row;
 import com.datastax.driver.core.SettableData;
+import com.datastax.driver.core.TypeCodec;
 import com.datastax.driver.core.UDTValue;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Maps;
 import com.google.common.reflect.TypeParameter;
 import com.google.common.reflect.TypeToken;
 
+import info.archinnov.achilles.internals.codec.MapTypeCodec;
 import info.archinnov.achilles.internals.factory.TupleTypeFactory;
 import info.archinnov.achilles.internals.factory.UserTypeFactory;
 import info.archinnov.achilles.internals.metamodel.columns.FieldInfo;
 import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.utils.CollectionsHelper;
-import info.archinnov.achilles.internals.utils.NamingHelper;
 import info.archinnov.achilles.type.SchemaNameProvider;
 import info.archinnov.achilles.type.codec.Codec;
 import info.archinnov.achilles.type.codec.CodecSignature;
@@ -56,6 +59,8 @@ public class MapProperty<ENTITY, KEYFROM, KEYTO, VALUEFROM, VALUETO> extends
     public final AbstractProperty<ENTITY, VALUEFROM, VALUETO> valueProperty;
     public final boolean frozen;
     public final boolean emptyCollectionIfNull;
+    private final boolean passThroughKeysAndValues;
+    private MapTypeCodec<KEYFROM, KEYTO, VALUEFROM, VALUETO> mapCodec;
 
     public MapProperty(FieldInfo<ENTITY, Map<KEYFROM, VALUEFROM>> fieldInfo,
                        boolean frozen, boolean emptyCollectionIfNull,
@@ -78,6 +83,8 @@ public class MapProperty<ENTITY, KEYFROM, KEYTO, VALUEFROM, VALUETO> extends
         this.emptyCollectionIfNull = emptyCollectionIfNull;
         this.keyProperty = keyProperty;
         this.valueProperty = valueProperty;
+        this.passThroughKeysAndValues = keyProperty instanceof SimpleProperty && ((SimpleProperty) keyProperty).isPassThrough()
+                && valueProperty instanceof SimpleProperty && ((SimpleProperty) valueProperty).isPassThrough();
     }
 
     /**
@@ -154,11 +161,16 @@ public class MapProperty<ENTITY, KEYFROM, KEYTO, VALUEFROM, VALUETO> extends
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Encode from Java '%s' map %s to CQL type", fieldName, map));
         }
-        return new HashMap<>(map
-                .entrySet()
-                .stream()
-                .collect(toMap((Map.Entry entry) -> keyProperty.encodeFromRaw(entry.getKey(), cassandraOptions),
-                        (Map.Entry entry) -> valueProperty.encodeFromRaw(entry.getValue(), cassandraOptions))));
+        if (passThroughKeysAndValues) {
+            return (Map<KEYTO, VALUETO>) map;
+        }
+
+        final Map<KEYTO, VALUETO> mapTo = Maps.newHashMapWithExpectedSize(map.size());
+        for (Map.Entry<KEYFROM, VALUEFROM> entry : map.entrySet()) {
+            mapTo.put(keyProperty.encodeFromRaw(entry.getKey(), cassandraOptions),
+                    valueProperty.encodeFromRaw(entry.getValue(), cassandraOptions));
+        }
+        return mapTo;
     }
 
     @Override
@@ -172,16 +184,28 @@ public class MapProperty<ENTITY, KEYFROM, KEYTO, VALUEFROM, VALUETO> extends
 
     @Override
     public Map<KEYFROM, VALUEFROM> decodeFromGettable(GettableData gettableData) {
-        if (gettableData.isNull(NamingHelper.maybeQuote(getColumnForSelect())) && !emptyCollectionIfNull) return null;
+        if (gettableData.isNull(getQuotedColumnForSelect()) && !emptyCollectionIfNull) return null;
         return decodeFromGettableInternal(gettableData);
     }
 
+    @Override
+    public Map<KEYFROM, VALUEFROM> decodeFromRow(Row row, int index) {
+        if (row.isNull(index) && !emptyCollectionIfNull) return null;
+        if (mapCodec != null) {
+            return row.get(index, mapCodec);
+        }
+        return decodeFromGettableInternal(row);
+    }
+
     @Override
     public Map<KEYFROM, VALUEFROM> decodeFromGettableInternal(GettableData gettableData) {
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Decode '%s' map from gettable object %s", fieldName, gettableData));
         }
 
+        if (mapCodec != null) {
+            return gettableData.get(fieldInfo.quotedCqlColumn, mapCodec);
+        }
         return decodeFromRaw(gettableData.getMap(fieldInfo.quotedCqlColumn, keyProperty.valueToTypeToken, valueProperty.valueToTypeToken));
     }
 
@@ -206,10 +230,16 @@ public class MapProperty<ENTITY, KEYFROM, KEYTO, VALUEFROM, VALUETO> extends
         Validator.validateTrue(Map.class.isAssignableFrom(o.getClass()), "The class of object %s to decode should be Map<%s,%s>", o,
                 keyProperty.valueToTypeToken, valueProperty.valueToTypeToken);
 
-        return new HashMap<>(((Map<KEYTO, VALUETO>) o)
-                .entrySet()
-                .stream()
-                .collect(toMap((Map.Entry entry) -> keyProperty.decodeFromRaw(entry.getKey()), (Map.Entry entry) -> valueProperty.decodeFromRaw(entry.getValue()))));
+        if (passThroughKeysAndValues) {
+            return (Map<KEYFROM, VALUEFROM>) o;
+        }
+
+        final Map<KEYTO, VALUETO> mapTo = (Map<KEYTO, VALUETO>) o;
+        final Map<KEYFROM, VALUEFROM> map = Maps.newHashMapWithExpectedSize(mapTo.size());
+        for (Map.Entry<KEYTO, VALUETO> entry : mapTo.entrySet()) {
+            map.put(keyProperty.decodeFromRaw(entry.getKey()), valueProperty.decodeFromRaw(entry.getValue()));
+        }
+        return map;
     }
 
     public KEYFROM decodeSingleKeyElement(KEYTO cassandraValue) {
@@ -257,6 +287,17 @@ public class MapProperty<ENTITY, KEYFROM, KEYTO, VALUEFROM, VALUETO> extends
     public void inject(UserTypeFactory userTypeFactory, TupleTypeFactory tupleTypeFactory) {
         keyProperty.inject(userTypeFactory, tupleTypeFactory);
         valueProperty.inject(userTypeFactory, tupleTypeFactory);
+        if (keyProperty instanceof SimpleProperty && valueProperty instanceof SimpleProperty) {
+            final SimpleProperty<ENTITY, KEYFROM, KEYTO> simpleKey = (SimpleProperty<ENTITY, KEYFROM, KEYTO>) keyProperty;
+            final SimpleProperty<ENTITY, VALUEFROM, VALUETO> simpleValue = (SimpleProperty<ENTITY, VALUEFROM, VALUETO>) valueProperty;
+            final CodecRegistry codecRegistry = userTypeFactory.getCodecRegistry();
+            final Optional<TypeCodec<KEYTO>> keyCodec = simpleKey.driverCodec(codecRegistry);
+            final Optional<TypeCodec<VALUETO>> valueCodec = simpleValue.driverCodec(codecRegistry);
+            if (keyCodec.isPresent() && valueCodec.isPresent()) {
+                mapCodec = new MapTypeCodec<>(simpleKey.valueFromTypeToken, simpleValue.valueFromTypeToken,
+                        keyCodec.get(), valueCodec.get(), simpleKey.valueCodec, simpleValue.valueCodec);
+            }
+        }
     }
 
     @Override
@@ -289,4 +330,11 @@ public class MapProperty<ENTITY, KEYFROM, KEYTO, VALUEFROM, VALUETO> extends
         this.keyProperty.inject(schemaNameProvider);
         this.valueProperty.inject(schemaNameProvider);
     }
+
+    @Override
+    public void invalidateTypeCache() {
+        super.invalidateTypeCache();
+        this.keyProperty.invalidateTypeCache();
+        this.valueProperty.invalidateTypeCache();
+    }
 }
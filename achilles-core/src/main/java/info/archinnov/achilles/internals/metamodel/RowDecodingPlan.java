@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.metamodel;
+
+import java.util.*;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.Row;
+
+/**
+ * Mapping between the properties of an entity and the column indices
+ * of a given ColumnDefinitions.
+ * <br/>
+ * The plan is computed once per ColumnDefinitions instance (which is shared by all
+ * the rows of a prepared statement or of a result set page) so that decoding a row
+ * does not require any column name resolution
+ */
+public class RowDecodingPlan<T> {
+
+    public final ColumnDefinitions columnDefinitions;
+    public final List<String> cqlColumns;
+    private final AbstractProperty<T, ?, ?>[] properties;
+    private final int[] indices;
+
+    @SuppressWarnings("unchecked")
+    RowDecodingPlan(ColumnDefinitions columnDefinitions, List<AbstractProperty<T, ?, ?>> candidates) {
+        this.columnDefinitions = columnDefinitions;
+
+        final int columnCount = columnDefinitions.size();
+        final List<String> cqlColumns = new ArrayList<>(columnCount);
+        final Map<String, Integer> indexByColumn = new HashMap<>(columnCount * 2);
+        for (int i = 0; i < columnCount; i++) {
+            final String name = columnDefinitions.getName(i);
+            cqlColumns.add(name);
+            indexByColumn.putIfAbsent(name, i);
+        }
+        this.cqlColumns = Collections.unmodifiableList(cqlColumns);
+
+        final List<AbstractProperty<T, ?, ?>> properties = new ArrayList<>(candidates.size());
+        final List<Integer> indices = new ArrayList<>(candidates.size());
+        for (AbstractProperty<T, ?, ?> candidate : candidates) {
+            final Integer index = indexByColumn.get(candidate.getColumnForSelect());
+            if (index != null) {
+                properties.add(candidate);
+                indices.add(index);
+            }
+        }
+
+        this.properties = properties.toArray(new AbstractProperty[properties.size()]);
+        this.indices = new int[indices.size()];
+        for (int i = 0; i < this.indices.length; i++) {
+            this.indices[i] = indices.get(i);
+        }
+    }
+
+    public boolean appliesTo(Row row) {
+        return columnDefinitions == row.getColumnDefinitions();
+    }
+
+    /**
+     * Decode all the columns of the plan from the given row
+     * and set them on the given entity instance
+     * @param row
+     * @param instance
+     */
+    public void decodeRow(Row row, T instance) {
+        for (int i = 0; i < properties.length; i++) {
+            properties[i].decodeField(row, indices[i], instance);
+        }
+    }
+}
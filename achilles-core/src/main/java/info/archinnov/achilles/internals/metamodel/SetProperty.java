@@ -17,7 +17,6 @@
 package info.archinnov.achilles.internals.metamodel;
 
 import static java.lang.String.format;
-import static java.util.stream.Collectors.toSet;
 
 import java.util.*;
 
@@ -26,17 +25,19 @@ import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.GettableData;
+import com.datastax.driver.core.Row;
 import com.datastax.driver.core.SettableData;
 import com.datastax.driver.core.UDTValue;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Sets;
 import com.google.common.reflect.TypeParameter;
 import com.google.common.reflect.TypeToken;
 
+import info.archinnov.achilles.internals.codec.SetTypeCodec;
 import info.archinnov.achilles.internals.factory.TupleTypeFactory;
 import info.archinnov.achilles.internals.factory.UserTypeFactory;
 import info.archinnov.achilles.internals.metamodel.columns.FieldInfo;
 import info.archinnov.achilles.internals.options.CassandraOptions;
-import info.archinnov.achilles.internals.utils.NamingHelper;
 import info.archinnov.achilles.type.SchemaNameProvider;
 import info.archinnov.achilles.type.codec.Codec;
 import info.archinnov.achilles.type.codec.CodecSignature;
@@ -52,6 +53,8 @@ public class SetProperty<ENTITY, VALUEFROM, VALUETO> extends
     public final AbstractProperty<ENTITY, VALUEFROM, VALUETO> valueProperty;
     public final boolean frozen;
     public final boolean emptyCollectionIfNull;
+    private final boolean passThroughValues;
+    private SetTypeCodec<VALUEFROM, VALUETO> setCodec;
 
     public SetProperty(FieldInfo<ENTITY, Set<VALUEFROM>> fieldInfo, boolean frozen, boolean emptyCollectionIfNull, Class<?> valueToClass, AbstractProperty<ENTITY, VALUEFROM, VALUETO> valueProperty) {
         super(
@@ -63,6 +66,7 @@ public class SetProperty<ENTITY, VALUEFROM, VALUETO> extends
         this.emptyCollectionIfNull = emptyCollectionIfNull;
         this.valueToClass = valueToClass;
         this.valueProperty = valueProperty;
+        this.passThroughValues = valueProperty instanceof SimpleProperty && ((SimpleProperty) valueProperty).isPassThrough();
     }
 
     @Override
@@ -111,10 +115,15 @@ public class SetProperty<ENTITY, VALUEFROM, VALUETO> extends
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Encode from Java '%s' set %s to CQL type", fieldName, set));
         }
-        return new HashSet<>(set
-                .stream()
-                .map(value -> valueProperty.encodeFromRaw(value, cassandraOptions))
-                .collect(toSet()));
+        if (passThroughValues) {
+            return (Set<VALUETO>) set;
+        }
+
+        final Set<VALUETO> valueTos = Sets.newHashSetWithExpectedSize(set.size());
+        for (VALUEFROM value : set) {
+            valueTos.add(valueProperty.encodeFromRaw(value, cassandraOptions));
+        }
+        return valueTos;
     }
 
     @Override
@@ -129,16 +138,28 @@ public class SetProperty<ENTITY, VALUEFROM, VALUETO> extends
 
     @Override
     public Set<VALUEFROM> decodeFromGettable(GettableData gettableData) {
-        if (gettableData.isNull(NamingHelper.maybeQuote(getColumnForSelect())) && !emptyCollectionIfNull) return null;
+        if (gettableData.isNull(getQuotedColumnForSelect()) && !emptyCollectionIfNull) return null;
         return decodeFromGettableInternal(gettableData);
     }
 
+    @Override
+    public Set<VALUEFROM> decodeFromRow(Row row, int index) {
+        if (row.isNull(index) && !emptyCollectionIfNull) return null;
+        if (setCodec != null) {
+            return row.get(index, setCodec);
+        }
+        return decodeFromGettableInternal(row);
+    }
+
     @Override
     public Set<VALUEFROM> decodeFromGettableInternal(GettableData gettableData) {
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Decode '%s' set from gettable object %s", fieldName, gettableData));
         }
 
+        if (setCodec != null) {
+            return gettableData.get(fieldInfo.quotedCqlColumn, setCodec);
+        }
         return decodeFromRaw(gettableData.getSet(fieldInfo.quotedCqlColumn, valueProperty.valueToTypeToken));
     }
 
@@ -163,10 +184,16 @@ public class SetProperty<ENTITY, VALUEFROM, VALUETO> extends
 
         Validator.validateTrue(Set.class.isAssignableFrom(o.getClass()), "The class of object %s to decode should be Set<%s>", o, valueToClass.getCanonicalName());
 
-        return new HashSet<>(((Set<VALUETO>) o)
-                .stream()
-                .map(valueTo -> valueProperty.decodeFromRaw(valueTo))
-                .collect(toSet()));
+        if (passThroughValues) {
+            return (Set<VALUEFROM>) o;
+        }
+
+        final Set<VALUETO> valueTos = (Set<VALUETO>) o;
+        final Set<VALUEFROM> values = Sets.newHashSetWithExpectedSize(valueTos.size());
+        for (VALUETO valueTo : valueTos) {
+            values.add(valueProperty.decodeFromRaw(valueTo));
+        }
+        return values;
     }
 
     public VALUEFROM decodeSingleElement(VALUETO cassandraValue) {
@@ -209,6 +236,13 @@ public class SetProperty<ENTITY, VALUEFROM, VALUETO> extends
     @Override
     public void inject(UserTypeFactory userTypeFactory, TupleTypeFactory tupleTypeFactory) {
         valueProperty.inject(userTypeFactory, tupleTypeFactory);
+        if (valueProperty instanceof SimpleProperty) {
+            final SimpleProperty<ENTITY, VALUEFROM, VALUETO> simpleProperty = (SimpleProperty<ENTITY, VALUEFROM, VALUETO>) valueProperty;
+            setCodec = simpleProperty
+                    .driverCodec(userTypeFactory.getCodecRegistry())
+                    .map(elementCodec -> new SetTypeCodec<>(simpleProperty.valueFromTypeToken, elementCodec, simpleProperty.valueCodec))
+                    .orElse(null);
+        }
     }
 
     @Override
@@ -236,4 +270,10 @@ public class SetProperty<ENTITY, VALUEFROM, VALUETO> extends
         super.inject(schemaNameProvider);
         this.valueProperty.inject(schemaNameProvider);
     }
+
+    @Override
+    public void invalidateTypeCache() {
+        super.invalidateTypeCache();
+        this.valueProperty.invalidateTypeCache();
+    }
 }
@@ -18,6 +18,7 @@ package info.archinnov.achilles.internals.metamodel;
 
 import static java.lang.String.format;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -28,19 +29,25 @@ import java.util.function.Function;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.datastax.driver.core.CodecRegistry;
 import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.GettableData;
+import com.datastax.driver.core.Row;
 import com.datastax.driver.core.SettableData;
+import com.datastax.driver.core.TypeCodec;
 import com.datastax.driver.core.UDTValue;
+import com.datastax.driver.core.exceptions.CodecNotFoundException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.reflect.TypeToken;
 
-import info.archinnov.achilles.internals.codec.JSONCodec;
+import info.archinnov.achilles.internals.codec.FallThroughCodec;
+import info.archinnov.achilles.internals.codec.AbstractJSONCodec;
 import info.archinnov.achilles.internals.factory.TupleTypeFactory;
 import info.archinnov.achilles.internals.factory.UserTypeFactory;
 import info.archinnov.achilles.internals.metamodel.columns.FieldInfo;
 import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.types.RuntimeCodecWrapper;
+import info.archinnov.achilles.type.codec.BinaryCodec;
 import info.archinnov.achilles.type.codec.Codec;
 import info.archinnov.achilles.type.codec.CodecSignature;
 import info.archinnov.achilles.type.factory.BeanFactory;
@@ -54,6 +61,8 @@ public class SimpleProperty<ENTITY, VALUEFROM, VALUETO> extends AbstractProperty
     public final Function<GettableData, VALUETO> gettable;
     public final BiConsumer<SettableData, VALUETO> settable;
     public final DataType dataTypeInternal;
+    private BinaryCodec<VALUEFROM, VALUETO> binaryCodec;
+    private TypeCodec<VALUETO> rowCodec;
 
     public SimpleProperty(FieldInfo<ENTITY, VALUEFROM> fieldInfo, DataType dataType,
                           Function<GettableData, VALUETO> gettable,
@@ -66,6 +75,7 @@ public class SimpleProperty<ENTITY, VALUEFROM, VALUETO> extends AbstractProperty
         this.gettable = gettable;
         this.settable = settable;
         this.valueCodec = valueCodec;
+        maybeUseBinaryCodec(valueCodec);
     }
 
     @Override
@@ -73,6 +83,54 @@ public class SimpleProperty<ENTITY, VALUEFROM, VALUETO> extends AbstractProperty
         return false;
     }
 
+    /**
+     * @return true if the Java value is sent as-is to Cassandra
+     */
+    public boolean isPassThrough() {
+        return valueCodec instanceof FallThroughCodec;
+    }
+
+    /**
+     * Look up the Java driver codec for the CQL values of this property
+     * @param codecRegistry codec registry of the cluster
+     * @return the driver codec or Optional.empty() if the registry has no codec for the CQL type
+     */
+    public Optional<TypeCodec<VALUETO>> driverCodec(CodecRegistry codecRegistry) {
+        try {
+            return Optional.of(codecRegistry.codecFor(dataTypeInternal, valueToTypeToken));
+        } catch (CodecNotFoundException ex) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public boolean hasBinaryCodec() {
+        return binaryCodec != null;
+    }
+
+    /**
+     * The binary codec is only used for columns of an entity or fields of an UDT.
+     * Nested values (collection elements, tuple components) are encoded by their
+     * parent property and stay CQL-compatible Java values
+     */
+    private void maybeUseBinaryCodec(Codec<VALUEFROM, VALUETO> codec) {
+        if (codec instanceof BinaryCodec && fieldInfo.columnType != null) {
+            this.binaryCodec = (BinaryCodec<VALUEFROM, VALUETO>) codec;
+        }
+    }
+
+    @Override
+    public ByteBuffer serializeFromJava(VALUEFROM javaValue) {
+        if (binaryCodec == null) {
+            return super.serializeFromJava(javaValue);
+        }
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Serialize '%s' %s with binary codec", fieldName, javaValue));
+        }
+        return javaValue == null ? null : binaryCodec.serialize(javaValue);
+    }
+
     @Override
     public void encodeToSettable(VALUETO valueTo, SettableData<?> settableData) {
         if (LOGGER.isTraceEnabled()) {
@@ -107,9 +165,39 @@ public class SimpleProperty<ENTITY, VALUEFROM, VALUETO> extends AbstractProperty
             LOGGER.trace(format("Decode '%s' from gettable object %s", fieldName, gettableData));
         }
 
+        if (binaryCodec != null) {
+            final ByteBuffer bytes = gettableData.getBytesUnsafe(getQuotedColumnForSelect());
+            return bytes == null ? null : binaryCodec.deserialize(bytes);
+        }
+
         return valueCodec.decode(gettable.apply(gettableData));
     }
 
+    /**
+     * Decode the column by index, either with the binary codec or with the Java driver
+     * codec resolved at bootstrap, without any column name lookup
+     */
+    @Override
+    public VALUEFROM decodeFromRow(Row row, int index) {
+        if (binaryCodec != null) {
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.trace(format("Deserialize '%s' from row column %s with binary codec", fieldName, index));
+            }
+            final ByteBuffer bytes = row.getBytesUnsafe(index);
+            return bytes == null ? null : binaryCodec.deserialize(bytes);
+        }
+
+        if (rowCodec != null) {
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.trace(format("Decode '%s' from row column %s", fieldName, index));
+            }
+            if (row.isNull(index)) return null;
+            return valueCodec.decode(row.get(index, rowCodec));
+        }
+
+        return super.decodeFromRow(row, index);
+    }
+
 
     @Override
     public VALUEFROM decodeFromRawInternal(Object o) {
@@ -133,6 +221,12 @@ public class SimpleProperty<ENTITY, VALUEFROM, VALUETO> extends AbstractProperty
 
     @Override
     public void encodeFieldToUdt(ENTITY entity, UDTValue udtValue, Optional<CassandraOptions> cassandraOptions) {
+        if (binaryCodec != null) {
+            final VALUEFROM javaValue = getJavaValue(entity);
+            udtValue.setBytesUnsafe(getQuotedColumnForSelect(), javaValue == null ? null : binaryCodec.serialize(javaValue));
+            return;
+        }
+
         final VALUETO valueTo = encodeField(entity, cassandraOptions);
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Encode '%s' %s to UDT value %s", fieldName, valueTo, udtValue));
@@ -153,13 +247,13 @@ public class SimpleProperty<ENTITY, VALUEFROM, VALUETO> extends AbstractProperty
 
     @Override
     public void inject(UserTypeFactory userTypeFactory, TupleTypeFactory tupleTypeFactory) {
-        // No op
+        rowCodec = driverCodec(userTypeFactory.getCodecRegistry()).orElse(null);
     }
 
     @Override
     public void inject(ObjectMapper mapper) {
-        if (valueCodec instanceof JSONCodec) {
-            ((JSONCodec) valueCodec).setObjectMapper(mapper);
+        if (valueCodec instanceof AbstractJSONCodec) {
+            ((AbstractJSONCodec) valueCodec).setObjectMapper(mapper);
         }
     }
 
@@ -172,6 +266,7 @@ public class SimpleProperty<ENTITY, VALUEFROM, VALUETO> extends AbstractProperty
     public void injectRuntimeCodecs(Map<CodecSignature<?, ?>, Codec<?, ?>> runtimeCodecs) {
         if (valueCodec instanceof RuntimeCodecWrapper) {
             ((RuntimeCodecWrapper)valueCodec).inject(runtimeCodecs);
+            maybeUseBinaryCodec(((RuntimeCodecWrapper<VALUEFROM, VALUETO>) valueCodec).getDelegate());
         }
     }
 
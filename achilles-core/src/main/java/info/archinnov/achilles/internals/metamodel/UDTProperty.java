@@ -28,6 +28,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.GettableData;
+import com.datastax.driver.core.Row;
 import com.datastax.driver.core.SettableData;
 import com.datastax.driver.core.UDTValue;
 import com.datastax.driver.core.UserType;
@@ -104,6 +105,12 @@ public class UDTProperty<ENTITY, UDT_META extends AbstractUDTClassProperty<A>, A
         return decodeFromRaw(gettableData.getUDTValue(fieldInfo.quotedCqlColumn));
     }
 
+    @Override
+    public A decodeFromRow(Row row, int index) {
+        if (row.isNull(index)) return null;
+        return decodeFromRaw(row.getUDTValue(index));
+    }
+
     @Override
     A decodeFromRawInternal(Object o) {
         if (LOGGER.isTraceEnabled()) {
@@ -178,4 +185,10 @@ public class UDTProperty<ENTITY, UDT_META extends AbstractUDTClassProperty<A>, A
         super.inject(schemaNameProvider);
         this.udtClassProperty.inject(schemaNameProvider);
     }
+
+    @Override
+    public void invalidateTypeCache() {
+        super.invalidateTypeCache();
+        this.udtClassProperty.invalidateTypeCache();
+    }
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.metrics;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class EntityMappingMetrics implements EntityMappingMetricsMXBean {
+
+    private final String entityClass;
+    private final LongAdder mappedRows = new LongAdder();
+    private final LongAdder mappingTimeNanos = new LongAdder();
+
+    public EntityMappingMetrics(String entityClass) {
+        this.entityClass = entityClass;
+    }
+
+    public void record(int rows, long mappingTimeInNanos) {
+        mappedRows.add(rows);
+        mappingTimeNanos.add(mappingTimeInNanos);
+    }
+
+    @Override
+    public String getEntityClass() {
+        return entityClass;
+    }
+
+    @Override
+    public long getMappedRowsCount() {
+        return mappedRows.sum();
+    }
+
+    @Override
+    public long getTotalMappingTimeMicros() {
+        return NANOSECONDS.toMicros(mappingTimeNanos.sum());
+    }
+
+    @Override
+    public double getMeanMappingTimeMicros() {
+        final long rows = mappedRows.sum();
+        return rows == 0 ? 0d : ((double) mappingTimeNanos.sum()) / 1000d / rows;
+    }
+}
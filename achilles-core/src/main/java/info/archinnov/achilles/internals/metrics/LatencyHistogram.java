@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.metrics;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with power of two buckets in microseconds.
+ * <br/>
+ * Percentiles are approximated by the upper bound of their bucket, which is
+ * accurate enough to spot slow entities or operations without allocating on record
+ */
+public class LatencyHistogram {
+
+    private static final int BUCKETS_COUNT = 64;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final AtomicLong maxMicros = new AtomicLong(0);
+
+    public void record(long latencyInNanos) {
+        final long micros = NANOSECONDS.toMicros(Math.max(latencyInNanos, 0L));
+        buckets.incrementAndGet(BUCKETS_COUNT - Long.numberOfLeadingZeros(micros));
+        count.increment();
+        totalMicros.add(micros);
+        maxMicros.accumulateAndGet(micros, Math::max);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public double getMeanMicros() {
+        final long currentCount = count.sum();
+        return currentCount == 0 ? 0d : ((double) totalMicros.sum()) / currentCount;
+    }
+
+    public long getMaxMicros() {
+        return maxMicros.get();
+    }
+
+    /**
+     * @param percentile percentile between 0 and 1
+     * @return upper bound in microseconds of the bucket containing the percentile
+     */
+    public long getPercentileMicros(double percentile) {
+        long total = 0;
+        final long[] snapshot = new long[BUCKETS_COUNT];
+        for (int i = 0; i < BUCKETS_COUNT; i++) {
+            snapshot[i] = buckets.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0L;
+        }
+
+        final long rank = (long) Math.ceil(percentile * total);
+        long cumulated = 0;
+        for (int i = 0; i < BUCKETS_COUNT; i++) {
+            cumulated += snapshot[i];
+            if (cumulated >= rank) {
+                return i == 0 ? 0L : Math.min((1L << i) - 1, maxMicros.get());
+            }
+        }
+        return maxMicros.get();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import info.archinnov.achilles.metrics.StatementOperation;
+
+public class StatementMetrics implements StatementMetricsMXBean {
+
+    private final String entityClass;
+    private final StatementOperation operationType;
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder lwtFailures = new LongAdder();
+
+    public StatementMetrics(String entityClass, StatementOperation operationType) {
+        this.entityClass = entityClass;
+        this.operationType = operationType;
+    }
+
+    public void recordLatency(long latencyInNanos, boolean success) {
+        latencies.record(latencyInNanos);
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    public void recordLWTFailure() {
+        lwtFailures.increment();
+    }
+
+    @Override
+    public String getEntityClass() {
+        return entityClass;
+    }
+
+    @Override
+    public String getOperationType() {
+        return operationType.name();
+    }
+
+    @Override
+    public long getCount() {
+        return latencies.getCount();
+    }
+
+    @Override
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    @Override
+    public long getLWTFailureCount() {
+        return lwtFailures.sum();
+    }
+
+    @Override
+    public double getMeanLatencyMicros() {
+        return latencies.getMeanMicros();
+    }
+
+    @Override
+    public long getMaxLatencyMicros() {
+        return latencies.getMaxMicros();
+    }
+
+    @Override
+    public long get50thPercentileLatencyMicros() {
+        return latencies.getPercentileMicros(0.50);
+    }
+
+    @Override
+    public long get95thPercentileLatencyMicros() {
+        return latencies.getPercentileMicros(0.95);
+    }
+
+    @Override
+    public long get99thPercentileLatencyMicros() {
+        return latencies.getPercentileMicros(0.99);
+    }
+}
@@ -59,6 +59,7 @@ public class CassandraOptions {
     private Optional<StringJoiner> dseSearchSolrQuery = Optional.empty();
     private Optional<String> dseSearchRawSolrQuery = Optional.empty();
     private Optional<Integer> DMLResultsDisplaySize = Optional.empty();
+    private Optional<Integer> prefetchThreshold = Optional.empty();
 
     public CassandraOptions() {}
 
@@ -276,6 +277,14 @@ public class CassandraOptions {
         this.DMLResultsDisplaySize = DMLResultsDisplaySize;
     }
 
+    public Optional<Integer> getPrefetchThreshold() {
+        return prefetchThreshold;
+    }
+
+    public void setPrefetchThreshold(Optional<Integer> prefetchThreshold) {
+        this.prefetchThreshold = prefetchThreshold;
+    }
+
     public Statement applyOptions(OperationType operationType, AbstractEntityProperty<?> meta, Statement statement) {
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(String.format("Applying options %s to the current statement %s",
@@ -321,6 +330,7 @@ public class CassandraOptions {
         sb.append(", schemaNameProvider=").append(schemaNameProvider);
         sb.append(", readTimeoutInMillis=").append(readTimeout);
         sb.append(", DMLResultsDisplaySize=").append(DMLResultsDisplaySize);
+        sb.append(", prefetchThreshold=").append(prefetchThreshold);
         sb.append('}');
         return sb.toString();
     }
@@ -517,7 +517,10 @@ public class AnnotationTree {
 
     private static TypedMap inspectSupportedAnnotation_Javac(AptUtils aptUtils, TypeMirror currentType, AnnotationMirror annotation) {
         final TypedMap typedMap = new TypedMap();
-        if(areSameByClass(annotation, Enumerated.class)){
+        if (areSameByClass(annotation, JSON.class)) {
+            final JSON.Format format = getElementValueEnum(annotation, "value", JSON.Format.class, true);
+            return TypedMap.of("value", format);
+        } else if(areSameByClass(annotation, Enumerated.class)){
             final Enumerated.Encoding encoding = getElementValueEnum(annotation, "value", Enumerated.Encoding.class, true);
             return TypedMap.of("value", encoding);
         } else if (areSameByClass(annotation, Codec.class)) {
@@ -614,6 +617,17 @@ public class AnnotationTree {
         final TypedMap typedMap = new TypedMap();
         final String annotationName = annotationBinding.getAnnotationType().debugName();
         if (JSON.class.getCanonicalName().equals(annotationName)) {
+            final JSON.Format format = Arrays.asList(annotationBinding.getElementValuePairs())
+                    .stream()
+                    .filter(pair -> new String(pair.getName()).equals("value"))
+                    .map(pair -> pair.getValue())
+                    .filter(value -> value instanceof FieldBinding)
+                    .map(value -> (FieldBinding) value)
+                    .filter(value -> JSON.Format.class.getCanonicalName().equals(value.type.debugName()))
+                    .map(value -> JSON.Format.valueOf(JSON.Format.class, new String(value.name)))
+                    .findFirst()
+                    .orElse(JSON.Format.TEXT);
+            typedMap.put("value", format);
             return Tuple2.of(JSON.class, typedMap);
         } else if (EmptyCollectionIfNull.class.getCanonicalName().equals(annotationName)) {
             return Tuple2.of(EmptyCollectionIfNull.class, typedMap);
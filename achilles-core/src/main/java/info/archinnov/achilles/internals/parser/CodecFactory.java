@@ -46,11 +46,16 @@ import info.archinnov.achilles.internals.parser.context.GlobalParsingContext;
 import info.archinnov.achilles.internals.parser.context.RuntimeCodecContext;
 import info.archinnov.achilles.internals.parser.validator.TypeValidator;
 import info.archinnov.achilles.type.TypedMap;
+import info.archinnov.achilles.type.codec.BinaryCodec;
 import info.archinnov.achilles.type.tuples.Tuple2;
 
 
 public class CodecFactory {
 
+    private static final List<String> CODEC_INTERFACES = Arrays.asList(
+            info.archinnov.achilles.type.codec.Codec.class.getCanonicalName(),
+            BinaryCodec.class.getCanonicalName());
+
     private final AptUtils aptUtils;
 
 
@@ -68,7 +73,7 @@ public class CodecFactory {
                     .stream()
                     .filter(x -> x instanceof ParameterizedType)
                     .map(x -> (ParameterizedType) x)
-                    .filter(x -> x.getRawType().getTypeName().equals(info.archinnov.achilles.type.codec.Codec.class.getCanonicalName()))
+                    .filter(x -> CODEC_INTERFACES.contains(x.getRawType().getTypeName()))
                     .flatMap(x -> Arrays.asList(x.getActualTypeArguments()).stream())
                     .map(TypeName::get)
                     .collect(Collectors.toList());
@@ -82,10 +87,12 @@ public class CodecFactory {
     public static CodecContext buildCodecContext(AptUtils aptUtils, String codecClassName) {
 
         final TypeMirror codecInterfaceType = aptUtils.erasure(aptUtils.elementUtils.getTypeElement(info.archinnov.achilles.type.codec.Codec.class.getCanonicalName()).asType());
+        final TypeMirror binaryCodecInterfaceType = aptUtils.erasure(aptUtils.elementUtils.getTypeElement(BinaryCodec.class.getCanonicalName()).asType());
         final Optional<? extends TypeMirror> foundCodecInterface = aptUtils.elementUtils.getTypeElement(codecClassName)
                 .getInterfaces()
                 .stream()
-                .filter(x -> aptUtils.typeUtils.isSameType(aptUtils.erasure(x), codecInterfaceType))
+                .filter(x -> aptUtils.typeUtils.isSameType(aptUtils.erasure(x), codecInterfaceType)
+                        || aptUtils.typeUtils.isSameType(aptUtils.erasure(x), binaryCodecInterfaceType))
                 .findFirst();
 
         aptUtils.validateTrue(foundCodecInterface.isPresent(), "Codec class '%s' should implement the Codec<FROM, TO> interface", codecClassName);
@@ -130,8 +137,15 @@ public class CodecFactory {
         CodeBlock codec;
 
         if (jsonTransform.isPresent()) {
-            codec = CodeBlock.builder().add("new $T<>($T.class, $L)", JSON_CODEC, getRawType(sourceType).box(), buildJavaTypeForJackson(sourceType)).build();
-            targetType = ClassName.get(String.class);
+            final JSON.Format format = extractJSONFormat(jsonTransform.get());
+            if (format == JSON.Format.TEXT) {
+                codec = CodeBlock.builder().add("new $T<>($T.class, $L)", JSON_CODEC, getRawType(sourceType).box(), buildJavaTypeForJackson(sourceType)).build();
+                targetType = ClassName.get(String.class);
+            } else {
+                codec = CodeBlock.builder().add("new $T<>($T.class, $L, $T.$L)", BINARY_JSON_CODEC, getRawType(sourceType).box(),
+                        buildJavaTypeForJackson(sourceType), JSON_FORMAT, format.name()).build();
+                targetType = BYTE_BUFFER;
+            }
             return new CodecInfo(codec, sourceType, targetType);
         } else if (codecFromType.isPresent()) {
             final Tuple2<TypeName, CodeBlock> tuple2 = codecCodeGen(context, codecFromType.get(), sourceType, computedCQLClass, isCounter);
@@ -178,6 +192,10 @@ public class CodecFactory {
         }
     }
 
+    public static JSON.Format extractJSONFormat(TypedMap jsonTransform) {
+        return jsonTransform.getTypedOr("value", JSON.Format.TEXT);
+    }
+
     public TypeName determineTargetCQLType(GlobalParsingContext context, AnnotationTree annotationTree, TypeName parentType, TypeName sourceType,
                                            String methodName, String paramName, Optional<CodecInfo> codecFromRegistry) {
         final TypeValidator typeValidator = context.typeValidator();
@@ -195,7 +213,7 @@ public class CodecFactory {
         final boolean isCounter = extractTypedMap(annotationTree, Counter.class).isPresent();
 
         if (jsonTransform.isPresent()) {
-            return ClassName.get(String.class);
+            return extractJSONFormat(jsonTransform.get()) == JSON.Format.TEXT ? ClassName.get(String.class) : BYTE_BUFFER;
         } else if (codecFromType.isPresent()) {
             final CodecContext codecContext = codecFromType.get().getTyped("codecContext");
             context.fieldValidator().validateCodec(aptUtils, typeValidator, codecContext, sourceType, computedCQLClass, isCounter);
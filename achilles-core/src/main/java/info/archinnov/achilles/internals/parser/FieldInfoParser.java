@@ -270,7 +270,8 @@ public class FieldInfoParser {
             }
         }
 
-        if (aptUtils.isAssignableFrom(List.class, currentType) || aptUtils.isAssignableFrom(Set.class, currentType)) {
+        final boolean isPrimitiveCollection = aptUtils.isPrimitiveCollection(currentType);
+        if (!isPrimitiveCollection && (aptUtils.isAssignableFrom(List.class, currentType) || aptUtils.isAssignableFrom(Set.class, currentType))) {
             final AnnotationTree next = hasJSON ? annotationTree : annotationTree.next();
             if (indexAnnot.isPresent()) {
                 final IndexInfoContext indexInfoContext = getNativeIndexInfoContext(elm, context, indexAnnot);
@@ -284,7 +285,7 @@ public class FieldInfoParser {
             } else {
                 return Tuple2.of(noIndex(), IndexInfo.noIndex());
             }
-        } else if (aptUtils.isAssignableFrom(Map.class, currentType)) {
+        } else if (!isPrimitiveCollection && aptUtils.isAssignableFrom(Map.class, currentType)) {
             final AnnotationTree keyAnnotationTree = hasJSON ? annotationTree : annotationTree.next();
             final AnnotationTree valueAnnotationTree = hasJSON ? annotationTree : annotationTree.next().next();
 
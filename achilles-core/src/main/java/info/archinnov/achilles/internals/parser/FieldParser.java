@@ -90,6 +90,8 @@ public class FieldParser {
             return parseSimpleType(annotationTree, context, sourceType);
         } else if (containsAnnotation(annotationTree, Computed.class)) {
             return parseComputedType(annotationTree, context, sourceType);
+        } else if (aptUtils.isPrimitiveCollection(currentTypeMirror)) {
+            return parseSimpleType(annotationTree, context, sourceType);
         } else if (aptUtils.isAssignableFrom(Tuple1.class, currentTypeMirror)) {
             return parseTuple1(annotationTree, context);
         } else if (aptUtils.isAssignableFrom(Tuple2.class, currentTypeMirror)) {
@@ -59,9 +59,15 @@ public class FunctionParamParser {
                 && aptUtils.getAnnotationOnClass(currentTypeMirror, UDT.class).isPresent();
 
         if (containsAnnotation(annotationTree, JSON.class)) {
-            return new FunctionParamSignature(paramName, sourceType, STRING, "text");
+            if (CodecFactory.extractJSONFormat(annotationTree.getAnnotations().get(JSON.class)) == JSON.Format.TEXT) {
+                return new FunctionParamSignature(paramName, sourceType, STRING, "text");
+            } else {
+                return new FunctionParamSignature(paramName, sourceType, BYTE_BUFFER, "blob");
+            }
         } else if (containsAnnotation(annotationTree, Computed.class)) {
             throw new AchillesBeanMappingException(format("Cannot have @Computed annotation on param '%s' of method '%s''", paramName, methodName));
+        } else if (aptUtils.isPrimitiveCollection(currentTypeMirror)) {
+            return parseSimpleType(context, annotationTree, parentType, methodName, paramName);
         } else if (aptUtils.isAssignableFrom(Tuple1.class, currentTypeMirror)) {
             return parseTuple1(context, annotationTree, parentType, methodName, paramName);
         } else if (aptUtils.isAssignableFrom(Tuple2.class, currentTypeMirror)) {
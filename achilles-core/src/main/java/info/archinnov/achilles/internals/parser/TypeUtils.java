@@ -40,6 +40,7 @@ import com.google.common.reflect.TypeToken;
 import com.squareup.javapoet.*;
 
 import info.archinnov.achilles.annotations.DSE_Search;
+import info.archinnov.achilles.annotations.JSON;
 import info.archinnov.achilles.annotations.SASI.Analyzer;
 import info.archinnov.achilles.annotations.SASI.IndexMode;
 import info.archinnov.achilles.annotations.SASI.Normalization;
@@ -47,6 +48,7 @@ import info.archinnov.achilles.bootstrap.AbstractManagerFactoryBuilder;
 import info.archinnov.achilles.configuration.ConfigurationParameters;
 import info.archinnov.achilles.generated.function.AbstractCQLCompatibleType;
 import info.archinnov.achilles.internals.apt.annotations.AchillesMeta;
+import info.archinnov.achilles.internals.cache.StatementShape;
 import info.archinnov.achilles.internals.cassandra_version.InternalCassandraVersion;
 import info.archinnov.achilles.internals.codec.*;
 import info.archinnov.achilles.internals.codegen.function.InternalSystemFunctionRegistry;
@@ -129,6 +131,8 @@ public class TypeUtils {
 
     // Codecs
     public static final ClassName JSON_CODEC = ClassName.get(JSONCodec.class);
+    public static final ClassName BINARY_JSON_CODEC = ClassName.get(BinaryJSONCodec.class);
+    public static final ClassName JSON_FORMAT = ClassName.get(JSON.Format.class);
     public static final ClassName ENUM_NAME_CODEC = ClassName.get(EnumNameCodec.class);
 
     public static final ClassName ENUM_ORDINAL_CODEC = ClassName.get(EnumOrdinalCodec.class);
@@ -228,12 +232,18 @@ public class TypeUtils {
     public static final ClassName ABSTRACT_ENTITY_PROPERTY = ClassName.get(AbstractEntityProperty.class);
     public static final ClassName ABSTRACT_VIEW_PROPERTY = ClassName.get(AbstractViewProperty.class);
     public static final ClassName RUNTIME_ENGINE = ClassName.get(RuntimeEngine.class);
+    public static final ClassName STATEMENT_SHAPE = ClassName.get(StatementShape.class);
     public static final ClassName INSERT_WITH_OPTIONS = ClassName.get(InsertWithOptions.class);
     public static final ClassName UPDATE_WITH_OPTIONS = ClassName.get(UpdateWithOptions.class);
     public static final ClassName INSERT_JSON_WITH_OPTIONS = ClassName.get(InsertJSONWithOptions.class);
     public static final ClassName FIND_WITH_OPTIONS = ClassName.get(FindWithOptions.class);
+    public static final ClassName FIND_BY_IDS_WITH_OPTIONS = ClassName.get(FindByIdsWithOptions.class);
+    public static final ClassName SCAN_ALL_WITH_OPTIONS = ClassName.get(ScanAllWithOptions.class);
     public static final ClassName DELETE_WITH_OPTIONS = ClassName.get(DeleteWithOptions.class);
     public static final ClassName DELETE_BY_PARTITION_WITH_OPTIONS = ClassName.get(DeleteByPartitionWithOptions.class);
+    public static final ClassName INSERT_ALL_WITH_OPTIONS = ClassName.get(InsertAllWithOptions.class);
+    public static final ClassName UPDATE_ALL_WITH_OPTIONS = ClassName.get(UpdateAllWithOptions.class);
+    public static final ClassName DELETE_ALL_WITH_OPTIONS = ClassName.get(DeleteAllWithOptions.class);
     public static final ClassName INTERNAL_CASSANDRA_VERSION = ClassName.get(InternalCassandraVersion.class);
 
     // UDF & UDA
@@ -264,6 +274,7 @@ public class TypeUtils {
     public static final ClassName JAVA_DRIVER_USER_TYPE = ClassName.get(UserType.class);
     public static final ClassName DATATYPE = ClassName.get(DataType.class);
     public static final ClassName LIST = ClassName.get(List.class);
+    public static final ClassName COLLECTION = ClassName.get(Collection.class);
     public static final ClassName SET = ClassName.get(Set.class);
     public static final ClassName MAP = ClassName.get(Map.class);
 
@@ -275,6 +286,16 @@ public class TypeUtils {
     public static final TypeName FLOAT_ARRAY = TypeName.get(float[].class);
     public static final TypeName INT_ARRAY = TypeName.get(int[].class);
     public static final TypeName LONG_ARRAY = TypeName.get(long[].class);
+    public static final TypeName FASTUTIL_INT_LIST = ClassName.get("it.unimi.dsi.fastutil.ints", "IntList");
+    public static final TypeName FASTUTIL_LONG_LIST = ClassName.get("it.unimi.dsi.fastutil.longs", "LongList");
+    public static final TypeName FASTUTIL_FLOAT_LIST = ClassName.get("it.unimi.dsi.fastutil.floats", "FloatList");
+    public static final TypeName FASTUTIL_DOUBLE_LIST = ClassName.get("it.unimi.dsi.fastutil.doubles", "DoubleList");
+    public static final TypeName FASTUTIL_INT_SET = ClassName.get("it.unimi.dsi.fastutil.ints", "IntSet");
+    public static final TypeName FASTUTIL_LONG_SET = ClassName.get("it.unimi.dsi.fastutil.longs", "LongSet");
+    public static final TypeName FASTUTIL_INT_2_INT_MAP = ClassName.get("it.unimi.dsi.fastutil.ints", "Int2IntMap");
+    public static final TypeName FASTUTIL_INT_2_DOUBLE_MAP = ClassName.get("it.unimi.dsi.fastutil.ints", "Int2DoubleMap");
+    public static final TypeName FASTUTIL_LONG_2_LONG_MAP = ClassName.get("it.unimi.dsi.fastutil.longs", "Long2LongMap");
+    public static final TypeName FASTUTIL_LONG_2_DOUBLE_MAP = ClassName.get("it.unimi.dsi.fastutil.longs", "Long2DoubleMap");
     public static final TypeName NATIVE_BOOLEAN = TypeName.get(boolean.class);
     public static final TypeName OBJECT_BOOLEAN = ClassName.get(Boolean.class);
     public static final TypeName NATIVE_BYTE = TypeName.get(byte.class);
@@ -342,6 +363,7 @@ public class TypeUtils {
 //    public static final Map<TypeName, TypeName> NATIVE_TYPES_MAPPING = new HashMap<>();
     public static final Map<TypeName, String> DRIVER_TYPES_MAPPING = new HashMap<>();
     public static final Map<TypeName, String> DRIVER_TYPES_FUNCTION_PARAM_MAPPING = new HashMap<>();
+    public static final Set<TypeName> PRIMITIVE_COLLECTION_TYPES = new HashSet<>();
 
     static {
         // Bytes
@@ -380,6 +402,41 @@ public class TypeUtils {
         DRIVER_TYPES_FUNCTION_PARAM_MAPPING.put(INT_ARRAY, "list<int>");
         DRIVER_TYPES_FUNCTION_PARAM_MAPPING.put(LONG_ARRAY, "list<bigint>");
 
+        // Primitive collections, mapped to (non frozen) CQL collections of the same element types
+        PRIMITIVE_COLLECTION_TYPES.add(FASTUTIL_INT_LIST);
+        PRIMITIVE_COLLECTION_TYPES.add(FASTUTIL_LONG_LIST);
+        PRIMITIVE_COLLECTION_TYPES.add(FASTUTIL_FLOAT_LIST);
+        PRIMITIVE_COLLECTION_TYPES.add(FASTUTIL_DOUBLE_LIST);
+        PRIMITIVE_COLLECTION_TYPES.add(FASTUTIL_INT_SET);
+        PRIMITIVE_COLLECTION_TYPES.add(FASTUTIL_LONG_SET);
+        PRIMITIVE_COLLECTION_TYPES.add(FASTUTIL_INT_2_INT_MAP);
+        PRIMITIVE_COLLECTION_TYPES.add(FASTUTIL_INT_2_DOUBLE_MAP);
+        PRIMITIVE_COLLECTION_TYPES.add(FASTUTIL_LONG_2_LONG_MAP);
+        PRIMITIVE_COLLECTION_TYPES.add(FASTUTIL_LONG_2_DOUBLE_MAP);
+        ALLOWED_TYPES_2_1.addAll(PRIMITIVE_COLLECTION_TYPES);
+
+        DRIVER_TYPES_MAPPING.put(FASTUTIL_INT_LIST, "list(DataType.cint())");
+        DRIVER_TYPES_MAPPING.put(FASTUTIL_LONG_LIST, "list(DataType.bigint())");
+        DRIVER_TYPES_MAPPING.put(FASTUTIL_FLOAT_LIST, "list(DataType.cfloat())");
+        DRIVER_TYPES_MAPPING.put(FASTUTIL_DOUBLE_LIST, "list(DataType.cdouble())");
+        DRIVER_TYPES_MAPPING.put(FASTUTIL_INT_SET, "set(DataType.cint())");
+        DRIVER_TYPES_MAPPING.put(FASTUTIL_LONG_SET, "set(DataType.bigint())");
+        DRIVER_TYPES_MAPPING.put(FASTUTIL_INT_2_INT_MAP, "map(DataType.cint(), DataType.cint())");
+        DRIVER_TYPES_MAPPING.put(FASTUTIL_INT_2_DOUBLE_MAP, "map(DataType.cint(), DataType.cdouble())");
+        DRIVER_TYPES_MAPPING.put(FASTUTIL_LONG_2_LONG_MAP, "map(DataType.bigint(), DataType.bigint())");
+        DRIVER_TYPES_MAPPING.put(FASTUTIL_LONG_2_DOUBLE_MAP, "map(DataType.bigint(), DataType.cdouble())");
+
+        DRIVER_TYPES_FUNCTION_PARAM_MAPPING.put(FASTUTIL_INT_LIST, "list<int>");
+        DRIVER_TYPES_FUNCTION_PARAM_MAPPING.put(FASTUTIL_LONG_LIST, "list<bigint>");
+        DRIVER_TYPES_FUNCTION_PARAM_MAPPING.put(FASTUTIL_FLOAT_LIST, "list<float>");
+        DRIVER_TYPES_FUNCTION_PARAM_MAPPING.put(FASTUTIL_DOUBLE_LIST, "list<double>");
+        DRIVER_TYPES_FUNCTION_PARAM_MAPPING.put(FASTUTIL_INT_SET, "set<int>");
+        DRIVER_TYPES_FUNCTION_PARAM_MAPPING.put(FASTUTIL_LONG_SET, "set<bigint>");
+        DRIVER_TYPES_FUNCTION_PARAM_MAPPING.put(FASTUTIL_INT_2_INT_MAP, "map<int,int>");
+        DRIVER_TYPES_FUNCTION_PARAM_MAPPING.put(FASTUTIL_INT_2_DOUBLE_MAP, "map<int,double>");
+        DRIVER_TYPES_FUNCTION_PARAM_MAPPING.put(FASTUTIL_LONG_2_LONG_MAP, "map<bigint,bigint>");
+        DRIVER_TYPES_FUNCTION_PARAM_MAPPING.put(FASTUTIL_LONG_2_DOUBLE_MAP, "map<bigint,double>");
+
 //        NATIVE_TYPES_MAPPING.put(DOUBLE_ARRAY, genericType(LIST, OBJECT_DOUBLE));
 //        NATIVE_TYPES_MAPPING.put(FLOAT_ARRAY, genericType(LIST, OBJECT_FLOAT));
 //        NATIVE_TYPES_MAPPING.put(INT_ARRAY, genericType(LIST, OBJECT_INT));
@@ -37,7 +37,7 @@ public abstract class NestedTypesValidator {
 
     public void validateMapKeys(AptUtils aptUtils, AnnotationTree annotationTree, String fieldName, TypeName rawClass) {
         final TypeMirror currentType = aptUtils.erasure(annotationTree.getCurrentType());
-        if (aptUtils.isAssignableFrom(Map.class, currentType)) {
+        if (aptUtils.isAssignableFrom(Map.class, currentType) && !aptUtils.isPrimitiveCollection(currentType)) {
             final AnnotationTree next = annotationTree.next();
             final TypeMirror mapKey = next.getCurrentType();
             if (aptUtils.isCompositeTypeForCassandra(mapKey) && !containsAnnotation(next, JSON.class)) {
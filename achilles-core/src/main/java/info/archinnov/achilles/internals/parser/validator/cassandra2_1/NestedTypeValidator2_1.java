@@ -47,10 +47,12 @@ public class NestedTypeValidator2_1 extends NestedTypesValidator {
 
         final TypeMirror currentType = aptUtils.erasure(annotationTree.getCurrentType());
 
-        if (aptUtils.isAssignableFrom(Tuple.class, currentType) || containsAnnotation(annotationTree, JSON.class)) {
+        if (aptUtils.isAssignableFrom(Tuple.class, currentType) || containsAnnotation(annotationTree, JSON.class)
+                || aptUtils.isPrimitiveCollection(currentType)) {
             // Do not validate nested types for Tuples because
             // they are @Frozen by default
             // Do not validate nested types for JSON transformation
+            // Primitive collections have no nested type
             return;
         } else if (aptUtils.isAssignableFrom(List.class, currentType)
                 || aptUtils.isAssignableFrom(Set.class, currentType)) {
@@ -22,6 +22,9 @@ import static info.archinnov.achilles.internals.statement.StatementHelper.isSele
 import static info.archinnov.achilles.validation.Validator.*;
 import static java.lang.String.format;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.apache.commons.lang3.ArrayUtils;
@@ -30,10 +33,7 @@ import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.*;
 
-import info.archinnov.achilles.internals.dsl.crud.DeleteWithOptions;
-import info.archinnov.achilles.internals.dsl.crud.InsertJSONWithOptions;
-import info.archinnov.achilles.internals.dsl.crud.InsertWithOptions;
-import info.archinnov.achilles.internals.dsl.crud.UpdateWithOptions;
+import info.archinnov.achilles.internals.dsl.crud.*;
 import info.archinnov.achilles.internals.dsl.raw.NativeQuery;
 import info.archinnov.achilles.internals.dsl.raw.TypedQuery;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
@@ -151,6 +151,57 @@ public abstract class AbstractManager<ENTITY> {
         return new DeleteWithOptions<>(entityClass, meta_internal, rte, tuple._1(), tuple._2(), Optional.of(instance), cassandraOptions);
     }
 
+    protected InsertAllWithOptions<ENTITY> insertAllInternal(Collection<ENTITY> instances, Optional<CassandraOptions> cassandraOptions) {
+
+        validateNotNull(instances, "Entities to be inserted should not be null");
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Create insert all CRUD for %s entities", instances.size()));
+        }
+
+        final List<ENTITY> entities = new ArrayList<>(instances);
+        for (ENTITY instance : entities) {
+            validateNotNull(instance, "Entity to be inserted should not be null");
+            validatePrimaryKey(instance, meta_internal, cassandraOptions);
+        }
+
+        return new InsertAllWithOptions<>(meta_internal, rte, entities, cassandraOptions);
+    }
+
+    protected UpdateAllWithOptions<ENTITY> updateAllInternal(Collection<ENTITY> instances, Optional<CassandraOptions> cassandraOptions) {
+
+        validateNotNull(instances, "Entities to be updated to Cassandra should not be null");
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Create update all CRUD for %s entities", instances.size()));
+        }
+
+        final List<ENTITY> entities = new ArrayList<>(instances);
+        for (ENTITY instance : entities) {
+            validateNotNull(instance, "Entity to be updated to Cassandra should not be null");
+            validatePrimaryKey(instance, meta_internal, cassandraOptions);
+        }
+
+        return new UpdateAllWithOptions<>(meta_internal, rte, entities, cassandraOptions);
+    }
+
+    protected DeleteAllWithOptions<ENTITY> deleteAllInternal(Collection<ENTITY> instances, Optional<CassandraOptions> cassandraOptions) {
+
+        validateNotNull(instances, "Entities to be deleted should not be null");
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Create delete all CRUD for %s entities", instances.size()));
+        }
+
+        final List<ENTITY> entities = new ArrayList<>(instances);
+        for (ENTITY instance : entities) {
+            validateNotNull(instance, "Entity to be deleted should not be null");
+            validatePrimaryKey(instance, meta_internal, cassandraOptions);
+        }
+
+        return new DeleteAllWithOptions<>(meta_internal, rte, entities, cassandraOptions);
+    }
+
     protected TypedQuery<ENTITY> typedQueryForSelectInternal(BoundStatement boundStatement) {
         validateTrue(isSelectStatement(boundStatement), "Statement provided for typed query should be an SELECT statement");
 
@@ -23,6 +23,13 @@ import static java.lang.String.format;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import javax.annotation.PreDestroy;
 
@@ -39,7 +46,10 @@ import com.datastax.driver.extras.codecs.jdk8.LocalDateCodec;
 import com.datastax.driver.extras.codecs.jdk8.LocalTimeCodec;
 import com.datastax.driver.extras.codecs.jdk8.ZonedDateTimeCodec;
 
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.internals.cache.EntityCache;
 import info.archinnov.achilles.internals.cassandra_version.InternalCassandraVersion;
+import info.archinnov.achilles.internals.codec.primitive.PrimitiveCollectionCodecs;
 import info.archinnov.achilles.internals.context.ConfigurationContext;
 import info.archinnov.achilles.internals.factory.TupleTypeFactory;
 import info.archinnov.achilles.internals.factory.UserTypeFactory;
@@ -47,7 +57,9 @@ import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.internals.metamodel.AbstractUDTClassProperty;
 import info.archinnov.achilles.internals.metamodel.AbstractViewProperty;
 import info.archinnov.achilles.internals.metamodel.functions.FunctionProperty;
+import info.archinnov.achilles.internals.statements.StaticStatementsPreparer;
 import info.archinnov.achilles.internals.utils.CodecRegistryHelper;
+import info.archinnov.achilles.type.strategy.StatementsPreparationStrategy;
 
 public abstract class AbstractManagerFactory {
 
@@ -60,6 +72,7 @@ public abstract class AbstractManagerFactory {
     protected List<AbstractEntityProperty<?>> entityProperties;
     protected List<Class<?>> entityClasses;
     protected List<FunctionProperty> functionProperties;
+    protected TypeCacheInvalidator typeCacheInvalidator;
 
     public AbstractManagerFactory(Cluster cluster, ConfigurationContext configContext) {
         this.cluster = cluster;
@@ -92,6 +105,40 @@ public abstract class AbstractManagerFactory {
         return tableName;
     }
 
+    /**
+     * Provide the global in-flight requests limiter, if a max number of in-flight requests has been configured.
+     * The limiter exposes the current number of in-flight and queued requests as well as the number of rejected requests
+     *
+     * @return global in-flight requests limiter
+     */
+    public Optional<InFlightRequestsLimiter> getRequestsLimiter() {
+        return rte.requestsLimiter;
+    }
+
+    /**
+     * Provide the in-flight requests limiter of the given table, if a max number of in-flight requests has been
+     * configured for this table
+     *
+     * @param keyspace keyspace name
+     * @param tableName table name
+     * @return in-flight requests limiter of the table
+     */
+    public Optional<InFlightRequestsLimiter> getRequestsLimiterForTable(String keyspace, String tableName) {
+        return Optional.ofNullable(rte.tableRequestsLimiters.get(keyspace + "." + tableName));
+    }
+
+    /**
+     * Provide the row cache of the given entity, if configured with
+     * {@link info.archinnov.achilles.bootstrap.AbstractManagerFactoryBuilder#withEntityCache(Class, long, long, java.util.concurrent.TimeUnit)}.
+     * The cache exposes its hit/miss statistics and can be invalidated after writes done outside of this manager factory
+     *
+     * @param entityClass entity class
+     * @return row cache of the entity
+     */
+    public Optional<EntityCache> getEntityCache(Class<?> entityClass) {
+        return Optional.ofNullable(rte.entityCaches.get(entityClass));
+    }
+
     /**
      * Shutdown the manager factory and the related session and executor service (if they are created by Achilles).
      * If the Java driver Session object and/or the executor service were provided as bootstrap parameter, Achilles
@@ -109,9 +156,15 @@ public abstract class AbstractManagerFactory {
             LOGGER.info(format("Closing built executor service (thread pool) %s", configContext.getExecutorService()));
             configContext.getExecutorService().shutdown();
         }
+        if (typeCacheInvalidator != null) {
+            cluster.unregister(typeCacheInvalidator);
+        }
+        rte.cache.unregisterMetrics(rte.metrics);
+        rte.metrics.close();
     }
 
     protected void bootstrap() {
+        final long start = System.nanoTime();
         addNativeCodecs();
         injectDependencies();
         if (configContext.isForceSchemaGeneration()) {
@@ -121,6 +174,7 @@ public abstract class AbstractManagerFactory {
             validateSchema();
         }
         prepareStaticStatements();
+        LOGGER.info(format("Manager factory bootstrapped in %s ms", elapsedMillis(start)));
     }
 
     protected void addNativeCodecs() {
@@ -163,6 +217,8 @@ public abstract class AbstractManagerFactory {
         if (!codecRegistryHelper.hasCodecFor(zonedDateTimeType, java.time.ZonedDateTime.class)) {
             codecRegistry.register(new ZonedDateTimeCodec(zonedDateTimeType));
         }
+
+        PrimitiveCollectionCodecs.registerInto(codecRegistry);
     }
 
     protected void injectDependencies() {
@@ -177,18 +233,51 @@ public abstract class AbstractManagerFactory {
                 .stream()
                 .filter(x -> manageEntities.contains(x.entityClass))
                 .forEach(x -> configContext.injectDependencies(tupleTypeFactory, userTypeFactory, x));
+        typeCacheInvalidator = new TypeCacheInvalidator(entityProperties
+                .stream()
+                .filter(x -> manageEntities.contains(x.entityClass))
+                .collect(Collectors.toList()));
+        cluster.register(typeCacheInvalidator);
     }
 
+    /**
+     * Validate the schema of the managed entities in parallel. The validations run on a dedicated
+     * thread pool, shut down once done, rather than on the executor service whose bounded queue
+     * could reject the tasks when there are many entities
+     */
     protected void validateSchema() {
+        final long start = System.nanoTime();
         final List<Class<?>> manageEntities = configContext.getManageEntities().isEmpty() ? entityClasses : configContext.getManageEntities();
-        entityProperties
+        final List<AbstractEntityProperty<?>> entitiesToValidate = entityProperties
                 .stream()
                 .filter(x -> manageEntities.contains(x.entityClass))
-                .forEach(x -> x.validateSchema(configContext));
+                .collect(Collectors.toList());
+
+        final int threadCount = Math.max(1, Math.min(entitiesToValidate.size(), Runtime.getRuntime().availableProcessors()));
+        final ExecutorService validationExecutor = Executors.newFixedThreadPool(threadCount, new SchemaValidationThreadFactory());
+        try {
+            final List<CompletableFuture<Void>> validations = entitiesToValidate
+                    .stream()
+                    .map(x -> CompletableFuture.runAsync(() -> {
+                        final long entityStart = System.nanoTime();
+                        x.validateSchema(configContext);
+                        if (LOGGER.isDebugEnabled()) {
+                            LOGGER.debug(format("Schema validated for entity %s in %s ms",
+                                    x.entityClass.getCanonicalName(), elapsedMillis(entityStart)));
+                        }
+                    }, validationExecutor))
+                    .collect(Collectors.toList());
+
+            awaitAll(validations);
+        } finally {
+            validationExecutor.shutdownNow();
+        }
 
         functionProperties
                 .stream()
                 .forEach(x -> x.validate(configContext));
+
+        LOGGER.info(format("Schema validated for %s entities in %s ms", entitiesToValidate.size(), elapsedMillis(start)));
     }
 
 
@@ -237,12 +326,67 @@ public abstract class AbstractManagerFactory {
     }
 
     protected void prepareStaticStatements() {
+        if (configContext.getStatementsPreparationStrategy() == StatementsPreparationStrategy.LAZY) {
+            LOGGER.info("Static statements will be prepared on first use");
+            return;
+        }
+        final long start = System.nanoTime();
         final List<Class<?>> manageEntities = configContext.getManageEntities().isEmpty() ? entityClasses : configContext.getManageEntities();
-        entityProperties
+        final StaticStatementsPreparer preparer = new StaticStatementsPreparer(configContext.getSession(), rte.cache,
+                configContext.getBootstrapMaxConcurrentPrepares());
+        final AtomicInteger statementsCount = new AtomicInteger(0);
+        final List<CompletableFuture<Void>> preparations = entityProperties
                 .stream()
                 .filter(x -> manageEntities.contains(x.entityClass))
-                .forEach(x -> x.prepareStaticStatements(getCassandraVersion(), configContext.getSession(), rte.cache));
+                .map(x -> {
+                    final long entityStart = System.nanoTime();
+                    x.prepareStaticStatements(getCassandraVersion(), preparer);
+                    return preparer.collectPending().thenAccept(count -> {
+                        statementsCount.addAndGet(count);
+                        if (LOGGER.isDebugEnabled()) {
+                            LOGGER.debug(format("%s static statements prepared for entity %s in %s ms",
+                                    count, x.entityClass.getCanonicalName(), elapsedMillis(entityStart)));
+                        }
+                    });
+                })
+                .collect(Collectors.toList());
+
+        awaitAll(preparations);
+
+        LOGGER.info(format("%s static statements prepared for %s entities in %s ms",
+                statementsCount.get(), preparations.size(), elapsedMillis(start)));
     }
 
+    /**
+     * Wait for the completion of all the bootstrap tasks and re-throw the failure
+     * of the first failed task, if any
+     */
+    private static void awaitAll(List<CompletableFuture<Void>> futures) {
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[futures.size()])).join();
+        } catch (CompletionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else {
+                throw new AchillesException(cause);
+            }
+        }
+    }
 
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    private static class SchemaValidationThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadNumber = new AtomicInteger(0);
+
+        @Override
+        public Thread newThread(Runnable r) {
+            final Thread thread = new Thread(r);
+            thread.setName("achilles-schema-validation-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
 }
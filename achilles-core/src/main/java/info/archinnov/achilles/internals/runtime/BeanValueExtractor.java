@@ -17,26 +17,18 @@
 package info.archinnov.achilles.internals.runtime;
 
 import static java.lang.String.format;
-import static java.util.stream.Collectors.toList;
-import static org.apache.commons.lang3.ArrayUtils.addAll;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Optional;
-import java.util.function.BiConsumer;
-import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.datastax.driver.core.SettableData;
-
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.internals.metamodel.AbstractProperty;
 import info.archinnov.achilles.internals.options.CassandraOptions;
-import info.archinnov.achilles.internals.statements.BoundValueInfo;
 import info.archinnov.achilles.internals.statements.BoundValuesWrapper;
-import info.archinnov.achilles.internals.types.OverridingOptional;
 import info.archinnov.achilles.type.tuples.Tuple2;
 
 public class BeanValueExtractor {
@@ -49,63 +41,7 @@ public class BeanValueExtractor {
                     instance, entityProperty.entityClass.getCanonicalName()));
         }
 
-        final List<BoundValueInfo> boundValues = new ArrayList<>();
-        final List<BoundValueInfo> partitionKeys = entityProperty.partitionKeys
-                .stream()
-                .map(x -> {
-                    final AbstractProperty x1 = (AbstractProperty) x;
-                    final BiConsumer<Object, SettableData> lambda = x1::encodeToSettable;
-                    return BoundValueInfo.of(lambda, x.getFieldValue(instance), x.encodeField(instance, Optional.ofNullable(cassandraOptions)));
-                })
-                .collect(toList());
-
-        boundValues.addAll(partitionKeys);
-
-        boundValues.addAll(entityProperty.staticColumns
-                .stream()
-                .map(x -> {
-                    final AbstractProperty x1 = (AbstractProperty) x;
-                    return BoundValueInfo.of(x1::encodeToSettable, x.getFieldValue(instance), x.encodeField(instance, Optional.ofNullable(cassandraOptions)));
-                })
-                .collect(toList()));
-
-        boundValues.addAll(entityProperty.clusteringColumns
-                .stream()
-                .map(x -> {
-                    final AbstractProperty x1 = (AbstractProperty) x;
-                    return BoundValueInfo.of(x1::encodeToSettable, x.getFieldValue(instance), x.encodeField(instance, Optional.ofNullable(cassandraOptions)));
-                })
-                .collect(toList()));
-
-        boundValues.addAll(entityProperty.normalColumns
-                .stream()
-                .map(x -> {
-                    final AbstractProperty x1 = (AbstractProperty) x;
-                    return BoundValueInfo.of(x1::encodeToSettable, x.getFieldValue(instance), x.encodeField(instance, Optional.ofNullable(cassandraOptions)));
-                })
-                .collect(toList()));
-
-        boundValues.addAll(entityProperty.counterColumns
-                .stream()
-                .map(x -> {
-                    final AbstractProperty x1 = (AbstractProperty) x;
-                    return BoundValueInfo.of(x1::encodeToSettable, x.getFieldValue(instance), x.encodeField(instance, Optional.ofNullable(cassandraOptions)));
-                })
-                .collect(toList()));
-
-        final Optional<Integer> ttl = OverridingOptional
-                .from(cassandraOptions.getTimeToLive())
-                .andThen(entityProperty.staticTTL)
-                .getOptional();
-
-        boundValues.add(ttl.isPresent()
-                ? BoundValueInfo.of((Object value, SettableData settableData) -> settableData.setInt("ttl", ttl.get()), ttl.get(), ttl.get())
-                : BoundValueInfo.of((Object value, SettableData settableData) -> settableData.setInt("ttl", 0), 0, 0));
-
-        if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug(format("Extracted encoded bound values : %s", boundValues));
-        }
-        return new BoundValuesWrapper(entityProperty, boundValues);
+        return extractValuesWithTTL(instance, entityProperty, entityProperty.bindLayout.allColumns, cassandraOptions);
     }
 
     public static <T> Tuple2<Object[], Object[]> extractPrimaryKeyValues(T instance, AbstractEntityProperty<T> entityProperty, Optional<CassandraOptions> cassandraOptions) {
@@ -114,21 +50,18 @@ public class BeanValueExtractor {
                     instance, entityProperty.entityClass.getCanonicalName()));
         }
 
-        final Stream<Tuple2<Object, Object>> partitionKeys = entityProperty.partitionKeys
-                .stream().map(x -> Tuple2.of(x.getFieldValue(instance), x.encodeField(instance, cassandraOptions)));
-        final Stream<Tuple2<Object, Object>> partitionKeysCopy = entityProperty.partitionKeys
-                .stream().map(x -> Tuple2.of(x.getFieldValue(instance), x.encodeField(instance, cassandraOptions)));
-
-        final Stream<Tuple2<Object, Object>> clusteringColumns = entityProperty.clusteringColumns
-                .stream().map(x -> Tuple2.of(x.getFieldValue(instance), x.encodeField(instance, cassandraOptions)));
-        final Stream<Tuple2<Object, Object>> clusteringColumnsCopy = entityProperty.clusteringColumns
-                .stream().map(x -> Tuple2.of(x.getFieldValue(instance), x.encodeField(instance, cassandraOptions)));
+        final AbstractProperty<T, ?, ?>[] primaryKeys = entityProperty.bindLayout.primaryKeys;
+        final Object[] boundValues = new Object[primaryKeys.length];
+        final Object[] encodedValues = new Object[primaryKeys.length];
 
-        final Object[] boundValues = addAll(partitionKeys.map(x -> x._1()).toArray(), clusteringColumns.map(x -> x._1()).toArray());
-        final Object[] encodedValues = addAll(partitionKeysCopy.map(x -> x._2()).toArray(), clusteringColumnsCopy.map(x -> x._2()).toArray());
+        for (int i = 0; i < primaryKeys.length; i++) {
+            final AbstractProperty<T, ?, ?> property = primaryKeys[i];
+            boundValues[i] = property.getFieldValue(instance);
+            encodedValues[i] = property.encodeField(instance, cassandraOptions);
+        }
 
         if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug(format("Extracted primary key (encoded) : %s", encodedValues));
+            LOGGER.debug(format("Extracted primary key (encoded) : %s", Arrays.toString(encodedValues)));
         }
 
         return Tuple2.of(boundValues, encodedValues);
@@ -140,39 +73,47 @@ public class BeanValueExtractor {
                     instance, entityProperty.entityClass.getCanonicalName()));
         }
 
-        final List<BoundValueInfo> boundValues = new ArrayList<>();
-        final List<BoundValueInfo> partitionKeys = entityProperty.partitionKeys
-                .stream()
-                .map(x -> {
-                    final AbstractProperty x1 = (AbstractProperty) x;
-                    final BiConsumer<Object, SettableData> lambda = x1::encodeToSettable;
-                    return BoundValueInfo.of(lambda, x.getFieldValue(instance), x.encodeField(instance, Optional.ofNullable(cassandraOptions)));
-                })
-                .collect(toList());
-
-        boundValues.addAll(partitionKeys);
-
-        boundValues.addAll(entityProperty.staticColumns
-                .stream()
-                .map(x -> {
-                    final AbstractProperty x1 = (AbstractProperty) x;
-                    return BoundValueInfo.of(x1::encodeToSettable, x.getFieldValue(instance), x.encodeField(instance, Optional.ofNullable(cassandraOptions)));
-                })
-                .collect(toList()));
-
-        final Optional<Integer> ttl = OverridingOptional
-                .from(cassandraOptions.getTimeToLive())
-                .andThen(entityProperty.staticTTL)
-                .getOptional();
-
-        boundValues.add(ttl.isPresent()
-                ? BoundValueInfo.of((Object value, SettableData settableData) -> settableData.setInt("ttl", ttl.get()), ttl.get(), ttl.get())
-                : BoundValueInfo.of((Object value, SettableData settableData) -> settableData.setInt("ttl", 0), 0, 0));
+        return extractValuesWithTTL(instance, entityProperty, entityProperty.bindLayout.partitionKeysAndStaticColumns, cassandraOptions);
+    }
+
+    /**
+     * Extract the raw and encoded values of the given properties in a single pass.
+     * The TTL value is stored in the extra last slot of both arrays
+     */
+    private static <T> BoundValuesWrapper extractValuesWithTTL(T instance, AbstractEntityProperty<T> entityProperty,
+                                                               AbstractProperty<T, ?, ?>[] properties, CassandraOptions cassandraOptions) {
+        final Optional<CassandraOptions> options = Optional.ofNullable(cassandraOptions);
+        final int ttlIndex = properties.length;
+        final Object[] boundValues = new Object[ttlIndex + 1];
+        final Object[] encodedValues = new Object[ttlIndex + 1];
+        ByteBuffer[] serializedValues = null;
+
+        for (int i = 0; i < ttlIndex; i++) {
+            final AbstractProperty<T, ?, ?> property = properties[i];
+            boundValues[i] = property.getFieldValue(instance);
+            if (property.hasBinaryCodec()) {
+                if (serializedValues == null) {
+                    serializedValues = new ByteBuffer[ttlIndex + 1];
+                }
+                serializedValues[i] = serializeField(property, instance);
+            } else {
+                encodedValues[i] = property.encodeField(instance, options);
+            }
+        }
 
+        final Optional<Integer> ttl = cassandraOptions.getTimeToLive();
+        final Integer ttlValue = ttl.isPresent() ? ttl.get() : entityProperty.staticTTL.orElse(0);
+        boundValues[ttlIndex] = ttlValue;
+        encodedValues[ttlIndex] = ttlValue;
+
+        final BoundValuesWrapper wrapper = new BoundValuesWrapper(entityProperty, properties, boundValues, encodedValues, serializedValues);
         if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug(format("Extracted encoded bound values : %s", boundValues));
+            LOGGER.debug(format("Extracted encoded bound values : %s", wrapper.getEncodedValues()));
         }
-        return new BoundValuesWrapper(entityProperty, boundValues);
+        return wrapper;
+    }
 
+    private static <T, V> ByteBuffer serializeField(AbstractProperty<T, V, ?> property, T instance) {
+        return property.serializeFromJava(property.getJavaValue(instance));
     }
 }
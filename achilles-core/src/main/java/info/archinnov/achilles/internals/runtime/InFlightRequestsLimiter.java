@@ -0,0 +1,217 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.runtime;
+
+import static java.lang.String.format;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import info.archinnov.achilles.exception.AchillesRequestRejectedException;
+import info.archinnov.achilles.metrics.RequestsLimiterMXBean;
+import info.archinnov.achilles.validation.Validator;
+
+/**
+ * Admission control for asynchronous requests sent to the Java driver.
+ * <br/>
+ * At most <em>maxInFlight</em> requests are executing at any time. Extra requests
+ * are queued (up to <em>maxQueued</em>) and started as soon as an in-flight request
+ * completes. Requests exceeding the queue capacity are rejected with
+ * an {@link AchillesRequestRejectedException}.
+ * <br/>
+ * The limiter never blocks the calling thread
+ */
+public class InFlightRequestsLimiter implements RequestsLimiterMXBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InFlightRequestsLimiter.class);
+
+    private final String name;
+    private final int maxInFlight;
+    private final int maxQueued;
+
+    private final AtomicInteger inFlight = new AtomicInteger(0);
+    private final AtomicInteger queued = new AtomicInteger(0);
+    private final AtomicLong rejected = new AtomicLong(0);
+    private final AtomicInteger draining = new AtomicInteger(0);
+    private final Queue<PendingRequest<?>> pendingRequests = new ConcurrentLinkedQueue<>();
+
+    public InFlightRequestsLimiter(String name, int maxInFlight, int maxQueued) {
+        Validator.validateTrue(maxInFlight > 0, "Max in-flight requests for '%s' should be strictly positive", name);
+        Validator.validateTrue(maxQueued >= 0, "Max queued requests for '%s' should be positive", name);
+        this.name = name;
+        this.maxInFlight = maxInFlight;
+        this.maxQueued = maxQueued;
+    }
+
+    /**
+     * Execute the request immediately if no request is queued and the in-flight limit allows it,
+     * otherwise queue it or reject it when the queue is full. Queued requests are started in FIFO order
+     *
+     * @param request request to execute, invoked only once a slot is available
+     * @return a future completed with the request result
+     */
+    public <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> request) {
+        if (pendingRequests.isEmpty() && tryAcquire()) {
+            final CompletableFuture<T> result = new CompletableFuture<>();
+            start(new PendingRequest<>(request, result));
+            return result;
+        }
+
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            rejected.incrementAndGet();
+            final CompletableFuture<T> failed = new CompletableFuture<>();
+            failed.completeExceptionally(new AchillesRequestRejectedException(
+                    format("Request rejected by '%s' limiter: %s requests in flight and %s requests queued",
+                            name, maxInFlight, maxQueued)));
+            return failed;
+        }
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Queuing request on '%s' limiter", name));
+        }
+
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        pendingRequests.offer(new PendingRequest<>(request, result));
+        drain();
+        return result;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public int getMaxQueued() {
+        return maxQueued;
+    }
+
+    /**
+     * @return number of requests currently executing
+     */
+    public int getInFlightCount() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return number of requests waiting for an in-flight slot
+     */
+    public int getQueuedCount() {
+        return queued.get();
+    }
+
+    /**
+     * @return total number of requests rejected since the limiter creation
+     */
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    private boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= maxInFlight) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private void release() {
+        inFlight.decrementAndGet();
+        drain();
+    }
+
+    /**
+     * Start queued requests while slots are available. Called after each enqueue
+     * and each release so that a request cannot stay queued with a free slot.
+     * <br/>
+     * A request completing synchronously calls this method again from <em>start()</em>. The
+     * <em>draining</em> counter turns this re-entrant call into an extra iteration of the
+     * current loop instead of a recursion, which would overflow the stack with a deep queue
+     */
+    private void drain() {
+        if (draining.getAndIncrement() != 0) {
+            return;
+        }
+        do {
+            while (!pendingRequests.isEmpty() && tryAcquire()) {
+                final PendingRequest<?> pending = pendingRequests.poll();
+                if (pending == null) {
+                    inFlight.decrementAndGet();
+                } else {
+                    queued.decrementAndGet();
+                    start(pending);
+                }
+            }
+        } while (draining.decrementAndGet() != 0);
+    }
+
+    private <T> void start(PendingRequest<T> pending) {
+        final CompletableFuture<T> future;
+        try {
+            future = pending.request.get();
+        } catch (Throwable throwable) {
+            release();
+            pending.result.completeExceptionally(throwable);
+            return;
+        }
+
+        future.whenComplete((value, throwable) -> {
+            release();
+            if (throwable != null) {
+                pending.result.completeExceptionally(throwable);
+            } else {
+                pending.result.complete(value);
+            }
+        });
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("InFlightRequestsLimiter{");
+        sb.append("name='").append(name).append('\'');
+        sb.append(", maxInFlight=").append(maxInFlight);
+        sb.append(", maxQueued=").append(maxQueued);
+        sb.append(", inFlight=").append(inFlight.get());
+        sb.append(", queued=").append(queued.get());
+        sb.append(", rejected=").append(rejected.get());
+        sb.append('}');
+        return sb.toString();
+    }
+
+    private static class PendingRequest<T> {
+        private final Supplier<CompletableFuture<T>> request;
+        private final CompletableFuture<T> result;
+
+        private PendingRequest(Supplier<CompletableFuture<T>> request, CompletableFuture<T> result) {
+            this.request = request;
+            this.result = result;
+        }
+    }
+}
@@ -19,24 +19,36 @@ package info.archinnov.achilles.internals.runtime;
 import static info.archinnov.achilles.internals.futures.FutureUtils.toCompletableFuture;
 import static java.lang.String.format;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.*;
+import com.google.common.util.concurrent.MoreExecutors;
 
 import info.archinnov.achilles.internals.cache.CacheKey;
+import info.archinnov.achilles.internals.cache.EntityCache;
+import info.archinnov.achilles.internals.cache.EntityCacheKey;
+import info.archinnov.achilles.internals.cache.SchemaNameCacheKey;
+import info.archinnov.achilles.internals.cache.StatementShape;
 import info.archinnov.achilles.internals.cache.StatementsCache;
 import info.archinnov.achilles.internals.context.ConfigurationContext;
 import info.archinnov.achilles.internals.factory.TupleTypeFactory;
 import info.archinnov.achilles.internals.factory.UserTypeFactory;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.statements.OperationType;
 import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.metrics.AchillesMetrics;
 import info.archinnov.achilles.type.SchemaNameProvider;
+import info.archinnov.achilles.type.strategy.CompletionStrategy;
 
 public class RuntimeEngine {
 
@@ -47,6 +59,12 @@ public class RuntimeEngine {
     public final Session session;
     public final String currentKeyspace;
     public final ExecutorService executor;
+    public final Executor completionExecutor;
+    private final Executor followUpExecutor;
+    public final Optional<InFlightRequestsLimiter> requestsLimiter;
+    public final Map<String, InFlightRequestsLimiter> tableRequestsLimiters;
+    public final Map<Class<?>, EntityCache> entityCaches;
+    public final AchillesMetrics metrics;
 
     public TupleTypeFactory tupleTypeFactory;
     public UserTypeFactory userTypeFactory;
@@ -57,26 +75,82 @@ public class RuntimeEngine {
         this.cache = configContext.getStatementsCache();
         this.currentKeyspace = configContext.getCurrentKeyspace().orElseGet(session::getLoggedKeyspace);
         this.executor = configContext.getExecutorService();
+        this.completionExecutor = completionExecutorFor(configContext.getCompletionStrategy(), executor);
+        this.followUpExecutor = configContext.getCompletionStrategy() == CompletionStrategy.DIRECT
+                ? executor
+                : MoreExecutors.directExecutor();
+        this.requestsLimiter = configContext.getRequestsLimiter();
+        this.tableRequestsLimiters = configContext.getTableRequestsLimiters();
+        this.entityCaches = configContext.getEntityCaches();
+        this.metrics = configContext.getMetrics();
+        if (metrics.isEnabled()) {
+            requestsLimiter.ifPresent(metrics::registerRequestsLimiter);
+            tableRequestsLimiters.values().forEach(metrics::registerRequestsLimiter);
+            cache.registerMetrics(metrics);
+        }
+    }
+
+    private static Executor completionExecutorFor(CompletionStrategy completionStrategy, ExecutorService executor) {
+        switch (completionStrategy) {
+            case DIRECT:
+                return MoreExecutors.directExecutor();
+            case FORK_JOIN_POOL:
+                return ForkJoinPool.commonPool();
+            default:
+                return executor;
+        }
+    }
+
+    /**
+     * Start the next step of a multi-request operation (next find by id, next batch chunk, next token range)
+     * from the completion of a previous request. Building the next request may prepare a statement
+     * synchronously: with {@link CompletionStrategy#DIRECT} the completion runs on a driver I/O thread,
+     * so the step is handed over to the Achilles executor. If the executor rejects it, the step runs
+     * on the calling thread rather than being lost
+     */
+    public void executeFollowUp(Runnable followUp) {
+        try {
+            followUpExecutor.execute(followUp);
+        } catch (RejectedExecutionException e) {
+            LOGGER.warn("The Achilles executor rejected the next step of a multi-request operation, running it on the current thread");
+            followUp.run();
+        }
     }
 
     public PreparedStatement getStaticCache(CacheKey cacheKey) {
         return cache.getStaticCache(cacheKey);
     }
 
+    /**
+     * Get the future of the static prepared statement. On cache miss the statement is prepared
+     * asynchronously, so that no thread (including the driver I/O threads) blocks on the preparation
+     */
+    public CompletableFuture<PreparedStatement> getStaticCacheAsync(CacheKey cacheKey, Supplier<RegularStatement> statement) {
+        return cache.getStaticCacheAsync(cacheKey, () -> prepareAsync(statement.get()));
+    }
+
+    private CompletableFuture<PreparedStatement> prepareAsync(RegularStatement statement) {
+        return toCompletableFuture(session.prepareAsync(statement), completionExecutor);
+    }
+
     public CompletableFuture<ResultSet> execute(StatementWrapper wrapper) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Executing statement %s", wrapper.getBoundStatement().preparedStatement().getQueryString()));
         }
 
         wrapper.logDML();
-        return toCompletableFuture(session.executeAsync(wrapper.getBoundStatement()), executor);
+        final BoundStatement boundStatement = wrapper.getBoundStatement();
+        return throttle(tableNameOf(boundStatement),
+                timed(wrapper.getEntityClass(), wrapper.getOperationType(),
+                        () -> toCompletableFuture(session.executeAsync(boundStatement), completionExecutor)));
     }
 
     public CompletableFuture<ResultSet> execute(BoundStatement boundStatement) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Executing bound statement %s", boundStatement.preparedStatement().getQueryString()));
         }
-        return toCompletableFuture(session.executeAsync(boundStatement), executor);
+        return throttle(tableNameOf(boundStatement),
+                timed(Object.class, OperationType.OTHER, () -> toCompletableFuture(session.executeAsync(boundStatement), completionExecutor)));
     }
 
     public CompletableFuture<ResultSet> execute(BatchStatement batchStatement) {
@@ -87,13 +161,102 @@ public class RuntimeEngine {
                             .map(Statement::toString)
                             .reduce("", (x, y) -> x + y)));
         }
-        return toCompletableFuture(session.executeAsync(batchStatement), executor);
+        return throttle(tableNameOf(batchStatement),
+                timed(Object.class, OperationType.OTHER, () -> toCompletableFuture(session.executeAsync(batchStatement), completionExecutor)));
+    }
+
+    /**
+     * Execute a batch of mutations on a single entity, going through the in-flight limit
+     * of the entity table and recording the batch latency in the metrics
+     */
+    public CompletableFuture<ResultSet> execute(BatchStatement batchStatement, Class<?> entityClass, OperationType operationType) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Executing batch of %s %s statements for entity %s",
+                    batchStatement.size(), operationType.name(), entityClass.getCanonicalName()));
+        }
+        return throttle(tableNameOf(batchStatement),
+                timed(entityClass, operationType, () -> toCompletableFuture(session.executeAsync(batchStatement), completionExecutor)));
+    }
+
+    /**
+     * Apply the in-flight limit of the table (if any) then the global in-flight limit (if any)
+     * before sending the request to the Java driver
+     */
+    private CompletableFuture<ResultSet> throttle(Optional<String> tableName, Supplier<CompletableFuture<ResultSet>> request) {
+        final Supplier<CompletableFuture<ResultSet>> globallyThrottled = requestsLimiter
+                .<Supplier<CompletableFuture<ResultSet>>>map(limiter -> () -> limiter.submit(request))
+                .orElse(request);
+
+        return tableName
+                .map(tableRequestsLimiters::get)
+                .map(limiter -> limiter.submit(globallyThrottled))
+                .orElseGet(globallyThrottled);
+    }
+
+    /**
+     * Record the latency of the request (once it leaves the in-flight queue) and the LWT failures.
+     * A failure of the metrics never fails the request
+     */
+    private Supplier<CompletableFuture<ResultSet>> timed(Class<?> entityClass, OperationType operationType, Supplier<CompletableFuture<ResultSet>> request) {
+        if (!metrics.isEnabled()) {
+            return request;
+        }
+
+        return () -> {
+            final long start = System.nanoTime();
+            return request.get().whenComplete((resultSet, throwable) -> {
+                try {
+                    metrics.recordStatementLatency(entityClass, operationType.statementOperation, System.nanoTime() - start, throwable == null);
+                    if (throwable == null && operationType.isUpsert && !resultSet.wasApplied()) {
+                        metrics.recordLWTFailure(entityClass, operationType.statementOperation);
+                    }
+                } catch (RuntimeException e) {
+                    LOGGER.warn(format("Cannot record metrics of %s statement for entity %s", operationType, entityClass.getCanonicalName()), e);
+                }
+            });
+        };
+    }
+
+    private Optional<String> tableNameOf(BoundStatement boundStatement) {
+        if (tableRequestsLimiters.isEmpty()) {
+            return Optional.empty();
+        }
+        final ColumnDefinitions variables = boundStatement.preparedStatement().getVariables();
+        return variables.size() > 0 ? Optional.of(variables.getKeyspace(0) + "." + variables.getTable(0)) : Optional.empty();
+    }
+
+    private Optional<String> tableNameOf(BatchStatement batchStatement) {
+        if (tableRequestsLimiters.isEmpty()) {
+            return Optional.empty();
+        }
+        return batchStatement.getStatements()
+                .stream()
+                .filter(statement -> statement instanceof BoundStatement)
+                .findFirst()
+                .flatMap(statement -> tableNameOf((BoundStatement) statement));
     }
 
     public PreparedStatement prepareDynamicQuery(RegularStatement statement) {
         return prepareDynamicQuery(statement.getQueryString());
     }
 
+    public PreparedStatement prepareDynamicQuery(StatementShape shape, RegularStatement statement) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Preparing dynamic query with shape %s", shape));
+        }
+        return cache.getDynamicCache(shape, statement::getQueryString, session);
+    }
+
+    /**
+     * Look up the prepared statement by its shape, the statement is only generated on cache miss
+     */
+    public PreparedStatement prepareDynamicQuery(StatementShape shape, Supplier<RegularStatement> statement) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Preparing dynamic query with shape %s", shape));
+        }
+        return cache.getDynamicCache(shape, () -> statement.get().getQueryString(), session);
+    }
+
     public PreparedStatement prepareDynamicQuery(String queryString) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Preparing dynamic query %s", queryString));
@@ -101,23 +264,55 @@ public class RuntimeEngine {
         return cache.getDynamicCache(queryString, session);
     }
 
-    public Optional<PreparedStatement> maybePrepareIfDifferentSchemaNameFromCache(AbstractEntityProperty<?> entityProperty,
-                                                                                  PreparedStatement psFromCache,
-                                                                                  Optional<SchemaNameProvider> schemaNameProvider,
-                                                                                  Supplier<RegularStatement> lambda) {
+    /**
+     * With a schema name provider, get the statement prepared against the keyspace and table
+     * it resolves. Those statements are cached by (entity class, operation, keyspace, table)
+     * in a dedicated cache, without rendering the CQL string on cache hit. On cache miss
+     * the statement is prepared asynchronously
+     *
+     * @return the future of the prepared statement or empty if the static statement should be used
+     */
+    public Optional<CompletableFuture<PreparedStatement>> maybePrepareIfDifferentSchemaNameFromCache(AbstractEntityProperty<?> entityProperty,
+                                                                                                     CacheKey.Operation operation,
+                                                                                                     Optional<SchemaNameProvider> schemaNameProvider,
+                                                                                                     Supplier<RegularStatement> lambda) {
         if (schemaNameProvider.isPresent()) {
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug(format("Preparing statement %s using optional schema name provider %s",
-                        psFromCache.getQueryString(), schemaNameProvider));
-            }
             final SchemaNameProvider provider = schemaNameProvider.get();
-            final String tableNameWithKeyspace = provider.keyspaceFor(entityProperty.entityClass) + "." + provider.tableNameFor(entityProperty.entityClass);
-            if (!psFromCache.getQueryString().toLowerCase().contains("from " + tableNameWithKeyspace)) {
-                return Optional.of(prepareDynamicQuery(lambda.get()));
+            final String keyspace = provider.keyspaceFor(entityProperty.entityClass);
+            final String table = provider.tableNameFor(entityProperty.entityClass);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(format("Get %s statement for entity %s using schema name provider %s : %s.%s",
+                        operation, entityProperty.entityClass.getCanonicalName(), provider, keyspace, table));
             }
+            final SchemaNameCacheKey cacheKey = new SchemaNameCacheKey(entityProperty.entityClass, operation, keyspace, table);
+            return Optional.of(cache.getSchemaNameCacheAsync(cacheKey, () -> prepareAsync(lambda.get())));
         }
         return Optional.empty();
+    }
+
+    /**
+     * @return the row cache of the entity, if the entity is configured to be cached
+     */
+    public Optional<EntityCache> getEntityCache(AbstractEntityProperty<?> entityProperty) {
+        if (entityCaches.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(entityCaches.get(entityProperty.entityClass));
+    }
+
+    /**
+     * Invalidate the cached row of the entity, if the entity is configured to be cached
+     */
+    public void invalidateEntityCache(AbstractEntityProperty<?> entityProperty, Supplier<EntityCacheKey> cacheKey) {
+        getEntityCache(entityProperty).ifPresent(entityCache -> entityCache.invalidate(cacheKey.get()));
+    }
 
+    /**
+     * Invalidate all the cached rows of the entity, for mutations whose primary key is
+     * not known or which may affect several rows
+     */
+    public void invalidateEntityCache(AbstractEntityProperty<?> entityProperty) {
+        getEntityCache(entityProperty).ifPresent(EntityCache::invalidateAll);
     }
 
     public Cluster getCluster() {
@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.runtime;
+
+import static java.lang.String.format;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.KeyspaceMetadata;
+import com.datastax.driver.core.SchemaChangeListenerBase;
+import com.datastax.driver.core.UserType;
+
+import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+
+/**
+ * Drop the UserType/TupleType instances cached by the entity properties
+ * whenever a user type or a keyspace is changed in Cassandra
+ */
+public class TypeCacheInvalidator extends SchemaChangeListenerBase {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TypeCacheInvalidator.class);
+
+    private final List<AbstractEntityProperty<?>> entityProperties;
+
+    public TypeCacheInvalidator(List<AbstractEntityProperty<?>> entityProperties) {
+        this.entityProperties = entityProperties;
+    }
+
+    @Override
+    public void onUserTypeAdded(UserType type) {
+        invalidate(type.getKeyspace(), type.getTypeName());
+    }
+
+    @Override
+    public void onUserTypeRemoved(UserType type) {
+        invalidate(type.getKeyspace(), type.getTypeName());
+    }
+
+    @Override
+    public void onUserTypeChanged(UserType current, UserType previous) {
+        invalidate(current.getKeyspace(), current.getTypeName());
+    }
+
+    @Override
+    public void onKeyspaceRemoved(KeyspaceMetadata keyspace) {
+        invalidate(keyspace.getName(), "*");
+    }
+
+    private void invalidate(String keyspace, String typeName) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Invalidating cached user and tuple types after schema change of %s.%s", keyspace, typeName));
+        }
+        entityProperties.forEach(AbstractEntityProperty::invalidateTypeCache);
+    }
+}
@@ -18,6 +18,7 @@ package info.archinnov.achilles.internals.statements;
 
 import static java.lang.String.format;
 
+import java.util.Optional;
 import java.util.UUID;
 
 import org.slf4j.Logger;
@@ -31,6 +32,7 @@ import com.datastax.driver.core.Row;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.types.ResultSetWrapper;
+import info.archinnov.achilles.type.lightweighttransaction.LWTResultListener.LWTResult.LWTOperation;
 
 public class BoundStatementWrapper implements StatementWrapper {
 
@@ -43,6 +45,7 @@ public class BoundStatementWrapper implements StatementWrapper {
     private final Logger actualLogger;
     private BoundStatement bs;
     private UUID queryId;
+    private Optional<LWTOperation> lwtOperation = Optional.empty();
 
 
     public BoundStatementWrapper(OperationType operationType, AbstractEntityProperty<?> meta, PreparedStatement ps,
@@ -70,6 +73,32 @@ public class BoundStatementWrapper implements StatementWrapper {
         return boundValues;
     }
 
+    @Override
+    public OperationType getOperationType() {
+        return operationType;
+    }
+
+    @Override
+    public Class<?> getEntityClass() {
+        return meta.entityClass;
+    }
+
+    @Override
+    public Optional<LWTOperation> getLWTOperation() {
+        return lwtOperation;
+    }
+
+    @Override
+    public StatementWrapper withLWTOperation(LWTOperation lwtOperation) {
+        this.lwtOperation = Optional.of(lwtOperation);
+        return this;
+    }
+
+    @Override
+    public Optional<?> decodeLWTCurrentEntity(Row row) {
+        return Optional.ofNullable(meta.createEntityFrom(row));
+    }
+
     @Override
     public BoundStatement getBoundStatement() {
         return bs;
@@ -19,66 +19,191 @@ package info.archinnov.achilles.internals.statements;
 import static info.archinnov.achilles.type.strategy.InsertStrategy.ALL_FIELDS;
 import static java.lang.String.format;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.ColumnDefinitions;
 import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.TypeCodec;
 
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.metamodel.AbstractProperty;
 import info.archinnov.achilles.type.strategy.InsertStrategy;
 
 
+/**
+ * Raw and encoded values extracted from an entity, in the order of
+ * the entity bind layout. The last slot holds the TTL value
+ * <br/>
+ * Columns having a {@link info.archinnov.achilles.type.codec.BinaryCodec} are bound from
+ * their <em>serializedValues</em> slot. Their CQL value is only computed when the
+ * encoded values are requested, e.g. by <strong>getEncodedBoundValues()</strong> or the DML logs
+ */
 public class BoundValuesWrapper {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(BoundValuesWrapper.class);
 
-    public final List<BoundValueInfo> boundValuesInfo;
     public final AbstractEntityProperty<?> meta;
-
-    public BoundValuesWrapper(AbstractEntityProperty<?> meta, List<BoundValueInfo> boundValuesInfo) {
+    public final Object[] boundValues;
+    public final AbstractProperty<?, ?, ?>[] properties;
+    private final Object[] encodedValues;
+    private final ByteBuffer[] serializedValues;
+    private boolean encodedValuesComplete;
+
+    public BoundValuesWrapper(AbstractEntityProperty<?> meta, AbstractProperty<?, ?, ?>[] properties,
+                              Object[] boundValues, Object[] encodedValues, ByteBuffer[] serializedValues) {
         this.meta = meta;
-        this.boundValuesInfo = boundValuesInfo;
+        this.properties = properties;
+        this.boundValues = boundValues;
+        this.encodedValues = encodedValues;
+        this.serializedValues = serializedValues;
+        this.encodedValuesComplete = serializedValues == null;
+    }
+
+    public List<Object> getBoundValues() {
+        return Arrays.asList(boundValues);
+    }
+
+    public List<Object> getEncodedValues() {
+        return Arrays.asList(completeEncodedValues());
+    }
+
+    /**
+     * @return whether the value at the given index of the bind layout is not null
+     */
+    public boolean hasValue(int index) {
+        return encodedValues[index] != null || isSerialized(index);
+    }
+
+    private boolean isSerialized(int index) {
+        return serializedValues != null && serializedValues[index] != null;
+    }
+
+    /**
+     * Compute the CQL value of the columns only bound from their serialized form
+     */
+    @SuppressWarnings("unchecked")
+    private Object[] completeEncodedValues() {
+        if (!encodedValuesComplete) {
+            for (int i = 0; i < properties.length; i++) {
+                if (isSerialized(i)) {
+                    encodedValues[i] = ((AbstractProperty<?, Object, Object>) properties[i]).encodeFromJava(boundValues[i]);
+                }
+            }
+            encodedValuesComplete = true;
+        }
+        return encodedValues;
+    }
+
+    private Object[] encodedValuesForLogging() {
+        return meta.entityLogger.isDebugEnabled() || StatementWrapper.DML_LOGGER.isDebugEnabled()
+                ? completeEncodedValues()
+                : encodedValues;
+    }
+
+    /**
+     * @return bitmask of the properties having a non-null encoded value, in the order of the bind layout
+     */
+    public BitSet nonNullValuesMask() {
+        final BitSet mask = new BitSet(properties.length);
+        for (int i = 0; i < properties.length; i++) {
+            if (hasValue(i)) {
+                mask.set(i);
+            }
+        }
+        return mask;
     }
 
     public StatementWrapper bindWithInsertStrategy(PreparedStatement ps, InsertStrategy insertStrategy) {
 
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Bind values %s to query %s with insert strategy %s",
-                    boundValuesInfo, ps.getQueryString(), insertStrategy.name()));
+                    getEncodedValues(), ps.getQueryString(), insertStrategy.name()));
         }
 
+        final BoundStatement bs = ps.bind();
         if (insertStrategy == ALL_FIELDS) {
-            return new BoundStatementWrapper(OperationType.INSERT, meta, ps,
-                    boundValuesInfo.stream().map(x -> x.boundValue).toArray(),
-                    boundValuesInfo.stream().map(x -> x.encodedValue).toArray());
+            bindAllByIndex(bs, ps.getVariables(), ps.getCodecRegistry());
         } else {
-            BoundStatement bs = ps.bind();
-            boundValuesInfo.stream()
-                    .filter(x -> x.encodedValue != null)
-                    .forEach(x -> x.setter.accept(x.encodedValue, bs));
-            return new BoundStatementWrapper(OperationType.INSERT, meta, bs,
-                    boundValuesInfo.stream().map(x -> x.boundValue).toArray(),
-                    boundValuesInfo.stream().map(x -> x.encodedValue).toArray());
+            final ColumnDefinitions variables = ps.getVariables();
+            bindNonNullByIndex(bs, variables, ps.getCodecRegistry(), variables.size() == encodedValues.length);
         }
+        return new BoundStatementWrapper(OperationType.INSERT, meta, bs, boundValues, encodedValuesForLogging());
     }
 
     public StatementWrapper bindForUpdate(PreparedStatement ps) {
 
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Bind values %s to query %s for UPDATE",
-                    boundValuesInfo, ps.getQueryString()));
+                    getEncodedValues(), ps.getQueryString()));
         }
 
-        BoundStatement bs = ps.bind();
-        boundValuesInfo.stream()
-                .filter(x -> x.encodedValue != null)
-                .forEach(x -> x.setter.accept(x.encodedValue, bs));
-        return new BoundStatementWrapper(OperationType.UPDATE, meta, bs,
-                boundValuesInfo.stream().map(x -> x.boundValue).toArray(),
-                boundValuesInfo.stream().map(x -> x.encodedValue).toArray());
+        final BoundStatement bs = ps.bind();
+        bindNonNullByName(bs);
+        return new BoundStatementWrapper(OperationType.UPDATE, meta, bs, boundValues, encodedValuesForLogging());
+    }
+
+    /**
+     * Same as PreparedStatement.bind(encodedValues) except that values already
+     * serialized by a binary codec are bound as-is
+     */
+    private void bindAllByIndex(BoundStatement bs, ColumnDefinitions variables, CodecRegistry codecRegistry) {
+        for (int i = 0; i < encodedValues.length; i++) {
+            if (hasValue(i)) {
+                bindByIndex(bs, i, i, variables, codecRegistry);
+            } else {
+                bs.setToNull(i);
+            }
+        }
+    }
 
+    private void bindByIndex(BoundStatement bs, int index, int valueIndex, ColumnDefinitions variables, CodecRegistry codecRegistry) {
+        if (isSerialized(valueIndex)) {
+            bs.setBytesUnsafe(index, serializedValues[valueIndex].duplicate());
+        } else {
+            final Object encodedValue = encodedValues[valueIndex];
+            final TypeCodec<Object> codec = codecRegistry.codecFor(variables.getType(index), encodedValue);
+            bs.set(index, encodedValue, codec);
+        }
+    }
+
+    /**
+     * The bind markers of INSERT statements follow the entity bind layout, either for all
+     * the columns or only for the non-null ones (see PreparedStatementGenerator.generateInsertNonNull),
+     * the values can be set by index without any column name resolution
+     */
+    private void bindNonNullByIndex(BoundStatement bs, ColumnDefinitions variables, CodecRegistry codecRegistry, boolean allColumns) {
+        int index = 0;
+        for (int i = 0; i < encodedValues.length; i++) {
+            if (hasValue(i)) {
+                bindByIndex(bs, index, i, variables, codecRegistry);
+                index++;
+            } else if (allColumns) {
+                index++;
+            }
+        }
+    }
+
+    /**
+     * The bind markers of UPDATE statements only cover the non-null columns,
+     * the values are set by column name
+     */
+    @SuppressWarnings("unchecked")
+    private void bindNonNullByName(BoundStatement bs) {
+        for (int i = 0; i < properties.length; i++) {
+            if (isSerialized(i)) {
+                bs.setBytesUnsafe(properties[i].fieldInfo.quotedCqlColumn, serializedValues[i].duplicate());
+            } else if (encodedValues[i] != null) {
+                ((AbstractProperty<?, Object, Object>) properties[i]).encodeToSettable(encodedValues[i], bs);
+            }
+        }
+        bs.setInt("ttl", (Integer) encodedValues[properties.length]);
     }
 }
@@ -18,6 +18,7 @@ package info.archinnov.achilles.internals.statements;
 
 import static java.lang.String.format;
 
+import java.util.Optional;
 import java.util.UUID;
 
 import com.datastax.driver.core.BoundStatement;
@@ -27,6 +28,7 @@ import com.datastax.driver.core.Row;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.types.ResultSetWrapper;
+import info.archinnov.achilles.type.lightweighttransaction.LWTResultListener.LWTResult.LWTOperation;
 
 public class NativeStatementWrapper implements StatementWrapper {
 
@@ -35,6 +37,7 @@ public class NativeStatementWrapper implements StatementWrapper {
     private final Object[] encodedBoundValues;
     private final UUID queryId = UUID.randomUUID();
     private final OperationType operationType;
+    private Optional<LWTOperation> lwtOperation = Optional.empty();
 
 
     public NativeStatementWrapper(OperationType operationType, AbstractEntityProperty<?> meta, BoundStatement boundStatement, Object[] encodedBoundValues) {
@@ -49,6 +52,33 @@ public class NativeStatementWrapper implements StatementWrapper {
         return encodedBoundValues;
     }
 
+    @Override
+    public OperationType getOperationType() {
+        return operationType;
+    }
+
+    @Override
+    public Class<?> getEntityClass() {
+        return meta.entityClass;
+    }
+
+    @Override
+    public Optional<LWTOperation> getLWTOperation() {
+        return lwtOperation;
+    }
+
+    @Override
+    public StatementWrapper withLWTOperation(LWTOperation lwtOperation) {
+        this.lwtOperation = Optional.of(lwtOperation);
+        return this;
+    }
+
+    @Override
+    public Optional<?> decodeLWTCurrentEntity(Row row) {
+        // Native queries can target any table, the row cannot be mapped to the entity
+        return Optional.empty();
+    }
+
     @Override
     public BoundStatement getBoundStatement() {
         return boundStatement;
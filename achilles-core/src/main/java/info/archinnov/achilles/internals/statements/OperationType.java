@@ -16,18 +16,22 @@
 
 package info.archinnov.achilles.internals.statements;
 
+import info.archinnov.achilles.metrics.StatementOperation;
+
 public enum OperationType {
 
-    INSERT(true),
-    UPDATE(true),
-    DELETE(true),
-    SELECT(false),
-    OTHER(false);
+    INSERT(true, StatementOperation.INSERT),
+    UPDATE(true, StatementOperation.UPDATE),
+    DELETE(true, StatementOperation.DELETE),
+    SELECT(false, StatementOperation.SELECT),
+    OTHER(false, StatementOperation.OTHER);
 
     public boolean isUpsert;
+    public final StatementOperation statementOperation;
 
-    OperationType(boolean isUpsert) {
+    OperationType(boolean isUpsert, StatementOperation statementOperation) {
         this.isUpsert = isUpsert;
+        this.statementOperation = statementOperation;
     }
 
 }
@@ -26,11 +26,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.RegularStatement;
-import com.datastax.driver.core.Session;
 import com.datastax.driver.core.querybuilder.*;
 
 import info.archinnov.achilles.internals.cache.CacheKey;
-import info.archinnov.achilles.internals.cache.StatementsCache;
+import info.archinnov.achilles.internals.cache.StatementShape;
 import info.archinnov.achilles.internals.cassandra_version.CassandraFeature;
 import info.archinnov.achilles.internals.cassandra_version.InternalCassandraVersion;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
@@ -46,9 +45,9 @@ public class PreparedStatementGenerator {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PreparedStatementGenerator.class);
 
-    public static void generateStaticSelectQuery(Session session, StatementsCache cache,  AbstractEntityProperty<?> entityProperty) {
-        final RegularStatement where = generateSelectQuery(entityProperty, Optional.empty());
-        cache.putStaticCache(new CacheKey(entityProperty.entityClass, FIND), () -> session.prepare(where));
+    public static void generateStaticSelectQuery(StaticStatementsPreparer preparer, AbstractEntityProperty<?> entityProperty) {
+        preparer.prepare(new CacheKey(entityProperty.entityClass, FIND),
+                () -> generateSelectQuery(entityProperty, Optional.empty()));
     }
 
     public static RegularStatement generateSelectQuery( AbstractEntityProperty<?> entityProperty, Optional<SchemaNameProvider> schemaNameProvider) {
@@ -56,6 +55,45 @@ public class PreparedStatementGenerator {
             LOGGER.debug(format("Generate SELECT query for entity of type %s", entityProperty.entityClass.getCanonicalName()));
         }
 
+        final Select from = generateSelectAllColumnsFrom(entityProperty, schemaNameProvider);
+
+        final Select.Where where = from.where();
+
+        for (AbstractProperty<?, ?, ?> x : entityProperty.partitionKeys) {
+            where.and(eq(x.fieldInfo.quotedCqlColumn, bindMarker(x.fieldInfo.quotedCqlColumn)));
+        }
+
+        for (AbstractProperty<?, ?, ?> x : entityProperty.clusteringColumns) {
+            where.and(eq(x.fieldInfo.quotedCqlColumn, bindMarker(x.fieldInfo.quotedCqlColumn)));
+        }
+
+        return where;
+    }
+
+    /**
+     * Generate a SELECT on the token range (start, end] of the partition key. Without upper bound,
+     * the range extends to the end of the token ring
+     */
+    public static RegularStatement generateTokenRangeSelectQuery(AbstractEntityProperty<?> entityProperty, Optional<SchemaNameProvider> schemaNameProvider, boolean withUpperBound) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Generate token range SELECT query for entity of type %s", entityProperty.entityClass.getCanonicalName()));
+        }
+
+        final String partitionKeysToken = token(entityProperty.partitionKeys
+                .stream()
+                .map(x -> x.fieldInfo.quotedCqlColumn)
+                .toArray(String[]::new));
+
+        final Select.Where where = generateSelectAllColumnsFrom(entityProperty, schemaNameProvider)
+                .where(gt(partitionKeysToken, bindMarker("start_token")));
+
+        if (withUpperBound) {
+            where.and(lte(partitionKeysToken, bindMarker("end_token")));
+        }
+        return where;
+    }
+
+    private static Select generateSelectAllColumnsFrom(AbstractEntityProperty<?> entityProperty, Optional<SchemaNameProvider> schemaNameProvider) {
         final Select.Selection select = QueryBuilder.select();
         final Optional<String> keyspace = entityProperty.getKeyspace();
 
@@ -90,36 +128,26 @@ public class PreparedStatementGenerator {
             }
         }
 
-        final Select.Where where = from.where();
-
-        for (AbstractProperty<?, ?, ?> x : entityProperty.partitionKeys) {
-            where.and(eq(x.fieldInfo.quotedCqlColumn, bindMarker(x.fieldInfo.quotedCqlColumn)));
-        }
-
-        for (AbstractProperty<?, ?, ?> x : entityProperty.clusteringColumns) {
-            where.and(eq(x.fieldInfo.quotedCqlColumn, bindMarker(x.fieldInfo.quotedCqlColumn)));
-        }
-
-        return where;
+        return from;
     }
 
-    public static void generateStaticDeleteQueries(Session session, StatementsCache cache,  AbstractEntityProperty<?> entityProperty) {
+    public static void generateStaticDeleteQueries(StaticStatementsPreparer preparer, AbstractEntityProperty<?> entityProperty) {
 
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Generate DELETE queries for entity of type %s", entityProperty.entityClass.getCanonicalName()));
         }
 
-        cache.putStaticCache(new CacheKey(entityProperty.entityClass, DELETE),
-                () -> session.prepare(generateDeleteByKeys(entityProperty, Optional.empty())));
+        preparer.prepare(new CacheKey(entityProperty.entityClass, DELETE),
+                () -> generateDeleteByKeys(entityProperty, Optional.empty()));
 
         if (!entityProperty.isCounter()) {
-            cache.putStaticCache(new CacheKey(entityProperty.entityClass, DELETE_IF_EXISTS),
-                    () -> session.prepare(generateDeleteByKeysIfExists(entityProperty, Optional.empty())));
+            preparer.prepare(new CacheKey(entityProperty.entityClass, DELETE_IF_EXISTS),
+                    () -> generateDeleteByKeysIfExists(entityProperty, Optional.empty()));
         }
 
         if (entityProperty.isClustered()) {
-            cache.putStaticCache(new CacheKey(entityProperty.entityClass, DELETE_BY_PARTITION),
-                    () -> session.prepare(generateDeleteByPartition(entityProperty, Optional.empty())));
+            preparer.prepare(new CacheKey(entityProperty.entityClass, DELETE_BY_PARTITION),
+                    () -> generateDeleteByPartition(entityProperty, Optional.empty()));
         }
     }
 
@@ -194,32 +222,32 @@ public class PreparedStatementGenerator {
     }
 
 
-    public static void generateStaticInsertQueries(InternalCassandraVersion cassandraVersion, Session session, StatementsCache cache, AbstractEntityProperty<?> entityProperty) {
+    public static void generateStaticInsertQueries(InternalCassandraVersion cassandraVersion, StaticStatementsPreparer preparer, AbstractEntityProperty<?> entityProperty) {
 
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Generate INSERT queries for entity of type %s", entityProperty.entityClass.getCanonicalName()));
         }
 
-        cache.putStaticCache(new CacheKey(entityProperty.entityClass, INSERT),
-                () -> session.prepare(generateInsert(entityProperty, Optional.empty())));
+        preparer.prepare(new CacheKey(entityProperty.entityClass, INSERT),
+                () -> generateInsert(entityProperty, Optional.empty()));
 
-        cache.putStaticCache(new CacheKey(entityProperty.entityClass, INSERT_IF_NOT_EXISTS),
-                () -> session.prepare(generateInsertIfNotExists(entityProperty, Optional.empty())));
+        preparer.prepare(new CacheKey(entityProperty.entityClass, INSERT_IF_NOT_EXISTS),
+                () -> generateInsertIfNotExists(entityProperty, Optional.empty()));
 
         if (cassandraVersion.supportsFeature(CassandraFeature.JSON)) {
-            cache.putStaticCache(new CacheKey(entityProperty.entityClass, INSERT_JSON),
-                    () -> session.prepare(generateInsertJSON(entityProperty, Optional.empty())));
+            preparer.prepare(new CacheKey(entityProperty.entityClass, INSERT_JSON),
+                    () -> generateInsertJSON(entityProperty, Optional.empty()));
 
-            cache.putStaticCache(new CacheKey(entityProperty.entityClass, INSERT_IF_NOT_EXISTS_JSON),
-                    () -> session.prepare(generateInsertIfNotExistsJson(entityProperty, Optional.empty())));
+            preparer.prepare(new CacheKey(entityProperty.entityClass, INSERT_IF_NOT_EXISTS_JSON),
+                    () -> generateInsertIfNotExistsJson(entityProperty, Optional.empty()));
         }
 
         if (entityProperty.hasStaticColumn()) {
-            cache.putStaticCache(new CacheKey(entityProperty.entityClass, INSERT_STATIC),
-                    () -> session.prepare(generateInsertStatic(entityProperty, Optional.empty())));
+            preparer.prepare(new CacheKey(entityProperty.entityClass, INSERT_STATIC),
+                    () -> generateInsertStatic(entityProperty, Optional.empty()));
 
-            cache.putStaticCache(new CacheKey(entityProperty.entityClass, INSERT_STATIC_IF_NOT_EXISTS),
-                    () -> session.prepare(generateInsertStaticIfNotExists(entityProperty, Optional.empty())));
+            preparer.prepare(new CacheKey(entityProperty.entityClass, INSERT_STATIC_IF_NOT_EXISTS),
+                    () -> generateInsertStaticIfNotExists(entityProperty, Optional.empty()));
         }
     }
 
@@ -237,8 +265,12 @@ public class PreparedStatementGenerator {
         return insert.using(ttl(bindMarker("ttl")));
     }
 
-    public static <T> RegularStatement generateUpdate(T instance, AbstractEntityProperty<T> entityProperty, CassandraOptions options,
-                                                      boolean staticValuesOnly, boolean ifExists) {
+    /**
+     * Generate the UPDATE query for the non-null values of the entity. The query only depends
+     * on the entity, the null-ness of its values and the options, see {@link #nonNullValuesShape}
+     */
+    public static RegularStatement generateUpdate(AbstractEntityProperty<?> entityProperty, BoundValuesWrapper values, CassandraOptions options,
+                                                  boolean staticValuesOnly, boolean ifExists) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Generate UPDATE query for entity of type %s", entityProperty.entityClass.getCanonicalName()));
         }
@@ -252,14 +284,13 @@ public class PreparedStatementGenerator {
 
         Update.Assignments assignments = update.with();
 
-        entityProperty
-                .allColumns
-                .stream()
-                .filter(x -> x.fieldInfo.columnType != ColumnType.PARTITION)
-                .filter(x -> x.fieldInfo.columnType != ColumnType.CLUSTERING)
-                .filter(x -> staticValuesOnly ? x.fieldInfo.columnType == ColumnType.STATIC : true)
-                .filter(x -> x.getJavaValue(instance) != null)
-                .forEach(x -> assignments.and(QueryBuilder.set(x.fieldInfo.quotedCqlColumn, bindMarker(x.fieldInfo.quotedCqlColumn))));
+        for (int i = 0; i < values.properties.length; i++) {
+            final AbstractProperty<?, ?, ?> x = values.properties[i];
+            final ColumnType columnType = x.fieldInfo.columnType;
+            if (columnType != ColumnType.PARTITION && columnType != ColumnType.CLUSTERING && values.hasValue(i)) {
+                assignments.and(QueryBuilder.set(x.fieldInfo.quotedCqlColumn, bindMarker(x.fieldInfo.quotedCqlColumn)));
+            }
+        }
 
         final Update.Where where = update.where();
         entityProperty
@@ -279,6 +310,56 @@ public class PreparedStatementGenerator {
         return where;
     }
 
+    /**
+     * Generate the INSERT query for the non-null values of the entity, used by the
+     * <strong>InsertStrategy.NOT_NULL_FIELDS</strong> strategy. Columns with null values
+     * are not part of the query so that no tombstone is created for them
+     */
+    public static RegularStatement generateInsertNonNull(AbstractEntityProperty<?> entityProperty, BoundValuesWrapper values,
+                                                         Optional<SchemaNameProvider> schemaNameProvider, boolean ifNotExists) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Generate INSERT query for non-null values of entity of type %s", entityProperty.entityClass.getCanonicalName()));
+        }
+
+        final Insert insert = getInsertWithTableName(entityProperty, schemaNameProvider);
+
+        for (int i = 0; i < values.properties.length; i++) {
+            if (values.hasValue(i)) {
+                final AbstractProperty<?, ?, ?> x = values.properties[i];
+                insert.value(x.fieldInfo.quotedCqlColumn, bindMarker(x.fieldInfo.quotedCqlColumn));
+            }
+        }
+
+        if (ifNotExists) {
+            insert.ifNotExists();
+        }
+
+        return insert.using(ttl(bindMarker("ttl")));
+    }
+
+    /**
+     * Shape of the INSERT or UPDATE query generated for the non-null values of an entity.
+     * The non-null columns are identified by a bitmask over the entity bind layout so that
+     * the prepared statement can be looked up without generating the CQL string
+     */
+    public static StatementShape nonNullValuesShape(String statementType, AbstractEntityProperty<?> entityProperty, BoundValuesWrapper values,
+                                                    CassandraOptions options, boolean staticValuesOnly, boolean lwt) {
+        final StatementShape shape = new StatementShape(statementType)
+                .add(entityProperty.entityClass)
+                .add(values.nonNullValuesMask())
+                .add(staticValuesOnly)
+                .add(lwt)
+                .add(options.hasDefaultTimestamp());
+
+        final Optional<SchemaNameProvider> schemaNameProvider = options.getSchemaNameProvider();
+        if (schemaNameProvider.isPresent()) {
+            final SchemaNameProvider provider = schemaNameProvider.get();
+            shape.add(provider.keyspaceFor(entityProperty.entityClass))
+                    .add(provider.tableNameFor(entityProperty.entityClass));
+        }
+        return shape;
+    }
+
     public static RegularStatement generateInsertJSON(AbstractEntityProperty<?> entityProperty, Optional<SchemaNameProvider> schemaNameProvider) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Generate INSERT JSON query for entity of type %s", entityProperty.entityClass.getCanonicalName()));
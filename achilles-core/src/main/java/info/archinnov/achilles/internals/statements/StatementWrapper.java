@@ -33,6 +33,7 @@ import com.datastax.driver.core.exceptions.TraceRetrievalException;
 import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.types.ResultSetWrapper;
 import info.archinnov.achilles.logger.AchillesLoggers;
+import info.archinnov.achilles.type.lightweighttransaction.LWTResultListener.LWTResult.LWTOperation;
 
 public interface StatementWrapper {
     Logger LOGGER = LoggerFactory.getLogger(StatementWrapper.class);
@@ -42,6 +43,28 @@ public interface StatementWrapper {
 
     Object[] getBoundValues();
 
+    OperationType getOperationType();
+
+    Class<?> getEntityClass();
+
+    /**
+     * LWT operation of the statement, set when the statement is generated.
+     * Empty if the statement is not a LWT operation
+     */
+    Optional<LWTOperation> getLWTOperation();
+
+    StatementWrapper withLWTOperation(LWTOperation lwtOperation);
+
+    default boolean isLWT() {
+        return getLWTOperation().isPresent();
+    }
+
+    /**
+     * Decode the current values returned by a failed LWT operation
+     * into an instance of the entity, if the statement targets an entity
+     */
+    Optional<?> decodeLWTCurrentEntity(Row row);
+
     BoundStatement getBoundStatement();
 
     void applyOptions(CassandraOptions cassandraOptions);
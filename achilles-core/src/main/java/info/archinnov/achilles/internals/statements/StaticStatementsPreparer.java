@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.statements;
+
+import static info.archinnov.achilles.internals.futures.FutureUtils.toCompletableFuture;
+import static java.lang.String.format;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.Session;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.internals.cache.CacheKey;
+import info.archinnov.achilles.internals.cache.StatementsCache;
+import info.archinnov.achilles.internals.runtime.InFlightRequestsLimiter;
+
+/**
+ * Prepare the static statements of managed entities with {@link Session#prepareAsync(RegularStatement)}
+ * at bootstrap.
+ * <br/>
+ * At most <em>maxConcurrentPrepares</em> statements are being prepared at any time, the
+ * other ones are queued. Statements already present in the static cache (e.g. when the
+ * statements cache is shared between manager factories) are not prepared again.
+ * <br/>
+ * This class is not thread-safe, it is meant to be used by the bootstrap thread only
+ */
+public class StaticStatementsPreparer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StaticStatementsPreparer.class);
+
+    private final Session session;
+    private final StatementsCache cache;
+    private final InFlightRequestsLimiter limiter;
+    private final List<CompletableFuture<Void>> pending = new ArrayList<>();
+
+    public StaticStatementsPreparer(Session session, StatementsCache cache, int maxConcurrentPrepares) {
+        this.session = session;
+        this.cache = cache;
+        this.limiter = new InFlightRequestsLimiter("bootstrap", maxConcurrentPrepares, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Prepare asynchronously the statement and put it into the static cache
+     * unless the cache key is already present
+     *
+     * @param cacheKey static cache key
+     * @param statement supplier of the statement to prepare, only invoked on cache miss
+     */
+    public void prepare(CacheKey cacheKey, Supplier<RegularStatement> statement) {
+        if (cache.hasStaticCache(cacheKey)) {
+            return;
+        }
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Preparing asynchronously static statement for key %s", cacheKey));
+        }
+
+        final RegularStatement regularStatement = statement.get();
+        final CompletableFuture<Void> future = limiter
+                .submit(() -> toCompletableFuture(session.prepareAsync(regularStatement), MoreExecutors.directExecutor()))
+                .handle((ps, throwable) -> {
+                    if (throwable != null) {
+                        throw new AchillesException(format("Cannot prepare static statement for key %s : %s",
+                                cacheKey, regularStatement.getQueryString()), throwable);
+                    }
+                    cache.putStaticCache(cacheKey, () -> ps);
+                    return null;
+                });
+        pending.add(future);
+    }
+
+    /**
+     * @return a future completed with the number of statements prepared since the previous call,
+     * once they are all in the static cache
+     */
+    public CompletableFuture<Integer> collectPending() {
+        final CompletableFuture<?>[] futures = pending.toArray(new CompletableFuture<?>[pending.size()]);
+        pending.clear();
+        return CompletableFuture.allOf(futures).thenApply(x -> futures.length);
+    }
+}
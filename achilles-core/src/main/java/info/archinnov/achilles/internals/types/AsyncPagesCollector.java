@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.types;
+
+import static info.archinnov.achilles.internals.futures.FutureUtils.toCompletableFuture;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+
+/**
+ * Collect the rows of all the pages of a {@link com.datastax.driver.core.ResultSet}
+ * without blocking: each page is mapped as soon as it is available and the next page
+ * is requested with {@link com.datastax.driver.core.ResultSet#fetchMoreResults()}
+ */
+public class AsyncPagesCollector<T> {
+
+    private final ResultSet resultSet;
+    private final int limit;
+    private final Function<Row, T> mapper;
+    private final Executor executor;
+    private final List<T> results = new ArrayList<>();
+
+    public AsyncPagesCollector(ResultSet resultSet, int limit, Function<Row, T> mapper, Executor executor) {
+        this.resultSet = resultSet;
+        this.limit = limit;
+        this.mapper = mapper;
+        this.executor = executor;
+    }
+
+    /**
+     * @return a future completed with the mapped rows of all the pages, up to the limit
+     */
+    public CompletableFuture<List<T>> collect() {
+        int available = resultSet.getAvailableWithoutFetching();
+        while (available-- > 0 && results.size() < limit) {
+            results.add(mapper.apply(resultSet.one()));
+        }
+
+        if (results.size() >= limit || resultSet.isFullyFetched()) {
+            return CompletableFuture.completedFuture(results);
+        }
+
+        return toCompletableFuture(resultSet.fetchMoreResults(), executor)
+                .thenCompose(rs -> collect());
+    }
+}
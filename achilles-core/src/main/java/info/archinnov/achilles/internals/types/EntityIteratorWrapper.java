@@ -33,7 +33,9 @@ import info.archinnov.achilles.type.interceptor.Event;
 
 public class EntityIteratorWrapper<ENTITY> implements Iterator<ENTITY>, AsyncAware {
 
+    private final ResultSet resultSet;
     private final Iterator<Row> delegate;
+    private final int prefetchThreshold;
     private final AbstractEntityProperty<ENTITY> meta;
     private final StatementWrapper statementWrapper;
     private final CassandraOptions options;
@@ -44,15 +46,16 @@ public class EntityIteratorWrapper<ENTITY> implements Iterator<ENTITY>, AsyncAwa
         this.meta = meta;
         this.statementWrapper = statementWrapper;
         this.options = cassandraOptions;
+        this.prefetchThreshold = cassandraOptions.getPrefetchThreshold().orElse(-1);
         try {
-            this.delegate = Uninterruptibles.getUninterruptibly(futureRS
+            this.resultSet = Uninterruptibles.getUninterruptibly(futureRS
                     .thenApply(cassandraOptions::resultSetAsyncListener)
                     .thenApply(statementWrapper::logTrace)
                     .thenApply(rs -> {
                         EntityIteratorWrapper.this.executionInfo = rs.getExecutionInfo();
                         return rs;
-                    })
-                    .thenApply(rs -> rs.iterator()));
+                    }));
+            this.delegate = resultSet.iterator();
         } catch (ExecutionException e) {
             throw extractCauseFromExecutionException(e);
         }
@@ -71,6 +74,7 @@ public class EntityIteratorWrapper<ENTITY> implements Iterator<ENTITY>, AsyncAwa
     public ENTITY next() {
         if (delegate.hasNext()) {
             final Row row = delegate.next();
+            maybePrefetchNextPage();
             statementWrapper.logReturnedRow(row);
             options.rowAsyncListener(row);
             final ENTITY instance = meta.createEntityFrom(row);
@@ -80,4 +84,16 @@ public class EntityIteratorWrapper<ENTITY> implements Iterator<ENTITY>, AsyncAwa
             return null;
         }
     }
+
+    /**
+     * Trigger the asynchronous fetch of the next page when the number of rows remaining
+     * in the current page reaches the prefetch threshold. The Java driver ignores the call
+     * if the next page is already being fetched
+     */
+    private void maybePrefetchNextPage() {
+        if (prefetchThreshold >= 0 && !resultSet.isFullyFetched()
+                && resultSet.getAvailableWithoutFetching() <= prefetchThreshold) {
+            resultSet.fetchMoreResults();
+        }
+    }
 }
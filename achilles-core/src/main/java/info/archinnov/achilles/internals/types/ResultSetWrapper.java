@@ -24,6 +24,8 @@ import com.datastax.driver.core.ColumnDefinitions;
 import com.datastax.driver.core.ExecutionInfo;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Row;
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 
 public class ResultSetWrapper implements ResultSet {
@@ -83,7 +85,7 @@ public class ResultSetWrapper implements ResultSet {
 
     @Override
     public ListenableFuture<ResultSet> fetchMoreResults() {
-        throw new UnsupportedOperationException("Not supported by Achilles ResultSetWrapper");
+        return Futures.transform(delegate.fetchMoreResults(), (Function<ResultSet, ResultSet>) rs -> this);
     }
 
     @Override
@@ -58,6 +58,10 @@ public class RuntimeCodecWrapper<FROM,TO> implements Codec<FROM, TO> {
         return delegate.decode(fromCassandra);
     }
 
+    public Codec<FROM, TO> getDelegate() {
+        return delegate;
+    }
+
     public void inject(Map<CodecSignature<?,?>, Codec<?,?>> runtimeCodecRegistry) {
         final CodecSignature<FROM, TO> mySignature = new CodecSignature<>(sourceType, targetType, codecName);
         if (runtimeCodecRegistry.containsKey(mySignature)) {
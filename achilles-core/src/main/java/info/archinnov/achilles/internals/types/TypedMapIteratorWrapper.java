@@ -33,7 +33,9 @@ import info.archinnov.achilles.type.TypedMap;
 
 public class TypedMapIteratorWrapper implements Iterator<TypedMap>, AsyncAware {
 
+    private final ResultSet resultSet;
     private final Iterator<Row> delegate;
+    private final int prefetchThreshold;
     private final StatementWrapper statementWrapper;
     private final CassandraOptions options;
     private ExecutionInfo executionInfo;
@@ -42,15 +44,16 @@ public class TypedMapIteratorWrapper implements Iterator<TypedMap>, AsyncAware {
     public TypedMapIteratorWrapper(CompletableFuture<ResultSet> futureRS, StatementWrapper statementWrapper, CassandraOptions cassandraOptions) {
         this.statementWrapper = statementWrapper;
         this.options = cassandraOptions;
+        this.prefetchThreshold = cassandraOptions.getPrefetchThreshold().orElse(-1);
         try {
-            this.delegate = Uninterruptibles.getUninterruptibly(futureRS
+            this.resultSet = Uninterruptibles.getUninterruptibly(futureRS
                     .thenApply(cassandraOptions::resultSetAsyncListener)
                     .thenApply(statementWrapper::logTrace)
                     .thenApply(rs -> {
                         TypedMapIteratorWrapper.this.executionInfo = rs.getExecutionInfo();
                         return rs;
-                    })
-                    .thenApply(rs -> rs.iterator()));
+                    }));
+            this.delegate = resultSet.iterator();
         } catch (ExecutionException e) {
             throw extractCauseFromExecutionException(e);
         }
@@ -69,6 +72,7 @@ public class TypedMapIteratorWrapper implements Iterator<TypedMap>, AsyncAware {
     public TypedMap next() {
         if (delegate.hasNext()) {
             final Row row = delegate.next();
+            maybePrefetchNextPage();
             statementWrapper.logReturnedRow(row);
             options.rowAsyncListener(row);
             return mapRowToTypedMap(row);
@@ -87,4 +91,16 @@ public class TypedMapIteratorWrapper implements Iterator<TypedMap>, AsyncAware {
         }
         return typedMap;
     }
+
+    /**
+     * Trigger the asynchronous fetch of the next page when the number of rows remaining
+     * in the current page reaches the prefetch threshold. The Java driver ignores the call
+     * if the next page is already being fetched
+     */
+    private void maybePrefetchNextPage() {
+        if (prefetchThreshold >= 0 && !resultSet.isFullyFetched()
+                && resultSet.getAvailableWithoutFetching() <= prefetchThreshold) {
+            resultSet.fetchMoreResults();
+        }
+    }
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.metrics;
+
+/**
+ * Interface to be implemented to collect the metrics of a manager factory.
+ * <br/>
+ * All the methods are called on the hot path (driver I/O threads, executor threads
+ * or the thread iterating over the results) and must <strong>never block</strong>.
+ * <br/>
+ * Out of the box, <strong>Achilles</strong> provides a {@link NoOpAchillesMetrics} (the default)
+ * and a {@link JmxAchillesMetrics} exporting the metrics as MXBeans
+ */
+public interface AchillesMetrics {
+
+    /**
+     * When disabled, <strong>Achilles</strong> does not measure anything and never calls the other methods
+     *
+     * @return whether the metrics should be recorded
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Record the execution of a statement by the Java driver, excluding the time spent in the in-flight requests queue
+     *
+     * @param entityClass    entity class of the statement, <em>Object.class</em> for raw bound or batch statements
+     * @param operationType  operation type of the statement
+     * @param latencyInNanos latency in nanoseconds
+     * @param success        whether the statement completed successfully
+     */
+    void recordStatementLatency(Class<?> entityClass, StatementOperation operationType, long latencyInNanos, boolean success);
+
+    /**
+     * Record a light weight transaction which has not been applied
+     *
+     * @param entityClass   entity class of the statement
+     * @param operationType operation type of the statement
+     */
+    void recordLWTFailure(Class<?> entityClass, StatementOperation operationType);
+
+    /**
+     * Record the mapping of CQL rows into entity instances
+     *
+     * @param entityClass         entity class
+     * @param mappedRows          number of mapped rows
+     * @param mappingTimeInNanos  time spent for mapping, in nanoseconds
+     */
+    void recordRowsMapping(Class<?> entityClass, int mappedRows, long mappingTimeInNanos);
+
+    /**
+     * Record a hit in the prepared statements LRU cache
+     */
+    void recordPreparedStatementCacheHit();
+
+    /**
+     * Record a miss in the prepared statements LRU cache
+     */
+    void recordPreparedStatementCacheMiss();
+
+    /**
+     * Record the eviction of a prepared statement from the LRU cache
+     */
+    void recordPreparedStatementCacheEviction();
+
+    /**
+     * Called once at bootstrap for each configured in-flight requests limiter
+     *
+     * @param limiter in-flight requests limiter
+     */
+    void registerRequestsLimiter(RequestsLimiterMXBean limiter);
+
+    /**
+     * Called when the manager factory is shut down
+     */
+    default void close() {
+    }
+}
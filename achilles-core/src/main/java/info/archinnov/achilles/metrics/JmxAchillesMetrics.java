@@ -0,0 +1,165 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.metrics;
+
+import static java.lang.String.format;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.management.JMException;
+import javax.management.JMRuntimeException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import info.archinnov.achilles.internals.metrics.EntityMappingMetrics;
+import info.archinnov.achilles.internals.metrics.StatementMetrics;
+import info.archinnov.achilles.internals.metrics.StatementsCacheMetrics;
+import info.archinnov.achilles.validation.Validator;
+
+/**
+ * Export the metrics of a manager factory as MXBeans in the platform MBean server.
+ * <br/>
+ * MXBeans are registered lazily, the first time a metric is recorded, with the following object names:
+ * <ul>
+ *     <li><strong>info.archinnov.achilles:type=Statement,name=&lt;name&gt;,entity=&lt;entity class&gt;,operation=&lt;operation type&gt;</strong>:
+ *     statements count, errors, LWT failures and latency percentiles</li>
+ *     <li><strong>info.archinnov.achilles:type=EntityMapping,name=&lt;name&gt;,entity=&lt;entity class&gt;</strong>: mapped rows and mapping time</li>
+ *     <li><strong>info.archinnov.achilles:type=StatementsCache,name=&lt;name&gt;</strong>: prepared statements LRU cache hits, misses and evictions</li>
+ *     <li><strong>info.archinnov.achilles:type=RequestsLimiter,name=&lt;name&gt;,limiter=&lt;limiter name&gt;</strong>: in-flight, queued and rejected requests</li>
+ * </ul>
+ * The <em>name</em> should be unique for each manager factory of the JVM, otherwise the MXBeans of the second factory are not exported. All the MXBeans are unregistered when the manager factory is shut down
+ */
+public class JmxAchillesMetrics implements AchillesMetrics {
+
+    public static final String JMX_DOMAIN = "info.archinnov.achilles";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JmxAchillesMetrics.class);
+
+    private final String name;
+    private final MBeanServer mBeanServer;
+    private final Map<Class<?>, Map<StatementOperation, StatementMetrics>> statementMetrics = new ConcurrentHashMap<>();
+    private final Map<Class<?>, EntityMappingMetrics> mappingMetrics = new ConcurrentHashMap<>();
+    private final StatementsCacheMetrics cacheMetrics = new StatementsCacheMetrics();
+    private final List<ObjectName> registeredNames = new CopyOnWriteArrayList<>();
+
+    public JmxAchillesMetrics(String name) {
+        this(name, ManagementFactory.getPlatformMBeanServer());
+    }
+
+    public JmxAchillesMetrics(String name, MBeanServer mBeanServer) {
+        Validator.validateNotBlank(name, "The name of the JMX metrics should not be blank");
+        Validator.validateNotNull(mBeanServer, "The MBean server should not be null");
+        this.name = name;
+        this.mBeanServer = mBeanServer;
+        register(format("type=StatementsCache,name=%s", name), cacheMetrics);
+    }
+
+    @Override
+    public void recordStatementLatency(Class<?> entityClass, StatementOperation operationType, long latencyInNanos, boolean success) {
+        statementMetricsFor(entityClass, operationType).recordLatency(latencyInNanos, success);
+    }
+
+    @Override
+    public void recordLWTFailure(Class<?> entityClass, StatementOperation operationType) {
+        statementMetricsFor(entityClass, operationType).recordLWTFailure();
+    }
+
+    @Override
+    public void recordRowsMapping(Class<?> entityClass, int mappedRows, long mappingTimeInNanos) {
+        mappingMetrics
+                .computeIfAbsent(entityClass, clazz -> {
+                    final EntityMappingMetrics metrics = new EntityMappingMetrics(clazz.getCanonicalName());
+                    register(format("type=EntityMapping,name=%s,entity=%s", name, clazz.getCanonicalName()), metrics);
+                    return metrics;
+                })
+                .record(mappedRows, mappingTimeInNanos);
+    }
+
+    @Override
+    public void recordPreparedStatementCacheHit() {
+        cacheMetrics.recordHit();
+    }
+
+    @Override
+    public void recordPreparedStatementCacheMiss() {
+        cacheMetrics.recordMiss();
+    }
+
+    @Override
+    public void recordPreparedStatementCacheEviction() {
+        cacheMetrics.recordEviction();
+    }
+
+    @Override
+    public void registerRequestsLimiter(RequestsLimiterMXBean limiter) {
+        register(format("type=RequestsLimiter,name=%s,limiter=%s", name, limiter.getName()), limiter);
+    }
+
+    @Override
+    public void close() {
+        for (ObjectName objectName : registeredNames) {
+            try {
+                if (mBeanServer.isRegistered(objectName)) {
+                    mBeanServer.unregisterMBean(objectName);
+                }
+            } catch (JMException e) {
+                LOGGER.warn(format("Cannot unregister MXBean %s", objectName), e);
+            }
+        }
+        registeredNames.clear();
+    }
+
+    private StatementMetrics statementMetricsFor(Class<?> entityClass, StatementOperation operationType) {
+        return statementMetrics
+                .computeIfAbsent(entityClass, clazz -> new ConcurrentHashMap<>())
+                .computeIfAbsent(operationType, key -> {
+                    final StatementMetrics metrics = new StatementMetrics(entityClass.getCanonicalName(), operationType);
+                    register(format("type=Statement,name=%s,entity=%s,operation=%s", name, entityClass.getCanonicalName(), operationType.name()), metrics);
+                    return metrics;
+                });
+    }
+
+    /**
+     * Metrics must never fail the requests: when the MXBean cannot be registered (e.g. an MXBean
+     * with the same name already exists), the metrics are still recorded but not exported
+     */
+    private void register(String keyProperties, Object mxBean) {
+        try {
+            final ObjectName objectName = new ObjectName(JMX_DOMAIN + ":" + keyProperties);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(format("Registering MXBean %s", objectName));
+            }
+            mBeanServer.registerMBean(mxBean, objectName);
+            registeredNames.add(objectName);
+        } catch (JMException | JMRuntimeException e) {
+            LOGGER.warn(format("Cannot register MXBean '%s' for metrics '%s', the metrics will not be exported : %s",
+                    keyProperties, name, e.getMessage()));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "JmxAchillesMetrics{name='" + name + "'}";
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.metrics;
+
+/**
+ * Default metrics if none is configured with parameter {@link info.archinnov.achilles.configuration.ConfigurationParameters}.METRICS.
+ * Nothing is measured nor recorded
+ */
+public class NoOpAchillesMetrics implements AchillesMetrics {
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+    @Override
+    public void recordStatementLatency(Class<?> entityClass, StatementOperation operationType, long latencyInNanos, boolean success) {
+    }
+
+    @Override
+    public void recordLWTFailure(Class<?> entityClass, StatementOperation operationType) {
+    }
+
+    @Override
+    public void recordRowsMapping(Class<?> entityClass, int mappedRows, long mappingTimeInNanos) {
+    }
+
+    @Override
+    public void recordPreparedStatementCacheHit() {
+    }
+
+    @Override
+    public void recordPreparedStatementCacheMiss() {
+    }
+
+    @Override
+    public void recordPreparedStatementCacheEviction() {
+    }
+
+    @Override
+    public void registerRequestsLimiter(RequestsLimiterMXBean limiter) {
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.metrics;
+
+/**
+ * Read-only view of an in-flight requests limiter, also exported as MXBean by {@link JmxAchillesMetrics}
+ */
+public interface RequestsLimiterMXBean {
+
+    String getName();
+
+    int getMaxInFlight();
+
+    int getMaxQueued();
+
+    int getInFlightCount();
+
+    int getQueuedCount();
+
+    long getRejectedCount();
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class OffHeapArenaTest {
+
+    @Test
+    public void should_allocate_regions_in_the_same_slab() throws Exception {
+        //Given
+        final OffHeapArena arena = new OffHeapArena(64);
+
+        //When
+        final OffHeapArena.Region first = arena.allocate(16);
+        final OffHeapArena.Region second = arena.allocate(32);
+        first.buffer().putInt(0, 1);
+        second.buffer().putInt(0, 2);
+
+        //Then
+        assertThat(arena.getReservedBytes()).isEqualTo(64L);
+        assertThat(first.buffer().capacity()).isEqualTo(16);
+        assertThat(second.buffer().capacity()).isEqualTo(32);
+        assertThat(first.buffer().isDirect()).isTrue();
+        assertThat(first.buffer().getInt(0)).isEqualTo(1);
+        assertThat(second.buffer().getInt(0)).isEqualTo(2);
+    }
+
+    @Test
+    public void should_reuse_slab_once_all_its_regions_are_released() throws Exception {
+        //Given
+        final OffHeapArena arena = new OffHeapArena(64);
+        final OffHeapArena.Region first = arena.allocate(48);
+        final OffHeapArena.Region second = arena.allocate(48);
+        assertThat(arena.getReservedBytes()).isEqualTo(128L);
+
+        //When
+        arena.release(first);
+        final OffHeapArena.Region third = arena.allocate(48);
+
+        //Then
+        assertThat(arena.getReservedBytes()).isEqualTo(128L);
+        third.buffer().putInt(0, 3);
+        second.buffer().putInt(0, 2);
+        assertThat(third.buffer().getInt(0)).isEqualTo(3);
+        assertThat(second.buffer().getInt(0)).isEqualTo(2);
+    }
+
+    @Test
+    public void should_allocate_dedicated_buffer_for_region_larger_than_slab() throws Exception {
+        //Given
+        final OffHeapArena arena = new OffHeapArena(64);
+
+        //When
+        final OffHeapArena.Region large = arena.allocate(100);
+
+        //Then
+        assertThat(large.buffer().capacity()).isEqualTo(100);
+        assertThat(arena.getReservedBytes()).isEqualTo(100L);
+
+        arena.release(large);
+        assertThat(arena.getReservedBytes()).isEqualTo(0L);
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Session;
+
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.metrics.AchillesMetrics;
+
+@RunWith(MockitoJUnitRunner.class)
+public class StatementsCacheTest {
+
+    private static final String SELECT_VALUE = "SELECT value FROM ks.table WHERE id=:id;";
+    private static final String SELECT_OTHER = "SELECT other FROM ks.table WHERE id=:id;";
+    private static final String SELECT_VALUE_LIMIT = "SELECT value FROM ks.table WHERE id=:id LIMIT :limit;";
+
+    @Mock
+    private Session session;
+
+    @Mock
+    private AchillesMetrics metrics;
+
+    @Mock
+    private PreparedStatement selectValue;
+
+    @Mock
+    private PreparedStatement selectOther;
+
+    @Mock
+    private PreparedStatement selectValueLimit;
+
+    private final AtomicInteger renderedQueries = new AtomicInteger(0);
+
+    @Before
+    public void setUp() {
+        when(session.prepare(SELECT_VALUE)).thenReturn(selectValue);
+        when(session.prepare(SELECT_OTHER)).thenReturn(selectOther);
+        when(session.prepare(SELECT_VALUE_LIMIT)).thenReturn(selectValueLimit);
+    }
+
+    @Test
+    public void should_hit_shape_cache_with_equal_shape() throws Exception {
+        //Given
+        final StatementsCache cache = new StatementsCache(10);
+        cache.registerMetrics(metrics);
+        cache.getDynamicCache(selectShape("value"), render(SELECT_VALUE), session);
+
+        //When
+        final PreparedStatement actual = cache.getDynamicCache(selectShape("value"), render(SELECT_VALUE), session);
+
+        //Then
+        assertThat(actual).isSameAs(selectValue);
+        assertThat(renderedQueries.get()).isEqualTo(1);
+        verify(session, times(1)).prepare(SELECT_VALUE);
+        verify(metrics, times(1)).recordPreparedStatementCacheMiss();
+        verify(metrics, times(1)).recordPreparedStatementCacheHit();
+    }
+
+    @Test
+    public void should_not_share_statement_between_shapes_differing_by_column() throws Exception {
+        //Given
+        final StatementsCache cache = new StatementsCache(10);
+
+        //When
+        final PreparedStatement value = cache.getDynamicCache(selectShape("value"), render(SELECT_VALUE), session);
+        final PreparedStatement other = cache.getDynamicCache(selectShape("other"), render(SELECT_OTHER), session);
+
+        //Then
+        assertThat(value).isSameAs(selectValue);
+        assertThat(other).isSameAs(selectOther);
+        assertThat(renderedQueries.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void should_not_share_statement_between_shapes_differing_by_option() throws Exception {
+        //Given
+        final StatementsCache cache = new StatementsCache(10);
+
+        //When
+        final PreparedStatement withoutLimit = cache.getDynamicCache(selectShape("value"), render(SELECT_VALUE), session);
+        final PreparedStatement withLimit = cache.getDynamicCache(selectShape("value").add("limit(bindMarker(\"limit\"))"),
+                render(SELECT_VALUE_LIMIT), session);
+
+        //Then
+        assertThat(withoutLimit).isSameAs(selectValue);
+        assertThat(withLimit).isSameAs(selectValueLimit);
+        assertThat(renderedQueries.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void should_fall_back_to_query_string_when_shape_is_disabled() throws Exception {
+        //Given
+        final StatementsCache cache = new StatementsCache(10);
+
+        //When
+        cache.getDynamicCache(selectShape("value").disable(), render(SELECT_VALUE), session);
+        final PreparedStatement actual = cache.getDynamicCache(selectShape("value").disable(), render(SELECT_VALUE), session);
+
+        //Then
+        assertThat(actual).isSameAs(selectValue);
+        assertThat(renderedQueries.get()).isEqualTo(2);
+        verify(session, times(1)).prepare(SELECT_VALUE);
+    }
+
+    @Test
+    public void should_evict_least_recently_used_shape() throws Exception {
+        //Given
+        final StatementsCache cache = new StatementsCache(2);
+        cache.registerMetrics(metrics);
+        cache.getDynamicCache(selectShape("value"), render(SELECT_VALUE), session);
+        cache.getDynamicCache(selectShape("other"), render(SELECT_OTHER), session);
+
+        //When
+        cache.getDynamicCache(selectShape("value").add("limit(bindMarker(\"limit\"))"), render(SELECT_VALUE_LIMIT), session);
+        final PreparedStatement actual = cache.getDynamicCache(selectShape("value"), render(SELECT_VALUE), session);
+
+        //Then
+        assertThat(actual).isSameAs(selectValue);
+        assertThat(renderedQueries.get()).isEqualTo(4);
+        verify(session, times(2)).prepare(SELECT_VALUE);
+        verify(metrics, atLeastOnce()).recordPreparedStatementCacheEviction();
+        verify(metrics, never()).recordPreparedStatementCacheHit();
+    }
+
+    @Test
+    public void should_share_pending_static_preparation_between_callers() throws Exception {
+        //Given
+        final StatementsCache cache = new StatementsCache(10);
+        final CacheKey cacheKey = new CacheKey(String.class, CacheKey.Operation.FIND);
+        final CompletableFuture<PreparedStatement> preparation = new CompletableFuture<>();
+        final AtomicInteger preparations = new AtomicInteger(0);
+        final Supplier<CompletableFuture<PreparedStatement>> prepare = () -> {
+            preparations.incrementAndGet();
+            return preparation;
+        };
+
+        //When
+        final CompletableFuture<PreparedStatement> first = cache.getStaticCacheAsync(cacheKey, prepare);
+        final CompletableFuture<PreparedStatement> second = cache.getStaticCacheAsync(cacheKey, prepare);
+
+        //Then
+        assertThat(first.isDone()).isFalse();
+        assertThat(second.isDone()).isFalse();
+        assertThat(cache.hasStaticCache(cacheKey)).isFalse();
+
+        preparation.complete(selectValue);
+
+        assertThat(first.get()).isSameAs(selectValue);
+        assertThat(second.get()).isSameAs(selectValue);
+        assertThat(cache.getStaticCache(cacheKey)).isSameAs(selectValue);
+        assertThat(preparations.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_evict_failed_static_preparation() throws Exception {
+        //Given
+        final StatementsCache cache = new StatementsCache(10);
+        final CacheKey cacheKey = new CacheKey(String.class, CacheKey.Operation.FIND);
+        final CompletableFuture<PreparedStatement> failedPreparation = new CompletableFuture<>();
+        final CompletableFuture<PreparedStatement> failed = cache.getStaticCacheAsync(cacheKey, () -> failedPreparation);
+        failedPreparation.completeExceptionally(new IllegalStateException("boom"));
+
+        //When
+        final CompletableFuture<PreparedStatement> retried = cache.getStaticCacheAsync(cacheKey,
+                () -> CompletableFuture.completedFuture(selectValue));
+
+        //Then
+        try {
+            failed.get();
+            fail("Preparation should have failed");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause()).isInstanceOf(AchillesException.class);
+            assertThat(e.getCause().getCause()).isInstanceOf(IllegalStateException.class);
+        }
+        assertThat(retried.get()).isSameAs(selectValue);
+        assertThat(cache.getStaticCache(cacheKey)).isSameAs(selectValue);
+    }
+
+    private static StatementShape selectShape(String column) {
+        return new StatementShape("SELECT")
+                .add("column(\"" + column + "\")")
+                .add("from")
+                .add("ks")
+                .add("table")
+                .add("where.and(eq(\"id\", bindMarker(\"id\")))");
+    }
+
+    private Supplier<String> render(String queryString) {
+        return () -> {
+            renderedQueries.incrementAndGet();
+            return queryString;
+        };
+    }
+}
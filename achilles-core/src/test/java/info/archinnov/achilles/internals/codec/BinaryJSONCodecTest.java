@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+import info.archinnov.achilles.annotations.JSON;
+import info.archinnov.achilles.exception.AchillesException;
+
+/**
+ * The Jackson binary data format modules are deliberately not on the test classpath
+ * of this module, they are exercised by the integration tests
+ */
+public class BinaryJSONCodecTest {
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final JavaType mapType = TypeFactory.defaultInstance().constructMapType(Map.class, String.class, Long.class);
+
+    @Test
+    public void should_fail_when_smile_module_is_missing() throws Exception {
+        //Given
+        final BinaryJSONCodec<Map<String, Long>> codec = new BinaryJSONCodec<>(Map.class, mapType, JSON.Format.SMILE);
+
+        //When
+        exception.expect(AchillesException.class);
+        exception.expectMessage("with JSON format SMILE, please add 'jackson-dataformat-smile' to the classpath");
+
+        codec.setObjectMapper(mapper);
+    }
+
+    @Test
+    public void should_fail_when_cbor_module_is_missing() throws Exception {
+        //Given
+        final BinaryJSONCodec<Map<String, Long>> codec = new BinaryJSONCodec<>(Map.class, mapType, JSON.Format.CBOR);
+
+        //When
+        exception.expect(AchillesException.class);
+        exception.expectMessage("with JSON format CBOR, please add 'jackson-dataformat-cbor' to the classpath");
+
+        codec.setObjectMapper(mapper);
+    }
+
+    @Test
+    public void should_fail_for_text_format() throws Exception {
+        //Given
+        final BinaryJSONCodec<Map<String, Long>> codec = new BinaryJSONCodec<>(Map.class, mapType, JSON.Format.TEXT);
+
+        //When
+        exception.expect(AchillesException.class);
+        exception.expectMessage("Format 'TEXT' is not a binary JSON format");
+
+        codec.setObjectMapper(mapper);
+    }
+
+    @Test
+    public void should_encode_and_decode_null() throws Exception {
+        //Given
+        final BinaryJSONCodec<Map<String, Long>> codec = new BinaryJSONCodec<>(Map.class, mapType, JSON.Format.SMILE);
+
+        //When
+        final ByteBuffer encoded = codec.encode(null);
+        final Map<String, Long> decoded = codec.decode(null);
+
+        //Then
+        assertThat(encoded).isNull();
+        assertThat(decoded).isNull();
+        assertThat(codec.getFormat()).isEqualTo(JSON.Format.SMILE);
+        assertThat(codec.targetType()).isEqualTo(ByteBuffer.class);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.codec.primitive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.TypeCodec;
+
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import it.unimi.dsi.fastutil.doubles.DoubleList;
+
+public class DoubleListCodecTest {
+
+    private final DoubleListCodec codec = DoubleListCodec.instance;
+    private final TypeCodec<List<Double>> boxedCodec = TypeCodec.list(TypeCodec.cdouble());
+
+    @Test
+    public void should_serialize_and_deserialize() throws Exception {
+        //Given
+        final DoubleList value = new DoubleArrayList(new double[]{1.5d, -2.25d, Double.MAX_VALUE});
+
+        //When
+        final List<Double> actual = codec.deserialize(codec.serialize(value, ProtocolVersion.V4), ProtocolVersion.V4);
+
+        //Then
+        assertThat(actual).isEqualTo(Arrays.asList(1.5d, -2.25d, Double.MAX_VALUE));
+    }
+
+    @Test
+    public void should_serialize_like_boxed_codec() throws Exception {
+        //Given
+        final DoubleList value = new DoubleArrayList(new double[]{1.5d, -2.25d, Double.MAX_VALUE});
+
+        //When
+        final ByteBuffer bytes = codec.serialize(value, ProtocolVersion.V4);
+
+        //Then
+        assertThat(bytes).isEqualTo(boxedCodec.serialize(Arrays.asList(1.5d, -2.25d, Double.MAX_VALUE), ProtocolVersion.V4));
+    }
+
+    @Test
+    public void should_deserialize_value_serialized_by_boxed_codec() throws Exception {
+        //Given
+        final ByteBuffer bytes = boxedCodec.serialize(Arrays.asList(1.5d, -2.25d, Double.MAX_VALUE), ProtocolVersion.V4);
+
+        //When
+        final List<Double> actual = codec.deserialize(bytes, ProtocolVersion.V4);
+
+        //Then
+        assertThat(actual).isInstanceOf(DoubleList.class);
+        assertThat(actual).isEqualTo(Arrays.asList(1.5d, -2.25d, Double.MAX_VALUE));
+    }
+
+    @Test
+    public void should_write_short_sizes_with_protocol_v2() throws Exception {
+        //Given
+        final DoubleList value = new DoubleArrayList(new double[]{1.5d, -2.25d, Double.MAX_VALUE});
+
+        //When
+        final ByteBuffer bytes = codec.serialize(value, ProtocolVersion.V2);
+
+        //Then
+        assertThat(bytes.remaining()).isEqualTo(2 + 3 * (1 * 2 + 8));
+        assertThat(bytes.getShort(0)).isEqualTo((short) 3);
+        final List<Double> actual = codec.deserialize(bytes, ProtocolVersion.V2);
+        assertThat(actual).isEqualTo(Arrays.asList(1.5d, -2.25d, Double.MAX_VALUE));
+    }
+
+    @Test
+    public void should_write_int_sizes_with_protocol_v3() throws Exception {
+        //Given
+        final DoubleList value = new DoubleArrayList(new double[]{1.5d, -2.25d, Double.MAX_VALUE});
+
+        //When
+        final ByteBuffer bytes = codec.serialize(value, ProtocolVersion.V3);
+
+        //Then
+        assertThat(bytes.remaining()).isEqualTo(4 + 3 * (1 * 4 + 8));
+        assertThat(bytes.getInt(0)).isEqualTo(3);
+        final List<Double> actual = codec.deserialize(bytes, ProtocolVersion.V3);
+        assertThat(actual).isEqualTo(Arrays.asList(1.5d, -2.25d, Double.MAX_VALUE));
+    }
+
+    @Test
+    public void should_serialize_null_as_null() throws Exception {
+        assertThat(codec.serialize(null, ProtocolVersion.V4)).isNull();
+    }
+
+    @Test
+    public void should_serialize_and_deserialize_empty_value() throws Exception {
+        //When
+        final ByteBuffer bytes = codec.serialize(new DoubleArrayList(), ProtocolVersion.V4);
+        final List<Double> actual = codec.deserialize(bytes, ProtocolVersion.V4);
+
+        //Then
+        assertThat(bytes.remaining()).isEqualTo(4);
+        assertThat(bytes.getInt(0)).isEqualTo(0);
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    public void should_deserialize_null_or_empty_bytes_as_empty_value() throws Exception {
+        //When
+        final List<Double> fromNull = codec.deserialize(null, ProtocolVersion.V4);
+        final List<Double> fromEmpty = codec.deserialize(ByteBuffer.allocate(0), ProtocolVersion.V4);
+
+        //Then
+        assertThat(fromNull).isEmpty();
+        assertThat(fromEmpty).isEmpty();
+    }
+}
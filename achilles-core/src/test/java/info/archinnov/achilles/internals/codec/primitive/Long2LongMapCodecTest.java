@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.codec.primitive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.TypeCodec;
+import com.google.common.collect.ImmutableMap;
+
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+
+public class Long2LongMapCodecTest {
+
+    private final Long2LongMapCodec codec = Long2LongMapCodec.instance;
+    private final TypeCodec<Map<Long, Long>> boxedCodec = TypeCodec.map(TypeCodec.bigint(), TypeCodec.bigint());
+
+    @Test
+    public void should_serialize_and_deserialize() throws Exception {
+        //Given
+        final Long2LongMap value = new Long2LongOpenHashMap(new long[]{1L, -2L}, new long[]{10L, Long.MAX_VALUE});
+
+        //When
+        final Map<Long, Long> actual = codec.deserialize(codec.serialize(value, ProtocolVersion.V4), ProtocolVersion.V4);
+
+        //Then
+        assertThat(actual).isEqualTo(ImmutableMap.of(1L, 10L, -2L, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void should_deserialize_value_serialized_by_boxed_codec() throws Exception {
+        //Given
+        final ByteBuffer bytes = boxedCodec.serialize(ImmutableMap.of(1L, 10L, -2L, Long.MAX_VALUE), ProtocolVersion.V4);
+
+        //When
+        final Map<Long, Long> actual = codec.deserialize(bytes, ProtocolVersion.V4);
+
+        //Then
+        assertThat(actual).isInstanceOf(Long2LongMap.class);
+        assertThat(actual).isEqualTo(ImmutableMap.of(1L, 10L, -2L, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void should_write_short_sizes_with_protocol_v2() throws Exception {
+        //Given
+        final Long2LongMap value = new Long2LongOpenHashMap(new long[]{1L, -2L}, new long[]{10L, Long.MAX_VALUE});
+
+        //When
+        final ByteBuffer bytes = codec.serialize(value, ProtocolVersion.V2);
+
+        //Then
+        assertThat(bytes.remaining()).isEqualTo(2 + 2 * (2 * 2 + 16));
+        assertThat(bytes.getShort(0)).isEqualTo((short) 2);
+        final Map<Long, Long> actual = codec.deserialize(bytes, ProtocolVersion.V2);
+        assertThat(actual).isEqualTo(ImmutableMap.of(1L, 10L, -2L, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void should_write_int_sizes_with_protocol_v3() throws Exception {
+        //Given
+        final Long2LongMap value = new Long2LongOpenHashMap(new long[]{1L, -2L}, new long[]{10L, Long.MAX_VALUE});
+
+        //When
+        final ByteBuffer bytes = codec.serialize(value, ProtocolVersion.V3);
+
+        //Then
+        assertThat(bytes.remaining()).isEqualTo(4 + 2 * (2 * 4 + 16));
+        assertThat(bytes.getInt(0)).isEqualTo(2);
+        final Map<Long, Long> actual = codec.deserialize(bytes, ProtocolVersion.V3);
+        assertThat(actual).isEqualTo(ImmutableMap.of(1L, 10L, -2L, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void should_serialize_null_as_null() throws Exception {
+        assertThat(codec.serialize(null, ProtocolVersion.V4)).isNull();
+    }
+
+    @Test
+    public void should_serialize_and_deserialize_empty_value() throws Exception {
+        //When
+        final ByteBuffer bytes = codec.serialize(new Long2LongOpenHashMap(), ProtocolVersion.V4);
+        final Map<Long, Long> actual = codec.deserialize(bytes, ProtocolVersion.V4);
+
+        //Then
+        assertThat(bytes.remaining()).isEqualTo(4);
+        assertThat(bytes.getInt(0)).isEqualTo(0);
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    public void should_deserialize_null_or_empty_bytes_as_empty_value() throws Exception {
+        //When
+        final Map<Long, Long> fromNull = codec.deserialize(null, ProtocolVersion.V4);
+        final Map<Long, Long> fromEmpty = codec.deserialize(ByteBuffer.allocate(0), ProtocolVersion.V4);
+
+        //Then
+        assertThat(fromNull).isEmpty();
+        assertThat(fromEmpty).isEmpty();
+    }
+}
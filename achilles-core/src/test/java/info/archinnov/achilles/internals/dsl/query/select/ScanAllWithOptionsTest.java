@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.dsl.query.select;
+
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.Metadata;
+
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.runtime.RuntimeEngine;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ScanAllWithOptionsTest {
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Mock
+    private AbstractEntityProperty<String> meta;
+
+    @Mock
+    private RuntimeEngine rte;
+
+    @Mock
+    private Cluster cluster;
+
+    @Mock
+    private Metadata metadata;
+
+    @Test
+    public void should_fail_when_token_metadata_is_empty() throws Exception {
+        //Given
+        when(rte.getCluster()).thenReturn(cluster);
+        when(cluster.getMetadata()).thenReturn(metadata);
+        when(metadata.getTokenRanges()).thenReturn(Collections.emptySet());
+        final ScanAllWithOptions<String> scanAll = new ScanAllWithOptions<>(meta, rte);
+
+        //When
+        exception.expect(AchillesException.class);
+        exception.expectMessage("the token metadata of the cluster is required");
+
+        scanAll.computeTokenRanges();
+    }
+}
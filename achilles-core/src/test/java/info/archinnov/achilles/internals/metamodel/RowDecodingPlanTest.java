@@ -0,0 +1,189 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.metamodel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.TypeCodec;
+import com.google.common.reflect.TypeToken;
+
+import info.archinnov.achilles.internals.codec.FallThroughCodec;
+import info.archinnov.achilles.internals.factory.TupleTypeFactory;
+import info.archinnov.achilles.internals.factory.UserTypeFactory;
+import info.archinnov.achilles.internals.metamodel.columns.ColumnInfo;
+import info.archinnov.achilles.internals.metamodel.columns.ColumnType;
+import info.archinnov.achilles.internals.metamodel.columns.FieldInfo;
+import info.archinnov.achilles.internals.metamodel.columns.PartitionKeyInfo;
+import info.archinnov.achilles.internals.metamodel.index.IndexInfo;
+import info.archinnov.achilles.internals.parser.accessors.Getter;
+import info.archinnov.achilles.internals.parser.accessors.Setter;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RowDecodingPlanTest {
+
+    @Mock
+    private ColumnDefinitions columnDefinitions;
+
+    @Mock
+    private Row row;
+
+    private SimpleProperty<TestEntity, Long, Long> id;
+    private SimpleProperty<TestEntity, String, String> value;
+    private JdkOptionalProperty<TestEntity, String, String> optionalValue;
+    private SimpleProperty<TestEntity, String, String> notSelected;
+
+    @Before
+    public void setUp() {
+        id = new SimpleProperty<>(new FieldInfo<>(TestEntity::getId, TestEntity::setId, "id", "id",
+                ColumnType.PARTITION, new PartitionKeyInfo(1, false), IndexInfo.noIndex()),
+                DataType.bigint(), gettable -> gettable.get("id", Long.class), (settable, x) -> settable.set("id", x, Long.class),
+                new TypeToken<Long>() {}, new TypeToken<Long>() {}, new FallThroughCodec<>(Long.class));
+
+        value = simpleTextProperty("value", TestEntity::getValue, TestEntity::setValue);
+
+        optionalValue = new JdkOptionalProperty<>(new FieldInfo<>(TestEntity::getOptionalValue, TestEntity::setOptionalValue,
+                "optionalValue", "optionalvalue", ColumnType.NORMAL, new ColumnInfo(false), IndexInfo.noIndex()),
+                simpleTextProperty("optionalvalue", entity -> null, (entity, x) -> {}));
+
+        notSelected = simpleTextProperty("notselected", entity -> null, (entity, x) -> {});
+
+        final UserTypeFactory userTypeFactory = new UserTypeFactory(ProtocolVersion.V4, CodecRegistry.DEFAULT_INSTANCE);
+        final TupleTypeFactory tupleTypeFactory = new TupleTypeFactory(ProtocolVersion.V4, CodecRegistry.DEFAULT_INSTANCE);
+        Arrays.asList(id, value, optionalValue, notSelected).forEach(x -> x.inject(userTypeFactory, tupleTypeFactory));
+
+        when(columnDefinitions.size()).thenReturn(3);
+        when(columnDefinitions.getName(0)).thenReturn("optionalvalue");
+        when(columnDefinitions.getName(1)).thenReturn("value");
+        when(columnDefinitions.getName(2)).thenReturn("id");
+        when(row.getColumnDefinitions()).thenReturn(columnDefinitions);
+    }
+
+    @Test
+    public void should_map_properties_to_column_indices() throws Exception {
+        //Given
+        final RowDecodingPlan<TestEntity> plan = new RowDecodingPlan<>(columnDefinitions, Arrays.<AbstractProperty<TestEntity, ?, ?>>asList(id, value, optionalValue, notSelected));
+        when(row.isNull(anyInt())).thenReturn(false);
+        when(row.get(eq(0), any(TypeCodec.class))).thenReturn("optional");
+        when(row.get(eq(1), any(TypeCodec.class))).thenReturn("val");
+        when(row.get(eq(2), any(TypeCodec.class))).thenReturn(10L);
+        final TestEntity entity = new TestEntity();
+
+        //When
+        plan.decodeRow(row, entity);
+
+        //Then
+        assertThat(plan.cqlColumns).containsExactly("optionalvalue", "value", "id");
+        assertThat(plan.appliesTo(row)).isTrue();
+        assertThat(entity.getId()).isEqualTo(10L);
+        assertThat(entity.getValue()).isEqualTo("val");
+        assertThat(entity.getOptionalValue()).isEqualTo(Optional.of("optional"));
+        verify(row, never()).get(anyString(), any(TypeCodec.class));
+        verify(row, never()).isNull(anyString());
+    }
+
+    @Test
+    public void should_decode_null_columns_as_null_or_empty_optional() throws Exception {
+        //Given
+        final RowDecodingPlan<TestEntity> plan = new RowDecodingPlan<>(columnDefinitions, Arrays.<AbstractProperty<TestEntity, ?, ?>>asList(id, value, optionalValue));
+        when(row.isNull(0)).thenReturn(true);
+        when(row.isNull(1)).thenReturn(true);
+        when(row.isNull(2)).thenReturn(false);
+        when(row.get(eq(2), any(TypeCodec.class))).thenReturn(10L);
+        final TestEntity entity = new TestEntity();
+        entity.setValue("previous");
+
+        //When
+        plan.decodeRow(row, entity);
+
+        //Then
+        assertThat(entity.getId()).isEqualTo(10L);
+        assertThat(entity.getValue()).isNull();
+        assertThat(entity.getOptionalValue()).isEqualTo(Optional.empty());
+        verify(row, never()).get(eq(0), any(TypeCodec.class));
+        verify(row, never()).get(eq(1), any(TypeCodec.class));
+    }
+
+    @Test
+    public void should_not_apply_to_row_with_other_column_definitions() throws Exception {
+        //Given
+        final RowDecodingPlan<TestEntity> plan = new RowDecodingPlan<>(columnDefinitions, Arrays.<AbstractProperty<TestEntity, ?, ?>>asList(id, value));
+        final Row otherRow = mock(Row.class);
+        when(otherRow.getColumnDefinitions()).thenReturn(mock(ColumnDefinitions.class));
+
+        //When
+        //Then
+        assertThat(plan.appliesTo(row)).isTrue();
+        assertThat(plan.appliesTo(otherRow)).isFalse();
+    }
+
+    private static SimpleProperty<TestEntity, String, String> simpleTextProperty(String column,
+                                                                               Getter<TestEntity, String> getter,
+                                                                               Setter<TestEntity, String> setter) {
+        return new SimpleProperty<>(new FieldInfo<>(getter, setter, column, column,
+                ColumnType.NORMAL, new ColumnInfo(false), IndexInfo.noIndex()),
+                DataType.text(), gettable -> gettable.get(column, String.class), (settable, x) -> settable.set(column, x, String.class),
+                new TypeToken<String>() {}, new TypeToken<String>() {}, new FallThroughCodec<>(String.class));
+    }
+
+    public static class TestEntity {
+        private Long id;
+        private String value;
+        private Optional<String> optionalValue;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+
+        public Optional<String> getOptionalValue() {
+            return optionalValue;
+        }
+
+        public void setOptionalValue(Optional<String> optionalValue) {
+            this.optionalValue = optionalValue;
+        }
+    }
+}
@@ -44,9 +44,11 @@ import info.archinnov.achilles.internals.parser.context.EntityParsingContext;
 import info.archinnov.achilles.internals.parser.context.FieldInfoContext;
 import info.archinnov.achilles.internals.parser.context.FieldParsingContext;
 import info.archinnov.achilles.internals.parser.context.GlobalParsingContext;
+import info.archinnov.achilles.internals.sample_classes.codecs.IntToStringBinaryCodec;
 import info.archinnov.achilles.internals.sample_classes.codecs.IntToStringCodec;
 import info.archinnov.achilles.internals.sample_classes.codecs.StringToLongCodec;
 import info.archinnov.achilles.internals.sample_classes.parser.field.TestEntityForCodecs;
+import info.archinnov.achilles.internals.sample_classes.types.MyBean;
 
 public class CodecFactoryTest extends AbstractTestProcessor {
 
@@ -97,6 +99,26 @@ public class CodecFactoryTest extends AbstractTestProcessor {
         launchTest();
     }
 
+    @Test
+    public void should_create_codec_for_binary_codec() throws Exception {
+        setExec(aptUtils -> {
+            final CodecFactory codecFactory = new CodecFactory(aptUtils);
+            final TypeElement typeElement = aptUtils.elementUtils.getTypeElement(TestEntityForCodecs.class.getCanonicalName());
+            final FieldParsingContext context = getFieldParsingContext(aptUtils, typeElement);
+
+            // @Codec(IntToStringBinaryCodec.class) private Integer binaryInteger;
+            final VariableElement elm = findFieldInType(typeElement, "binaryInteger");
+            final AnnotationTree tree = AnnotationTree.buildFrom(aptUtils, context.entityContext.globalContext, elm);
+            final CodecInfo codecInfo = codecFactory.createCodec(ClassName.get(Integer.class), tree, context, Optional.empty());
+
+            assertThat(codecInfo.sourceType.toString()).isEqualTo(Integer.class.getCanonicalName());
+            assertThat(codecInfo.targetType.toString()).isEqualTo(String.class.getCanonicalName());
+            assertThat(codecInfo.codecCode.toString()).isEqualTo("new " +
+                    IntToStringBinaryCodec.class.getCanonicalName() + "()");
+        });
+        launchTest();
+    }
+
     @Test
     public void should_create_codec_for_object_byte_array() throws Exception {
         setExec(aptUtils -> {
@@ -211,6 +233,28 @@ public class CodecFactoryTest extends AbstractTestProcessor {
         launchTest();
     }
 
+    @Test
+    public void should_create_codec_for_binary_json() throws Exception {
+        setExec(aptUtils -> {
+            final CodecFactory codecFactory = new CodecFactory(aptUtils);
+            final TypeElement typeElement = aptUtils.elementUtils.getTypeElement(TestEntityForCodecs.class.getCanonicalName());
+            final FieldParsingContext context = getFieldParsingContext(aptUtils, typeElement);
+
+            // @JSON(JSON.Format.SMILE) private MyBean smileBean
+            final VariableElement elm = findFieldInType(typeElement, "smileBean");
+            final AnnotationTree tree = AnnotationTree.buildFrom(aptUtils, context.entityContext.globalContext, elm);
+            final CodecInfo codecInfo = codecFactory.createCodec(ClassName.get(MyBean.class), tree, context, Optional.empty());
+
+            assertThat(codecInfo.sourceType.toString()).isEqualTo(MyBean.class.getCanonicalName());
+            assertThat(codecInfo.targetType.toString()).isEqualTo(ByteBuffer.class.getCanonicalName());
+            assertThat(codecInfo.codecCode.toString()).isEqualTo("new info.archinnov.achilles.internals.codec.BinaryJSONCodec<>(" +
+                    "info.archinnov.achilles.internals.sample_classes.types.MyBean.class, " +
+                    "com.fasterxml.jackson.databind.type.SimpleType.construct(info.archinnov.achilles.internals.sample_classes.types.MyBean.class), " +
+                    "info.archinnov.achilles.annotations.JSON.Format.SMILE)");
+        });
+        launchTest();
+    }
+
     @Test
     public void should_create_codec_for_enumerated() throws Exception {
         setExec(aptUtils -> {
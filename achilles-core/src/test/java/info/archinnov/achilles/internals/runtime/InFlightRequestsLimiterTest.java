@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import info.archinnov.achilles.exception.AchillesRequestRejectedException;
+
+public class InFlightRequestsLimiterTest {
+
+    @Test
+    public void should_queue_request_above_in_flight_limit_and_start_it_on_release() throws Exception {
+        //Given
+        final InFlightRequestsLimiter limiter = new InFlightRequestsLimiter("test", 1, 1);
+        final CompletableFuture<String> first = new CompletableFuture<>();
+        final AtomicInteger secondStarted = new AtomicInteger(0);
+
+        //When
+        final CompletableFuture<String> firstResult = limiter.submit(() -> first);
+        final CompletableFuture<String> secondResult = limiter.submit(() -> {
+            secondStarted.incrementAndGet();
+            return CompletableFuture.completedFuture("second");
+        });
+
+        //Then
+        assertThat(limiter.getInFlightCount()).isEqualTo(1);
+        assertThat(limiter.getQueuedCount()).isEqualTo(1);
+        assertThat(secondStarted.get()).isEqualTo(0);
+
+        first.complete("first");
+
+        assertThat(firstResult.get()).isEqualTo("first");
+        assertThat(secondResult.get()).isEqualTo("second");
+        assertThat(secondStarted.get()).isEqualTo(1);
+        assertThat(limiter.getInFlightCount()).isEqualTo(0);
+        assertThat(limiter.getQueuedCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void should_reject_request_when_queue_is_full() throws Exception {
+        //Given
+        final InFlightRequestsLimiter limiter = new InFlightRequestsLimiter("test", 1, 1);
+        limiter.submit(CompletableFuture::new);
+        limiter.submit(CompletableFuture::new);
+
+        //When
+        final CompletableFuture<Object> rejected = limiter.submit(() -> CompletableFuture.completedFuture("rejected"));
+
+        //Then
+        assertThat(rejected.isCompletedExceptionally()).isTrue();
+        try {
+            rejected.get();
+            fail("Request should have been rejected");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause()).isInstanceOf(AchillesRequestRejectedException.class);
+        }
+        assertThat(limiter.getRejectedCount()).isEqualTo(1L);
+        assertThat(limiter.getQueuedCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_start_queued_requests_before_new_ones() throws Exception {
+        //Given
+        final InFlightRequestsLimiter limiter = new InFlightRequestsLimiter("test", 1, 10);
+        final List<String> startOrder = new ArrayList<>();
+        final CompletableFuture<String> first = new CompletableFuture<>();
+        final CompletableFuture<String> second = new CompletableFuture<>();
+        limiter.submit(() -> first);
+        limiter.submit(() -> {
+            startOrder.add("second");
+            return second;
+        });
+
+        //When
+        first.complete("first");
+        limiter.submit(() -> {
+            startOrder.add("third");
+            return CompletableFuture.completedFuture("third");
+        });
+
+        //Then
+        assertThat(startOrder).containsExactly("second");
+        assertThat(limiter.getQueuedCount()).isEqualTo(1);
+
+        second.complete("second");
+
+        assertThat(startOrder).containsExactly("second", "third");
+    }
+
+    @Test
+    public void should_drain_deep_queue_of_synchronously_completed_requests() throws Exception {
+        //Given
+        final int queuedRequests = 100_000;
+        final InFlightRequestsLimiter limiter = new InFlightRequestsLimiter("test", 1, queuedRequests);
+        final CompletableFuture<Integer> first = new CompletableFuture<>();
+        limiter.submit(() -> first);
+        final List<CompletableFuture<Integer>> results = new ArrayList<>(queuedRequests);
+        for (int i = 0; i < queuedRequests; i++) {
+            final int value = i;
+            results.add(limiter.submit(() -> CompletableFuture.completedFuture(value)));
+        }
+
+        //When
+        first.complete(-1);
+
+        //Then
+        assertThat(results.get(queuedRequests - 1).get()).isEqualTo(queuedRequests - 1);
+        assertThat(limiter.getInFlightCount()).isEqualTo(0);
+        assertThat(limiter.getQueuedCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void should_release_slot_when_request_throws() throws Exception {
+        //Given
+        final InFlightRequestsLimiter limiter = new InFlightRequestsLimiter("test", 1, 0);
+
+        //When
+        final CompletableFuture<String> failed = limiter.submit(() -> {
+            throw new IllegalStateException("boom");
+        });
+        final CompletableFuture<String> next = limiter.submit(() -> CompletableFuture.completedFuture("next"));
+
+        //Then
+        assertThat(failed.isCompletedExceptionally()).isTrue();
+        assertThat(next.get()).isEqualTo("next");
+        assertThat(limiter.getInFlightCount()).isEqualTo(0);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.sample_classes.codecs;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import info.archinnov.achilles.exception.AchillesTranscodingException;
+import info.archinnov.achilles.type.codec.BinaryCodec;
+
+public class IntToStringBinaryCodec implements BinaryCodec<Integer, String> {
+
+    @Override
+    public Class<String> targetType() {
+        return String.class;
+    }
+
+    @Override
+    public Class<Integer> sourceType() {
+        return Integer.class;
+    }
+
+    @Override
+    public Integer decode(String fromCassandra) throws AchillesTranscodingException {
+        return Integer.parseInt(fromCassandra);
+    }
+
+    @Override
+    public String encode(Integer fromJava) throws AchillesTranscodingException {
+        return fromJava.toString();
+    }
+
+    @Override
+    public ByteBuffer serialize(Integer fromJava) throws AchillesTranscodingException {
+        return ByteBuffer.wrap(fromJava.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public Integer deserialize(ByteBuffer fromCassandra) throws AchillesTranscodingException {
+        return Integer.parseInt(StandardCharsets.UTF_8.decode(fromCassandra).toString());
+    }
+}
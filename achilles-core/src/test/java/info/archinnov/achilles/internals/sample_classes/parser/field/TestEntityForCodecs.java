@@ -31,6 +31,7 @@ import com.datastax.driver.core.ProtocolVersion;
 import info.archinnov.achilles.annotations.*;
 import info.archinnov.achilles.annotations.Enumerated.Encoding;
 import info.archinnov.achilles.internals.sample_classes.APUnitTest;
+import info.archinnov.achilles.internals.sample_classes.codecs.IntToStringBinaryCodec;
 import info.archinnov.achilles.internals.sample_classes.codecs.IntToStringCodec;
 import info.archinnov.achilles.internals.sample_classes.codecs.StringToLongCodec;
 import info.archinnov.achilles.internals.sample_classes.types.MyBean;
@@ -45,6 +46,9 @@ public class TestEntityForCodecs {
 
     private @JSON Date time;
 
+    @JSON(JSON.Format.SMILE)
+    private MyBean smileBean;
+
     private String value;
 
     private boolean primitiveBoolean;
@@ -65,6 +69,9 @@ public class TestEntityForCodecs {
     @Codec(value = IntToStringCodec.class)
     private Integer okInteger;
 
+    @Codec(value = IntToStringBinaryCodec.class)
+    private Integer binaryInteger;
+
     private List<Integer> list;
 
     @Frozen
@@ -270,6 +277,14 @@ public class TestEntityForCodecs {
         this.time = time;
     }
 
+    public MyBean getSmileBean() {
+        return smileBean;
+    }
+
+    public void setSmileBean(MyBean smileBean) {
+        this.smileBean = smileBean;
+    }
+
     public String getValue() {
         return value;
     }
@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+
+import org.junit.Test;
+
+public class JmxAchillesMetricsTest {
+
+    private final MBeanServer mBeanServer = MBeanServerFactory.newMBeanServer();
+
+    @Test
+    public void should_record_statements_when_mxbean_name_already_registered() throws Exception {
+        //Given
+        final JmxAchillesMetrics first = new JmxAchillesMetrics("duplicate", mBeanServer);
+        final JmxAchillesMetrics second = new JmxAchillesMetrics("duplicate", mBeanServer);
+        final ObjectName objectName = new ObjectName(JmxAchillesMetrics.JMX_DOMAIN +
+                ":type=Statement,name=duplicate,entity=java.lang.String,operation=INSERT");
+
+        //When
+        first.recordStatementLatency(String.class, StatementOperation.INSERT, 1000L, true);
+        second.recordStatementLatency(String.class, StatementOperation.INSERT, 1000L, true);
+        second.recordStatementLatency(String.class, StatementOperation.INSERT, 1000L, false);
+
+        //Then
+        assertThat(mBeanServer.getAttribute(objectName, "Count")).isEqualTo(1L);
+        assertThat(mBeanServer.getAttribute(objectName, "ErrorCount")).isEqualTo(0L);
+    }
+
+    @Test
+    public void should_record_rows_mapping_when_mxbean_name_already_registered() throws Exception {
+        //Given
+        final JmxAchillesMetrics first = new JmxAchillesMetrics("duplicate", mBeanServer);
+        final JmxAchillesMetrics second = new JmxAchillesMetrics("duplicate", mBeanServer);
+        final ObjectName objectName = new ObjectName(JmxAchillesMetrics.JMX_DOMAIN +
+                ":type=EntityMapping,name=duplicate,entity=java.lang.String");
+
+        //When
+        first.recordRowsMapping(String.class, 2, 1000L);
+        second.recordRowsMapping(String.class, 3, 1000L);
+        second.recordRowsMapping(String.class, 3, 1000L);
+
+        //Then
+        assertThat(mBeanServer.getAttribute(objectName, "MappedRowsCount")).isEqualTo(2L);
+    }
+
+    @Test
+    public void should_only_unregister_own_mxbeans_on_close() throws Exception {
+        //Given
+        final JmxAchillesMetrics first = new JmxAchillesMetrics("duplicate", mBeanServer);
+        final JmxAchillesMetrics second = new JmxAchillesMetrics("duplicate", mBeanServer);
+        final ObjectName objectName = new ObjectName(JmxAchillesMetrics.JMX_DOMAIN + ":type=StatementsCache,name=duplicate");
+
+        //When
+        second.close();
+
+        //Then
+        assertThat(mBeanServer.isRegistered(objectName)).isTrue();
+        first.close();
+        assertThat(mBeanServer.isRegistered(objectName)).isFalse();
+    }
+}
@@ -34,6 +34,15 @@ import java.lang.annotation.*;
  * {@literal @}Column
  * private List&lt;<strong>{@literal @}JSON</strong> MyObject&gt; myPojos;
  * </code></pre>
+
+ * The object can also be serialized with a binary JSON format into a <strong>blob</strong> column:
+
+ * <pre class="code"><code class="java">
+
+ * {@literal @}Column
+ * <strong>{@literal @}JSON(Format.SMILE)</strong>
+ * private MyObject myPojo;
+ * </code></pre>
  *
  * @see <a href="https://github.com/doanduyhai/Achilles/wiki/Entity-Mapping#field-mapping" target="_blank">Field Mapping</a>
  */
@@ -41,4 +50,19 @@ import java.lang.annotation.*;
 @Target({ElementType.FIELD, ElementType.TYPE_USE})
 @Documented
 public @interface JSON {
+
+    /**
+     * (<strong>Optional</strong>) The serialization format. Default value is <strong>Format.TEXT</strong> e.g. the object
+     * is saved as a JSON String in a <strong>text</strong> column.
+     * <br/>
+     * <br/>
+     * The binary formats <strong>Format.SMILE</strong> and <strong>Format.CBOR</strong> save the object in a <strong>blob</strong> column.
+     * They require the matching Jackson data format module (<em>jackson-dataformat-smile</em> or <em>jackson-dataformat-cbor</em>)
+     * on the classpath
+     */
+    Format value() default Format.TEXT;
+
+    enum Format {
+        TEXT, SMILE, CBOR
+    }
 }
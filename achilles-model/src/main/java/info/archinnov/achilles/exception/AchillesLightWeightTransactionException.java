@@ -17,6 +17,8 @@ package info.archinnov.achilles.exception;
 
 import static info.archinnov.achilles.type.lightweighttransaction.LWTResultListener.LWTResult.LWTOperation;
 
+import java.util.Optional;
+
 import info.archinnov.achilles.type.TypedMap;
 import info.archinnov.achilles.type.lightweighttransaction.LWTResultListener;
 
@@ -37,6 +39,10 @@ public class AchillesLightWeightTransactionException extends AchillesException {
         return LWTResult.currentValues();
     }
 
+    public <T> Optional<T> currentEntity() {
+        return LWTResult.currentEntity();
+    }
+
     @Override
     public String toString() {
         return LWTResult.toString();
@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.type.codec;
+
+import java.nio.ByteBuffer;
+
+import info.archinnov.achilles.exception.AchillesTranscodingException;
+
+/**
+ * A {@link Codec} able to write the CQL representation of the source type directly to a {@link ByteBuffer}
+ * and to read it back from a {@link ByteBuffer}, without building the intermediate target type object. <br/>
+ * <br/>
+ * The target type still defines the CQL type of the column. The object-level <em>encode()</em>/<em>decode()</em> methods are used
+ * wherever the encoded value is consumed as a Java object (function parameters, nested collection/tuple values ...). <br/>
+ * The bytes produced by <em>serialize()</em> should be exactly the bytes the Java driver produces for the encoded target type,
+ * e.g. the UTF-8 bytes of the string for a <strong>text</strong> column <br/>
+ * <br/>
+ * <br/>
+
+ * Example of <strong>LongToString</strong> binary codec
+ * <pre class="code"><code class="java">
+
+ * public class LongToString implements BinaryCodec&lt;Long,String&gt; {
+ * ...
+ * {@literal @}Override
+ * public ByteBuffer serialize(Long fromJava) throws AchillesTranscodingException {
+ * return ByteBuffer.wrap(fromJava.toString().getBytes(StandardCharsets.UTF_8));
+ * }
+
+ * {@literal @}Override
+ * public Long deserialize(ByteBuffer fromCassandra) throws AchillesTranscodingException {
+ * return Long.parseLong(StandardCharsets.UTF_8.decode(fromCassandra).toString());
+ * }
+ * }
+ * </code></pre>
+ *
+ * @param <FROM> sourceType
+ * @param <TO>   targetType compatible with Cassandra
+ */
+public interface BinaryCodec<FROM, TO> extends Codec<FROM, TO> {
+
+    /**
+     * @param fromJava non null Java value
+     * @return the serialized CQL value, ready to be sent to Cassandra
+     */
+    ByteBuffer serialize(FROM fromJava) throws AchillesTranscodingException;
+
+    /**
+     * @param fromCassandra non null serialized CQL value, the buffer can be consumed
+     * @return the Java value
+     */
+    FROM deserialize(ByteBuffer fromCassandra) throws AchillesTranscodingException;
+}
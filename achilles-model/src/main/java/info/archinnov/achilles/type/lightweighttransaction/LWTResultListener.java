@@ -18,6 +18,9 @@ package info.archinnov.achilles.type.lightweighttransaction;
 
 import static java.lang.String.format;
 
+import java.util.Optional;
+import java.util.function.Supplier;
+
 import info.archinnov.achilles.type.TypedMap;
 
 /**
@@ -86,6 +89,13 @@ public interface LWTResultListener {
      * of current value for each column involved in the LWT operation
      * <br>
      * <br>
+     * The "<em>public &lt;T&gt; Optional&lt;T&gt; currentEntity()</em>" method returns the current values
+     * decoded into an instance of the entity targeted by the LWT operation. Columns which are not returned by
+     * Cassandra are left null. This is cheaper than <em>currentValues()</em> in a retry loop since
+     * the current values are decoded directly with the entity meta. It returns <em>Optional.empty()</em>
+     * for native queries
+     * <br>
+     * <br>
      * Below is an example of usage for LWTResult
      * <pre class="code"><code class="java">
 
@@ -112,24 +122,49 @@ public interface LWTResultListener {
      */
     class LWTResult {
         private final LWTOperation lwtOperation;
-        private final TypedMap currentValues;
+        private final Supplier<TypedMap> currentValuesSupplier;
+        private final Supplier<Optional<?>> currentEntitySupplier;
+        private volatile TypedMap currentValues;
+        private volatile Optional<?> currentEntity;
 
         public LWTResult(LWTOperation lwtOperation, TypedMap currentValues) {
             this.lwtOperation = lwtOperation;
+            this.currentValuesSupplier = () -> currentValues;
+            this.currentEntitySupplier = Optional::empty;
             this.currentValues = currentValues;
         }
 
+        /**
+         * The current values and the current entity are decoded lazily, only when requested
+         */
+        public LWTResult(LWTOperation lwtOperation, Supplier<TypedMap> currentValues, Supplier<Optional<?>> currentEntity) {
+            this.lwtOperation = lwtOperation;
+            this.currentValuesSupplier = currentValues;
+            this.currentEntitySupplier = currentEntity;
+        }
+
         public LWTOperation operation() {
             return lwtOperation;
         }
 
         public TypedMap currentValues() {
+            if (currentValues == null) {
+                currentValues = currentValuesSupplier.get();
+            }
             return currentValues;
         }
 
+        @SuppressWarnings("unchecked")
+        public <T> Optional<T> currentEntity() {
+            if (currentEntity == null) {
+                currentEntity = currentEntitySupplier.get();
+            }
+            return (Optional<T>) currentEntity;
+        }
+
         @Override
         public String toString() {
-            return format("LightWeight Transaction operation %s cannot be applied. Current values are: %s", lwtOperation, currentValues);
+            return format("LightWeight Transaction operation %s cannot be applied. Current values are: %s", lwtOperation, currentValues());
         }
 
         public enum LWTOperation {INSERT, UPDATE}
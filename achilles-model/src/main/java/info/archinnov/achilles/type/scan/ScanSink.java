@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type.scan;
+
+import com.datastax.driver.core.TokenRange;
+
+/**
+ * Callback receiving the entities of a full table scan performed by token ranges.
+ * <br>
+ * Several token ranges are scanned concurrently so the implementation should be <strong>thread-safe</strong>.
+ * The entities of a given token range are delivered sequentially.
+ * <br>
+ * <br>
+ * The "<em>default void onRangeCompleted(TokenRange range)</em>" method is called once all the entities of a token range
+ * have been passed to <em>accept()</em>. Save the completed ranges to resume an interrupted scan later
+ * <br>
+ * <br>
+ * Below is an example of usage
+ * <pre class="code"><code class="java">
+ * Set&lt;TokenRange&gt; checkpoint = ... // completed ranges of a previous run
+ *
+ * manager
+ *  .dsl()
+ *  .scanAll()
+ *  .withSplitCount(512)
+ *  .withMaxConcurrentRanges(8)
+ *  .withCompletedRanges(checkpoint)
+ *  .forEach(new ScanSink&lt;User&gt;() {
+ *      public void accept(User user) {
+ *          // process user
+ *      }
+ *
+ *      public void onRangeCompleted(TokenRange range) {
+ *          checkpoint.add(range);
+ *      }
+ *  });
+ * </code></pre>
+ */
+@FunctionalInterface
+public interface ScanSink<ENTITY> {
+
+    void accept(ENTITY entity);
+
+    default void onRangeCompleted(TokenRange range) {
+        // Do nothing
+    }
+}
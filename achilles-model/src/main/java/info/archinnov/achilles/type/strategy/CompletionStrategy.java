@@ -0,0 +1,39 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type.strategy;
+
+/**
+
+ * Define on which thread the futures returned by asynchronous operations are completed. Available values are :
+ * <ul>
+ * <li>{@code info.archinnov.achilles.type.strategy.CompletionStrategy.EXECUTOR_SERVICE}: complete on the
+ * executor service (thread pool) configured for <strong>Achilles</strong></li>
+ * <li>{@code info.archinnov.achilles.type.strategy.CompletionStrategy.DIRECT}: complete directly on the
+ * Java driver I/O thread, avoiding any thread hand-off. Callbacks attached to the futures <strong>must not block</strong>.
+ * Operations sending several requests (find by ids, insert/update/delete all, scan all) start their next request
+ * on the executor service, since it may need to prepare a statement</li>
+ * <li>{@code info.archinnov.achilles.type.strategy.CompletionStrategy.FORK_JOIN_POOL}: complete on the
+ * common <em>ForkJoinPool</em>, which has no bounded queue</li>
+ * </ul>
+ * <br/>
+ * Default value = {@code info.archinnov.achilles.type.strategy.CompletionStrategy.EXECUTOR_SERVICE}
+ *
+ * @see <a href="https://github.com/doanduyhai/Achilles/wiki/Asynchronous-Operations">Asynchronous Operations</a>
+ */
+public enum CompletionStrategy {
+    EXECUTOR_SERVICE, DIRECT, FORK_JOIN_POOL;
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type.strategy;
+
+/**
+ * Define where the rows of an entity cache are stored. Available values are :
+ * <ul>
+ * <li>{@code info.archinnov.achilles.type.strategy.EntityCacheStorageStrategy.ON_HEAP}: keep the rows
+ * returned by the Java driver on the heap</li>
+ * <li>{@code info.archinnov.achilles.type.strategy.EntityCacheStorageStrategy.OFF_HEAP}: copy the serialized
+ * column values of each row in a direct buffer. Values are decoded on each cache hit, which keeps the heap
+ * footprint of the cache minimal for large entities with collections or UDTs</li>
+ * </ul>
+ * <br/>
+ * Default value = {@code info.archinnov.achilles.type.strategy.EntityCacheStorageStrategy.ON_HEAP}
+ */
+public enum EntityCacheStorageStrategy {
+    ON_HEAP, OFF_HEAP;
+}
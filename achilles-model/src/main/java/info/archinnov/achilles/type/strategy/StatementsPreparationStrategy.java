@@ -0,0 +1,34 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type.strategy;
+
+/**
+ * Define when the static statements of managed entities (SELECT by primary key, INSERT, DELETE ...) are prepared. Available values are :
+ * <ul>
+ * <li>{@code info.archinnov.achilles.type.strategy.StatementsPreparationStrategy.EAGER}: prepare all the static
+ * statements of all managed entities when the manager factory is bootstrapped</li>
+ * <li>{@code info.archinnov.achilles.type.strategy.StatementsPreparationStrategy.LAZY}: prepare each static statement
+ * the first time it is used. Concurrent first uses of the same statement trigger a single preparation.
+ * It shortens the bootstrap and spares the server-side prepared statements cache when only a few
+ * operations are used for each entity</li>
+ * </ul>
+ * <br/>
+ * Default value = {@code info.archinnov.achilles.type.strategy.StatementsPreparationStrategy.EAGER}
+ */
+public enum StatementsPreparationStrategy {
+    EAGER, LAZY;
+}
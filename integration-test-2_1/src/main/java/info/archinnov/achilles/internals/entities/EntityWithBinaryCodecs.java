@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.entities;
+
+import java.util.Map;
+
+import info.archinnov.achilles.annotations.Codec;
+import info.archinnov.achilles.annotations.Column;
+import info.archinnov.achilles.annotations.JSON;
+import info.archinnov.achilles.annotations.PartitionKey;
+import info.archinnov.achilles.annotations.Table;
+import info.archinnov.achilles.internals.codecs.IntToStringBinaryCodec;
+
+@Table(table = "entity_with_binary_codecs")
+public class EntityWithBinaryCodecs {
+
+    @PartitionKey
+    private Long id;
+
+    @Column
+    @Codec(IntToStringBinaryCodec.class)
+    private Integer intAsText;
+
+    @Column
+    @JSON
+    private Map<String, Long> json;
+
+    public EntityWithBinaryCodecs() {
+    }
+
+    public EntityWithBinaryCodecs(Long id, Integer intAsText, Map<String, Long> json) {
+        this.id = id;
+        this.intAsText = intAsText;
+        this.json = json;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Integer getIntAsText() {
+        return intAsText;
+    }
+
+    public void setIntAsText(Integer intAsText) {
+        this.intAsText = intAsText;
+    }
+
+    public Map<String, Long> getJson() {
+        return json;
+    }
+
+    public void setJson(Map<String, Long> json) {
+        this.json = json;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.entities;
+
+import java.util.List;
+import java.util.Map;
+
+import info.archinnov.achilles.annotations.Column;
+import info.archinnov.achilles.annotations.JSON;
+import info.archinnov.achilles.annotations.PartitionKey;
+import info.archinnov.achilles.annotations.Table;
+
+@Table(table = "entity_with_binary_json")
+public class EntityWithBinaryJSON {
+
+    @PartitionKey
+    private Long id;
+
+    @Column
+    @JSON(JSON.Format.SMILE)
+    private Map<String, List<Integer>> smile;
+
+    @Column
+    @JSON(JSON.Format.CBOR)
+    private Map<String, List<Integer>> cbor;
+
+    public EntityWithBinaryJSON() {
+    }
+
+    public EntityWithBinaryJSON(Long id, Map<String, List<Integer>> smile, Map<String, List<Integer>> cbor) {
+        this.id = id;
+        this.smile = smile;
+        this.cbor = cbor;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Map<String, List<Integer>> getSmile() {
+        return smile;
+    }
+
+    public void setSmile(Map<String, List<Integer>> smile) {
+        this.smile = smile;
+    }
+
+    public Map<String, List<Integer>> getCbor() {
+        return cbor;
+    }
+
+    public void setCbor(Map<String, List<Integer>> cbor) {
+        this.cbor = cbor;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.entities;
+
+import info.archinnov.achilles.annotations.Column;
+import info.archinnov.achilles.annotations.PartitionKey;
+import info.archinnov.achilles.annotations.Table;
+import it.unimi.dsi.fastutil.doubles.DoubleList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.Long2DoubleMap;
+import it.unimi.dsi.fastutil.longs.LongSet;
+
+@Table(table = "entity_with_primitive_collections")
+public class EntityWithPrimitiveCollections {
+
+    @PartitionKey
+    private Long id;
+
+    @Column
+    private IntList intList;
+
+    @Column
+    private DoubleList doubleList;
+
+    @Column
+    private LongSet longSet;
+
+    @Column
+    private Long2DoubleMap long2DoubleMap;
+
+    public EntityWithPrimitiveCollections() {
+    }
+
+    public EntityWithPrimitiveCollections(Long id, IntList intList, DoubleList doubleList, LongSet longSet, Long2DoubleMap long2DoubleMap) {
+        this.id = id;
+        this.intList = intList;
+        this.doubleList = doubleList;
+        this.longSet = longSet;
+        this.long2DoubleMap = long2DoubleMap;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public IntList getIntList() {
+        return intList;
+    }
+
+    public void setIntList(IntList intList) {
+        this.intList = intList;
+    }
+
+    public DoubleList getDoubleList() {
+        return doubleList;
+    }
+
+    public void setDoubleList(DoubleList doubleList) {
+        this.doubleList = doubleList;
+    }
+
+    public LongSet getLongSet() {
+        return longSet;
+    }
+
+    public void setLongSet(LongSet longSet) {
+        this.longSet = longSet;
+    }
+
+    public Long2DoubleMap getLong2DoubleMap() {
+        return long2DoubleMap;
+    }
+
+    public void setLong2DoubleMap(Long2DoubleMap long2DoubleMap) {
+        this.long2DoubleMap = long2DoubleMap;
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.it;
+
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.datastax.driver.core.Session;
+import com.google.common.collect.Sets;
+
+import info.archinnov.achilles.generated.ManagerFactory;
+import info.archinnov.achilles.generated.ManagerFactoryBuilder;
+import info.archinnov.achilles.generated.manager.SimpleEntity_Manager;
+import info.archinnov.achilles.internals.cache.StatementsCache;
+import info.archinnov.achilles.internals.entities.SimpleEntity;
+import info.archinnov.achilles.junit.AchillesTestResource;
+import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
+import info.archinnov.achilles.type.strategy.CompletionStrategy;
+import info.archinnov.achilles.type.strategy.InsertStrategy;
+import info.archinnov.achilles.type.strategy.StatementsPreparationStrategy;
+import info.archinnov.achilles.type.tuples.Tuple2;
+
+public class TestAsyncCompletionStrategy {
+
+    @Rule
+    public AchillesTestResource<ManagerFactory> resource = AchillesTestResourceBuilder
+            .forJunit()
+            .entityClassesToTruncate(SimpleEntity.class)
+            .truncateBeforeAndAfterTest()
+            .build((cluster, statementsCache) -> ManagerFactoryBuilder
+                    .builder(cluster)
+                    .withManagedEntityClasses(SimpleEntity.class)
+                    .doForceSchemaCreation(true)
+                    .withStatementsCache(statementsCache)
+                    .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                    .withCompletionStrategy(CompletionStrategy.DIRECT)
+                    .build());
+
+    private Session session = resource.getNativeSession();
+    private SimpleEntity_Manager manager = resource.getManagerFactory().forSimpleEntity();
+
+    @Test
+    public void should_complete_async_insert_on_driver_thread() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final SimpleEntity entity = new SimpleEntity(id, new Date(), "value");
+        final AtomicReference<String> threadName = new AtomicReference<>();
+
+        //When
+        manager
+                .crud()
+                .insert(entity)
+                .withResultSetAsyncListener(rs -> {
+                    threadName.set(Thread.currentThread().getName());
+                    return rs;
+                })
+                .executeAsync()
+                .get();
+
+        //Then
+        assertThat(threadName.get()).doesNotContain("achilles-default-executor");
+        assertThat(session.execute("SELECT * FROM simple WHERE id = " + id).all()).hasSize(1);
+    }
+
+    @Test
+    public void should_complete_async_find_on_fork_join_pool() throws Exception {
+        //Given
+        final ManagerFactory managerFactory = ManagerFactoryBuilder
+                .builder(session.getCluster())
+                .withManagedEntityClasses(SimpleEntity.class)
+                .withNativeSession(session)
+                .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                .withCompletionStrategy(CompletionStrategy.FORK_JOIN_POOL)
+                .build();
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = new Date();
+        final AtomicReference<String> threadName = new AtomicReference<>();
+        session.execute("INSERT INTO simple(id, date, value) VALUES(?, ?, ?)", id, date, "value");
+
+        //When
+        final SimpleEntity found = managerFactory
+                .forSimpleEntity()
+                .crud()
+                .findById(id, date)
+                .withResultSetAsyncListener(rs -> {
+                    threadName.set(Thread.currentThread().getName());
+                    return rs;
+                })
+                .getAsync()
+                .get();
+
+        //Then
+        assertThat(found).isNotNull();
+        assertThat(threadName.get()).contains("ForkJoinPool");
+
+        managerFactory.shutDown();
+    }
+
+    @Test
+    public void should_chain_multi_request_operations_from_driver_thread() throws Exception {
+        //Given
+        final ManagerFactory managerFactory = ManagerFactoryBuilder
+                .builder(session.getCluster())
+                .withManagedEntityClasses(SimpleEntity.class)
+                .withNativeSession(session)
+                .withStatementsCache(new StatementsCache(100))
+                .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                .withCompletionStrategy(CompletionStrategy.DIRECT)
+                .withStatementsPreparationStrategy(StatementsPreparationStrategy.LAZY)
+                .build();
+        final SimpleEntity_Manager directManager = managerFactory.forSimpleEntity();
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = new Date();
+        final List<SimpleEntity> entities = new ArrayList<>();
+        final List<Tuple2<Long, Date>> ids = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            final SimpleEntity entity = new SimpleEntity(id + i, date, "val" + i);
+            // Each null columns pattern is a new statement shape, prepared on first use
+            if (i % 2 == 0) {
+                entity.setSimpleSet(Sets.newHashSet(1.0 * i));
+            }
+            entities.add(entity);
+            ids.add(Tuple2.of(id + i, date));
+        }
+
+        //When
+        directManager
+                .crud()
+                .insertAll(entities)
+                .withInsertStrategy(InsertStrategy.NOT_NULL_FIELDS)
+                .withMaxBatchSize(1)
+                .withMaxConcurrentBatches(1)
+                .executeAsync()
+                .get(10, TimeUnit.SECONDS);
+
+        final List<SimpleEntity> found = directManager
+                .crud()
+                .findByIds(ids)
+                .withMaxConcurrentRequests(1)
+                .getAsync()
+                .get(10, TimeUnit.SECONDS);
+
+        final Set<Long> scannedIds = ConcurrentHashMap.newKeySet();
+        directManager
+                .dsl()
+                .scanAll()
+                .withSplitCount(8)
+                .withMaxConcurrentRanges(1)
+                .forEachAsync(entity -> scannedIds.add(entity.getId()))
+                .get(10, TimeUnit.SECONDS);
+
+        //Then
+        assertThat(found.stream().map(SimpleEntity::getValue).collect(toList()))
+                .containsExactly("val0", "val1", "val2", "val3", "val4", "val5", "val6", "val7", "val8", "val9");
+        assertThat(scannedIds).containsAll(ids.stream().map(Tuple2::_1).collect(toList()));
+
+        managerFactory.shutDown();
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.it;
+
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
+import static info.archinnov.achilles.internals.cache.CacheKey.Operation.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.utils.UUIDs;
+
+import info.archinnov.achilles.generated.ManagerFactory;
+import info.archinnov.achilles.generated.ManagerFactoryBuilder;
+import info.archinnov.achilles.internals.cache.CacheKey;
+import info.archinnov.achilles.internals.cache.StatementsCache;
+import info.archinnov.achilles.internals.entities.EntityWithStaticColumn;
+import info.archinnov.achilles.internals.entities.SimpleEntity;
+import info.archinnov.achilles.junit.AchillesTestResource;
+import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
+import info.archinnov.achilles.type.strategy.StatementsPreparationStrategy;
+
+public class TestBootstrapStatementsPreparation {
+
+    @Rule
+    public AchillesTestResource<ManagerFactory> resource = AchillesTestResourceBuilder
+            .forJunit()
+            .entityClassesToTruncate(SimpleEntity.class, EntityWithStaticColumn.class)
+            .truncateBeforeAndAfterTest()
+            .build((cluster, statementsCache) -> ManagerFactoryBuilder
+                    .builder(cluster)
+                    .withManagedEntityClasses(SimpleEntity.class, EntityWithStaticColumn.class)
+                    .doForceSchemaCreation(true)
+                    .withStatementsCache(statementsCache)
+                    .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                    .build());
+
+    private Session session = resource.getNativeSession();
+
+    @Test
+    public void should_prepare_all_static_statements_with_bounded_concurrency() throws Exception {
+        //Given
+        final StatementsCache statementsCache = new StatementsCache(100);
+
+        //When
+        final ManagerFactory managerFactory = ManagerFactoryBuilder
+                .builder(session.getCluster())
+                .withManagedEntityClasses(SimpleEntity.class, EntityWithStaticColumn.class)
+                .withNativeSession(session)
+                .withStatementsCache(statementsCache)
+                .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                .withBootstrapMaxConcurrentPrepares(1)
+                .build();
+
+        //Then
+        assertThat(statementsCache.hasStaticCache(new CacheKey(SimpleEntity.class, INSERT))).isTrue();
+        assertThat(statementsCache.hasStaticCache(new CacheKey(SimpleEntity.class, INSERT_IF_NOT_EXISTS))).isTrue();
+        assertThat(statementsCache.hasStaticCache(new CacheKey(SimpleEntity.class, DELETE))).isTrue();
+        assertThat(statementsCache.hasStaticCache(new CacheKey(SimpleEntity.class, DELETE_BY_PARTITION))).isTrue();
+        assertThat(statementsCache.hasStaticCache(new CacheKey(SimpleEntity.class, FIND))).isTrue();
+        assertThat(statementsCache.hasStaticCache(new CacheKey(SimpleEntity.class, INSERT_STATIC))).isFalse();
+        assertThat(statementsCache.hasStaticCache(new CacheKey(EntityWithStaticColumn.class, INSERT_STATIC))).isTrue();
+        assertThat(statementsCache.hasStaticCache(new CacheKey(EntityWithStaticColumn.class, INSERT_STATIC_IF_NOT_EXISTS))).isTrue();
+
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = new Date();
+        managerFactory.forSimpleEntity().crud().insert(new SimpleEntity(id, date, "value")).execute();
+        managerFactory.forEntityWithStaticColumn().crud()
+                .insert(new EntityWithStaticColumn(id, UUIDs.timeBased(), "static_val", "val")).execute();
+
+        assertThat(managerFactory.forSimpleEntity().crud().findById(id, date).get().getValue()).isEqualTo("value");
+        assertThat(session.execute("SELECT * FROM entitywithstaticcolumn WHERE id = " + id).all()).hasSize(1);
+
+        managerFactory.shutDown();
+    }
+
+    @Test
+    public void should_prepare_static_statements_on_first_use() throws Exception {
+        //Given
+        final StatementsCache statementsCache = new StatementsCache(100);
+        final ManagerFactory managerFactory = ManagerFactoryBuilder
+                .builder(session.getCluster())
+                .withManagedEntityClasses(SimpleEntity.class)
+                .withNativeSession(session)
+                .withStatementsCache(statementsCache)
+                .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                .withStatementsPreparationStrategy(StatementsPreparationStrategy.LAZY)
+                .build();
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = new Date();
+        session.execute("INSERT INTO simple(id, date, value) VALUES(?, ?, ?)", id, date, "value");
+
+        assertThat(statementsCache.hasStaticCache(new CacheKey(SimpleEntity.class, FIND))).isFalse();
+
+        //When
+        final List<CompletableFuture<SimpleEntity>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            futures.add(CompletableFuture.supplyAsync(() -> managerFactory.forSimpleEntity().crud().findById(id, date).get()));
+        }
+
+        //Then
+        for (CompletableFuture<SimpleEntity> future : futures) {
+            assertThat(future.get().getValue()).isEqualTo("value");
+        }
+        assertThat(statementsCache.hasStaticCache(new CacheKey(SimpleEntity.class, FIND))).isTrue();
+        assertThat(statementsCache.hasStaticCache(new CacheKey(SimpleEntity.class, INSERT))).isFalse();
+        assertThat(statementsCache.hasStaticCache(new CacheKey(SimpleEntity.class, DELETE))).isFalse();
+
+        managerFactory.shutDown();
+    }
+}
@@ -18,16 +18,19 @@ package info.archinnov.achilles.it;
 
 import static com.datastax.driver.core.ConsistencyLevel.*;
 import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 import java.util.TimeZone;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.commons.lang3.RandomUtils;
 import org.junit.Rule;
@@ -35,6 +38,7 @@ import org.junit.Test;
 
 import com.datastax.driver.core.ConsistencyLevel;
 import com.datastax.driver.core.ExecutionInfo;
+import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.policies.DowngradingConsistencyRetryPolicy;
@@ -44,6 +48,7 @@ import com.google.common.collect.Sets;
 import info.archinnov.achilles.generated.ManagerFactory;
 import info.archinnov.achilles.generated.ManagerFactoryBuilder;
 import info.archinnov.achilles.generated.manager.SimpleEntity_Manager;
+import info.archinnov.achilles.internals.cache.StatementsCache;
 import info.archinnov.achilles.internals.dsl.crud.DeleteByPartitionWithOptions;
 import info.archinnov.achilles.internals.dsl.crud.DeleteWithOptions;
 import info.archinnov.achilles.internals.dsl.crud.InsertWithOptions;
@@ -154,6 +159,34 @@ public class TestCRUDSimpleEntity {
         assertThat(currentId.get()).isEqualTo(id);
     }
 
+    @Test
+    public void should_insert_if_not_exists_and_decode_current_entity() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = buildDateKey();
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_single_row.cql", ImmutableMap.of("id", id, "table", "simple"));
+
+        final SimpleEntity entity = new SimpleEntity(id, date, "value");
+        final AtomicReference<LWTResultListener.LWTResult.LWTOperation> operation = new AtomicReference<>();
+        final AtomicReference<SimpleEntity> currentEntity = new AtomicReference<>();
+
+        //When
+        manager.crud().insert(entity).ifNotExists()
+                .withLwtResultListener(lwtResult -> {
+                    operation.getAndSet(lwtResult.operation());
+                    currentEntity.getAndSet(lwtResult.<SimpleEntity>currentEntity().get());
+                })
+                .execute();
+
+        //Then
+        assertThat(operation.get()).isEqualTo(LWTResultListener.LWTResult.LWTOperation.INSERT);
+        final SimpleEntity current = currentEntity.get();
+        assertThat(current.getId()).isEqualTo(id);
+        assertThat(current.getDate()).isEqualTo(date);
+        assertThat(current.getValue()).isEqualTo("0 AM");
+        assertThat(current.getConsistencyList()).containsExactly(ConsistencyLevel.QUORUM, ConsistencyLevel.LOCAL_ONE);
+    }
+
     @Test
     public void should_insert_with_timestamp() throws Exception {
         //Given
@@ -227,6 +260,34 @@ public class TestCRUDSimpleEntity {
         assertThat(insert.generateAndGetBoundStatement().preparedStatement().getQueryString()).isEqualTo(expectedQuery);
     }
 
+    @Test
+    public void should_generate_insert_and_update_for_non_null_fields_only() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = buildDateKey();
+        final SimpleEntity entity = new SimpleEntity(id, date, "value");
+        final SimpleEntity otherEntity = new SimpleEntity(id, new Date(date.getTime() + 1), "other_value");
+
+        //When
+        final InsertWithOptions<SimpleEntity> insert = manager
+                .crud()
+                .insert(entity)
+                .withInsertStrategy(InsertStrategy.NOT_NULL_FIELDS);
+        final PreparedStatement update = manager.crud().update(entity).generateAndGetBoundStatement().preparedStatement();
+        final PreparedStatement otherUpdate = manager.crud().update(otherEntity).generateAndGetBoundStatement().preparedStatement();
+
+        //Then
+        assertThat(insert.getStatementAsString()).isEqualTo("INSERT INTO " + DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME + ".simple (id,date,value) " +
+                "VALUES (:id,:date,:value) USING TTL :ttl;");
+        assertThat(update.getQueryString()).isEqualTo("UPDATE " + DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME + ".simple USING TTL :ttl " +
+                "SET value=:value WHERE id=:id AND date=:date;");
+        assertThat(otherUpdate).isSameAs(update);
+
+        insert.execute();
+        final Row row = session.execute("SELECT value FROM simple WHERE id = " + id).one();
+        assertThat(row.getString("value")).isEqualTo("value");
+    }
+
     @Test
     public void should_insert_with_downgrading_consistency() throws Exception {
         //Given
@@ -302,6 +363,55 @@ public class TestCRUDSimpleEntity {
         assertThat(row.getString("value")).isEqualTo("value_tenant3");
     }
 
+    @Test
+    public void should_cache_statements_by_schema_name() throws Exception {
+        //Given
+        final String tableName1 = "simple_tenant1";
+        final String tableName2 = "simple_tenant2";
+        scriptExecutor.executeScriptTemplate("SimpleEntity/create_simple_mirror_table.cql", ImmutableMap.of("table", tableName1));
+        scriptExecutor.executeScriptTemplate("SimpleEntity/create_simple_mirror_table.cql", ImmutableMap.of("table", tableName2));
+        final StatementsCache statementsCache = new StatementsCache(100, 10);
+        final ManagerFactory managerFactory = ManagerFactoryBuilder
+                .builder(session.getCluster())
+                .withManagedEntityClasses(SimpleEntity.class)
+                .withNativeSession(session)
+                .withStatementsCache(statementsCache)
+                .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                .build();
+        final SimpleEntity_Manager tenantManager = managerFactory.forSimpleEntity();
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = buildDateKey();
+
+        //When
+        tenantManager.crud().withSchemaNameProvider(providerForTable(tableName1)).insert(new SimpleEntity(id, date, "val1")).execute();
+        tenantManager.crud().withSchemaNameProvider(providerForTable(tableName1)).insert(new SimpleEntity(id, date, "val1_bis")).execute();
+        final SimpleEntity found = tenantManager.crud().withSchemaNameProvider(providerForTable(tableName1)).findById(id, date).get();
+        tenantManager.crud().withSchemaNameProvider(providerForTable(tableName2)).insert(new SimpleEntity(id, date, "val2")).execute();
+
+        //Then
+        assertThat(found.getValue()).isEqualTo("val1_bis");
+        assertThat(session.execute("SELECT value FROM " + tableName2 + " WHERE id = " + id).one().getString("value")).isEqualTo("val2");
+        assertThat(statementsCache.getSchemaNameCacheSize()).isEqualTo(3L);
+        assertThat(statementsCache.getSchemaNameCacheStats().missCount()).isEqualTo(3L);
+        assertThat(statementsCache.getSchemaNameCacheStats().hitCount()).isEqualTo(1L);
+
+        managerFactory.shutDown();
+    }
+
+    private SchemaNameProvider providerForTable(String tableName) {
+        return new SchemaNameProvider() {
+            @Override
+            public <T> String keyspaceFor(Class<T> entityClass) {
+                return DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
+            }
+
+            @Override
+            public <T> String tableNameFor(Class<T> entityClass) {
+                return tableName;
+            }
+        };
+    }
+
     @Test
     public void should_find_by_id() throws Exception {
         //Given
@@ -698,6 +808,126 @@ public class TestCRUDSimpleEntity {
         assertThat(delete.generateAndGetBoundStatement().preparedStatement().getQueryString()).isEqualTo(expectedQuery);
     }
 
+    @Test
+    public void should_insert_all() throws Exception {
+        //Given
+        final long id1 = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final long id2 = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date1 = new Date(1L);
+        final Date date2 = new Date(2L);
+        final Date date3 = new Date(3L);
+
+        final List<SimpleEntity> entities = Arrays.asList(
+                new SimpleEntity(id1, date1, "value1"),
+                new SimpleEntity(id1, date2, "value2"),
+                new SimpleEntity(id1, date3, "value3"),
+                new SimpleEntity(id2, date1, "value4"));
+
+        //When
+        final List<ExecutionInfo> executionInfos = manager
+                .crud()
+                .insertAll(entities)
+                .withMaxBatchSize(2)
+                .executeWithStats();
+
+        //Then
+        assertThat(executionInfos).hasSize(3);
+
+        final List<Row> rows1 = session.execute("SELECT value FROM simple WHERE id = " + id1).all();
+        assertThat(rows1.stream().map(row -> row.getString("value")).collect(toList())).containsExactly("value1", "value2", "value3");
+
+        final Row row2 = session.execute("SELECT value FROM simple WHERE id = " + id2).one();
+        assertThat(row2.getString("value")).isEqualTo("value4");
+    }
+
+    @Test
+    public void should_insert_all_with_ttl() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+
+        final List<SimpleEntity> entities = Arrays.asList(
+                new SimpleEntity(id, new Date(1L), "value1"),
+                new SimpleEntity(id, new Date(2L), "value2"));
+
+        //When
+        manager
+                .crud()
+                .insertAll(entities)
+                .usingTimeToLive(1000)
+                .execute();
+
+        //Then
+        final List<Row> rows = session.execute("SELECT ttl(value) FROM simple WHERE id = " + id).all();
+        assertThat(rows).hasSize(2);
+        rows.forEach(row -> assertThat(row.getInt("ttl(value)")).isGreaterThan(0));
+    }
+
+    @Test
+    public void should_insert_all_with_limited_concurrent_batches() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final List<SimpleEntity> entities = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            entities.add(new SimpleEntity(id, new Date(i), "value" + i));
+        }
+
+        //When
+        final List<ExecutionInfo> executionInfos = manager
+                .crud()
+                .insertAll(entities)
+                .withMaxBatchSize(3)
+                .withMaxConcurrentBatches(2)
+                .executeWithStats();
+
+        //Then
+        assertThat(executionInfos).hasSize(7);
+        assertThat(session.execute("SELECT value FROM simple WHERE id = " + id).all()).hasSize(20);
+    }
+
+    @Test
+    public void should_update_all() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date1 = new Date(1L);
+        final Date date2 = buildDateKey();
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_single_row.cql", ImmutableMap.of("id", id, "table", "simple"));
+
+        final SimpleEntity entity1 = new SimpleEntity(id, date1, "new_value1");
+        final SimpleEntity entity2 = new SimpleEntity(id, date2, "new_value2");
+
+        //When
+        manager
+                .crud()
+                .updateAll(Arrays.asList(entity1, entity2))
+                .executeAsync()
+                .get();
+
+        //Then
+        final List<Row> rows = session.execute("SELECT value, consistencylist FROM simple WHERE id = " + id).all();
+        assertThat(rows.stream().map(row -> row.getString("value")).collect(toList())).containsExactly("new_value1", "new_value2");
+        assertThat(rows.get(1).getList("consistencylist", String.class)).containsExactly("QUORUM", "LOCAL_ONE");
+    }
+
+    @Test
+    public void should_delete_all() throws Exception {
+        //Given
+        final long id1 = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final long id2 = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = buildDateKey();
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_single_row.cql", ImmutableMap.of("id", id1, "table", "simple"));
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_single_row.cql", ImmutableMap.of("id", id2, "table", "simple"));
+
+        //When
+        manager
+                .crud()
+                .deleteAll(Arrays.asList(new SimpleEntity(id1, date, null), new SimpleEntity(id2, date, null)))
+                .execute();
+
+        //Then
+        assertThat(session.execute("SELECT * FROM simple WHERE id = " + id1).all()).isEmpty();
+        assertThat(session.execute("SELECT * FROM simple WHERE id = " + id2).all()).isEmpty();
+    }
+
     private Date buildDateKey() throws ParseException {
         SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss z");
         dateFormat.setTimeZone(TimeZone.getTimeZone("GMT"));
@@ -27,6 +27,8 @@ import java.text.SimpleDateFormat;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.RandomUtils;
 import org.junit.Rule;
@@ -474,6 +476,93 @@ public class TestDSLSimpleEntity {
         assertThat(iterator.hasNext()).isFalse();
     }
 
+    @Test
+    public void should_dsl_select_with_prefetching_stream() throws Exception {
+        //Given
+        final Map<String, Object> values = new HashMap<>();
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        values.put("id", id);
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss z");
+        dateFormat.setTimeZone(TimeZone.getTimeZone("GMT"));
+
+        final Date date1 = dateFormat.parse("2015-10-01 00:00:00 GMT");
+        final Date date9 = dateFormat.parse("2015-10-09 00:00:00 GMT");
+
+        values.put("date1", "'2015-10-01 00:00:00+0000'");
+        values.put("date2", "'2015-10-02 00:00:00+0000'");
+        values.put("date3", "'2015-10-03 00:00:00+0000'");
+        values.put("date4", "'2015-10-04 00:00:00+0000'");
+        values.put("date5", "'2015-10-05 00:00:00+0000'");
+        values.put("date6", "'2015-10-06 00:00:00+0000'");
+        values.put("date7", "'2015-10-07 00:00:00+0000'");
+        values.put("date8", "'2015-10-08 00:00:00+0000'");
+        values.put("date9", "'2015-10-09 00:00:00+0000'");
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_many_rows.cql", values);
+
+        //When
+        final List<Date> dates = manager
+                .dsl()
+                .select()
+                .allColumns_FromBaseTable()
+                .where()
+                .id().Eq(id)
+                .date().Gte_And_Lte(date1, date9)
+                .withFetchSize(3)
+                .withPrefetchThreshold(1)
+                .stream()
+                .map(SimpleEntity::getDate)
+                .collect(Collectors.toList());
+
+        //Then
+        assertThat(dates).hasSize(9);
+        assertThat(dates.get(0)).isEqualTo(date1);
+        assertThat(dates.get(8)).isEqualTo(date9);
+    }
+
+    @Test
+    public void should_dsl_select_all_pages_async() throws Exception {
+        //Given
+        final Map<String, Object> values = new HashMap<>();
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        values.put("id", id);
+        values.put("date1", "'2015-10-01 00:00:00+0000'");
+        values.put("date2", "'2015-10-02 00:00:00+0000'");
+        values.put("date3", "'2015-10-03 00:00:00+0000'");
+        values.put("date4", "'2015-10-04 00:00:00+0000'");
+        values.put("date5", "'2015-10-05 00:00:00+0000'");
+        values.put("date6", "'2015-10-06 00:00:00+0000'");
+        values.put("date7", "'2015-10-07 00:00:00+0000'");
+        values.put("date8", "'2015-10-08 00:00:00+0000'");
+        values.put("date9", "'2015-10-09 00:00:00+0000'");
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_many_rows.cql", values);
+
+        //When
+        final List<SimpleEntity> all = manager
+                .dsl()
+                .select()
+                .allColumns_FromBaseTable()
+                .where()
+                .id().Eq(id)
+                .withFetchSize(2)
+                .getAllAsync()
+                .get();
+
+        final List<SimpleEntity> limited = manager
+                .dsl()
+                .select()
+                .allColumns_FromBaseTable()
+                .where()
+                .id().Eq(id)
+                .withFetchSize(2)
+                .getAllAsync(5)
+                .get();
+
+        //Then
+        assertThat(all).hasSize(9);
+        assertThat(all.stream().map(SimpleEntity::getDate).distinct().count()).isEqualTo(9L);
+        assertThat(limited).hasSize(5);
+    }
+
     @Test
     public void should_dsl_delete() throws Exception {
         //Given
@@ -1201,6 +1290,38 @@ public class TestDSLSimpleEntity {
         logAsserter.assertSerialConsistencyLevels(SERIAL);
     }
 
+    @Test
+    public void should_dsl_update_value_if_equal_and_decode_current_entity() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = buildDateKey();
+        final AtomicReference<LWTResultListener.LWTResult.LWTOperation> operation = new AtomicReference<>();
+        final AtomicReference<SimpleEntity> currentEntity = new AtomicReference<>();
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_single_row.cql", ImmutableMap.of("id", id, "table", "simple"));
+
+        //When
+        manager
+                .dsl()
+                .update()
+                .fromBaseTable()
+                .value().Set("new value")
+                .where()
+                .id().Eq(id)
+                .date().Eq(date)
+                .if_Value().Eq("wrong value")
+                .withLwtResultListener(lwtResult -> {
+                    operation.getAndSet(lwtResult.operation());
+                    currentEntity.getAndSet(lwtResult.<SimpleEntity>currentEntity().get());
+                })
+                .execute();
+
+        //Then
+        assertThat(operation.get()).isEqualTo(LWTResultListener.LWTResult.LWTOperation.UPDATE);
+        assertThat(currentEntity.get().getValue()).isEqualTo("0 AM");
+        final Row row = session.execute("SELECT value FROM simple WHERE id = " + id).one();
+        assertThat(row.getString("value")).isEqualTo("0 AM");
+    }
+
     @Test
     public void should_dsl_update_with_options() throws Exception {
         //Given
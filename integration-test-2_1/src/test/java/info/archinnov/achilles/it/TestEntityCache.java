@@ -0,0 +1,204 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.it;
+
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.datastax.driver.core.ConsistencyLevel;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Sets;
+
+import info.archinnov.achilles.generated.ManagerFactory;
+import info.archinnov.achilles.generated.ManagerFactoryBuilder;
+import info.archinnov.achilles.generated.manager.SimpleEntity_Manager;
+import info.archinnov.achilles.internals.cache.EntityCache;
+import info.archinnov.achilles.internals.entities.SimpleEntity;
+import info.archinnov.achilles.junit.AchillesTestResource;
+import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
+import info.archinnov.achilles.type.strategy.EntityCacheStorageStrategy;
+
+public class TestEntityCache {
+
+    @Rule
+    public AchillesTestResource<ManagerFactory> resource = AchillesTestResourceBuilder
+            .forJunit()
+            .entityClassesToTruncate(SimpleEntity.class)
+            .truncateBeforeAndAfterTest()
+            .build((cluster, statementsCache) -> ManagerFactoryBuilder
+                    .builder(cluster)
+                    .withManagedEntityClasses(SimpleEntity.class)
+                    .doForceSchemaCreation(true)
+                    .withStatementsCache(statementsCache)
+                    .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                    .withEntityCache(SimpleEntity.class, 100, 1, TimeUnit.MINUTES)
+                    .build());
+
+    private Session session = resource.getNativeSession();
+    private SimpleEntity_Manager manager = resource.getManagerFactory().forSimpleEntity();
+    private EntityCache entityCache = resource.getManagerFactory().getEntityCache(SimpleEntity.class).get();
+
+    @Test
+    public void should_find_entity_from_cache() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = new Date();
+        session.execute("INSERT INTO simple(id, date, value) VALUES(?, ?, ?)", id, date, "val");
+        final long hitCount = entityCache.getStats().hitCount();
+
+        //When
+        final SimpleEntity first = manager.crud().findById(id, date).get();
+        session.execute("UPDATE simple SET value = 'new_val' WHERE id = ? AND date = ?", id, date);
+        final SimpleEntity cached = manager.crud().findById(id, date).get();
+        final SimpleEntity fresh = manager.crud().findById(id, date).withoutEntityCache().get();
+
+        //Then
+        assertThat(first.getValue()).isEqualTo("val");
+        assertThat(cached).isNotSameAs(first);
+        assertThat(cached.getValue()).isEqualTo("val");
+        assertThat(fresh.getValue()).isEqualTo("new_val");
+        assertThat(entityCache.getStats().hitCount()).isEqualTo(hitCount + 1);
+    }
+
+    @Test
+    public void should_not_call_row_listener_on_cache_hit() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = new Date();
+        session.execute("INSERT INTO simple(id, date, value) VALUES(?, ?, ?)", id, date, "val");
+        final AtomicInteger listenerCalls = new AtomicInteger(0);
+        final Function<Row, Row> listener = row -> {
+            listenerCalls.incrementAndGet();
+            return row;
+        };
+
+        //When
+        manager.crud().findById(id, date).withRowAsyncListener(listener).get();
+        manager.crud().findById(id, date).withRowAsyncListener(listener).get();
+        manager.crud().findById(id, date).withoutEntityCache().withRowAsyncListener(listener).get();
+
+        //Then
+        assertThat(listenerCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void should_invalidate_cached_entity_on_crud_update() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = new Date();
+        manager.crud().insert(new SimpleEntity(id, date, "val")).execute();
+        assertThat(manager.crud().findById(id, date).get().getValue()).isEqualTo("val");
+
+        //When
+        manager.crud().update(new SimpleEntity(id, date, "new_val")).execute();
+
+        //Then
+        assertThat(manager.crud().findById(id, date).get().getValue()).isEqualTo("new_val");
+    }
+
+    @Test
+    public void should_invalidate_cached_entity_on_crud_delete() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = new Date();
+        session.execute("INSERT INTO simple(id, date, value) VALUES(?, ?, ?)", id, date, "val");
+        assertThat(manager.crud().findById(id, date).get()).isNotNull();
+
+        //When
+        manager.crud().deleteById(id, date).execute();
+
+        //Then
+        assertThat(manager.crud().findById(id, date).get()).isNull();
+    }
+
+    @Test
+    public void should_invalidate_all_cached_entities_on_dsl_update() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = new Date();
+        session.execute("INSERT INTO simple(id, date, value) VALUES(?, ?, ?)", id, date, "val");
+        assertThat(manager.crud().findById(id, date).get().getValue()).isEqualTo("val");
+
+        //When
+        manager
+                .dsl()
+                .update()
+                .fromBaseTable()
+                .value().Set("new_val")
+                .where()
+                .id().Eq(id)
+                .date().Eq(date)
+                .execute();
+
+        //Then
+        assertThat(entityCache.getSize()).isEqualTo(0L);
+        assertThat(manager.crud().findById(id, date).get().getValue()).isEqualTo("new_val");
+    }
+
+    @Test
+    public void should_find_entity_from_off_heap_cache() throws Exception {
+        //Given
+        final ManagerFactory managerFactory = ManagerFactoryBuilder
+                .builder(session.getCluster())
+                .withManagedEntityClasses(SimpleEntity.class)
+                .withNativeSession(session)
+                .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                .withEntityCache(SimpleEntity.class, 100, 1, TimeUnit.MINUTES, EntityCacheStorageStrategy.OFF_HEAP)
+                .build();
+        final SimpleEntity_Manager offHeapManager = managerFactory.forSimpleEntity();
+        final EntityCache offHeapCache = managerFactory.getEntityCache(SimpleEntity.class).get();
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = new Date();
+        final SimpleEntity entity = new SimpleEntity(id, date, "val");
+        entity.setConsistencyList(Arrays.asList(ConsistencyLevel.ONE, ConsistencyLevel.QUORUM));
+        entity.setSimpleSet(Sets.newHashSet(1.0, 2.0));
+        entity.setSimpleMap(ImmutableMap.of(1, "one", 2, "two"));
+        offHeapManager.crud().insert(entity).execute();
+
+        //When
+        offHeapManager.crud().findById(id, date).get();
+        session.execute("UPDATE simple SET value = 'new_val' WHERE id = ? AND date = ?", id, date);
+        final SimpleEntity cached = offHeapManager.crud().findById(id, date).get();
+
+        //Then
+        assertThat(offHeapCache.getSize()).isEqualTo(1L);
+        assertThat(offHeapCache.getOffHeapSize()).isGreaterThan(0L);
+        assertThat(offHeapCache.getOffHeapReservedSize()).isGreaterThanOrEqualTo(offHeapCache.getOffHeapSize());
+        assertThat(offHeapCache.getStats().hitCount()).isEqualTo(1L);
+        assertThat(cached.getValue()).isEqualTo("val");
+        assertThat(cached.getConsistencyList()).containsExactly(ConsistencyLevel.ONE, ConsistencyLevel.QUORUM);
+        assertThat(cached.getSimpleSet()).containsOnly(1.0, 2.0);
+        assertThat(cached.getSimpleMap()).containsEntry(1, "one").containsEntry(2, "two");
+
+        offHeapCache.invalidateAll();
+        assertThat(offHeapCache.getOffHeapSize()).isEqualTo(0L);
+
+        managerFactory.shutDown();
+    }
+}
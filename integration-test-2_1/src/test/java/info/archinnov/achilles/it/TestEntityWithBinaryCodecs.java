@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.it;
+
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+import com.google.common.collect.ImmutableMap;
+
+import info.archinnov.achilles.generated.ManagerFactory;
+import info.archinnov.achilles.generated.ManagerFactoryBuilder;
+import info.archinnov.achilles.generated.manager.EntityWithBinaryCodecs_Manager;
+import info.archinnov.achilles.internals.entities.EntityWithBinaryCodecs;
+import info.archinnov.achilles.junit.AchillesTestResource;
+import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
+import info.archinnov.achilles.type.strategy.InsertStrategy;
+
+public class TestEntityWithBinaryCodecs {
+
+    @Rule
+    public AchillesTestResource<ManagerFactory> resource = AchillesTestResourceBuilder
+            .forJunit()
+            .entityClassesToTruncate(EntityWithBinaryCodecs.class)
+            .truncateBeforeAndAfterTest()
+            .build((cluster, statementsCache) -> ManagerFactoryBuilder
+                    .builder(cluster)
+                    .withManagedEntityClasses(EntityWithBinaryCodecs.class)
+                    .doForceSchemaCreation(true)
+                    .withStatementsCache(statementsCache)
+                    .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                    .build());
+
+    private Session session = resource.getNativeSession();
+    private EntityWithBinaryCodecs_Manager manager = resource.getManagerFactory().forEntityWithBinaryCodecs();
+
+    @Test
+    public void should_insert_and_find_with_binary_codecs() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final EntityWithBinaryCodecs entity = new EntityWithBinaryCodecs(id, 123, ImmutableMap.of("a", 1L, "b", 2L));
+
+        //When
+        manager.crud().insert(entity).execute();
+
+        //Then
+        final Row row = session.execute("SELECT * FROM entity_with_binary_codecs WHERE id = " + id).one();
+        assertThat(row.getString("intastext")).isEqualTo("123");
+        assertThat(row.getString("json")).isEqualTo("{\"a\":1,\"b\":2}");
+
+        final EntityWithBinaryCodecs found = manager.crud().findById(id).get();
+        assertThat(found.getIntAsText()).isEqualTo(123);
+        assertThat(found.getJson()).containsEntry("a", 1L).containsEntry("b", 2L);
+    }
+
+    @Test
+    public void should_expose_cql_values_as_encoded_bound_values_with_binary_codecs() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final EntityWithBinaryCodecs entity = new EntityWithBinaryCodecs(id, 123, ImmutableMap.of("a", 1L));
+
+        //When
+        final List<Object> insertEncodedValues = manager.crud().insert(entity).getEncodedBoundValues();
+        final List<Object> updateEncodedValues = manager.crud().update(entity).getEncodedBoundValues();
+
+        //Then
+        assertThat(insertEncodedValues).contains(id, "123", "{\"a\":1}");
+        assertThat(updateEncodedValues).contains(id, "123", "{\"a\":1}");
+    }
+
+    @Test
+    public void should_insert_non_null_fields_with_binary_codecs() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final EntityWithBinaryCodecs entity = new EntityWithBinaryCodecs(id, null, ImmutableMap.of("a", 1L));
+
+        //When
+        manager.crud().insert(entity).withInsertStrategy(InsertStrategy.NOT_NULL_FIELDS).execute();
+
+        //Then
+        final Row row = session.execute("SELECT * FROM entity_with_binary_codecs WHERE id = " + id).one();
+        assertThat(row.isNull("intastext")).isTrue();
+        assertThat(row.getString("json")).isEqualTo("{\"a\":1}");
+    }
+
+    @Test
+    public void should_update_with_binary_codecs() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        session.execute("INSERT INTO entity_with_binary_codecs(id, intastext, json) VALUES(" + id + ", '1', '{}')");
+        final Map<String, Long> json = new HashMap<>();
+        json.put("c", 3L);
+
+        //When
+        manager.crud().update(new EntityWithBinaryCodecs(id, 456, json)).execute();
+
+        //Then
+        final Row row = session.execute("SELECT * FROM entity_with_binary_codecs WHERE id = " + id).one();
+        assertThat(row.getString("intastext")).isEqualTo("456");
+        assertThat(row.getString("json")).isEqualTo("{\"c\":3}");
+    }
+
+    @Test
+    public void should_select_with_dsl_and_binary_codecs() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        session.execute("INSERT INTO entity_with_binary_codecs(id, intastext, json) VALUES(" + id + ", '789', '{\"d\":4}')");
+
+        //When
+        final EntityWithBinaryCodecs found = manager
+                .dsl()
+                .select()
+                .allColumns_FromBaseTable()
+                .where()
+                .id().Eq(id)
+                .getOne();
+
+        //Then
+        assertThat(found.getIntAsText()).isEqualTo(789);
+        assertThat(found.getJson()).containsEntry("d", 4L);
+    }
+}
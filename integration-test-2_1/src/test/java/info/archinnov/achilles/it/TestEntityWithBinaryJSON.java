@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.it;
+
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.utils.Bytes;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.google.common.collect.ImmutableMap;
+
+import info.archinnov.achilles.generated.ManagerFactory;
+import info.archinnov.achilles.generated.ManagerFactoryBuilder;
+import info.archinnov.achilles.generated.manager.EntityWithBinaryJSON_Manager;
+import info.archinnov.achilles.internals.entities.EntityWithBinaryJSON;
+import info.archinnov.achilles.junit.AchillesTestResource;
+import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
+
+public class TestEntityWithBinaryJSON {
+
+    @Rule
+    public AchillesTestResource<ManagerFactory> resource = AchillesTestResourceBuilder
+            .forJunit()
+            .entityClassesToTruncate(EntityWithBinaryJSON.class)
+            .truncateBeforeAndAfterTest()
+            .build((cluster, statementsCache) -> ManagerFactoryBuilder
+                    .builder(cluster)
+                    .withManagedEntityClasses(EntityWithBinaryJSON.class)
+                    .doForceSchemaCreation(true)
+                    .withStatementsCache(statementsCache)
+                    .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                    .build());
+
+    private Session session = resource.getNativeSession();
+    private EntityWithBinaryJSON_Manager manager = resource.getManagerFactory().forEntityWithBinaryJSON();
+
+    @Test
+    public void should_insert_and_find_with_smile_and_cbor_formats() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Map<String, List<Integer>> smile = ImmutableMap.of("smile", Arrays.asList(1, 2, 3));
+        final Map<String, List<Integer>> cbor = ImmutableMap.of("cbor", Arrays.asList(4, 5));
+
+        //When
+        manager.crud().insert(new EntityWithBinaryJSON(id, smile, cbor)).execute();
+
+        //Then
+        final Row row = session.execute("SELECT * FROM entity_with_binary_json WHERE id = " + id).one();
+        final byte[] smileBytes = Bytes.getArray(row.getBytes("smile"));
+        final byte[] cborBytes = Bytes.getArray(row.getBytes("cbor"));
+        assertThat(new String(smileBytes, 0, 3, "US-ASCII")).isEqualTo(":)\n");
+        assertThat(new ObjectMapper(new SmileFactory()).readValue(smileBytes, Map.class)).isEqualTo(smile);
+        assertThat(new ObjectMapper(new CBORFactory()).readValue(cborBytes, Map.class)).isEqualTo(cbor);
+
+        final EntityWithBinaryJSON found = manager.crud().findById(id).get();
+        assertThat(found.getSmile()).isEqualTo(smile);
+        assertThat(found.getCbor()).isEqualTo(cbor);
+    }
+
+    @Test
+    public void should_find_entity_written_with_jackson_binary_formats() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Map<String, List<Integer>> smile = ImmutableMap.of("a", Arrays.asList(10));
+        final Map<String, List<Integer>> cbor = ImmutableMap.of("b", Arrays.asList(20, 30));
+        session.execute("INSERT INTO entity_with_binary_json(id, smile, cbor) VALUES(?, ?, ?)", id,
+                ByteBuffer.wrap(new ObjectMapper(new SmileFactory()).writeValueAsBytes(smile)),
+                ByteBuffer.wrap(new ObjectMapper(new CBORFactory()).writeValueAsBytes(cbor)));
+
+        //When
+        final EntityWithBinaryJSON found = manager.crud().findById(id).get();
+
+        //Then
+        assertThat(found.getSmile()).isEqualTo(smile);
+        assertThat(found.getCbor()).isEqualTo(cbor);
+    }
+
+    @Test
+    public void should_insert_and_find_null_binary_json_columns() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+
+        //When
+        manager.crud().insert(new EntityWithBinaryJSON(id, null, null)).execute();
+
+        //Then
+        final Row row = session.execute("SELECT * FROM entity_with_binary_json WHERE id = " + id).one();
+        assertThat(row.isNull("smile")).isTrue();
+        assertThat(row.isNull("cbor")).isTrue();
+
+        final EntityWithBinaryJSON found = manager.crud().findById(id).get();
+        assertThat(found.getSmile()).isNull();
+        assertThat(found.getCbor()).isNull();
+    }
+}
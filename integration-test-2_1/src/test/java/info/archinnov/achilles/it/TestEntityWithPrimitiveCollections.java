@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.it;
+
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+
+import info.archinnov.achilles.generated.ManagerFactory;
+import info.archinnov.achilles.generated.ManagerFactoryBuilder;
+import info.archinnov.achilles.generated.manager.EntityWithPrimitiveCollections_Manager;
+import info.archinnov.achilles.internals.entities.EntityWithPrimitiveCollections;
+import info.archinnov.achilles.junit.AchillesTestResource;
+import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.Long2DoubleOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+
+public class TestEntityWithPrimitiveCollections {
+
+    @Rule
+    public AchillesTestResource<ManagerFactory> resource = AchillesTestResourceBuilder
+            .forJunit()
+            .entityClassesToTruncate(EntityWithPrimitiveCollections.class)
+            .truncateBeforeAndAfterTest()
+            .build((cluster, statementsCache) -> ManagerFactoryBuilder
+                    .builder(cluster)
+                    .withManagedEntityClasses(EntityWithPrimitiveCollections.class)
+                    .doForceSchemaCreation(true)
+                    .withStatementsCache(statementsCache)
+                    .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                    .build());
+
+    private Session session = resource.getNativeSession();
+    private EntityWithPrimitiveCollections_Manager manager = resource.getManagerFactory().forEntityWithPrimitiveCollections();
+
+    @Test
+    public void should_insert_and_find_primitive_collections() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Long2DoubleOpenHashMap long2DoubleMap = new Long2DoubleOpenHashMap();
+        long2DoubleMap.put(1L, 1.5D);
+        long2DoubleMap.put(2L, 2.5D);
+        final EntityWithPrimitiveCollections entity = new EntityWithPrimitiveCollections(id,
+                new IntArrayList(new int[]{3, 1, 2}),
+                new DoubleArrayList(new double[]{1.0D, 2.0D}),
+                new LongOpenHashSet(new long[]{10L, 20L}),
+                long2DoubleMap);
+
+        //When
+        manager.crud().insert(entity).execute();
+
+        //Then
+        final Row row = session.execute("SELECT * FROM entity_with_primitive_collections WHERE id = " + id).one();
+        assertThat(row.getList("intlist", Integer.class)).containsExactly(3, 1, 2);
+        assertThat(row.getSet("longset", Long.class)).containsOnly(10L, 20L);
+        assertThat(row.getMap("long2doublemap", Long.class, Double.class)).containsEntry(1L, 1.5D).containsEntry(2L, 2.5D);
+
+        final EntityWithPrimitiveCollections found = manager.crud().findById(id).get();
+        assertThat((Object) found.getIntList()).isInstanceOf(IntList.class);
+        assertThat((List<Integer>) found.getIntList()).containsExactly(3, 1, 2);
+        assertThat(found.getIntList().getInt(0)).isEqualTo(3);
+        assertThat((List<Double>) found.getDoubleList()).containsExactly(1.0D, 2.0D);
+        assertThat((Set<Long>) found.getLongSet()).containsOnly(10L, 20L);
+        assertThat(found.getLong2DoubleMap().get(2L)).isEqualTo(2.5D);
+    }
+
+    @Test
+    public void should_find_empty_primitive_collections_from_null_columns() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        session.execute("INSERT INTO entity_with_primitive_collections(id) VALUES(" + id + ")");
+
+        //When
+        final EntityWithPrimitiveCollections found = manager.crud().findById(id).get();
+
+        //Then
+        final List<Integer> intList = found.getIntList();
+        assertThat(intList == null || intList.isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.it;
+
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Session;
+import com.google.common.util.concurrent.Futures;
+
+import info.archinnov.achilles.generated.ManagerFactory;
+import info.archinnov.achilles.generated.ManagerFactoryBuilder;
+import info.archinnov.achilles.generated.manager.SimpleEntity_Manager;
+import info.archinnov.achilles.internals.entities.SimpleEntity;
+import info.archinnov.achilles.junit.AchillesTestResource;
+import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
+import info.archinnov.achilles.type.tuples.Tuple2;
+
+public class TestFindByIds {
+
+    @Rule
+    public AchillesTestResource<ManagerFactory> resource = AchillesTestResourceBuilder
+            .forJunit()
+            .entityClassesToTruncate(SimpleEntity.class)
+            .truncateBeforeAndAfterTest()
+            .build((cluster, statementsCache) -> ManagerFactoryBuilder
+                    .builder(cluster)
+                    .withManagedEntityClasses(SimpleEntity.class)
+                    .doForceSchemaCreation(true)
+                    .withStatementsCache(statementsCache)
+                    .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                    .build());
+
+    private Session session = resource.getNativeSession();
+    private SimpleEntity_Manager manager = resource.getManagerFactory().forSimpleEntity();
+
+    @Test
+    public void should_find_by_ids_in_order() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = new Date();
+        final List<Tuple2<Long, Date>> ids = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            final Date clustering = new Date(date.getTime() + i);
+            session.execute("INSERT INTO simple(id, date, value) VALUES(?, ?, ?)", id + i, clustering, "val" + i);
+            ids.add(0, Tuple2.of(id + i, clustering));
+        }
+        ids.add(10, Tuple2.of(id, new Date(date.getTime() + 1000)));
+
+        //When
+        final List<SimpleEntity> found = manager
+                .crud()
+                .findByIds(ids)
+                .withMaxConcurrentRequests(4)
+                .get();
+
+        //Then
+        assertThat(found).hasSize(50);
+        assertThat(found.stream().map(SimpleEntity::getValue).collect(toList()))
+                .startsWith("val49", "val48", "val47")
+                .endsWith("val1", "val0");
+    }
+
+    @Test
+    public void should_find_by_ids_as_map_async() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = new Date();
+        session.execute("INSERT INTO simple(id, date, value) VALUES(?, ?, ?)", id, date, "val");
+        final Tuple2<Long, Date> existing = Tuple2.of(id, date);
+        final Tuple2<Long, Date> missing = Tuple2.of(id, new Date(date.getTime() + 1));
+        final List<Tuple2<Long, Date>> ids = new ArrayList<>();
+        ids.add(missing);
+        ids.add(existing);
+        ids.add(existing);
+
+        //When
+        final Map<Tuple2<Long, Date>, SimpleEntity> found = manager
+                .crud()
+                .findByIds(ids)
+                .getAsMapAsync()
+                .get();
+
+        //Then
+        assertThat(found).hasSize(1);
+        assertThat(found.get(existing).getValue()).isEqualTo("val");
+        assertThat(found.containsKey(missing)).isFalse();
+    }
+
+    @Test
+    public void should_find_many_ids_from_entity_cache_without_stack_overflow() throws Exception {
+        //Given
+        final ManagerFactory managerFactory = ManagerFactoryBuilder
+                .builder(session.getCluster())
+                .withManagedEntityClasses(SimpleEntity.class)
+                .withNativeSession(session)
+                .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                .withEntityCache(SimpleEntity.class, 20_000, 1, TimeUnit.MINUTES)
+                .build();
+        final SimpleEntity_Manager cachedManager = managerFactory.forSimpleEntity();
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = new Date();
+        final List<Tuple2<Long, Date>> ids = new ArrayList<>();
+        final List<ResultSetFuture> inserts = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            final Date clustering = new Date(date.getTime() + i);
+            inserts.add(session.executeAsync("INSERT INTO simple(id, date, value) VALUES(?, ?, ?)", id, clustering, "val" + i));
+            ids.add(Tuple2.of(id, clustering));
+        }
+        Futures.allAsList(inserts).get();
+        cachedManager.crud().findByIds(ids).get();
+
+        //When
+        final List<SimpleEntity> found = cachedManager
+                .crud()
+                .findByIds(ids)
+                .withMaxConcurrentRequests(1)
+                .get();
+
+        //Then
+        assertThat(found).hasSize(10_000);
+        assertThat(found.get(9_999).getValue()).isEqualTo("val9999");
+        assertThat(managerFactory.getEntityCache(SimpleEntity.class).get().getStats().hitCount()).isEqualTo(10_000L);
+
+        managerFactory.shutDown();
+    }
+}
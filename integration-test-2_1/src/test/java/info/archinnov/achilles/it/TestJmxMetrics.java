@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.it;
+
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.util.Date;
+import java.util.Iterator;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.datastax.driver.core.Session;
+
+import info.archinnov.achilles.generated.ManagerFactory;
+import info.archinnov.achilles.generated.ManagerFactoryBuilder;
+import info.archinnov.achilles.generated.manager.SimpleEntity_Manager;
+import info.archinnov.achilles.internals.entities.SimpleEntity;
+import info.archinnov.achilles.junit.AchillesTestResource;
+import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
+import info.archinnov.achilles.metrics.JmxAchillesMetrics;
+
+public class TestJmxMetrics {
+
+    private static final String ENTITY = SimpleEntity.class.getCanonicalName();
+
+    @Rule
+    public AchillesTestResource<ManagerFactory> resource = AchillesTestResourceBuilder
+            .forJunit()
+            .entityClassesToTruncate(SimpleEntity.class)
+            .truncateBeforeAndAfterTest()
+            .build((cluster, statementsCache) -> ManagerFactoryBuilder
+                    .builder(cluster)
+                    .withManagedEntityClasses(SimpleEntity.class)
+                    .doForceSchemaCreation(true)
+                    .withStatementsCache(statementsCache)
+                    .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                    .build());
+
+    private Session session = resource.getNativeSession();
+    private MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+    @Test
+    public void should_export_statement_and_mapping_metrics() throws Exception {
+        //Given
+        final ManagerFactory managerFactory = ManagerFactoryBuilder
+                .builder(session.getCluster())
+                .withManagedEntityClasses(SimpleEntity.class)
+                .withNativeSession(session)
+                .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                .withMaxInFlightRequests(10)
+                .withMetrics(new JmxAchillesMetrics("test_statements"))
+                .build();
+        final SimpleEntity_Manager manager = managerFactory.forSimpleEntity();
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = new Date();
+
+        //When
+        manager.crud().insert(new SimpleEntity(id, date, "val")).execute();
+        manager.crud().insert(new SimpleEntity(id, new Date(date.getTime() + 1), "val")).execute();
+        final Iterator<SimpleEntity> iterator = manager.dsl().select().allColumns_FromBaseTable().where().id().Eq(id).iterator();
+        while (iterator.hasNext()) {
+            iterator.next();
+        }
+
+        //Then
+        final ObjectName insertName = new ObjectName("info.archinnov.achilles:type=Statement,name=test_statements,entity=" + ENTITY + ",operation=INSERT");
+        assertThat(mBeanServer.getAttribute(insertName, "Count")).isEqualTo(2L);
+        assertThat(mBeanServer.getAttribute(insertName, "ErrorCount")).isEqualTo(0L);
+        assertThat((Long) mBeanServer.getAttribute(insertName, "MaxLatencyMicros")).isGreaterThan(0L);
+        assertThat((Long) mBeanServer.getAttribute(insertName, "99thPercentileLatencyMicros")).isGreaterThan(0L);
+
+        final ObjectName selectName = new ObjectName("info.archinnov.achilles:type=Statement,name=test_statements,entity=" + ENTITY + ",operation=SELECT");
+        assertThat(mBeanServer.getAttribute(selectName, "Count")).isEqualTo(1L);
+
+        final ObjectName mappingName = new ObjectName("info.archinnov.achilles:type=EntityMapping,name=test_statements,entity=" + ENTITY);
+        assertThat(mBeanServer.getAttribute(mappingName, "MappedRowsCount")).isEqualTo(2L);
+
+        final ObjectName limiterName = new ObjectName("info.archinnov.achilles:type=RequestsLimiter,name=test_statements,limiter=global");
+        assertThat(mBeanServer.getAttribute(limiterName, "MaxInFlight")).isEqualTo(10);
+        assertThat(mBeanServer.getAttribute(limiterName, "InFlightCount")).isEqualTo(0);
+
+        managerFactory.shutDown();
+        assertThat(mBeanServer.isRegistered(insertName)).isFalse();
+        assertThat(mBeanServer.isRegistered(limiterName)).isFalse();
+    }
+
+    @Test
+    public void should_export_lwt_failures() throws Exception {
+        //Given
+        final ManagerFactory managerFactory = ManagerFactoryBuilder
+                .builder(session.getCluster())
+                .withManagedEntityClasses(SimpleEntity.class)
+                .withNativeSession(session)
+                .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                .withMetrics(new JmxAchillesMetrics("test_lwt"))
+                .build();
+        final SimpleEntity_Manager manager = managerFactory.forSimpleEntity();
+        final SimpleEntity entity = new SimpleEntity(RandomUtils.nextLong(0L, Long.MAX_VALUE), new Date(), "val");
+
+        //When
+        manager.crud().insert(entity).ifNotExists().execute();
+        manager.crud().insert(entity).ifNotExists().withLwtResultListener(lwtResult -> {}).execute();
+
+        //Then
+        final ObjectName insertName = new ObjectName("info.archinnov.achilles:type=Statement,name=test_lwt,entity=" + ENTITY + ",operation=INSERT");
+        assertThat(mBeanServer.getAttribute(insertName, "Count")).isEqualTo(2L);
+        assertThat(mBeanServer.getAttribute(insertName, "LWTFailureCount")).isEqualTo(1L);
+
+        final ObjectName cacheName = new ObjectName("info.archinnov.achilles:type=StatementsCache,name=test_lwt");
+        assertThat(mBeanServer.isRegistered(cacheName)).isTrue();
+
+        managerFactory.shutDown();
+    }
+}
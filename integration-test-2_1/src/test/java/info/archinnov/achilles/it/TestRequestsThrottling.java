@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.it;
+
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.datastax.driver.core.Session;
+import com.google.common.collect.ImmutableMap;
+
+import info.archinnov.achilles.exception.AchillesRequestRejectedException;
+import info.archinnov.achilles.generated.ManagerFactory;
+import info.archinnov.achilles.generated.ManagerFactoryBuilder;
+import info.archinnov.achilles.generated.manager.SimpleEntity_Manager;
+import info.archinnov.achilles.internals.entities.SimpleEntity;
+import info.archinnov.achilles.internals.runtime.InFlightRequestsLimiter;
+import info.archinnov.achilles.junit.AchillesTestResource;
+import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
+
+public class TestRequestsThrottling {
+
+    @Rule
+    public AchillesTestResource<ManagerFactory> resource = AchillesTestResourceBuilder
+            .forJunit()
+            .entityClassesToTruncate(SimpleEntity.class)
+            .truncateBeforeAndAfterTest()
+            .build((cluster, statementsCache) -> ManagerFactoryBuilder
+                    .builder(cluster)
+                    .withManagedEntityClasses(SimpleEntity.class)
+                    .doForceSchemaCreation(true)
+                    .withStatementsCache(statementsCache)
+                    .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                    .withMaxInFlightRequests(4)
+                    .withMaxInFlightRequestsMap(ImmutableMap.of(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME + ".simple", 2))
+                    .withMaxQueuedRequests(1000)
+                    .build());
+
+    private Session session = resource.getNativeSession();
+    private SimpleEntity_Manager manager = resource.getManagerFactory().forSimpleEntity();
+
+    @Test
+    public void should_queue_async_requests_above_in_flight_limit() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = new Date();
+        final List<CompletableFuture<?>> futures = new ArrayList<>();
+
+        //When
+        for (int i = 0; i < 200; i++) {
+            futures.add(manager.crud().insert(new SimpleEntity(id, new Date(date.getTime() + i), "val" + i)).executeAsync());
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()])).get();
+
+        //Then
+        assertThat(session.execute("SELECT * FROM simple WHERE id = " + id).all()).hasSize(200);
+
+        final InFlightRequestsLimiter globalLimiter = resource.getManagerFactory().getRequestsLimiter().get();
+        assertThat(globalLimiter.getInFlightCount()).isEqualTo(0);
+        assertThat(globalLimiter.getQueuedCount()).isEqualTo(0);
+        assertThat(globalLimiter.getRejectedCount()).isEqualTo(0L);
+
+        final InFlightRequestsLimiter tableLimiter = resource.getManagerFactory().getRequestsLimiterForTable(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME, "simple").get();
+        assertThat(tableLimiter.getMaxInFlight()).isEqualTo(2);
+        assertThat(tableLimiter.getInFlightCount()).isEqualTo(0);
+        assertThat(tableLimiter.getQueuedCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void should_reject_async_requests_when_queue_is_full() throws Exception {
+        //Given
+        final ManagerFactory managerFactory = ManagerFactoryBuilder
+                .builder(session.getCluster())
+                .withManagedEntityClasses(SimpleEntity.class)
+                .withNativeSession(session)
+                .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                .withMaxInFlightRequests(1)
+                .withMaxQueuedRequests(0)
+                .build();
+        final SimpleEntity_Manager throttledManager = managerFactory.forSimpleEntity();
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = new Date();
+        final AtomicInteger rejectedCount = new AtomicInteger(0);
+        final List<CompletableFuture<?>> futures = new ArrayList<>();
+
+        //When
+        for (int i = 0; i < 50; i++) {
+            futures.add(throttledManager.crud()
+                    .insert(new SimpleEntity(id, new Date(date.getTime() + i), "val" + i))
+                    .executeAsync()
+                    .exceptionally(throwable -> {
+                        if (throwable instanceof AchillesRequestRejectedException || throwable.getCause() instanceof AchillesRequestRejectedException) {
+                            rejectedCount.incrementAndGet();
+                        }
+                        return null;
+                    }));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()])).get();
+
+        //Then
+        final InFlightRequestsLimiter limiter = managerFactory.getRequestsLimiter().get();
+        assertThat(rejectedCount.get()).isGreaterThan(0);
+        assertThat(limiter.getRejectedCount()).isEqualTo((long) rejectedCount.get());
+        assertThat(limiter.getInFlightCount()).isEqualTo(0);
+        assertThat(session.execute("SELECT * FROM simple WHERE id = " + id).all()).hasSize(50 - rejectedCount.get());
+
+        managerFactory.shutDown();
+    }
+}
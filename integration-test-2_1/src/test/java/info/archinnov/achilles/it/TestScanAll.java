@@ -0,0 +1,165 @@
+/*
+ * Copyright (C) 2012-2019 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.it;
+
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
+import static java.util.stream.Collectors.toSet;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.TokenRange;
+
+import info.archinnov.achilles.generated.ManagerFactory;
+import info.archinnov.achilles.generated.ManagerFactoryBuilder;
+import info.archinnov.achilles.generated.manager.SimpleEntity_Manager;
+import info.archinnov.achilles.internals.entities.SimpleEntity;
+import info.archinnov.achilles.junit.AchillesTestResource;
+import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
+import info.archinnov.achilles.type.scan.ScanSink;
+
+public class TestScanAll {
+
+    @Rule
+    public AchillesTestResource<ManagerFactory> resource = AchillesTestResourceBuilder
+            .forJunit()
+            .entityClassesToTruncate(SimpleEntity.class)
+            .truncateBeforeAndAfterTest()
+            .build((cluster, statementsCache) -> ManagerFactoryBuilder
+                    .builder(cluster)
+                    .withManagedEntityClasses(SimpleEntity.class)
+                    .doForceSchemaCreation(true)
+                    .withStatementsCache(statementsCache)
+                    .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                    .build());
+
+    private Session session = resource.getNativeSession();
+    private SimpleEntity_Manager manager = resource.getManagerFactory().forSimpleEntity();
+
+    @Test
+    public void should_scan_all_entities_with_sink() throws Exception {
+        //Given
+        final Set<Long> ids = insertEntities(100);
+        final Set<Long> foundIds = ConcurrentHashMap.newKeySet();
+        final List<TokenRange> completedRanges = Collections.synchronizedList(new ArrayList<>());
+
+        //When
+        manager
+                .dsl()
+                .scanAll()
+                .withSplitCount(16)
+                .withMaxConcurrentRanges(3)
+                .withFetchSize(10)
+                .forEach(new ScanSink<SimpleEntity>() {
+                    @Override
+                    public void accept(SimpleEntity entity) {
+                        foundIds.add(entity.getId());
+                    }
+
+                    @Override
+                    public void onRangeCompleted(TokenRange range) {
+                        completedRanges.add(range);
+                    }
+                });
+
+        //Then
+        assertThat(foundIds).isEqualTo(ids);
+        assertThat(completedRanges.size()).isGreaterThanOrEqualTo(16);
+        assertThat(new HashSet<>(completedRanges)).hasSize(completedRanges.size());
+    }
+
+    @Test
+    public void should_scan_all_entities_with_parallel_stream() throws Exception {
+        //Given
+        final Set<Long> ids = insertEntities(100);
+
+        //When
+        final Set<Long> foundIds = manager
+                .dsl()
+                .scanAll()
+                .withSplitCount(8)
+                .parallelStream()
+                .map(SimpleEntity::getId)
+                .collect(toSet());
+
+        //Then
+        assertThat(foundIds).isEqualTo(ids);
+    }
+
+    @Test
+    public void should_resume_scan_from_completed_ranges() throws Exception {
+        //Given
+        final Set<Long> ids = insertEntities(100);
+        final Set<Long> firstScanIds = ConcurrentHashMap.newKeySet();
+        final List<TokenRange> checkpoint = Collections.synchronizedList(new ArrayList<>());
+        final AtomicInteger rangesCount = new AtomicInteger(0);
+
+        manager
+                .dsl()
+                .scanAll()
+                .withSplitCount(8)
+                .withMaxConcurrentRanges(1)
+                .forEach(new ScanSink<SimpleEntity>() {
+                    @Override
+                    public void accept(SimpleEntity entity) {
+                        if (rangesCount.get() < 4) {
+                            firstScanIds.add(entity.getId());
+                        }
+                    }
+
+                    @Override
+                    public void onRangeCompleted(TokenRange range) {
+                        if (rangesCount.getAndIncrement() < 4) {
+                            checkpoint.add(range);
+                        }
+                    }
+                });
+
+        //When
+        final Set<Long> resumedIds = ConcurrentHashMap.newKeySet();
+        manager
+                .dsl()
+                .scanAll()
+                .withSplitCount(8)
+                .withCompletedRanges(checkpoint)
+                .forEachAsync(entity -> resumedIds.add(entity.getId()))
+                .get();
+
+        //Then
+        assertThat(checkpoint).hasSize(4);
+        assertThat(Collections.disjoint(resumedIds, firstScanIds)).isTrue();
+        final Set<Long> allIds = new HashSet<>(firstScanIds);
+        allIds.addAll(resumedIds);
+        assertThat(allIds).isEqualTo(ids);
+    }
+
+    private Set<Long> insertEntities(int count) {
+        final Set<Long> ids = new HashSet<>();
+        final Date date = new Date();
+        for (long id = 1; id <= count; id++) {
+            session.execute("INSERT INTO simple(id, date, value) VALUES(?, ?, ?)", id, date, "val" + id);
+            ids.add(id);
+        }
+        return ids;
+    }
+}
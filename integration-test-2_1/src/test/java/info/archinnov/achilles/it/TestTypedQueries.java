@@ -190,6 +190,80 @@ public class TestTypedQueries {
         assertThat(foundEntity.get()).isTrue();
     }
 
+    @Test
+    public void should_iterate_typed_query_with_prefetch() throws Exception {
+        //Given
+        final Map<String, Object> values = new HashMap<>();
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        values.put("id", id);
+        values.put("date1", "'2015-10-01 00:00:00+0000'");
+        values.put("date2", "'2015-10-02 00:00:00+0000'");
+        values.put("date3", "'2015-10-03 00:00:00+0000'");
+        values.put("date4", "'2015-10-04 00:00:00+0000'");
+        values.put("date5", "'2015-10-05 00:00:00+0000'");
+        values.put("date6", "'2015-10-06 00:00:00+0000'");
+        values.put("date7", "'2015-10-07 00:00:00+0000'");
+        values.put("date8", "'2015-10-08 00:00:00+0000'");
+        values.put("date9", "'2015-10-09 00:00:00+0000'");
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_many_rows.cql", values);
+
+        final SimpleStatement statement = new SimpleStatement("SELECT * FROM simple WHERE id = :id");
+        statement.setFetchSize(2);
+
+        //When
+        final Iterator<SimpleEntity> iter = manager
+                .raw()
+                .typedQueryForSelect(statement, id)
+                .withPrefetchThreshold(1)
+                .iterator();
+
+        //Then
+        int count = 0;
+        while (iter.hasNext()) {
+            assertThat(iter.next().getValue()).contains("id - date");
+            count++;
+        }
+        assertThat(count).isEqualTo(9);
+    }
+
+    @Test
+    public void should_get_all_pages_async_with_typed_query() throws Exception {
+        //Given
+        final Map<String, Object> values = new HashMap<>();
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        values.put("id", id);
+        values.put("date1", "'2015-10-01 00:00:00+0000'");
+        values.put("date2", "'2015-10-02 00:00:00+0000'");
+        values.put("date3", "'2015-10-03 00:00:00+0000'");
+        values.put("date4", "'2015-10-04 00:00:00+0000'");
+        values.put("date5", "'2015-10-05 00:00:00+0000'");
+        values.put("date6", "'2015-10-06 00:00:00+0000'");
+        values.put("date7", "'2015-10-07 00:00:00+0000'");
+        values.put("date8", "'2015-10-08 00:00:00+0000'");
+        values.put("date9", "'2015-10-09 00:00:00+0000'");
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_many_rows.cql", values);
+
+        final SimpleStatement statement = new SimpleStatement("SELECT * FROM simple WHERE id = :id");
+        statement.setFetchSize(4);
+
+        //When
+        final List<SimpleEntity> firstPage = manager
+                .raw()
+                .typedQueryForSelect(statement, id)
+                .getListAsync()
+                .get();
+
+        final List<SimpleEntity> all = manager
+                .raw()
+                .typedQueryForSelect(statement, id)
+                .getAllAsync()
+                .get();
+
+        //Then
+        assertThat(firstPage).hasSize(4);
+        assertThat(all).hasSize(9);
+    }
+
     @Test
     public void should_limit_displayed_returned_results() throws Exception {
         //Given
@@ -24,6 +24,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import org.apache.commons.lang3.RandomUtils;
@@ -33,13 +34,16 @@ import org.junit.Test;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.UDTValue;
+import com.datastax.driver.core.UserType;
 import com.google.common.collect.ImmutableMap;
 
 import info.archinnov.achilles.generated.ManagerFactory;
 import info.archinnov.achilles.generated.ManagerFactoryBuilder;
 import info.archinnov.achilles.generated.manager.EntityWithUDTForDynamicKeyspace_Manager;
+import info.archinnov.achilles.generated.meta.udt.UDTWithNoKeyspace_AchillesMeta;
 import info.archinnov.achilles.internals.entities.EntityWithUDTForDynamicKeyspace;
 import info.archinnov.achilles.internals.entities.UDTWithNoKeyspace;
+import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.junit.AchillesTestResource;
 import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
 import info.archinnov.achilles.script.ScriptExecutor;
@@ -78,6 +82,38 @@ public class TestDynamicKeyspaceWithUDT {
         }
     };
 
+    @Test
+    public void should_cache_user_type_per_keyspace_until_schema_change() throws Exception {
+        //Given
+        final UDTWithNoKeyspace_AchillesMeta udtMeta = UDTWithNoKeyspace_AchillesMeta.INSTANCE;
+        final Optional<CassandraOptions> options = Optional.of(CassandraOptions.withSchemaNameProvider(provider));
+        final String probeType = "type_cache_probe_" + RandomUtils.nextInt(0, Integer.MAX_VALUE);
+
+        //When
+        final UserType dynamicType = udtMeta.buildType(true, options);
+        final UserType defaultType = udtMeta.buildType(true, Optional.empty());
+
+        //Then
+        assertThat(dynamicType.getKeyspace()).isEqualTo("dynamic_ks");
+        assertThat(defaultType.getKeyspace()).isEqualTo(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME);
+        assertThat(udtMeta.buildType(true, options)).isSameAs(dynamicType);
+        assertThat(udtMeta.buildType(true, Optional.empty())).isSameAs(defaultType);
+
+        //When
+        session.execute("CREATE TYPE dynamic_ks." + probeType + "(value text)");
+
+        //Then
+        UserType rebuiltType = udtMeta.buildType(true, options);
+        for (int i = 0; i < 100 && rebuiltType == dynamicType; i++) {
+            Thread.sleep(100);
+            rebuiltType = udtMeta.buildType(true, options);
+        }
+        assertThat(rebuiltType).isNotSameAs(dynamicType);
+        assertThat(rebuiltType).isEqualTo(dynamicType);
+
+        session.execute("DROP TYPE dynamic_ks." + probeType);
+    }
+
     /**
      * CRUD INSERT
      */